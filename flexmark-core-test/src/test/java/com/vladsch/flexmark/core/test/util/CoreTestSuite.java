@@ -17,7 +17,10 @@ import org.junit.runners.Suite;
         DelimiterProcessorTest.class,
         HtmlRendererTest.class,
         ParserTest.class,
+        IncrementalParserTest.class,
+        StreamingParserTest.class,
         LinkDestinationParserTest.class,
+        InlineScannerTest.class,
         PathologicalTestSuite.class,
         SpecialInputTest.class,
         UsageExampleTest.class,
@@ -4,19 +4,25 @@ import com.vladsch.flexmark.ast.*;
 import com.vladsch.flexmark.html.*;
 import com.vladsch.flexmark.html.renderer.*;
 import com.vladsch.flexmark.parser.Parser;
+import com.vladsch.flexmark.test.specs.TestSpecLocator;
+import com.vladsch.flexmark.test.util.spec.SpecReader;
 import com.vladsch.flexmark.util.ast.Node;
 import com.vladsch.flexmark.util.data.DataHolder;
 import com.vladsch.flexmark.util.data.DataKey;
 import com.vladsch.flexmark.util.data.MutableDataSet;
+import com.vladsch.flexmark.util.sequence.BasedSequence;
 import com.vladsch.flexmark.util.sequence.LineAppendable;
 import org.jetbrains.annotations.NotNull;
 import org.junit.Assert;
 import org.junit.Test;
 
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
 
 final public class HtmlRendererTest {
 
@@ -410,6 +416,144 @@ final public class HtmlRendererTest {
         assertEquals("<p>foo <a href=\"www.url.com/url2\">bar</a></p>\n", rendered2);
     }
 
+    @Test
+    public void renderSession() {
+        List<String> examples = SpecReader.createAndReadExamples(TestSpecLocator.DEFAULT_RESOURCE_LOCATION, false).getExamplesSourceAsString();
+        DataHolder options = new MutableDataSet().set(HtmlRenderer.SOURCE_POSITION_PARAGRAPH_LINES, true).set(HtmlRenderer.SOURCE_POSITION_ATTRIBUTE, "md-pos");
+        Parser parser = Parser.builder(options).build();
+
+        HtmlRenderer renderer = HtmlRenderer.builder(options).build();
+        HtmlRenderer.RenderSession session = renderer.renderSession();
+
+        // not reusable renderer is created for each document
+        NodeRendererFactory nodeRendererFactory = options1 -> () -> {
+            HashSet<NodeRenderingHandler<?>> set = new HashSet<>();
+            set.add(new NodeRenderingHandler<>(Link.class, (node, context, html) -> {
+                if (node.getText().equals("foo")) {
+                    context.getHtmlWriter().text("test");
+                } else {
+                    context.delegateRender();
+                }
+            }));
+
+            return set;
+        };
+        HtmlRenderer customRenderer = HtmlRenderer.builder(options).nodeRendererFactory(nodeRendererFactory).build();
+        HtmlRenderer.RenderSession customSession = customRenderer.renderSession();
+
+        for (String example : examples) {
+            Node document = parser.parse(example);
+            assertEquals(example, renderer.render(document), session.render(document));
+            assertEquals(example, customRenderer.render(document), customSession.render(document));
+        }
+    }
+
+    @Test
+    public void blockRenderCache() {
+        DataHolder options = new MutableDataSet().set(HtmlRenderer.INDENT_SIZE, 2);
+        Parser parser = Parser.builder(options).build();
+        HtmlRenderer renderer = HtmlRenderer.builder(options).build();
+        LruRenderedBlockCache cache = new LruRenderedBlockCache(10000);
+        HtmlRenderer cachingRenderer = HtmlRenderer.builder(new MutableDataSet(options).set(HtmlRenderer.BLOCK_RENDER_CACHE, cache)).build();
+
+        List<String> examples = SpecReader.createAndReadExamples(TestSpecLocator.DEFAULT_RESOURCE_LOCATION, false).getExamplesSourceAsString();
+        for (int i = 0; i < 2; i++) {
+            for (String example : examples) {
+                Node document = parser.parse(example);
+                assertEquals(example, renderer.render(document), cachingRenderer.render(document));
+            }
+        }
+
+        assertTrue(cache.getHitCount() >= cache.size());
+
+        // reference links and blocks with them are not cached
+        cache.clear();
+        String text = "para [foo]\n\nplain *text*\n\n[foo]: /url\n";
+        Node document = parser.parse(text);
+        assertEquals(renderer.render(document), cachingRenderer.render(document));
+        assertEquals(1, cache.size());
+        assertEquals(renderer.render(parser.parse("para [foo]\n\nplain *text*\n")), cachingRenderer.render(parser.parse("para [foo]\n\nplain *text*\n")));
+        assertEquals(1, cache.size());
+
+        long hitCount = cache.getHitCount();
+        assertEquals("<p>changed</p>\n<p>plain <em>text</em></p>\n", cachingRenderer.render(parser.parse("changed\n\nplain *text*\n")));
+        assertEquals(hitCount + 1, cache.getHitCount());
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    public void blockRenderCacheKey() {
+        DataHolder options = new MutableDataSet().toImmutable();
+        BasedSequence text = BasedSequence.of("> *a*\n\n").subSequence(0, 5);
+        int[] structure = { RenderedBlockCache.Key.getNodeClassId(Paragraph.class), 2, 5 };
+        int[] otherStructure = { RenderedBlockCache.Key.getNodeClassId(Paragraph.class), 2, 4 };
+
+        RenderedBlockCache.Key key = new RenderedBlockCache.Key(options, options.hashCode(), BlockQuote.class, text, structure);
+        RenderedBlockCache.Key stringKey = key.toStringKey();
+
+        assertTrue(stringKey.getText() instanceof String);
+        assertEquals(key, stringKey);
+        assertEquals(key.hashCode(), stringKey.hashCode());
+        assertEquals(key, new RenderedBlockCache.Key(options, options.hashCode(), BlockQuote.class, "> *a*", structure.clone()));
+        assertNotEquals(key, new RenderedBlockCache.Key(options, options.hashCode(), BlockQuote.class, "> *a*", otherStructure));
+        assertNotEquals(key, new RenderedBlockCache.Key(options, options.hashCode(), BlockQuote.class, "> *b*", structure));
+    }
+
+    @Test
+    public void blockRenderCacheEviction() {
+        LruRenderedBlockCache cache = new LruRenderedBlockCache(2);
+        HtmlRenderer renderer = HtmlRenderer.builder(new MutableDataSet().set(HtmlRenderer.BLOCK_RENDER_CACHE, cache)).build();
+
+        assertEquals("<p>a</p>\n<p>b</p>\n<p>c</p>\n", renderer.render(parse("a\n\nb\n\nc\n")));
+        assertEquals(2, cache.size());
+        assertEquals(1, cache.getEvictionCount());
+        assertEquals(0.0, cache.getHitRate(), 0.0);
+
+        assertEquals("<p>c</p>\n", renderer.render(parse("c\n")));
+        assertEquals(0.25, cache.getHitRate(), 0.0);
+
+        LruRenderedBlockCache sizeCache = new LruRenderedBlockCache(100, 25);
+        HtmlRenderer sizeRenderer = HtmlRenderer.builder(new MutableDataSet().set(HtmlRenderer.BLOCK_RENDER_CACHE, sizeCache)).build();
+        sizeRenderer.render(parse("a\n\nb\n\nc\n"));
+        assertEquals(22, sizeCache.getChars());
+        assertEquals(2, sizeCache.size());
+    }
+
+    @Test
+    public void streamingOutput() {
+        DataHolder options = new MutableDataSet().set(HtmlRenderer.INDENT_SIZE, 2);
+        Parser parser = Parser.builder(options).build();
+        HtmlRenderer renderer = HtmlRenderer.builder(options).build();
+        HtmlRenderer streamingRenderer = HtmlRenderer.builder(new MutableDataSet(options).set(HtmlRenderer.STREAMING_OUTPUT, true)).build();
+
+        List<String> examples = SpecReader.createAndReadExamples(TestSpecLocator.DEFAULT_RESOURCE_LOCATION, false).getExamplesSourceAsString();
+        for (String example : examples) {
+            Node document = parser.parse(example);
+            assertEquals(example, renderer.render(document), streamingRenderer.render(document));
+        }
+
+        // html of preceding blocks is in the output before the last block is rendered
+        StringBuilder out = new StringBuilder();
+        int[] outputLength = { -1 };
+        HtmlRenderer probeRenderer = HtmlRenderer.builder(new MutableDataSet().set(HtmlRenderer.STREAMING_OUTPUT, true))
+                .nodeRendererFactory(options1 -> new NodeRenderer() {
+                    @Override
+                    public Set<NodeRenderingHandler<?>> getNodeRenderingHandlers() {
+                        HashSet<NodeRenderingHandler<?>> set = new HashSet<>();
+                        set.add(new NodeRenderingHandler<>(ThematicBreak.class, (node, context, html) -> {
+                            outputLength[0] = out.length();
+                            context.delegateRender();
+                        }));
+                        return set;
+                    }
+                })
+                .build();
+
+        probeRenderer.render(parser.parse("a\n\nb\n\n***\n"), out);
+        assertEquals("<p>a</p>\n<p>b</p>\n<hr />\n", out.toString());
+        assertEquals("<p>a</p>\n".length(), outputLength[0]);
+    }
+
     private static HtmlRenderer defaultRenderer() {
         return HtmlRenderer.builder().build();
     }
@@ -0,0 +1,145 @@
+package com.vladsch.flexmark.core.test.util.parser;
+
+import com.vladsch.flexmark.ast.Paragraph;
+import com.vladsch.flexmark.html.HtmlRenderer;
+import com.vladsch.flexmark.parser.Parser;
+import com.vladsch.flexmark.test.specs.TestSpecLocator;
+import com.vladsch.flexmark.test.util.AstCollectingVisitor;
+import com.vladsch.flexmark.util.ast.Document;
+import com.vladsch.flexmark.util.ast.Node;
+import com.vladsch.flexmark.util.data.MutableDataSet;
+import com.vladsch.flexmark.util.sequence.BasedSequence;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+final public class IncrementalParserTest {
+    final private static String TEXT = "" +
+            "# Heading\n" +
+            "\n" +
+            "Paragraph with *emphasis* and a [link][ref].\n" +
+            "\n" +
+            "- item 1\n" +
+            "- item 2\n" +
+            "\n" +
+            "  continued item\n" +
+            "\n" +
+            "```\n" +
+            "code\n" +
+            "\n" +
+            "more code\n" +
+            "```\n" +
+            "\n" +
+            "Last paragraph\n" +
+            "lazy line\n" +
+            "\n" +
+            "[ref]: /url\n" +
+            "";
+
+    private static void assertIncremental(Parser parser, String text, int editStart, int editEnd, String inserted) {
+        HtmlRenderer renderer = HtmlRenderer.builder(parser.getOptions()).build();
+        String edited = text.substring(0, editStart) + inserted + text.substring(editEnd);
+
+        Document expected = parser.parse(edited);
+        Document previous = parser.parse(text);
+        Document actual = parser.parseIncremental(previous, BasedSequence.of(edited), editStart, editEnd, inserted.length());
+
+        String message = "edit [" + editStart + ", " + editEnd + ") with \"" + inserted + "\"";
+        assertEquals(message, new AstCollectingVisitor().collectAndGetAstText(expected), new AstCollectingVisitor().collectAndGetAstText(actual));
+        assertEquals(message, renderer.render(expected), renderer.render(actual));
+        assertSame(message, actual.getChars().getBaseSequence(), actual.getChars());
+        for (Node node : actual.getDescendants()) {
+            assertSame(message, actual.getChars().getBaseSequence(), node.getChars().getBaseSequence());
+        }
+    }
+
+    @Test
+    public void test_editParagraph() {
+        Parser parser = Parser.builder().build();
+        int offset = TEXT.indexOf("emphasis");
+        assertIncremental(parser, TEXT, offset, offset + 8, "strong emphasis");
+        assertIncremental(parser, TEXT, offset, offset, "**new** ");
+        assertIncremental(parser, TEXT, offset, offset + 8, "");
+    }
+
+    @Test
+    public void test_editReusesUnchangedBlocks() {
+        Parser parser = Parser.builder().build();
+        Document previous = parser.parse(TEXT);
+        Node heading = previous.getFirstChild();
+        Node lastParagraph = previous.getChildOfType(Paragraph.class);
+        while (lastParagraph.getNext() != null && !lastParagraph.getChars().startsWith("Last")) lastParagraph = lastParagraph.getNext();
+
+        int offset = TEXT.indexOf("continued");
+        String edited = TEXT.substring(0, offset) + "changed " + TEXT.substring(offset);
+        Document document = parser.parseIncremental(previous, BasedSequence.of(edited), offset, offset, 8);
+
+        assertSame(previous, document);
+        assertSame(heading, document.getFirstChild());
+        assertEquals("Last paragraph\nlazy line\n", lastParagraph.getChars().toString());
+        assertEquals(edited.indexOf("Last paragraph"), lastParagraph.getStartOffset());
+    }
+
+    @Test
+    public void test_editStructure() {
+        Parser parser = Parser.builder().build();
+
+        // setext heading from previous paragraph
+        int offset = TEXT.indexOf("\n\n- item 1") + 1;
+        assertIncremental(parser, TEXT, offset, offset, "---\n");
+
+        // lazy continuation joins blocks
+        offset = TEXT.indexOf("\n\n- item 1") + 1;
+        assertIncremental(parser, TEXT, offset, offset + 1, "");
+
+        // unclosed fence swallows rest of document
+        offset = TEXT.indexOf("```\n\nLast");
+        assertIncremental(parser, TEXT, offset, offset + 3, "");
+
+        // list item continuation becomes a paragraph
+        offset = TEXT.indexOf("  continued");
+        assertIncremental(parser, TEXT, offset, offset + 2, "");
+
+        // edit at start and end of text
+        assertIncremental(parser, TEXT, 0, 0, "Intro\n\n");
+        assertIncremental(parser, TEXT, 0, 2, "");
+        assertIncremental(parser, TEXT, TEXT.length(), TEXT.length(), "\nappended text\n");
+    }
+
+    @Test
+    public void test_editReferenceDefinition() {
+        Parser parser = Parser.builder().build();
+        int offset = TEXT.indexOf("/url");
+        assertIncremental(parser, TEXT, offset, offset + 4, "/other");
+
+        offset = TEXT.indexOf("[ref]:");
+        assertIncremental(parser, TEXT, offset, TEXT.length(), "");
+    }
+
+    @Test
+    public void test_editBlankLinesInAst() {
+        Parser parser = Parser.builder(new MutableDataSet().set(Parser.BLANK_LINES_IN_AST, true)).build();
+        int offset = TEXT.indexOf("emphasis");
+        assertIncremental(parser, TEXT, offset, offset + 8, "changed");
+
+        offset = TEXT.indexOf("\n\n- item 1") + 1;
+        assertIncremental(parser, TEXT, offset, offset + 1, "");
+    }
+
+    @Test
+    public void test_randomSpecEdits() {
+        Parser parser = Parser.builder().build();
+        String spec = TestSpecLocator.DEFAULT_RESOURCE_LOCATION.getResourceText();
+        String text = spec.substring(spec.length() / 2, Math.min(spec.length(), spec.length() / 2 + 10000));
+        String[] inserts = { "", "\n", "\n\n", "*", "`", "```\n", "- ", "> ", "    ", "[x]", "text\n---\n", "<div>\n" };
+        Random random = new Random(1);
+
+        for (int i = 0; i < 100; i++) {
+            int editStart = random.nextInt(text.length());
+            int editEnd = Math.min(text.length(), editStart + random.nextInt(20));
+            assertIncremental(parser, text, editStart, editEnd, inserts[random.nextInt(inserts.length)]);
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.vladsch.flexmark.core.test.util.parser;
+
+import com.vladsch.flexmark.ast.util.Parsing;
+import com.vladsch.flexmark.parser.Parser;
+import com.vladsch.flexmark.parser.internal.InlineScanner;
+import com.vladsch.flexmark.util.data.MutableDataSet;
+import com.vladsch.flexmark.util.sequence.BasedSequence;
+import org.junit.Test;
+
+import java.util.Random;
+import java.util.function.BiFunction;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.Assert.assertEquals;
+
+public class InlineScannerTest {
+    final private static String[] PREFIXES = {
+            "<", "<a", "</a", "<a b", "<a b=", "<!--", "<!---", "<?", "<![CDATA[", "<![cdata[", "<!DOCTYPE", "<www.", "<w.", "<http:", "<a@b",
+            "&", "&#", "&#x", "&#X", "&amp", "\"", "'", "(",
+    };
+    final private static String CLOSERS = ">;\"')";
+    final private static String CHARS = "<>\"'()\\ \t\n\r\u0000\u001f !&#;xX@.-=/:?[]{}`CDATAcdatawWa1Z_";
+
+    private static int regexEnd(Pattern pattern, BasedSequence input) {
+        Matcher matcher = pattern.matcher(input);
+        matcher.region(0, input.length());
+        return matcher.find() ? matcher.end() : -1;
+    }
+
+    private static void assertSameMatches(String name, Pattern pattern, BiFunction<BasedSequence, Integer, Integer> scanner, BasedSequence input) {
+        assertEquals(name + " " + input.toVisibleWhitespaceString(), regexEnd(pattern, input), (int) scanner.apply(input, 0));
+    }
+
+    private static void assertSameMatches(boolean spaceInUrls, boolean intellijDummyIdentifier, BasedSequence input) {
+        Parsing parsing = new Parsing(new MutableDataSet()
+                .set(Parser.SPACE_IN_LINK_URLS, spaceInUrls)
+                .set(Parser.INTELLIJ_DUMMY_IDENTIFIER, intellijDummyIdentifier)
+        );
+        InlineScanner scanner = new InlineScanner(spaceInUrls, intellijDummyIdentifier);
+
+        assertSameMatches("LINK_DESTINATION_ANGLES", parsing.LINK_DESTINATION_ANGLES, scanner::scanLinkDestinationAngles, input);
+        assertSameMatches("LINK_TITLE", parsing.LINK_TITLE, scanner::scanLinkTitle, input);
+        assertSameMatches("ENTITY_HERE", parsing.ENTITY_HERE, scanner::scanEntity, input);
+        assertSameMatches("EMAIL_AUTOLINK", parsing.EMAIL_AUTOLINK, scanner::scanEmailAutolink, input);
+        assertSameMatches("AUTOLINK", parsing.AUTOLINK, scanner::scanAutolink, input);
+        assertSameMatches("WWW_AUTOLINK", parsing.WWW_AUTOLINK, scanner::scanWwwAutolink, input);
+        assertSameMatches("HTML_TAG", parsing.HTML_TAG, scanner::scanHtmlTag, input);
+    }
+
+    private static void assertSameMatches(String input) {
+        BasedSequence sequence = BasedSequence.of(input);
+        assertSameMatches(false, false, sequence);
+        assertSameMatches(true, false, sequence);
+        assertSameMatches(false, true, sequence);
+        assertSameMatches(true, true, sequence);
+    }
+
+    // @formatter:off
+    @Test public void test_empty() { assertSameMatches(""); }
+    @Test public void test_angles() { assertSameMatches("<a b\\> c>"); assertSameMatches("<a\\>"); assertSameMatches("<a\\\\>"); assertSameMatches("<a b \"c\">"); assertSameMatches("<a\\<b>"); }
+    @Test public void test_title() { assertSameMatches("\"a\\\"b\" c"); assertSameMatches("\"a\\\""); assertSameMatches("'a\\'"); assertSameMatches("(a(b)"); assertSameMatches("(a\\)"); assertSameMatches("\"a\u0000\""); }
+    @Test public void test_entity() { assertSameMatches("&amp;"); assertSameMatches("&#123;"); assertSameMatches("&#X1f;"); assertSameMatches("&#x;"); assertSameMatches("&a;"); assertSameMatches("&#123456789;"); }
+    @Test public void test_autolink() { assertSameMatches("<http://a.b>"); assertSameMatches("<a@b.c>"); assertSameMatches("<a@-b.c>"); assertSameMatches("<www.a.b>"); assertSameMatches("<.a>"); assertSameMatches("<wwww.a>"); assertSameMatches("<a+b:c d>"); }
+    @Test public void test_html() { assertSameMatches("<a href=\"x\" b c=d/>"); assertSameMatches("<a b= >"); assertSameMatches("</a >"); assertSameMatches("<!-- a -->"); assertSameMatches("<!---->"); assertSameMatches("<!--->"); assertSameMatches("<!-- a -- b -->"); assertSameMatches("<?a?>"); assertSameMatches("<?a\n?>"); assertSameMatches("<!DOCTYPE html>"); assertSameMatches("<![CDATA[a]]>"); assertSameMatches("<![cdata[a]]>"); }
+    // @formatter:on
+
+    @Test
+    public void test_random() {
+        Random random = new Random(42);
+        StringBuilder sb = new StringBuilder();
+
+        for (int i = 0; i < 20000; i++) {
+            sb.setLength(0);
+            sb.append(PREFIXES[random.nextInt(PREFIXES.length)]);
+            int length = random.nextInt(12);
+            for (int j = 0; j < length; j++) {
+                sb.append(CHARS.charAt(random.nextInt(CHARS.length())));
+            }
+            if (random.nextBoolean()) sb.append(CLOSERS.charAt(random.nextInt(CLOSERS.length())));
+            assertSameMatches(sb.toString());
+        }
+    }
+}
@@ -1,15 +1,21 @@
 package com.vladsch.flexmark.core.test.util.parser;
 
 import com.vladsch.flexmark.ast.*;
+import com.vladsch.flexmark.ast.util.Parsing;
 import com.vladsch.flexmark.html.HtmlRenderer;
-import com.vladsch.flexmark.parser.Parser;
+import com.vladsch.flexmark.parser.*;
 import com.vladsch.flexmark.parser.block.*;
+import com.vladsch.flexmark.parser.internal.DocumentParserPool;
 import com.vladsch.flexmark.test.specs.TestSpecLocator;
+import com.vladsch.flexmark.test.util.AstCollectingVisitor;
+import com.vladsch.flexmark.test.util.spec.SpecReader;
 import com.vladsch.flexmark.util.ast.Block;
 import com.vladsch.flexmark.util.ast.Document;
 import com.vladsch.flexmark.util.ast.Node;
+import com.vladsch.flexmark.util.ast.NodeTracker;
 import com.vladsch.flexmark.util.collection.iteration.ReversiblePeekingIterator;
 import com.vladsch.flexmark.util.data.DataHolder;
+import com.vladsch.flexmark.util.data.DataKey;
 import com.vladsch.flexmark.util.data.MutableDataHolder;
 import com.vladsch.flexmark.util.data.MutableDataSet;
 import com.vladsch.flexmark.util.data.SharedDataKeys;
@@ -25,8 +31,13 @@ import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.StringReader;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Set;
+import java.util.regex.Matcher;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.notNullValue;
@@ -57,6 +68,165 @@ final public class ParserTest {
         assertEquals(renderer.render(document2), renderer.render(document1));
     }
 
+    @Test
+    public void pathTest() throws IOException {
+        Parser parser = Parser.builder().build();
+        String spec = TestSpecLocator.DEFAULT_RESOURCE_LOCATION.getResourceText() + "\n\nnon-ascii é € 😀 text\n";
+
+        // mapped file cannot be deleted on some platforms while mapping is in use
+        Path path = Files.createTempFile("flexmark-parser-test", ".md");
+        path.toFile().deleteOnExit();
+        Files.write(path, spec.getBytes(StandardCharsets.UTF_8));
+
+        Node document1 = parser.parse(path);
+        Node document2 = parser.parse(spec);
+
+        HtmlRenderer renderer = HtmlRenderer.builder().escapeHtml(true).build();
+        assertEquals(renderer.render(document2), renderer.render(document1));
+        assertEquals(new AstCollectingVisitor().collectAndGetAstText(document2), new AstCollectingVisitor().collectAndGetAstText(document1));
+    }
+
+    @Test
+    public void parallelInlineParsing() {
+        String spec = TestSpecLocator.DEFAULT_RESOURCE_LOCATION.getResourceText();
+        Parser parser = Parser.builder().build();
+        Parser parallelParser = Parser.builder(new MutableDataSet()
+                .set(Parser.PARALLEL_INLINE_PARSING, true)
+                .set(Parser.PARALLEL_INLINE_PARSING_MIN_BLOCKS, 1)
+        ).build();
+
+        assertEquals(new AstCollectingVisitor().collectAndGetAstText(parser.parse(spec)), new AstCollectingVisitor().collectAndGetAstText(parallelParser.parse(spec)));
+    }
+
+    @Test
+    public void fusedPostProcessing() {
+        String spec = TestSpecLocator.DEFAULT_RESOURCE_LOCATION.getResourceText();
+        ArrayList<String> splitLog = new ArrayList<>();
+        ArrayList<String> textLog = new ArrayList<>();
+        ArrayList<String> fusedSplitLog = new ArrayList<>();
+        ArrayList<String> fusedTextLog = new ArrayList<>();
+
+        Parser parser = Parser.builder()
+                .postProcessorFactory(new TextSplitterFactory(splitLog))
+                .postProcessorFactory(new TextLoggerFactory(textLog))
+                .build();
+
+        Parser fusedParser = Parser.builder(new MutableDataSet().set(Parser.FUSED_POST_PROCESSING, true))
+                .postProcessorFactory(new TextSplitterFactory(fusedSplitLog))
+                .postProcessorFactory(new TextLoggerFactory(fusedTextLog))
+                .build();
+
+        assertEquals(new AstCollectingVisitor().collectAndGetAstText(parser.parse(spec)), new AstCollectingVisitor().collectAndGetAstText(fusedParser.parse(spec)));
+        assertFalse(splitLog.isEmpty());
+        assertEquals(splitLog, fusedSplitLog);
+        assertEquals(textLog, fusedTextLog);
+    }
+
+    @Test
+    public void documentParserPool() {
+        Parser parser = Parser.builder().build();
+        Parser pooledParser = Parser.builder(new MutableDataSet().set(Parser.DOCUMENT_PARSER_POOL_SIZE, 2)).build();
+        DocumentParserPool pool = pooledParser.getDocumentParserPool();
+
+        assertNull(parser.getDocumentParserPool());
+        assertNotNull(pool);
+
+        List<String> examples = SpecReader.createAndReadExamples(TestSpecLocator.DEFAULT_RESOURCE_LOCATION, false).getExamplesSourceAsString();
+        for (String example : examples) {
+            assertEquals(example, new AstCollectingVisitor().collectAndGetAstText(parser.parse(example)), new AstCollectingVisitor().collectAndGetAstText(pooledParser.parse(example)));
+        }
+
+        assertEquals(1, pool.getMissCount());
+        assertEquals(examples.size() - 1, pool.getHitCount());
+        assertEquals(1, pool.getPooledCount());
+    }
+
+    @Test
+    public void parsingPatternsShared() {
+        DataHolder options = new MutableDataSet().set(Parser.LISTS_ITEM_PREFIX_CHARS, "+*-").set(Parser.HEADING_NO_ATX_SPACE, true);
+        DataHolder indentOptions = new MutableDataSet().set(Parser.CODE_BLOCK_INDENT, 2);
+        DataHolder spaceInUrlOptions = new MutableDataSet().set(Parser.SPACE_IN_LINK_URLS, true);
+
+        Parsing parsing = Parsing.of(options);
+        Parsing indentParsing = Parsing.of(indentOptions);
+        Parsing spaceInUrlParsing = Parsing.of(spaceInUrlOptions);
+
+        assertSame(options, parsing.options);
+        assertSame(indentOptions, indentParsing.options);
+        assertEquals(4, parsing.CODE_BLOCK_INDENT);
+        assertEquals(2, indentParsing.CODE_BLOCK_INDENT);
+        assertSame(parsing.LINK_DESTINATION, indentParsing.LINK_DESTINATION);
+        assertSame(parsing.HTML_TAG, indentParsing.HTML_TAG);
+        assertNotSame(parsing.LINK_DESTINATION, spaceInUrlParsing.LINK_DESTINATION);
+
+        Matcher matcher = spaceInUrlParsing.LINK_DESTINATION.matcher("a b");
+        assertTrue(matcher.lookingAt());
+        assertEquals("a b", matcher.group());
+
+        // least recently used patterns are dropped
+        for (int i = 0; i < 100; i++) {
+            Parsing.of(new MutableDataSet().set(Parser.LISTS_ITEM_PREFIX_CHARS, "+*-" + i));
+        }
+        assertNotSame(spaceInUrlParsing.LINK_DESTINATION, Parsing.of(spaceInUrlOptions).LINK_DESTINATION);
+    }
+
+    @Test
+    public void parsingOptionsOfInlineParser() {
+        DataKey<String> extensionOption = new DataKey<>("EXTENSION_OPTION", "default");
+        ArrayList<String> values = new ArrayList<>();
+
+        InlineParserExtensionFactory factory = new InlineParserExtensionFactory() {
+            @NotNull
+            @Override
+            public CharSequence getCharacters() {
+                return "~";
+            }
+
+            @NotNull
+            @Override
+            public InlineParserExtension apply(@NotNull LightInlineParser inlineParser) {
+                // extensions read their options from parsing options
+                values.add(extensionOption.get(inlineParser.getParsing().options));
+                return new InlineParserExtension() {
+                    @Override
+                    public void finalizeDocument(@NotNull InlineParser inlineParser) {
+                    }
+
+                    @Override
+                    public void finalizeBlock(@NotNull InlineParser inlineParser) {
+                    }
+
+                    @Override
+                    public boolean parse(@NotNull LightInlineParser inlineParser) {
+                        return false;
+                    }
+                };
+            }
+
+            @Nullable
+            @Override
+            public Set<Class<?>> getAfterDependents() {
+                return null;
+            }
+
+            @Nullable
+            @Override
+            public Set<Class<?>> getBeforeDependents() {
+                return null;
+            }
+
+            @Override
+            public boolean affectsGlobalScope() {
+                return false;
+            }
+        };
+
+        Parser.builder().customInlineParserExtensionFactory(factory).build().parse("a ~b~\n");
+        Parser.builder(new MutableDataSet().set(extensionOption, "set")).customInlineParserExtensionFactory(factory).build().parse("a ~b~\n");
+
+        assertEquals(Arrays.asList("default", "set"), values);
+    }
+
     @Test
     public void customBlockParserFactory() {
         Parser parser = Parser.builder().customBlockParserFactory(new DashBlockParserFactory()).build();
@@ -720,4 +890,61 @@ final public class ParserTest {
             return BlockStart.none();
         }
     }
+
+    // splits text at first space, text after the space is added as a new node
+    private static class TextSplitterFactory extends NodePostProcessorFactory {
+        final List<String> log;
+
+        TextSplitterFactory(List<String> log) {
+            super(false);
+            this.log = log;
+            addNodes(Text.class);
+        }
+
+        @NotNull
+        @Override
+        public NodePostProcessor apply(@NotNull Document document) {
+            return new NodePostProcessor() {
+                @Override
+                public void process(@NotNull NodeTracker state, @NotNull Node node) {
+                    BasedSequence chars = node.getChars();
+                    log.add(chars.toString());
+                    int pos = chars.indexOf(' ', 1);
+                    if (pos > 0) {
+                        Text text = new Text(chars.subSequence(pos));
+                        ((Text) node).setChars(chars.subSequence(0, pos));
+                        node.insertAfter(text);
+                        state.nodeAdded(text);
+                    }
+                }
+            };
+        }
+    }
+
+    // logs text not in emphasis, adds a node after text "the"
+    private static class TextLoggerFactory extends NodePostProcessorFactory {
+        final List<String> log;
+
+        TextLoggerFactory(List<String> log) {
+            super(false);
+            this.log = log;
+            addNodeWithExclusions(Text.class, Emphasis.class);
+        }
+
+        @NotNull
+        @Override
+        public NodePostProcessor apply(@NotNull Document document) {
+            return new NodePostProcessor() {
+                @Override
+                public void process(@NotNull NodeTracker state, @NotNull Node node) {
+                    log.add(node.getChars().toString());
+                    if (node.getChars().equals(" the")) {
+                        Text text = new Text(node.getChars().subSequence(0, 0));
+                        node.insertAfter(text);
+                        state.nodeAdded(text);
+                    }
+                }
+            };
+        }
+    }
 }
@@ -0,0 +1,56 @@
+package com.vladsch.flexmark.core.test.util.parser;
+
+import com.vladsch.flexmark.html.HtmlRenderer;
+import com.vladsch.flexmark.parser.Parser;
+import com.vladsch.flexmark.test.specs.TestSpecLocator;
+import com.vladsch.flexmark.test.util.spec.SpecReader;
+import com.vladsch.flexmark.util.ast.Node;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@State(Scope.Benchmark)
+public class RenderSessionBenchmark {
+    final private static Parser PARSER = Parser.builder().build();
+    final private static HtmlRenderer RENDERER = HtmlRenderer.builder().build();
+    final private static List<Node> SPEC_EXAMPLES = new ArrayList<>();
+    static {
+        for (String example : SpecReader.createAndReadExamples(TestSpecLocator.DEFAULT_RESOURCE_LOCATION, false).getExamplesSourceAsString()) {
+            SPEC_EXAMPLES.add(PARSER.parse(example));
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        Options options = new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .include(RenderSessionBenchmark.class.getName() + ".*")
+                .build();
+        new Runner(options).run();
+    }
+
+    @Benchmark
+    public long examples() {
+        long length = 0;
+        for (Node document : SPEC_EXAMPLES) {
+            length += RENDERER.render(document).length();
+        }
+        return length;
+    }
+
+    @Benchmark
+    public long examplesSession() {
+        HtmlRenderer.RenderSession session = RENDERER.renderSession();
+        long length = 0;
+        for (Node document : SPEC_EXAMPLES) {
+            length += session.render(document).length();
+        }
+        return length;
+    }
+}
@@ -0,0 +1,146 @@
+package com.vladsch.flexmark.core.test.util.parser;
+
+import com.vladsch.flexmark.test.specs.TestSpecLocator;
+import com.vladsch.flexmark.util.sequence.BasedSequence;
+import com.vladsch.flexmark.util.sequence.PrefixedSubSequence;
+import com.vladsch.flexmark.util.sequence.SegmentedSequence;
+import com.vladsch.flexmark.util.sequence.SequenceUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Scans of spec paragraphs for line ends, most of which are found within a short distance of the scan start
+ */
+@State(Scope.Benchmark)
+public class SequenceScanBenchmark {
+    final private static BasedSequence SPEC = BasedSequence.of(TestSpecLocator.DEFAULT_RESOURCE_LOCATION.getResourceText());
+    final private static List<BasedSequence> PARAGRAPHS = getParagraphs(SPEC);
+    final private static List<BasedSequence> PREFIXED_PARAGRAPHS = getPrefixedParagraphs(PARAGRAPHS);
+    final private static List<BasedSequence> SEGMENTED_PARAGRAPHS = getSegmentedParagraphs(PARAGRAPHS);
+
+    public static void main(String[] args) throws Exception {
+        Options options = new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .include(SequenceScanBenchmark.class.getName() + ".*")
+                .build();
+        new Runner(options).run();
+    }
+
+    private static List<BasedSequence> getParagraphs(BasedSequence text) {
+        ArrayList<BasedSequence> paragraphs = new ArrayList<>();
+        int start = 0;
+        int end;
+        while ((end = text.indexOf("\n\n", start)) != -1) {
+            if (end > start) paragraphs.add(text.subSequence(start, end + 1));
+            start = end + 2;
+        }
+        return paragraphs;
+    }
+
+    private static List<BasedSequence> getPrefixedParagraphs(List<BasedSequence> paragraphs) {
+        ArrayList<BasedSequence> prefixed = new ArrayList<>();
+        for (BasedSequence paragraph : paragraphs) {
+            prefixed.add(PrefixedSubSequence.prefixOf("> ", paragraph));
+        }
+        return prefixed;
+    }
+
+    private static List<BasedSequence> getSegmentedParagraphs(List<BasedSequence> paragraphs) {
+        ArrayList<BasedSequence> segmented = new ArrayList<>();
+        for (BasedSequence paragraph : paragraphs) {
+            ArrayList<BasedSequence> lines = new ArrayList<>();
+            for (BasedSequence line : paragraph.splitListEOL(true)) {
+                lines.add(PrefixedSubSequence.prefixOf("> ", line));
+            }
+            segmented.add(SegmentedSequence.create(paragraph, lines));
+        }
+        return segmented;
+    }
+
+    private static long lineEnds(List<BasedSequence> paragraphs) {
+        long count = 0;
+        for (BasedSequence paragraph : paragraphs) {
+            int pos = 0;
+            while ((pos = paragraph.indexOf('\n', pos)) != -1) {
+                count += pos++;
+            }
+        }
+        return count;
+    }
+
+    private static long lineStarts(List<BasedSequence> paragraphs) {
+        long count = 0;
+        for (BasedSequence paragraph : paragraphs) {
+            int pos = paragraph.length();
+            while (pos > 0 && (pos = paragraph.lastIndexOf('\n', pos - 1)) != -1) {
+                count += pos;
+            }
+        }
+        return count;
+    }
+
+    @Benchmark
+    public long paragraphLineEnds() {
+        return lineEnds(PARAGRAPHS);
+    }
+
+    @Benchmark
+    public long prefixedParagraphLineEnds() {
+        return lineEnds(PREFIXED_PARAGRAPHS);
+    }
+
+    @Benchmark
+    public long segmentedParagraphLineEnds() {
+        return lineEnds(SEGMENTED_PARAGRAPHS);
+    }
+
+    @Benchmark
+    public long paragraphLineStarts() {
+        return lineStarts(PARAGRAPHS);
+    }
+
+    @Benchmark
+    public long segmentedParagraphMisses() {
+        long count = 0;
+        for (BasedSequence paragraph : SEGMENTED_PARAGRAPHS) {
+            count += paragraph.indexOf('\u0001');
+        }
+        return count;
+    }
+
+    @Benchmark
+    public long paragraphHashCodes() {
+        long count = 0;
+        for (BasedSequence paragraph : PARAGRAPHS) {
+            // hash code of a sequence is cached, compute it as it is on first use
+            count += SequenceUtils.hashCode(paragraph);
+        }
+        return count;
+    }
+
+    @Benchmark
+    public long paragraphMatches() {
+        long count = 0;
+        BasedSequence previous = PARAGRAPHS.get(0);
+        for (BasedSequence paragraph : PARAGRAPHS) {
+            count += paragraph.matchedCharCount(previous, 0);
+            if (paragraph.startsWith("```")) count++;
+            previous = paragraph;
+        }
+        return count;
+    }
+
+    @Benchmark
+    public long wholeSpecLineEnds() {
+        return lineEnds(Collections.singletonList(SPEC));
+    }
+}
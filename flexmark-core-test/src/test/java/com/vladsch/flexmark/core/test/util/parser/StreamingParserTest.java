@@ -0,0 +1,99 @@
+package com.vladsch.flexmark.core.test.util.parser;
+
+import com.vladsch.flexmark.html.HtmlRenderer;
+import com.vladsch.flexmark.parser.Parser;
+import com.vladsch.flexmark.test.specs.TestSpecLocator;
+import com.vladsch.flexmark.util.ast.Document;
+import com.vladsch.flexmark.util.ast.Node;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+
+import static org.junit.Assert.*;
+
+final public class StreamingParserTest {
+    final private static String TEXT = "" +
+            "[ref]: /url\n" +
+            "\n" +
+            "# Heading\n" +
+            "\n" +
+            "Paragraph with *emphasis* and a [link][ref].\n" +
+            "\n" +
+            "- item 1\n" +
+            "- item 2\n" +
+            "\n" +
+            "  continued item\n" +
+            "\n" +
+            "```\n" +
+            "code\n" +
+            "\n" +
+            "more code\n" +
+            "```\n" +
+            "\n" +
+            "Last paragraph\n" +
+            "lazy line\n" +
+            "";
+
+    private static ArrayList<Node> assertStreaming(Parser parser, String text) throws IOException {
+        HtmlRenderer renderer = HtmlRenderer.builder(parser.getOptions()).build();
+        ArrayList<Node> blocks = new ArrayList<>();
+        StringBuilder html = new StringBuilder();
+
+        // blocks passed together belong to the same chunk document, render each chunk document once all its blocks are passed
+        Document document = parser.parseReader(new StringReader(text), block -> {
+            if (!blocks.isEmpty() && blocks.get(blocks.size() - 1).getDocument() != block.getDocument()) {
+                html.append(renderer.render(blocks.get(blocks.size() - 1).getDocument()));
+            }
+            blocks.add(block);
+        });
+
+        if (!blocks.isEmpty()) {
+            assertSame(document, blocks.get(blocks.size() - 1).getDocument());
+            html.append(renderer.render(document));
+        }
+
+        assertEquals(renderer.render(parser.parse(text)), html.toString());
+        return blocks;
+    }
+
+    @Test
+    public void test_blocks() throws IOException {
+        Parser parser = Parser.builder().build();
+        ArrayList<Node> blocks = assertStreaming(parser, TEXT);
+
+        assertEquals(6, blocks.size());
+        assertEquals("Last paragraph\nlazy line\n", blocks.get(5).getChars().toString());
+    }
+
+    @Test
+    public void test_lineEnds() throws IOException {
+        Parser parser = Parser.builder().build();
+        assertStreaming(parser, TEXT.replace("\n", "\r\n"));
+        assertStreaming(parser, TEXT.replace("\n", "\r"));
+        assertStreaming(parser, "");
+        assertStreaming(parser, "no eol");
+    }
+
+    @Test
+    public void test_boundedChunks() throws IOException {
+        Parser parser = Parser.builder().build();
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 1000; i++) {
+            sb.append("Paragraph ").append(i).append(" with *emphasis*\n\n");
+        }
+
+        ArrayList<Node> blocks = assertStreaming(parser, sb.toString());
+        assertEquals(1000, blocks.size());
+        for (Node block : blocks) {
+            assertTrue(block.getChars().getBaseSequence().length() < 100);
+        }
+    }
+
+    @Test
+    public void test_spec() throws IOException {
+        Parser parser = Parser.builder().build();
+        assertStreaming(parser, TestSpecLocator.DEFAULT_RESOURCE_LOCATION.getResourceText());
+    }
+}
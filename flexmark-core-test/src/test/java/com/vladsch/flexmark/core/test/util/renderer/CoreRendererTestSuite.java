@@ -15,6 +15,8 @@ import org.junit.runners.Suite;
         FullOrigSpec029CoreTest.class,
         ComboCoreSpecTest.class,
         ComboCoreDirectionalSpecTest.class,
+        ComboCoreInlineScannersSpecTest.class,
+        ComboCoreBlockRenderCacheSpecTest.class,
 })
 public class CoreRendererTestSuite {
 }
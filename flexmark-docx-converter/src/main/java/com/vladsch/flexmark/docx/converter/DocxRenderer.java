@@ -11,6 +11,7 @@ import com.vladsch.flexmark.html.*;
 import com.vladsch.flexmark.html.renderer.*;
 import com.vladsch.flexmark.util.ast.*;
 import com.vladsch.flexmark.util.builder.BuilderBase;
+import com.vladsch.flexmark.util.collection.ClassIndexedMap;
 import com.vladsch.flexmark.util.collection.SubClassingBag;
 import com.vladsch.flexmark.util.collection.TwoWayHashMap;
 import com.vladsch.flexmark.util.data.DataHolder;
@@ -537,7 +538,7 @@ public class DocxRenderer implements IRender {
 
     private class MainDocxRenderer extends DocxContextImpl<Node> implements DocxRendererContext {
         final private Document document;
-        final private Map<Class<?>, NodeDocxRendererHandler<?>> renderers;
+        final private ClassIndexedMap<NodeDocxRendererHandler<?>> renderers;
         final private SubClassingBag<Node> collectedNodes;
         final HashSet<Class<?>> bookmarkWrapsChildren;
 
@@ -561,7 +562,7 @@ public class DocxRenderer implements IRender {
             super(out, new ScopedDataSet(document, options));
             rendererOptions = this.myRendererOptions;
             this.document = document;
-            this.renderers = new HashMap<>(32);
+            this.renderers = new ClassIndexedMap<>();
             this.renderingPhases = new HashSet<>(DocxRendererPhase.values().length);
             Set<Class<?>> collectNodeTypes = new HashSet<>(100);
             this.phasedFormatters = new ArrayList<>(nodeFormatterFactories.size());
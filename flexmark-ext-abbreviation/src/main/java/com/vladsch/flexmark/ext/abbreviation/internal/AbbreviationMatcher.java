@@ -0,0 +1,261 @@
+package com.vladsch.flexmark.ext.abbreviation.internal;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+
+/**
+ * Aho-Corasick automaton finding abbreviations in text in a single pass
+ * <p>
+ * Finds the same matches as an alternation of all abbreviations, with word boundary tests at abbreviation ends which
+ * are letters or digits: leftmost match, longest abbreviation matching at that position, next match after its end.
+ * <p>
+ * Matchers are immutable and kept in a small cache so documents with the same abbreviations share one automaton.
+ */
+public class AbbreviationMatcher {
+    final private static int CACHE_SIZE = 16;
+    final private static LinkedHashMap<List<String>, AbbreviationMatcher> CACHE = new LinkedHashMap<>(CACHE_SIZE, 0.75f, true);
+
+    final private String[] abbreviations;
+    final private boolean[] startBoundary;      // abbreviation needs word boundary before it
+    final private boolean[] endBoundary;        // abbreviation needs word boundary after it
+
+    final private char[][] transitionChars;     // sorted transition characters of each state
+    final private int[][] transitionStates;     // target states of transitions
+    final private int[] failureStates;          // state of the longest proper suffix in the trie
+    final private int[] matchedAbbreviations;   // abbreviation ending in state, -1 if none
+    final private int[] dictionaryStates;       // next state on failure chain with an abbreviation, -1 if none
+
+    private AbbreviationMatcher(@NotNull List<String> abbreviations) {
+        int iMax = abbreviations.size();
+        this.abbreviations = abbreviations.toArray(new String[0]);
+        this.startBoundary = new boolean[iMax];
+        this.endBoundary = new boolean[iMax];
+
+        ArrayList<TreeMap<Character, Integer>> trie = new ArrayList<>();
+        ArrayList<Integer> matched = new ArrayList<>();
+        trie.add(new TreeMap<>());
+        matched.add(-1);
+
+        for (int i = 0; i < iMax; i++) {
+            String abbr = this.abbreviations[i];
+            startBoundary[i] = Character.isLetterOrDigit(abbr.charAt(0));
+            endBoundary[i] = Character.isLetterOrDigit(abbr.charAt(abbr.length() - 1));
+
+            int state = 0;
+            for (int j = 0; j < abbr.length(); j++) {
+                Integer next = trie.get(state).get(abbr.charAt(j));
+                if (next == null) {
+                    next = trie.size();
+                    trie.get(state).put(abbr.charAt(j), next);
+                    trie.add(new TreeMap<>());
+                    matched.add(-1);
+                }
+                state = next;
+            }
+            matched.set(state, i);
+        }
+
+        int states = trie.size();
+        transitionChars = new char[states][];
+        transitionStates = new int[states][];
+        matchedAbbreviations = new int[states];
+        failureStates = new int[states];
+        dictionaryStates = new int[states];
+
+        for (int state = 0; state < states; state++) {
+            TreeMap<Character, Integer> transitions = trie.get(state);
+            char[] chars = new char[transitions.size()];
+            int[] targets = new int[chars.length];
+            int j = 0;
+            for (Map.Entry<Character, Integer> entry : transitions.entrySet()) {
+                chars[j] = entry.getKey();
+                targets[j++] = entry.getValue();
+            }
+            transitionChars[state] = chars;
+            transitionStates[state] = targets;
+            matchedAbbreviations[state] = matched.get(state);
+        }
+
+        // failure and dictionary links in breadth first order, so shorter suffix states are done first
+        dictionaryStates[0] = -1;
+        ArrayDeque<Integer> queue = new ArrayDeque<>();
+        for (int target : transitionStates[0]) {
+            failureStates[target] = 0;
+            dictionaryStates[target] = -1;
+            queue.add(target);
+        }
+
+        while (!queue.isEmpty()) {
+            int state = queue.remove();
+            char[] chars = transitionChars[state];
+            int[] targets = transitionStates[state];
+
+            for (int j = 0; j < chars.length; j++) {
+                int target = targets[j];
+                int failure = nextState(failureStates[state], chars[j]);
+                failureStates[target] = failure;
+                dictionaryStates[target] = matchedAbbreviations[failure] >= 0 ? failure : dictionaryStates[failure];
+                queue.add(target);
+            }
+        }
+    }
+
+    /**
+     * Get matcher for abbreviations, shared with other documents using the same abbreviations
+     *
+     * @param abbreviations non-empty abbreviations
+     * @return matcher
+     */
+    @NotNull
+    public static AbbreviationMatcher of(@NotNull Collection<String> abbreviations) {
+        ArrayList<String> key = new ArrayList<>(abbreviations);
+        key.sort(null);
+
+        synchronized (CACHE) {
+            AbbreviationMatcher matcher = CACHE.get(key);
+            if (matcher != null) return matcher;
+        }
+
+        AbbreviationMatcher matcher = new AbbreviationMatcher(key);
+
+        synchronized (CACHE) {
+            CACHE.put(key, matcher);
+            if (CACHE.size() > CACHE_SIZE) {
+                Iterator<List<String>> iterator = CACHE.keySet().iterator();
+                iterator.next();
+                iterator.remove();
+            }
+        }
+        return matcher;
+    }
+
+    /**
+     * @return abbreviations in sorted order, indexed by {@link Matches#index()}
+     */
+    @NotNull
+    public List<String> getAbbreviations() {
+        return Collections.unmodifiableList(Arrays.asList(abbreviations));
+    }
+
+    @NotNull
+    public Matches matcher(@NotNull CharSequence chars) {
+        return new Matches(chars);
+    }
+
+    private int nextState(int state, char c) {
+        while (true) {
+            char[] chars = transitionChars[state];
+            int j = Arrays.binarySearch(chars, c);
+            if (j >= 0) return transitionStates[state][j];
+            if (state == 0) return 0;
+            state = failureStates[state];
+        }
+    }
+
+    private static boolean isWord(int codePoint) {
+        return codePoint == '_' || Character.isLetterOrDigit(codePoint);
+    }
+
+    private static boolean isWordOrMarkOfWord(@NotNull CharSequence chars, int index, int codePoint) {
+        if (isWord(codePoint)) return true;
+        if (Character.getType(codePoint) != Character.NON_SPACING_MARK) return false;
+
+        // non spacing marks are part of the word of their base character
+        for (int i = index; i >= 0; i--) {
+            int c = Character.codePointAt(chars, i);
+            if (Character.isLetterOrDigit(c)) return true;
+            if (Character.getType(c) != Character.NON_SPACING_MARK) return false;
+        }
+        return false;
+    }
+
+    /**
+     * Word boundary test with the same rules as regex \b
+     */
+    private static boolean isWordBoundary(@NotNull CharSequence chars, int index) {
+        boolean left = index > 0 && isWordOrMarkOfWord(chars, index - 1, Character.codePointBefore(chars, index));
+        boolean right = index < chars.length() && isWordOrMarkOfWord(chars, index, Character.codePointAt(chars, index));
+        return left != right;
+    }
+
+    /**
+     * Matches of abbreviations in text, iterated like {@link java.util.regex.Matcher#find()}
+     */
+    public class Matches {
+        final private CharSequence chars;
+        private int[] matchIndex;       // abbreviation matched at each start index, -1 if none, null if no matches
+        private int start;
+        private int end;
+
+        Matches(@NotNull CharSequence chars) {
+            this.chars = chars;
+            this.end = 0;
+            this.start = -1;
+
+            int iMax = chars.length();
+            int state = 0;
+
+            for (int i = 0; i < iMax; i++) {
+                state = nextState(state, chars.charAt(i));
+
+                int matchState = matchedAbbreviations[state] >= 0 ? state : dictionaryStates[state];
+                while (matchState >= 0) {
+                    int index = matchedAbbreviations[matchState];
+                    int matchEnd = i + 1;
+                    int matchStart = matchEnd - abbreviations[index].length();
+
+                    if ((!startBoundary[index] || isWordBoundary(chars, matchStart)) && (!endBoundary[index] || isWordBoundary(chars, matchEnd))) {
+                        if (matchIndex == null) {
+                            matchIndex = new int[iMax];
+                            Arrays.fill(matchIndex, -1);
+                        }
+
+                        // longest abbreviation wins for the same start
+                        int previous = matchIndex[matchStart];
+                        if (previous < 0 || abbreviations[previous].length() < abbreviations[index].length()) {
+                            matchIndex[matchStart] = index;
+                        }
+                    }
+                    matchState = dictionaryStates[matchState];
+                }
+            }
+        }
+
+        public boolean find() {
+            if (matchIndex != null) {
+                int iMax = matchIndex.length;
+                for (int i = end; i < iMax; i++) {
+                    if (matchIndex[i] >= 0) {
+                        start = i;
+                        end = i + abbreviations[matchIndex[i]].length();
+                        return true;
+                    }
+                }
+            }
+            start = -1;
+            end = chars.length();
+            return false;
+        }
+
+        public int start() {
+            return start;
+        }
+
+        public int end() {
+            return end;
+        }
+
+        /**
+         * @return index of matched abbreviation in {@link #getAbbreviations()}
+         */
+        public int index() {
+            return matchIndex[start];
+        }
+
+        @NotNull
+        public String group() {
+            return abbreviations[matchIndex[start]];
+        }
+    }
+}
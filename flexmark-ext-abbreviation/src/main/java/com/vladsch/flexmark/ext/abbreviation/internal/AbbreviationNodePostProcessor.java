@@ -15,13 +15,14 @@ import com.vladsch.flexmark.util.sequence.ReplacedTextMapper;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.*;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 
 public class AbbreviationNodePostProcessor extends NodePostProcessor {
-    private Pattern abbreviations = null;
-    private HashMap<String, BasedSequence> abbreviationMap = null;
+    private AbbreviationMatcher abbreviations = null;
+    private BasedSequence[] expansions = null;      // expansion of each matcher abbreviation
 
     private AbbreviationNodePostProcessor(Document document) {
         computeAbbreviations(document);
@@ -31,14 +32,9 @@ public class AbbreviationNodePostProcessor extends NodePostProcessor {
         AbbreviationRepository abbrRepository = AbbreviationExtension.ABBREVIATIONS.get(document);
 
         if (!abbrRepository.isEmpty()) {
-            abbreviationMap = new HashMap<>();
-            StringBuilder sb = new StringBuilder();
+            HashMap<String, BasedSequence> abbreviationMap = new HashMap<>();
 
-            // sort reverse alphabetical order so longer ones match first. for sdk7
-            ArrayList<String> abbreviations = new ArrayList<>(abbrRepository.keySet());
-            abbreviations.sort(Comparator.reverseOrder());
-
-            for (String abbr : abbreviations) {
+            for (String abbr : abbrRepository.keySet()) {
                 // Issue #198, test for empty abbr
                 if (!abbr.isEmpty()) {
                     AbbreviationBlock abbreviationBlock = abbrRepository.get(abbr);
@@ -46,18 +42,21 @@ public class AbbreviationNodePostProcessor extends NodePostProcessor {
                         BasedSequence abbreviation = abbreviationBlock.getAbbreviation();
                         if (!abbreviation.isEmpty()) {
                             abbreviationMap.put(abbr, abbreviation);
-
-                            if (sb.length() > 0) sb.append("|");
-
-                            if (Character.isLetterOrDigit(abbr.charAt(0))) sb.append("\\b");
-                            sb.append("\\Q").append(abbr).append("\\E");
-                            if (Character.isLetterOrDigit(abbr.charAt(abbr.length() - 1))) sb.append("\\b");
                         }
                     }
                 }
             }
 
-            if (sb.length() > 0) this.abbreviations = Pattern.compile(sb.toString());
+            if (!abbreviationMap.isEmpty()) {
+                // automaton only depends on abbreviations, expansions are per document
+                this.abbreviations = AbbreviationMatcher.of(abbreviationMap.keySet());
+
+                List<String> abbreviations = this.abbreviations.getAbbreviations();
+                expansions = new BasedSequence[abbreviations.size()];
+                for (int i = 0; i < expansions.length; i++) {
+                    expansions[i] = abbreviationMap.get(abbreviations.get(i));
+                }
+            }
         }
     }
 
@@ -69,18 +68,17 @@ public class AbbreviationNodePostProcessor extends NodePostProcessor {
         ReplacedTextMapper textMapper = new ReplacedTextMapper(original);
         BasedSequence literal = Escaping.unescape(original, textMapper);
 
-        Matcher m = abbreviations.matcher(literal);
+        AbbreviationMatcher.Matches m = abbreviations.matcher(literal);
         int lastEscaped = 0;
         boolean wrapInTextBase = !(node.getParent() instanceof TextBase);
         TextBase textBase = wrapInTextBase ? null : (TextBase) node.getParent();
 
         while (m.find()) {
-            //String found = m.group();
-            BasedSequence abbreviation = abbreviationMap.get(m.group(0));
+            BasedSequence abbreviation = expansions[m.index()];
             if (abbreviation != null) {
 
-                int startOffset = textMapper.originalOffset(m.start(0));
-                int endOffset = textMapper.originalOffset(m.end(0));
+                int startOffset = textMapper.originalOffset(m.start());
+                int endOffset = textMapper.originalOffset(m.end());
 
                 if (wrapInTextBase) {
                     wrapInTextBase = false;
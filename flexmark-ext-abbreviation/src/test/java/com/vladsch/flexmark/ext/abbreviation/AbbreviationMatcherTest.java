@@ -0,0 +1,100 @@
+package com.vladsch.flexmark.ext.abbreviation;
+
+import com.vladsch.flexmark.ext.abbreviation.internal.AbbreviationMatcher;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+public class AbbreviationMatcherTest {
+    final private static String[] PARTS = { "a", "b", "ab", "_", " ", ".", "-", "1", "é", "́", "A" };
+
+    // alternation regex used before the automaton
+    private static Pattern regexOf(List<String> abbreviations) {
+        ArrayList<String> sorted = new ArrayList<>(abbreviations);
+        sorted.sort(Comparator.reverseOrder());
+        StringBuilder sb = new StringBuilder();
+
+        for (String abbr : sorted) {
+            if (sb.length() > 0) sb.append("|");
+            if (Character.isLetterOrDigit(abbr.charAt(0))) sb.append("\\b");
+            sb.append("\\Q").append(abbr).append("\\E");
+            if (Character.isLetterOrDigit(abbr.charAt(abbr.length() - 1))) sb.append("\\b");
+        }
+        return Pattern.compile(sb.toString());
+    }
+
+    private static String matches(Pattern pattern, String text) {
+        StringBuilder sb = new StringBuilder();
+        Matcher m = pattern.matcher(text);
+        while (m.find()) {
+            sb.append(m.start()).append('-').append(m.end()).append(':').append(m.group()).append(' ');
+        }
+        return sb.toString();
+    }
+
+    private static String matches(AbbreviationMatcher matcher, String text) {
+        StringBuilder sb = new StringBuilder();
+        AbbreviationMatcher.Matches m = matcher.matcher(text);
+        while (m.find()) {
+            assertEquals(m.group(), matcher.getAbbreviations().get(m.index()));
+            sb.append(m.start()).append('-').append(m.end()).append(':').append(m.group()).append(' ');
+        }
+        return sb.toString();
+    }
+
+    private static String randomText(Random random, int maxParts) {
+        StringBuilder sb = new StringBuilder();
+        int length = 1 + random.nextInt(maxParts);
+        for (int j = 0; j < length; j++) {
+            sb.append(PARTS[random.nextInt(PARTS.length)]);
+        }
+        return sb.toString();
+    }
+
+    @Test
+    public void test_basic() {
+        List<String> abbreviations = Arrays.asList("HTML", "HTML5", "W3C", "C++", ".NET", "API");
+        AbbreviationMatcher matcher = AbbreviationMatcher.of(abbreviations);
+        String text = "HTML5 and HTML, HTMLX, W3C. .NET api API C++C";
+        assertEquals(matches(regexOf(abbreviations), text), matches(matcher, text));
+        assertEquals("0-5:HTML5 10-14:HTML 23-26:W3C 28-32:.NET 37-40:API 41-44:C++ ", matches(matcher, text));
+    }
+
+    @Test
+    public void test_shared() {
+        AbbreviationMatcher matcher = AbbreviationMatcher.of(Arrays.asList("b", "a"));
+        assertSame(matcher, AbbreviationMatcher.of(Arrays.asList("a", "b")));
+        assertEquals(Arrays.asList("a", "b"), matcher.getAbbreviations());
+    }
+
+    @Test
+    public void test_random() {
+        Random random = new Random(1);
+
+        for (int i = 0; i < 500; i++) {
+            ArrayList<String> abbreviations = new ArrayList<>();
+            int count = 1 + random.nextInt(6);
+            for (int j = 0; j < count; j++) {
+                String abbr = randomText(random, 3);
+                if (!abbreviations.contains(abbr)) abbreviations.add(abbr);
+            }
+
+            Pattern pattern = regexOf(abbreviations);
+            AbbreviationMatcher matcher = AbbreviationMatcher.of(abbreviations);
+
+            for (int j = 0; j < 20; j++) {
+                String text = randomText(random, 12);
+                assertEquals(abbreviations + " in " + text, matches(pattern, text), matches(matcher, text));
+            }
+        }
+    }
+}
@@ -1,15 +1,22 @@
 package com.vladsch.flexmark.ext.definition;
 
+import com.vladsch.flexmark.html.HtmlRenderer;
 import com.vladsch.flexmark.parser.Parser;
+import com.vladsch.flexmark.test.util.AstCollectingVisitor;
+import com.vladsch.flexmark.util.ast.Document;
+import com.vladsch.flexmark.util.ast.Node;
 import com.vladsch.flexmark.util.data.MutableDataSet;
 import com.vladsch.flexmark.util.sequence.BasedSequence;
 import com.vladsch.flexmark.util.sequence.mappers.SpecialLeadInHandler;
 import org.junit.Test;
 
+import java.io.IOException;
+import java.io.StringReader;
 import java.util.Collections;
 import java.util.List;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 
 final public class DefinitionParserTest {
     String escape(String input, Parser parser) {
@@ -90,4 +97,53 @@ final public class DefinitionParserTest {
         assertEquals("\\~", unEscape("\\~", parser));
         assertEquals("\\~abc", unEscape("\\~abc", parser));
     }
+
+    private static void assertIncremental(Parser parser, String text, int editStart, int editEnd, String inserted) {
+        String edited = text.substring(0, editStart) + inserted + text.substring(editEnd);
+        Document expected = parser.parse(edited);
+        Document actual = parser.parseIncremental(parser.parse(text), BasedSequence.of(edited), editStart, editEnd, inserted.length());
+
+        assertEquals(new AstCollectingVisitor().collectAndGetAstText(expected), new AstCollectingVisitor().collectAndGetAstText(actual));
+        for (Node node : actual.getDescendants()) {
+            assertSame(actual.getChars().getBaseSequence(), node.getChars().getBaseSequence());
+        }
+    }
+
+    @Test
+    public void test_incrementalParse() {
+        Parser parser = Parser.builder().extensions(Collections.singleton(DefinitionExtension.create())).build();
+        String text = "intro\n\n# term\n\n: def\n\nafter\n\nterm 2\n\n: def 2\n\nlast\n";
+
+        // heading becomes a term of the following definition
+        int offset = text.indexOf("# term");
+        assertIncremental(parser, text, offset, offset + 2, "");
+
+        // term becomes a heading
+        offset = text.indexOf("term 2");
+        assertIncremental(parser, text, offset, offset, "# ");
+
+        // edit of definition
+        offset = text.indexOf("def 2");
+        assertIncremental(parser, text, offset, offset + 3, "changed");
+        offset = text.indexOf("after");
+        assertIncremental(parser, text, offset, offset + 5, "changed");
+    }
+
+    @Test
+    public void test_streamingParse() throws IOException {
+        Parser parser = Parser.builder().extensions(Collections.singleton(DefinitionExtension.create())).build();
+        HtmlRenderer renderer = HtmlRenderer.builder().extensions(Collections.singleton(DefinitionExtension.create())).build();
+        String text = "intro\n\nterm\n\n: def\n\nafter\n\nterm 2\n\n: def 2\n\n: def 3\n\nlast\n";
+
+        // definition items after a blank line must be parsed in the same chunk as their term
+        StringBuilder html = new StringBuilder();
+        parser.parseReader(new StringReader(text), block -> html.append(renderer.render(block)));
+
+        StringBuilder expected = new StringBuilder();
+        for (Node block : parser.parse(text).getChildren()) {
+            expected.append(renderer.render(block));
+        }
+
+        assertEquals(expected.toString(), html.toString());
+    }
 }
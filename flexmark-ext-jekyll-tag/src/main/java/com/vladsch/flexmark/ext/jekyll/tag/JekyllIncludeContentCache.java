@@ -0,0 +1,167 @@
+package com.vladsch.flexmark.ext.jekyll.tag;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.File;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Content of included files shared between documents, see {@link JekyllTagExtension#INCLUDE_CONTENT_CACHE}
+ * <p>
+ * Content is keyed by resolved URL and validated with a fingerprint of the file, so an included file is read once
+ * while it is unchanged. Validated content is used without checking the file again for the recheck interval.
+ * Least recently used entries are evicted when the number of entries or the total length of cached content exceeds its limits.
+ * <p>
+ * Only content is cached, each document which includes it still parses it because included nodes are moved into the document.
+ */
+public class JekyllIncludeContentCache {
+    final private int maxEntries;
+    final private long maxChars;
+    final private long recheckInterval;
+    final private LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long chars;
+    private long hitCount;
+    private long missCount;
+
+    private static class Entry {
+        final long fingerprint;
+        final @NotNull String content;
+        long checkedTime;
+
+        Entry(long fingerprint, @NotNull String content, long checkedTime) {
+            this.fingerprint = fingerprint;
+            this.content = content;
+            this.checkedTime = checkedTime;
+        }
+    }
+
+    /**
+     * @param maxEntries maximum number of cached files
+     */
+    public JekyllIncludeContentCache(int maxEntries) {
+        this(maxEntries, Long.MAX_VALUE);
+    }
+
+    /**
+     * @param maxEntries maximum number of cached files
+     * @param maxChars   maximum total length of cached content
+     */
+    public JekyllIncludeContentCache(int maxEntries, long maxChars) {
+        this(maxEntries, maxChars, 0);
+    }
+
+    /**
+     * @param maxEntries      maximum number of cached files
+     * @param maxChars        maximum total length of cached content
+     * @param recheckInterval milliseconds for which validated content is used without getting its fingerprint again,
+     *                        0 to validate on every use, {@link Long#MAX_VALUE} to never validate again
+     */
+    public JekyllIncludeContentCache(int maxEntries, long maxChars, long recheckInterval) {
+        this.maxEntries = maxEntries;
+        this.maxChars = maxChars;
+        this.recheckInterval = recheckInterval;
+    }
+
+    /**
+     * Fingerprint of included content
+     *
+     * @param url resolved URL
+     * @return last modified time and length of the file for file URLs, 0 for other URLs whose content is
+     *         assumed not to change while cached, -1 if the file does not exist
+     */
+    public static long fingerprint(@NotNull String url) {
+        if (!url.startsWith("file:/")) return 0;
+
+        // same file name as FileUriContentResolver
+        String fileName = url.startsWith("file://") ? url.substring("file://".length()) : File.separatorChar == '\\' ? url.substring("file:/".length()) : url.substring("file:".length());
+        File file = new File(fileName);
+        if (!file.isFile()) return -1;
+
+        return file.lastModified() * 31 + file.length();
+    }
+
+    /**
+     * Get content validated within the recheck interval, without getting its fingerprint
+     *
+     * @param url resolved URL
+     * @return cached content or null if not cached or it needs to be validated by {@link #get(String, long)}
+     */
+    public synchronized @Nullable String getValidated(@NotNull String url) {
+        Entry entry = entries.get(url);
+        if (entry != null && recheckInterval > 0 && System.currentTimeMillis() - entry.checkedTime < recheckInterval) {
+            hitCount++;
+            return entry.content;
+        }
+        return null;
+    }
+
+    /**
+     * @param url         resolved URL
+     * @param fingerprint current fingerprint of the content
+     * @return cached content or null if not cached or the cached content has a different fingerprint
+     */
+    public synchronized @Nullable String get(@NotNull String url, long fingerprint) {
+        Entry entry = entries.get(url);
+        if (entry != null && entry.fingerprint == fingerprint && fingerprint != -1) {
+            entry.checkedTime = System.currentTimeMillis();
+            hitCount++;
+            return entry.content;
+        }
+        missCount++;
+        return null;
+    }
+
+    /**
+     * @param url         resolved URL
+     * @param fingerprint fingerprint of the content, taken before it was read
+     * @param content     content
+     */
+    public synchronized void put(@NotNull String url, long fingerprint, @NotNull String content) {
+        if (fingerprint == -1) return;
+
+        Entry previous = entries.put(url, new Entry(fingerprint, content, System.currentTimeMillis()));
+        if (previous != null) chars -= previous.content.length();
+        chars += content.length();
+
+        Iterator<Map.Entry<String, Entry>> iterator = entries.entrySet().iterator();
+        while ((entries.size() > maxEntries || chars > maxChars) && iterator.hasNext()) {
+            chars -= iterator.next().getValue().content.length();
+            iterator.remove();
+        }
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+        chars = 0;
+    }
+
+    /**
+     * @return number of cached files
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public int getMaxEntries() {
+        return maxEntries;
+    }
+
+    public long getMaxChars() {
+        return maxChars;
+    }
+
+    public long getRecheckInterval() {
+        return recheckInterval;
+    }
+
+    public synchronized long getHitCount() {
+        return hitCount;
+    }
+
+    public synchronized long getMissCount() {
+        return missCount;
+    }
+}
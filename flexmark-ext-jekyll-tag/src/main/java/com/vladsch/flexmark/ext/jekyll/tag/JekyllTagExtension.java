@@ -28,6 +28,13 @@ public class JekyllTagExtension implements Parser.ParserExtension, HtmlRenderer.
     final public static DataKey<List<LinkResolverFactory>> LINK_RESOLVER_FACTORIES = new DataKey<>("LINK_RESOLVER_FACTORIES", Collections.emptyList());
     final public static DataKey<List<UriContentResolverFactory>> CONTENT_RESOLVER_FACTORIES = new DataKey<>("LINK_RESOLVER_FACTORIES", Collections.emptyList());
     final public static NullableDataKey<Map<String, String>> INCLUDED_HTML = new NullableDataKey<>("INCLUDED_HTML");
+
+    /**
+     * Cache of included file content shared by documents, when set each included file is resolved to its content and read once
+     * while its fingerprint is unchanged, see {@link JekyllIncludeContentCache#fingerprint(String)}. Content resolvers are not called
+     * for cached content. Only the content is cached, it is parsed for every document which includes it.
+     */
+    final public static NullableDataKey<JekyllIncludeContentCache> INCLUDE_CONTENT_CACHE = new NullableDataKey<>("INCLUDE_CONTENT_CACHE");
     final public static DataKey<List<JekyllTag>> TAG_LIST = new DataKey<>("TAG_LIST", ArrayList::new);
 
     /**
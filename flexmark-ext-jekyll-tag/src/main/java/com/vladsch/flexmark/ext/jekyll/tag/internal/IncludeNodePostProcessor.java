@@ -1,6 +1,7 @@
 package com.vladsch.flexmark.ext.jekyll.tag.internal;
 
 import com.vladsch.flexmark.ast.Paragraph;
+import com.vladsch.flexmark.ext.jekyll.tag.JekyllIncludeContentCache;
 import com.vladsch.flexmark.ext.jekyll.tag.JekyllTag;
 import com.vladsch.flexmark.ext.jekyll.tag.JekyllTagBlock;
 import com.vladsch.flexmark.ext.jekyll.tag.JekyllTagExtension;
@@ -25,7 +26,8 @@ import java.util.*;
 public class IncludeNodePostProcessor extends NodePostProcessor {
     final HashMap<JekyllTag, String> includedDocuments = new HashMap<>();
     final HashMap<String, ResolvedLink> resolvedLinks = new HashMap<>();
-    final Parser parser;
+    final HashMap<String, String> includedContent = new HashMap<>();
+    Parser parser;
     final List<LinkResolver> linkResolvers;
     final List<UriContentResolver> contentResolvers;
     final boolean isIncluding = false;
@@ -33,10 +35,10 @@ public class IncludeNodePostProcessor extends NodePostProcessor {
     final LinkResolverBasicContext context;
     final private boolean embedIncludedContent;
     final private Map<String, String> includedHtml;
+    final private @Nullable JekyllIncludeContentCache includeCache;
 
     public IncludeNodePostProcessor(@NotNull Document document) {
         this.document = document;
-        parser = Parser.builder(document).build();
         context = new LinkResolverBasicContext() {
             @Override
             public @NotNull DataHolder getOptions() {
@@ -66,6 +68,46 @@ public class IncludeNodePostProcessor extends NodePostProcessor {
 
         this.embedIncludedContent = JekyllTagExtension.EMBED_INCLUDED_CONTENT.get(document);
         this.includedHtml = JekyllTagExtension.INCLUDED_HTML.get(document);
+        this.includeCache = JekyllTagExtension.INCLUDE_CONTENT_CACHE.get(document);
+    }
+
+    private @Nullable String resolveContent(@NotNull Node node, @NotNull ResolvedLink resolvedLink) {
+        String url = resolvedLink.getUrl();
+        long fingerprint = 0;
+
+        // content of a file included more than once by the document is only resolved once
+        if (includedContent.containsKey(url)) return includedContent.get(url);
+
+        if (includeCache != null) {
+            String content = includeCache.getValidated(url);
+            if (content == null) {
+                fingerprint = JekyllIncludeContentCache.fingerprint(url);
+                content = includeCache.get(url, fingerprint);
+            }
+
+            if (content != null) {
+                includedContent.put(url, content);
+                return content;
+            }
+        }
+
+        ResolvedContent resolvedContent = new ResolvedContent(resolvedLink, LinkStatus.UNKNOWN, null);
+        for (UriContentResolver contentResolver : contentResolvers) {
+            resolvedContent = contentResolver.resolveContent(node, context, resolvedContent);
+            if (resolvedContent.getStatus() != LinkStatus.UNKNOWN) break;
+        }
+
+        if (resolvedContent.getStatus() == LinkStatus.VALID) {
+            try {
+                String content = new String(resolvedContent.getContent(), "UTF-8");
+                if (includeCache != null) includeCache.put(url, fingerprint, content);
+                includedContent.put(url, content);
+                return content;
+            } catch (UnsupportedEncodingException e) {
+                e.printStackTrace();
+            }
+        }
+        return null;
     }
 
     @Override
@@ -96,25 +138,15 @@ public class IncludeNodePostProcessor extends NodePostProcessor {
                     }
 
                     if (resolvedLink.getStatus() == LinkStatus.VALID) {
-                        ResolvedContent resolvedContent = new ResolvedContent(resolvedLink, LinkStatus.UNKNOWN, null);
-                        for (UriContentResolver contentResolver : contentResolvers) {
-                            resolvedContent = contentResolver.resolveContent(node, context, resolvedContent);
-                            if (resolvedContent.getStatus() != LinkStatus.UNKNOWN) break;
-                        }
-
-                        if (resolvedContent.getStatus() == LinkStatus.VALID) {
-                            try {
-                                fileContent = new String(resolvedContent.getContent(), "UTF-8");
-                            } catch (UnsupportedEncodingException e) {
-                                e.printStackTrace();
-                            }
-                        }
+                        fileContent = resolveContent(node, resolvedLink);
                     }
                 }
 
                 if (fileContent != null && !fileContent.isEmpty()) {
                     includedDocuments.put(jekyllTag, fileContent);
 
+                    // only documents with included content need a parser
+                    if (parser == null) parser = Parser.builder(document).build();
                     Document includedDoc = parser.parse(fileContent);
                     parser.transferReferences(document, includedDoc, null);
 
@@ -19,7 +19,7 @@ public class JekyllTagInlineParserExtension implements InlineParserExtension {
     final private boolean listIncludesOnly;
 
     public JekyllTagInlineParserExtension(LightInlineParser lightInlineParser) {
-        this.parsing = new JekyllTagParsing(lightInlineParser.getParsing());
+        this.parsing = JekyllTagParsing.of(lightInlineParser.getParsing());
         this.listIncludesOnly = JekyllTagExtension.LIST_INCLUDES_ONLY.get(lightInlineParser.getDocument());
     }
 
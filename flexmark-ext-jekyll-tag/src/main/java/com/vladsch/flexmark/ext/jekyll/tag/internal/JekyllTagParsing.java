@@ -2,17 +2,24 @@ package com.vladsch.flexmark.ext.jekyll.tag.internal;
 
 import com.vladsch.flexmark.ast.util.Parsing;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Pattern;
 
 class JekyllTagParsing {
-    final Parsing myParsing;
+    // patterns only depend on tag and attribute patterns of parsing, compiled once for each variation
+    final private static Map<String, JekyllTagParsing> SHARED_PATTERNS = new ConcurrentHashMap<>();
+
     final String OPEN_MACROTAG;
     final Pattern MACRO_OPEN;
     final Pattern MACRO_TAG;
 
-    public JekyllTagParsing(Parsing parsing) {
-        this.myParsing = parsing;
-        this.OPEN_MACROTAG = "\\{%\\s+(" + myParsing.TAGNAME + ")(?:\\s+.+)?\\s+%\\}";
+    static JekyllTagParsing of(Parsing parsing) {
+        return SHARED_PATTERNS.computeIfAbsent(parsing.TAGNAME, key -> new JekyllTagParsing(parsing));
+    }
+
+    private JekyllTagParsing(Parsing parsing) {
+        this.OPEN_MACROTAG = "\\{%\\s+(" + parsing.TAGNAME + ")(?:\\s+.+)?\\s+%\\}";
         this.MACRO_OPEN = Pattern.compile('^' + OPEN_MACROTAG + "\\s*$", Pattern.CASE_INSENSITIVE);
         this.MACRO_TAG = Pattern.compile(OPEN_MACROTAG);
     }
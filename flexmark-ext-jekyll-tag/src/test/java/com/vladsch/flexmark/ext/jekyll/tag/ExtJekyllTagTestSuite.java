@@ -8,6 +8,7 @@ import org.junit.runners.Suite;
         ComboJekyllTagSpecTest.class,
         ComboJekyllTagFormatterSpecTest.class,
         MergeJekyllTagTest.class,
+        JekyllIncludeContentCacheTest.class,
 })
 public class ExtJekyllTagTestSuite {
 }
@@ -0,0 +1,118 @@
+package com.vladsch.flexmark.ext.jekyll.tag;
+
+import com.vladsch.flexmark.html.HtmlRenderer;
+import com.vladsch.flexmark.html.IndependentLinkResolverFactory;
+import com.vladsch.flexmark.html.LinkResolver;
+import com.vladsch.flexmark.html.renderer.LinkResolverBasicContext;
+import com.vladsch.flexmark.html.renderer.LinkStatus;
+import com.vladsch.flexmark.parser.Parser;
+import com.vladsch.flexmark.util.data.DataHolder;
+import com.vladsch.flexmark.util.data.DataKey;
+import com.vladsch.flexmark.util.data.MutableDataSet;
+import org.jetbrains.annotations.NotNull;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Collections;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class JekyllIncludeContentCacheTest {
+    final static DataKey<String> INCLUDE_URL = new DataKey<>("INCLUDE_URL", "");
+
+    // resolves all includes to the test file
+    static class IncludeLinkResolverFactory extends IndependentLinkResolverFactory {
+        @NotNull
+        @Override
+        public LinkResolver apply(@NotNull LinkResolverBasicContext context) {
+            String url = INCLUDE_URL.get(context.getOptions());
+            return (node, context1, link) -> link.withUrl(url).withStatus(LinkStatus.VALID);
+        }
+    }
+
+    private static String render(DataHolder options, String markdown) {
+        return HtmlRenderer.builder(options).build().render(Parser.builder(options).build().parse(markdown));
+    }
+
+    @Test
+    public void test_sharedContent() throws IOException {
+        File file = File.createTempFile("include", ".md");
+        file.deleteOnExit();
+        Files.write(file.toPath(), "Included\n".getBytes(StandardCharsets.UTF_8));
+
+        JekyllIncludeContentCache cache = new JekyllIncludeContentCache(10);
+        DataHolder options = new MutableDataSet()
+                .set(Parser.EXTENSIONS, Collections.singleton(JekyllTagExtension.create()))
+                .set(JekyllTagExtension.EMBED_INCLUDED_CONTENT, true)
+                .set(JekyllTagExtension.LINK_RESOLVER_FACTORIES, Collections.singletonList(new IncludeLinkResolverFactory()))
+                .set(JekyllTagExtension.INCLUDE_CONTENT_CACHE, cache)
+                .set(INCLUDE_URL, file.toURI().toString())
+                .toImmutable();
+
+        String expected = render(new MutableDataSet(options).set(JekyllTagExtension.INCLUDE_CONTENT_CACHE, (JekyllIncludeContentCache) null), "{% include test.md %}\n");
+        assertEquals(0, cache.getMissCount());
+
+        assertEquals(expected, render(options, "{% include test.md %}\n"));
+        assertEquals(expected, render(options, "{% include test.md %}\n"));
+        assertEquals(1, cache.getMissCount());
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.size());
+
+        // changed file is read again
+        Files.write(file.toPath(), "Changed Content\n".getBytes(StandardCharsets.UTF_8));
+        String changed = render(options, "{% include test.md %}\n");
+        assertEquals(expected.replace("Included", "Changed Content"), changed);
+        assertEquals(2, cache.getMissCount());
+    }
+
+    @Test
+    public void test_recheckInterval() throws IOException {
+        File file = File.createTempFile("include", ".md");
+        file.deleteOnExit();
+        Files.write(file.toPath(), "Included\n".getBytes(StandardCharsets.UTF_8));
+
+        JekyllIncludeContentCache cache = new JekyllIncludeContentCache(10, Long.MAX_VALUE, Long.MAX_VALUE);
+        DataHolder options = new MutableDataSet()
+                .set(Parser.EXTENSIONS, Collections.singleton(JekyllTagExtension.create()))
+                .set(JekyllTagExtension.EMBED_INCLUDED_CONTENT, true)
+                .set(JekyllTagExtension.LINK_RESOLVER_FACTORIES, Collections.singletonList(new IncludeLinkResolverFactory()))
+                .set(JekyllTagExtension.INCLUDE_CONTENT_CACHE, cache)
+                .set(INCLUDE_URL, file.toURI().toString())
+                .toImmutable();
+
+        // file included twice by a document is resolved once
+        String expected = render(options, "{% include test.md %}\n\n{% include test.md %}\n");
+        assertEquals(1, cache.getMissCount());
+        assertEquals(0, cache.getHitCount());
+
+        // validated content is used without checking the file
+        Files.write(file.toPath(), "Changed Content\n".getBytes(StandardCharsets.UTF_8));
+        assertEquals(expected, render(options, "{% include test.md %}\n\n{% include test.md %}\n"));
+        assertEquals(1, cache.getMissCount());
+        assertEquals(1, cache.getHitCount());
+        assertNull(new JekyllIncludeContentCache(10).getValidated(file.toURI().toString()));
+    }
+
+    @Test
+    public void test_eviction() {
+        JekyllIncludeContentCache cache = new JekyllIncludeContentCache(2, 10);
+        cache.put("a", 0, "aaaa");
+        cache.put("b", 0, "bbbb");
+        cache.put("c", 0, "cccc");
+        assertEquals(2, cache.size());
+        assertNull(cache.get("a", 0));
+        assertEquals("bbbb", cache.get("b", 0));
+        assertNull(cache.get("b", 1));
+
+        // least recently used entry is evicted to keep total length within limit
+        cache.put("d", 0, "dddddd");
+        assertEquals(2, cache.size());
+        assertNull(cache.get("c", 0));
+        assertEquals("bbbb", cache.get("b", 0));
+        assertEquals("dddddd", cache.get("d", 0));
+    }
+}
@@ -188,7 +188,7 @@ public class MacroBlockParser extends AbstractBlockParser {
 
         BlockFactory(DataHolder options) {
             super(options);
-            this.parsing = new MacroParsing(new Parsing(options));
+            this.parsing = MacroParsing.of(Parsing.of(options));
         }
 
         @Override
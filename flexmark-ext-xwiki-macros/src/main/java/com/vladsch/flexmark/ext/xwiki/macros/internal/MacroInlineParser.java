@@ -21,7 +21,7 @@ public class MacroInlineParser implements InlineParserExtension {
     private List<Macro> openMacros;
 
     public MacroInlineParser(LightInlineParser inlineParser) {
-        this.parsing = new MacroParsing(inlineParser.getParsing());
+        this.parsing = MacroParsing.of(inlineParser.getParsing());
         this.openMacros = new ArrayList<>();
     }
 
@@ -2,10 +2,14 @@ package com.vladsch.flexmark.ext.xwiki.macros.internal;
 
 import com.vladsch.flexmark.ast.util.Parsing;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Pattern;
 
 class MacroParsing {
-    final Parsing myParsing;
+    // patterns only depend on tag and attribute patterns of parsing, compiled once for each variation
+    final private static Map<String, MacroParsing> SHARED_PATTERNS = new ConcurrentHashMap<>();
+
     final String OPEN_MACROTAG;
     final String CLOSE_MACROTAG;
     final String MACROTAG;
@@ -15,14 +19,17 @@ class MacroParsing {
     final Pattern MACRO_ATTRIBUTE;
     final Pattern MACRO_TAG;
 
-    public MacroParsing(Parsing parsing) {
-        this.myParsing = parsing;
-        this.OPEN_MACROTAG = "\\{\\{(" + myParsing.TAGNAME + ")" + myParsing.ATTRIBUTE + "*" + "\\s*/?\\}\\}";
-        this.CLOSE_MACROTAG = "\\{\\{/(" + myParsing.TAGNAME + ")\\s*\\}\\}";
+    static MacroParsing of(Parsing parsing) {
+        return SHARED_PATTERNS.computeIfAbsent(parsing.TAGNAME + parsing.ATTRIBUTE, key -> new MacroParsing(parsing));
+    }
+
+    private MacroParsing(Parsing parsing) {
+        this.OPEN_MACROTAG = "\\{\\{(" + parsing.TAGNAME + ")" + parsing.ATTRIBUTE + "*" + "\\s*/?\\}\\}";
+        this.CLOSE_MACROTAG = "\\{\\{/(" + parsing.TAGNAME + ")\\s*\\}\\}";
         this.MACRO_OPEN = Pattern.compile('^' + OPEN_MACROTAG, Pattern.CASE_INSENSITIVE);
         this.MACRO_CLOSE = Pattern.compile('^' + CLOSE_MACROTAG + "\\s*$", Pattern.CASE_INSENSITIVE);
         this.MACRO_CLOSE_END = Pattern.compile(CLOSE_MACROTAG + "\\s*$", Pattern.CASE_INSENSITIVE);
-        this.MACRO_ATTRIBUTE = Pattern.compile("\\s*(" + myParsing.ATTRIBUTENAME + ")\\s*(?:=\\s*(" + myParsing.ATTRIBUTEVALUE + ")?" + ")?");
+        this.MACRO_ATTRIBUTE = Pattern.compile("\\s*(" + parsing.ATTRIBUTENAME + ")\\s*(?:=\\s*(" + parsing.ATTRIBUTEVALUE + ")?" + ")?");
 
         this.MACROTAG = "(?:" + OPEN_MACROTAG + ")|(?:" + CLOSE_MACROTAG + ")";
         this.MACRO_TAG = Pattern.compile(MACROTAG);
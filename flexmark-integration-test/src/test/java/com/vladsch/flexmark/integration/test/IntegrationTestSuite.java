@@ -6,6 +6,7 @@ import org.junit.runners.Suite;
 @RunWith(Suite.class)
 @Suite.SuiteClasses({
         BoundsIntegrationTest.class,
+        ParallelInlineParsingIntegrationTest.class,
         SpecIntegrationTest.class,
 })
 public class IntegrationTestSuite {
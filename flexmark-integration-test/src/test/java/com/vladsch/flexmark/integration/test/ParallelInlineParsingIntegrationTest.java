@@ -0,0 +1,76 @@
+package com.vladsch.flexmark.integration.test;
+
+import com.vladsch.flexmark.ext.abbreviation.AbbreviationExtension;
+import com.vladsch.flexmark.ext.autolink.AutolinkExtension;
+import com.vladsch.flexmark.ext.emoji.EmojiExtension;
+import com.vladsch.flexmark.ext.gfm.strikethrough.StrikethroughExtension;
+import com.vladsch.flexmark.ext.gfm.tasklist.TaskListExtension;
+import com.vladsch.flexmark.ext.tables.TablesExtension;
+import com.vladsch.flexmark.ext.wikilink.WikiLinkExtension;
+import com.vladsch.flexmark.html.HtmlRenderer;
+import com.vladsch.flexmark.parser.Parser;
+import com.vladsch.flexmark.test.util.AstCollectingVisitor;
+import com.vladsch.flexmark.util.ast.Document;
+import com.vladsch.flexmark.util.data.DataHolder;
+import com.vladsch.flexmark.util.data.MutableDataSet;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.HashSet;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests that parallel inline parsing gives the same result as sequential parsing with extensions enabled.
+ */
+public class ParallelInlineParsingIntegrationTest {
+    final private static DataHolder OPTIONS = new MutableDataSet()
+            .set(Parser.EXTENSIONS, Arrays.asList(
+                    AbbreviationExtension.create(),
+                    AutolinkExtension.create(),
+                    EmojiExtension.create(),
+                    StrikethroughExtension.create(),
+                    TablesExtension.create(),
+                    TaskListExtension.create(),
+                    WikiLinkExtension.create())
+            )
+            .toImmutable();
+
+    private static String getText() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("*[HTML]: Hyper Text Markup Language\n\n");
+        for (int i = 0; i < 500; i++) {
+            sb.append("Paragraph ").append(i).append(" with ~~strikethrough~~, :smile: and [[Wiki Link ").append(i).append("]] in HTML\n\n");
+            sb.append("- [ ] task ").append(i).append(" see https://example.com/").append(i).append("\n");
+            sb.append("- [x] done *emphasis* and `code`\n\n");
+            sb.append("| a | b |\n|---|---|\n| ~~").append(i).append("~~ | **bold** |\n\n");
+        }
+        return sb.toString();
+    }
+
+    @Test
+    public void test_extensions() {
+        String text = getText();
+        Parser parser = Parser.builder(OPTIONS).build();
+        Parser parallelParser = Parser.builder(new MutableDataSet(OPTIONS)
+                .set(Parser.PARALLEL_INLINE_PARSING, true)
+                .set(Parser.PARALLEL_INLINE_PARSING_MIN_BLOCKS, 1)
+        ).build();
+        HtmlRenderer renderer = HtmlRenderer.builder(OPTIONS).build();
+
+        Document expected = parser.parse(text);
+        Document actual = parallelParser.parse(text);
+
+        assertEquals(new AstCollectingVisitor().collectAndGetAstText(expected), new AstCollectingVisitor().collectAndGetAstText(actual));
+        assertEquals(renderer.render(expected), renderer.render(actual));
+
+        // data key values computed by threads while parsing are added to document data
+        HashSet<Object> expectedKeys = new HashSet<>(expected.getKeys());
+        expectedKeys.remove(Parser.PARALLEL_INLINE_PARSING);
+        expectedKeys.remove(Parser.PARALLEL_INLINE_PARSING_MIN_BLOCKS);
+        HashSet<Object> actualKeys = new HashSet<>(actual.getKeys());
+        actualKeys.remove(Parser.PARALLEL_INLINE_PARSING);
+        actualKeys.remove(Parser.PARALLEL_INLINE_PARSING_MIN_BLOCKS);
+        assertEquals(expectedKeys, actualKeys);
+    }
+}
@@ -0,0 +1,81 @@
+package com.vladsch.flexmark.integration.test;
+
+import com.vladsch.flexmark.ext.abbreviation.AbbreviationExtension;
+import com.vladsch.flexmark.ext.attributes.AttributesExtension;
+import com.vladsch.flexmark.ext.autolink.AutolinkExtension;
+import com.vladsch.flexmark.ext.emoji.EmojiExtension;
+import com.vladsch.flexmark.parser.Parser;
+import com.vladsch.flexmark.util.ast.Document;
+import com.vladsch.flexmark.util.data.MutableDataSet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Arrays;
+
+/**
+ * Parsing of a large synthetic document with extensions which post process text and links, compared to parsing
+ * without them to isolate the cost of node post processing
+ */
+@State(Scope.Benchmark)
+public class PostProcessBenchmark {
+    final private static int SECTIONS = 2000;
+    final private static String DOCUMENT = syntheticDocument();
+
+    final private static Parser PARSER = Parser.builder(new MutableDataSet()
+            .set(Parser.EXTENSIONS, Arrays.asList(AutolinkExtension.create(), AbbreviationExtension.create(), AttributesExtension.create(), EmojiExtension.create()))
+    ).build();
+
+    final private static Parser FUSED_PARSER = Parser.builder(new MutableDataSet()
+            .set(Parser.EXTENSIONS, Arrays.asList(AutolinkExtension.create(), AbbreviationExtension.create(), AttributesExtension.create(), EmojiExtension.create()))
+            .set(Parser.FUSED_POST_PROCESSING, true)
+    ).build();
+
+    final private static Parser CORE_PARSER = Parser.builder().build();
+
+    public static void main(String[] args) throws Exception {
+        Options options = new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .include(PostProcessBenchmark.class.getName() + ".*")
+                .build();
+        new Runner(options).run();
+    }
+
+    private static String syntheticDocument() {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 50; i++) {
+            sb.append("*[ABBR").append(i).append("]: Abbreviation number ").append(i).append("\n");
+        }
+        sb.append("\n");
+
+        for (int i = 0; i < SECTIONS; i++) {
+            sb.append("## Section ").append(i).append(" {#section-").append(i).append(" .title}\n\n");
+            sb.append("Text with ABBR").append(i % 50).append(" and :smile: emoji, a link to www.example.com/page").append(i)
+                    .append(" and [a *reference*](http://example.com/").append(i).append("){target=_blank} in it.\n");
+            sb.append("More `code with www.example.com` and **strong ABBR").append((i + 7) % 50).append("** text :+1:.\n\n");
+            sb.append("- item with https://example.org/").append(i).append(" and :heart:\n");
+            sb.append("- item with ABBR").append((i + 3) % 50).append(" {.item}\n");
+            sb.append("    > quoted [link www.example.com](http://example.com) text\n\n");
+        }
+        return sb.toString();
+    }
+
+    @Benchmark
+    public Document parse() {
+        return PARSER.parse(DOCUMENT);
+    }
+
+    @Benchmark
+    public Document parseFused() {
+        return FUSED_PARSER.parse(DOCUMENT);
+    }
+
+    @Benchmark
+    public Document parseCore() {
+        return CORE_PARSER.parse(DOCUMENT);
+    }
+}
@@ -9,17 +9,19 @@ import com.vladsch.flexmark.util.collection.iteration.ReversiblePeekingIterable;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.BitSet;
-import java.util.HashMap;
-import java.util.Map;
-import java.util.Set;
+import java.util.*;
 
 public class ClassifyingNodeTracker implements NodeTracker {
     protected final @NotNull ClassificationBag<Class<?>, Node> nodeClassifier;
     final private @Nullable NodeTracker host;
     final private @NotNull OrderedMap<Class<?>, Set<Class<?>>> exclusionMap;
     final private @NotNull OrderedSet<Class<?>> exclusionSet;
-    final private @NotNull HashMap<Integer, BitSet> nodeAncestryMap;
+
+    // ancestry of nodes as ids of interned exclusion sets, each distinct set of excluded ancestor types is stored once
+    final private @NotNull ArrayList<BitSet> ancestrySets = new ArrayList<>();
+    final private @NotNull HashMap<BitSet, Integer> ancestrySetIds = new HashMap<>();
+    final private @NotNull ArrayList<int[]> ancestryTransitions = new ArrayList<>();    // ancestry id with added exclusion, 0 if not computed
+    private int[] nodeAncestryIds = new int[16];                                        // ancestry id by node index, 0 for no excluded ancestors
 
     public ClassifyingNodeTracker(@Nullable NodeTracker host, @NotNull Map<Class<? extends Node>, Set<Class<?>>> exclusionMap) {
         this.host = host;
@@ -34,7 +36,8 @@ public class ClassifyingNodeTracker implements NodeTracker {
         while (iterator.hasNext()) {
             exclusionSet.addAll(iterator.next());
         }
-        nodeAncestryMap = new HashMap<>();
+
+        internAncestrySet(new BitSet());
     }
 
     @NotNull
@@ -42,11 +45,106 @@ public class ClassifyingNodeTracker implements NodeTracker {
         return exclusionMap;
     }
 
+    /**
+     * @return map of node index to its set of excluded ancestor types, for nodes with excluded ancestors
+     * @deprecated ancestry is kept as interned sets, use {@link #getNodeAncestry(int)}, the returned map is a copy
+     */
+    @Deprecated
     @NotNull
     public HashMap<Integer, BitSet> getNodeAncestryMap() {
+        HashMap<Integer, BitSet> nodeAncestryMap = new HashMap<>();
+        int iMax = Math.min(nodeAncestryIds.length, getItems().size());
+        for (int i = 0; i < iMax; i++) {
+            if (nodeAncestryIds[i] != 0) nodeAncestryMap.put(i, ancestrySets.get(nodeAncestryIds[i]));
+        }
         return nodeAncestryMap;
     }
 
+    /**
+     * @param node node
+     * @return index of node in {@link #getItems()} or -1 if node is not tracked
+     */
+    public int getNodeIndex(@NotNull Node node) {
+        // nodes do not override equals and hashCode so item lookup is by identity
+        return getItems().indexOf(node);
+    }
+
+    /**
+     * @param nodeIndex index of node
+     * @return set of indices in {@link #getExclusionSet()} of excluded types which are ancestors of the node, null
+     *         if none. The set is shared by all nodes with the same ancestry and must not be modified.
+     */
+    @Nullable
+    public BitSet getNodeAncestry(int nodeIndex) {
+        int ancestryId = getNodeAncestryId(nodeIndex);
+        return ancestryId == 0 ? null : ancestrySets.get(ancestryId);
+    }
+
+    /**
+     * @param nodeIndex index of node
+     * @return id of the node's ancestry set, 0 for none
+     */
+    public int getNodeAncestryId(int nodeIndex) {
+        return nodeIndex < nodeAncestryIds.length ? nodeAncestryIds[nodeIndex] : 0;
+    }
+
+    void setNodeAncestryId(int nodeIndex, int ancestryId) {
+        if (nodeIndex >= nodeAncestryIds.length) {
+            nodeAncestryIds = Arrays.copyOf(nodeAncestryIds, Math.max(nodeIndex + 1, nodeAncestryIds.length * 2));
+        }
+        nodeAncestryIds[nodeIndex] = ancestryId;
+    }
+
+    /**
+     * @param ancestryId ancestry set id
+     * @return ancestry set, shared and must not be modified
+     */
+    @NotNull
+    public BitSet getAncestrySet(int ancestryId) {
+        return ancestrySets.get(ancestryId);
+    }
+
+    /**
+     * @return number of distinct ancestry sets, including the empty set with id 0
+     */
+    public int getAncestrySetCount() {
+        return ancestrySets.size();
+    }
+
+    private int internAncestrySet(@NotNull BitSet ancestrySet) {
+        Integer ancestryId = ancestrySetIds.get(ancestrySet);
+        if (ancestryId == null) {
+            ancestryId = ancestrySets.size();
+            ancestrySets.add(ancestrySet);
+            ancestrySetIds.put(ancestrySet, ancestryId);
+            ancestryTransitions.add(new int[exclusionSet.size()]);
+        }
+        return ancestryId;
+    }
+
+    /**
+     * @param ancestryId     ancestry set id
+     * @param exclusionIndex index of excluded type in {@link #getExclusionSet()}
+     * @return id of ancestry set with the excluded type added
+     */
+    int ancestryIdWith(int ancestryId, int exclusionIndex) {
+        int[] transitions = ancestryTransitions.get(ancestryId);
+        int withId = transitions[exclusionIndex];
+
+        if (withId == 0) {
+            BitSet ancestrySet = ancestrySets.get(ancestryId);
+            if (ancestrySet.get(exclusionIndex)) {
+                withId = ancestryId;
+            } else {
+                BitSet withSet = (BitSet) ancestrySet.clone();
+                withSet.set(exclusionIndex);
+                withId = internAncestrySet(withSet);
+            }
+            transitions[exclusionIndex] = withId;
+        }
+        return withId;
+    }
+
     @NotNull
     public OrderedSet<Class<?>> getExclusionSet() {
         return exclusionSet;
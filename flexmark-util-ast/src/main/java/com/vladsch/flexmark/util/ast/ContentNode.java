@@ -6,6 +6,7 @@ import org.jetbrains.annotations.NotNull;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.UnaryOperator;
 
 public abstract class ContentNode extends Node implements Content {
     protected List<BasedSequence> lineSegments = BasedSequence.EMPTY_LIST;
@@ -31,6 +32,18 @@ public abstract class ContentNode extends Node implements Content {
         this(blockContent.getSpanningChars(), blockContent.getLines());
     }
 
+    @Override
+    public void mapSequences(@NotNull UnaryOperator<BasedSequence> mapper) {
+        super.mapSequences(mapper);
+        if (!lineSegments.isEmpty()) {
+            ArrayList<BasedSequence> mapped = new ArrayList<>(lineSegments.size());
+            for (BasedSequence lineSegment : lineSegments) {
+                mapped.add(mapper.apply(lineSegment));
+            }
+            lineSegments = mapped;
+        }
+    }
+
     public void setContent(@NotNull BasedSequence chars, @NotNull List<BasedSequence> lineSegments) {
         setChars(chars);
         this.lineSegments = lineSegments;
@@ -6,15 +6,21 @@ import com.vladsch.flexmark.util.sequence.BasedSequence;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.Map;
+import java.util.Objects;
 
 import static com.vladsch.flexmark.util.sequence.BasedSequence.EMPTY_LIST;
 
 public class Document extends Block implements MutableDataHolder {
     final public static Document NULL = new Document(null, BasedSequence.NULL);
+    final private static Object REMOVED = new Object();
 
     final private MutableDataSet dataSet;
+    private @Nullable ThreadLocal<MutableDataSet> threadDataSets;
+    private @Nullable ArrayList<MutableDataSet> threadDataSetList;
 
     @Override
     public @NotNull BasedSequence[] getSegments() {
@@ -23,7 +29,78 @@ public class Document extends Block implements MutableDataHolder {
 
     public Document(DataHolder options, BasedSequence chars) {
         super(chars);
-        dataSet = new MutableDataSet(options);
+        dataSet = new MutableIndexedDataSet(options);
+    }
+
+    private MutableDataSet data() {
+        ThreadLocal<MutableDataSet> threadDataSets = this.threadDataSets;
+        return threadDataSets == null ? dataSet : threadDataSets.get();
+    }
+
+    /**
+     * Give each thread using document data its own copy of it, used while blocks of the document are parsed by several threads
+     * <p>
+     * Getting a data key value from a data set can compute and add the value, so document data cannot be shared by threads.
+     * Values computed, set or removed by threads are applied to document data by {@link #endThreadDataSets()}.
+     */
+    public void beginThreadDataSets() {
+        ArrayList<MutableDataSet> threadDataSetList = new ArrayList<>();
+        this.threadDataSetList = threadDataSetList;
+        threadDataSets = ThreadLocal.withInitial(() -> {
+            MutableDataSet threadDataSet = new MutableIndexedDataSet(dataSet);
+            synchronized (threadDataSetList) {
+                threadDataSetList.add(threadDataSet);
+            }
+            return threadDataSet;
+        });
+    }
+
+    /**
+     * Stop using per thread copies of document data and apply their changes to document data, threads using the copies must
+     * be done before this is called
+     *
+     * @throws IllegalStateException if threads changed the same key to values which are not equal, none of the changes are applied
+     */
+    public void endThreadDataSets() {
+        ArrayList<MutableDataSet> threadDataSetList = this.threadDataSetList;
+        threadDataSets = null;
+        this.threadDataSetList = null;
+        if (threadDataSetList == null) return;
+
+        Map<? extends DataKeyBase<?>, Object> original = dataSet.getAll();
+        HashMap<DataKeyBase<?>, Object> changes = new HashMap<>();
+
+        synchronized (threadDataSetList) {
+            for (MutableDataSet threadDataSet : threadDataSetList) {
+                Map<? extends DataKeyBase<?>, Object> values = threadDataSet.getAll();
+
+                for (Map.Entry<? extends DataKeyBase<?>, Object> entry : values.entrySet()) {
+                    if (!original.containsKey(entry.getKey()) || original.get(entry.getKey()) != entry.getValue()) {
+                        addChange(changes, entry.getKey(), entry.getValue());
+                    }
+                }
+
+                for (DataKeyBase<?> key : original.keySet()) {
+                    if (!values.containsKey(key)) addChange(changes, key, REMOVED);
+                }
+            }
+        }
+
+        for (Map.Entry<DataKeyBase<?>, Object> entry : changes.entrySet()) {
+            if (entry.getValue() == REMOVED) {
+                dataSet.remove(entry.getKey());
+            } else {
+                //noinspection unchecked
+                ((DataKeyBase<Object>) entry.getKey()).set(dataSet, entry.getValue());
+            }
+        }
+    }
+
+    private static void addChange(HashMap<DataKeyBase<?>, Object> changes, DataKeyBase<?> key, Object value) {
+        Object other = changes.putIfAbsent(key, value);
+        if (other != null && other != value && (other == REMOVED || value == REMOVED || !Objects.equals(other, value))) {
+            throw new IllegalStateException("Document data key " + key + " was changed by more than one thread to different values");
+        }
     }
 
     @Override
@@ -33,65 +110,65 @@ public class Document extends Block implements MutableDataHolder {
 
     @NotNull
     @Override
-    public <T> MutableDataHolder set(@NotNull DataKey<T> key, @NotNull T value) {return dataSet.set(key, value);}
+    public <T> MutableDataHolder set(@NotNull DataKey<T> key, @NotNull T value) {return data().set(key, value);}
 
     @NotNull
     @Override
-    public <T> MutableDataHolder set(@NotNull NullableDataKey<T> key, @Nullable T value) {return dataSet.set(key, value);}
+    public <T> MutableDataHolder set(@NotNull NullableDataKey<T> key, @Nullable T value) {return data().set(key, value);}
 
     @NotNull
     @Override
-    public MutableDataSet setFrom(@NotNull MutableDataSetter dataSetter) {return dataSet.setFrom(dataSetter);}
+    public MutableDataSet setFrom(@NotNull MutableDataSetter dataSetter) {return data().setFrom(dataSetter);}
 
     @NotNull
     @Override
-    public MutableDataSet setAll(@NotNull DataHolder other) {return dataSet.setAll(other);}
+    public MutableDataSet setAll(@NotNull DataHolder other) {return data().setAll(other);}
 
     public static MutableDataSet merge(DataHolder... dataHolders) {return MutableDataSet.merge(dataHolders);}
 
     @NotNull
     @Override
-    public MutableDataHolder setIn(@NotNull MutableDataHolder dataHolder) {return dataSet.setIn(dataHolder);}
+    public MutableDataHolder setIn(@NotNull MutableDataHolder dataHolder) {return data().setIn(dataHolder);}
 
     @NotNull
     @Override
-    public MutableDataSet remove(@NotNull DataKeyBase<?> key) {return dataSet.remove(key);}
+    public MutableDataSet remove(@NotNull DataKeyBase<?> key) {return data().remove(key);}
 
     @Override
     @Nullable
-    public Object getOrCompute(@NotNull DataKeyBase<?> key, @NotNull DataValueFactory<?> factory) {return dataSet.getOrCompute(key, factory);}
+    public Object getOrCompute(@NotNull DataKeyBase<?> key, @NotNull DataValueFactory<?> factory) {return data().getOrCompute(key, factory);}
 
     @Override
     @NotNull
-    public MutableDataSet toMutable() {return dataSet.toMutable();}
+    public MutableDataSet toMutable() {return data().toMutable();}
 
     @Override
     @NotNull
-    public DataSet toImmutable() {return dataSet.toImmutable();}
+    public DataSet toImmutable() {return data().toImmutable();}
 
     @Override
     @NotNull
-    public MutableDataSet toDataSet() {return dataSet.toDataSet();}
+    public MutableDataSet toDataSet() {return data().toDataSet();}
 
     @NotNull
     public static DataHolder aggregateActions(@NotNull DataHolder other, @NotNull DataHolder overrides) {return DataSet.aggregateActions(other, overrides);}
 
     @NotNull
-    public DataHolder aggregate() {return dataSet.aggregate();}
+    public DataHolder aggregate() {return data().aggregate();}
 
     @NotNull
     public static DataHolder aggregate(@Nullable DataHolder other, @Nullable DataHolder overrides) {return DataSet.aggregate(other, overrides);}
 
     @Override
     @NotNull
-    public Map<? extends DataKeyBase<?>, Object> getAll() {return dataSet.getAll();}
+    public Map<? extends DataKeyBase<?>, Object> getAll() {return data().getAll();}
 
     @Override
     @NotNull
-    public Collection<? extends DataKeyBase<?>> getKeys() {return dataSet.getKeys();}
+    public Collection<? extends DataKeyBase<?>> getKeys() {return data().getKeys();}
 
     @Override
-    public boolean contains(@NotNull DataKeyBase<?> key) {return dataSet.contains(key);}
+    public boolean contains(@NotNull DataKeyBase<?> key) {return data().contains(key);}
 
     @Override
     public int getLineCount() {
@@ -114,7 +191,13 @@ public class Document extends Block implements MutableDataHolder {
      */
     public int getLineNumber(int offset) {
         if (lineSegments == EMPTY_LIST) {
-            BasedSequence preText = getChars().baseSubSequence(0, Utils.maxLimit(offset + 1, getChars().length()));
+            BasedSequence chars = getChars();
+            if (chars.getStartOffset() == 0 && chars.getEndOffset() == chars.getBaseSequence().getEndOffset()) {
+                // document text is all of its base, use shared line start index
+                return chars.getBaseLineStartIndex().getLineNumber(offset);
+            }
+
+            BasedSequence preText = chars.baseSubSequence(0, Utils.maxLimit(offset + 1, chars.length()));
 
             if (preText.isEmpty()) return 0;
             int lineNumber = 0;
@@ -131,13 +214,15 @@ public class Document extends Block implements MutableDataHolder {
 
             return lineNumber;
         } else {
-            int iMax = lineSegments.size();
-            for (int i = 0; i < iMax; i++) {
-                if (offset < lineSegments.get(i).getEndOffset()) {
-                    return i;
-                }
+            // line segments are in offset order, find first line ending after offset
+            int low = 0;
+            int high = lineSegments.size();
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (offset < lineSegments.get(mid).getEndOffset()) high = mid;
+                else low = mid + 1;
             }
-            return iMax;
+            return low;
         }
     }
 }
@@ -13,6 +13,7 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.Arrays;
+import java.util.function.UnaryOperator;
 
 public abstract class Node {
     final public static BasedSequence[] EMPTY_SEGMENTS = BasedSequence.EMPTY_ARRAY;
@@ -503,6 +504,18 @@ public abstract class Node {
     @NotNull
     public abstract BasedSequence[] getSegments();
 
+    /**
+     * Replace all sequences of this node with the result of the mapper, used to move nodes to another base sequence
+     * <p>
+     * Node classes which keep sequences in their own fields must override, replace their sequences and call super.
+     * Sequences returned by {@link #getSegments()} must be among the replaced sequences.
+     *
+     * @param mapper function returning the replacement of a sequence
+     */
+    public void mapSequences(@NotNull UnaryOperator<BasedSequence> mapper) {
+        chars = mapper.apply(chars);
+    }
+
     @NotNull
     public static BasedSequence getLeadSegment(@NotNull BasedSequence[] segments) {
         for (BasedSequence segment : segments) {
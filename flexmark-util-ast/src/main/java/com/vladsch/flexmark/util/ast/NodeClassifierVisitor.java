@@ -1,6 +1,5 @@
 package com.vladsch.flexmark.util.ast;
 
-import com.vladsch.flexmark.util.collection.CopyOnWriteRef;
 import com.vladsch.flexmark.util.collection.OrderedMap;
 import com.vladsch.flexmark.util.collection.OrderedSet;
 import org.jetbrains.annotations.NotNull;
@@ -10,11 +9,10 @@ import java.util.*;
 public class NodeClassifierVisitor extends NodeVisitorBase implements NodeTracker {
     final private OrderedMap<Class<?>, Set<Class<?>>> exclusionMap;
     final private OrderedSet<Class<?>> exclusionSet;
-    final private HashMap<Integer, BitSet> nodeAncestryMap;
-    final private Stack<BitSet> nodeAncestryBitSetStack = new Stack<>();
-    final private CopyOnWriteRef<BitSet> nodeAncestryBitSet = new CopyOnWriteRef<>(new BitSet(), value -> value != null ? (BitSet) value.clone() : new BitSet());
+    private int[] nodeAncestryIdStack = new int[16];
+    private int nodeAncestryIdStackSize = 0;
+    private int nodeAncestryId = 0;                     // interned set of excluded ancestors of current node, see ClassifyingNodeTracker
 
-    final private static BitSet EMPTY_SET = new BitSet();
     private boolean isClassificationDone = false;
 
     final private ClassifyingNodeTracker classifyingNodeTracker;
@@ -22,7 +20,6 @@ public class NodeClassifierVisitor extends NodeVisitorBase implements NodeTracke
     public NodeClassifierVisitor(Map<Class<? extends Node>, Set<Class<?>>> exclusionMap) {
         classifyingNodeTracker = new ClassifyingNodeTracker(this, exclusionMap);
         this.exclusionMap = classifyingNodeTracker.getExclusionMap();
-        nodeAncestryMap = classifyingNodeTracker.getNodeAncestryMap();
         exclusionSet = classifyingNodeTracker.getExclusionSet();
     }
 
@@ -55,73 +52,66 @@ public class NodeClassifierVisitor extends NodeVisitorBase implements NodeTracke
             }
 
             if (!(node.getParent() instanceof Document)) {
-                int parentIndex = classifyingNodeTracker.getItems().indexOf(node.getParent());
+                int parentIndex = classifyingNodeTracker.getNodeIndex(node.getParent());
                 if (parentIndex == -1) {
                     throw new IllegalStateException("Parent node: " + node.getParent() + " of " + node + " is not tracked, some post processor forgot to call tracker.nodeAdded().");
                 }
 
-                BitSet ancestorBitSet = nodeAncestryMap.get(parentIndex);
-                nodeAncestryBitSet.setValue(ancestorBitSet);
+                nodeAncestryId = classifyingNodeTracker.getNodeAncestryId(parentIndex);
+            } else {
+                nodeAncestryId = 0;
             }
 
             // let'er rip to update the descendants
-            nodeAncestryBitSetStack.clear();
+            nodeAncestryIdStackSize = 0;
             visit(node);
         }
     }
 
     void pushNodeAncestry() {
         if (!exclusionMap.isEmpty()) {
-            nodeAncestryBitSetStack.push(nodeAncestryBitSet.getImmutable());
+            if (nodeAncestryIdStackSize == nodeAncestryIdStack.length) {
+                nodeAncestryIdStack = Arrays.copyOf(nodeAncestryIdStack, nodeAncestryIdStackSize * 2);
+            }
+            nodeAncestryIdStack[nodeAncestryIdStackSize++] = nodeAncestryId;
         }
     }
 
     void popNodeAncestry() {
-        nodeAncestryBitSet.setValue(nodeAncestryBitSetStack.pop());
+        if (!exclusionMap.isEmpty()) {
+            nodeAncestryId = nodeAncestryIdStack[--nodeAncestryIdStackSize];
+        }
     }
 
-    boolean updateNodeAncestry(Node node, CopyOnWriteRef<BitSet> nodeAncestryBitSet) {
+    boolean updateNodeAncestry(Node node) {
         if (!exclusionMap.isEmpty() && !(node instanceof Document)) {
-            // add flags if needed
-            BitSet bitSet = nodeAncestryBitSet.getPeek();
-            assert bitSet != null;
-
-            int index = classifyingNodeTracker.getItems().indexOf(node);
+            int index = classifyingNodeTracker.getNodeIndex(node);
             if (index == -1) {
                 throw new IllegalStateException("Node: " + node + " is not tracked, some post processor forgot to call tracker.nodeAdded().");
             }
 
-            if (exclusionSet != null && !exclusionSet.isEmpty()) {
-                Iterator<Class<?>> iterator = ((Set<Class<?>>) exclusionSet).iterator();
-
-                while (iterator.hasNext()) {
-                    Class<?> nodeType = iterator.next();
-                    if (nodeType.isInstance(node)) {
-                        // get the index of this exclusion
-                        int i = exclusionSet.indexOf(nodeType);
-                        assert i != -1;
-                        if (!bitSet.get(i)) {
-                            bitSet = nodeAncestryBitSet.getMutable();
-                            assert bitSet != null;
-
-                            bitSet.set(i);
-                        }
-                    }
+            // add flags if needed
+            int ancestryId = nodeAncestryId;
+            int iMax = exclusionSet.size();
+            for (int i = 0; i < iMax; i++) {
+                Class<?> nodeType = exclusionSet.getValue(i);
+                if (nodeType != null && nodeType.isInstance(node)) {
+                    ancestryId = classifyingNodeTracker.ancestryIdWith(ancestryId, i);
                 }
             }
+            nodeAncestryId = ancestryId;
 
-            if (isClassificationDone && nodeAncestryBitSetStack.size() > 1) {
+            if (isClassificationDone && nodeAncestryIdStackSize > 1) {
                 // see if we can stop
-                // now store the stuff for the node index
-                BitSet oldBitSet = nodeAncestryMap.get(index);
-                if (oldBitSet != null && oldBitSet.equals(bitSet)) {
+                int oldAncestryId = classifyingNodeTracker.getNodeAncestryId(index);
+                if (oldAncestryId != 0 && oldAncestryId == ancestryId) {
                     // no need to process descendants of this node
                     return false;
                 }
             }
 
-            if (!bitSet.isEmpty()) {
-                nodeAncestryMap.put(index, nodeAncestryBitSet.getImmutable());
+            if (ancestryId != 0) {
+                classifyingNodeTracker.setNodeAncestryId(index, ancestryId);
             }
         }
 
@@ -144,12 +134,12 @@ public class NodeClassifierVisitor extends NodeVisitorBase implements NodeTracke
 
         if (parent.getFirstChild() != null) {
             pushNodeAncestry();
-            if (updateNodeAncestry(parent, nodeAncestryBitSet)) {
+            if (updateNodeAncestry(parent)) {
                 super.visitChildren(parent);
             }
             popNodeAncestry();
         } else {
-            updateNodeAncestry(parent, nodeAncestryBitSet);
+            updateNodeAncestry(parent);
         }
     }
 }
@@ -0,0 +1,96 @@
+package com.vladsch.flexmark.util.collection;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Map of classes to values for dispatching on the class of an object.
+ * <p>
+ * Each class is assigned a dense integer id when it is first used by any map, lookup is an index into the value array
+ * by the class id without hashing or comparing the class.
+ *
+ * @param <V> type of value
+ */
+public class ClassIndexedMap<V> {
+    final private static Object[] EMPTY_VALUES = new Object[0];
+    final private static AtomicInteger nextClassId = new AtomicInteger();
+    final private static ClassValue<Integer> CLASS_ID = new ClassValue<Integer>() {
+        @Override
+        protected Integer computeValue(Class<?> type) {
+            return nextClassId.getAndIncrement();
+        }
+    };
+
+    private Object[] values;
+    private int size;
+
+    public ClassIndexedMap() {
+        values = EMPTY_VALUES;
+        size = 0;
+    }
+
+    /**
+     * Get the dense id of the class, assigned on first use
+     *
+     * @param type class
+     * @return id of the class
+     */
+    public static int classId(@NotNull Class<?> type) {
+        return CLASS_ID.get(type);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public boolean containsKey(@NotNull Class<?> type) {
+        return get(type) != null;
+    }
+
+    @SuppressWarnings("unchecked")
+    public @Nullable V get(@NotNull Class<?> type) {
+        int id = CLASS_ID.get(type);
+        return id < values.length ? (V) values[id] : null;
+    }
+
+    @SuppressWarnings("unchecked")
+    public @Nullable V put(@NotNull Class<?> type, @NotNull V value) {
+        int id = CLASS_ID.get(type);
+        if (id >= values.length) {
+            values = Arrays.copyOf(values, Math.max(id + 1, values.length * 2));
+        }
+
+        V previous = (V) values[id];
+        values[id] = value;
+        if (previous == null) size++;
+        return previous;
+    }
+
+    public @NotNull V computeIfAbsent(@NotNull Class<?> type, @NotNull Function<Class<?>, V> factory) {
+        V value = get(type);
+        if (value == null) {
+            value = factory.apply(type);
+            put(type, value);
+        }
+        return value;
+    }
+
+    @SuppressWarnings("unchecked")
+    public @Nullable V remove(@NotNull Class<?> type) {
+        int id = CLASS_ID.get(type);
+        if (id >= values.length) return null;
+
+        V previous = (V) values[id];
+        values[id] = null;
+        if (previous != null) size--;
+        return previous;
+    }
+}
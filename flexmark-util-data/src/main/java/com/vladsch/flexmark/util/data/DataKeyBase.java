@@ -3,10 +3,15 @@ package com.vladsch.flexmark.util.data;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.concurrent.atomic.AtomicInteger;
+
 public abstract class DataKeyBase<T> implements MutableDataValueSetter<T> {
+    final private static AtomicInteger ourKeyCount = new AtomicInteger();
+
     final private @NotNull String name;
     final private @NotNull DataValueFactory<T> factory;
     final private T defaultValue;
+    final private int index;
 
     /**
      * Creates a NullableDataKey with a computed default value and a provided default value when data holder is null.
@@ -21,6 +26,7 @@ public abstract class DataKeyBase<T> implements MutableDataValueSetter<T> {
         this.name = name;
         this.defaultValue = defaultValue;
         this.factory = factory;
+        this.index = ourKeyCount.getAndIncrement();
     }
 
     /**
@@ -45,6 +51,22 @@ public abstract class DataKeyBase<T> implements MutableDataValueSetter<T> {
         return name;
     }
 
+    /**
+     * Dense index of the key, unique for every key created, used by array backed data sets
+     *
+     * @return index of key
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    /**
+     * @return number of keys created
+     */
+    public static int getKeyCount() {
+        return ourKeyCount.get();
+    }
+
     @NotNull
     public DataValueFactory<T> getFactory() {
         return factory;
@@ -60,7 +82,7 @@ public abstract class DataKeyBase<T> implements MutableDataValueSetter<T> {
 
     public T get(@Nullable DataHolder holder) {
         //noinspection unchecked
-        return holder == null ? defaultValue : (T) holder.getOrCompute(this, this::getDefaultValue);
+        return holder == null ? defaultValue : (T) holder.getOrCompute(this, factory);
     }
 
     /**
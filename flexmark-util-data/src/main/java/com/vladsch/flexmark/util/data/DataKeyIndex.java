@@ -0,0 +1,52 @@
+package com.vladsch.flexmark.util.data;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * Values of data keys stored in an array at {@link DataKeyBase#getIndex()}
+ */
+final class DataKeyIndex {
+    final static Object NOT_SET = new Object();
+    final static Object[] EMPTY = new Object[0];
+
+    private DataKeyIndex() {
+    }
+
+    /**
+     * @param dataSet   values by key
+     * @param minLength minimum length of the array
+     * @return array of values by key index, {@link #NOT_SET} for keys not in the data set
+     */
+    static Object[] values(@NotNull Map<? extends DataKeyBase<?>, Object> dataSet, int minLength) {
+        int length = minLength;
+        for (DataKeyBase<?> key : dataSet.keySet()) {
+            length = Math.max(length, key.getIndex() + 1);
+        }
+
+        if (length == 0) return EMPTY;
+
+        Object[] values = new Object[length];
+        Arrays.fill(values, NOT_SET);
+        for (Map.Entry<? extends DataKeyBase<?>, Object> entry : dataSet.entrySet()) {
+            values[entry.getKey().getIndex()] = entry.getValue();
+        }
+        return values;
+    }
+
+    /**
+     * @param values values by key index
+     * @param index  key index to store
+     * @return values with room for index
+     */
+    static Object[] ensureIndex(@NotNull Object[] values, int index) {
+        if (index < values.length) return values;
+
+        int length = values.length;
+        Object[] grown = Arrays.copyOf(values, Math.max(index + 1, DataKeyBase.getKeyCount()));
+        Arrays.fill(grown, length, grown.length, NOT_SET);
+        return grown;
+    }
+}
@@ -0,0 +1,40 @@
+package com.vladsch.flexmark.util.data;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Immutable snapshot of data with values indexed by {@link DataKeyBase#getIndex()}
+ * <p>
+ * Key lookups are an array read instead of hash map lookups. Used for options of parsers and renderers, which are
+ * read for every document and often for every node.
+ */
+public class FrozenDataSet extends DataSet {
+    final private Object[] values;
+
+    public FrozenDataSet(@Nullable DataHolder other) {
+        super(other);
+        values = DataKeyIndex.values(dataSet, 0);
+    }
+
+    @NotNull
+    public static FrozenDataSet of(@NotNull DataHolder other) {
+        return other instanceof FrozenDataSet ? (FrozenDataSet) other : new FrozenDataSet(other);
+    }
+
+    @Override
+    public boolean contains(@NotNull DataKeyBase<?> key) {
+        int index = key.getIndex();
+        return index < values.length && values[index] != DataKeyIndex.NOT_SET;
+    }
+
+    @Override
+    public @Nullable Object getOrCompute(@NotNull DataKeyBase<?> key, @NotNull DataValueFactory<?> factory) {
+        int index = key.getIndex();
+        if (index < values.length) {
+            Object value = values[index];
+            if (value != DataKeyIndex.NOT_SET) return value;
+        }
+        return factory.apply(this);
+    }
+}
@@ -0,0 +1,96 @@
+package com.vladsch.flexmark.util.data;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * Mutable data set which also keeps its values in an array indexed by {@link DataKeyBase#getIndex()}
+ * <p>
+ * Used for document data, which starts with a copy of the parser options and is read by parsers and renderers for
+ * every node, so key lookups are an array read.
+ */
+public class MutableIndexedDataSet extends MutableDataSet {
+    private Object[] values;
+
+    public MutableIndexedDataSet() {
+        this(null);
+    }
+
+    public MutableIndexedDataSet(@Nullable DataHolder other) {
+        super(other);
+        values = DataKeyIndex.values(dataSet, DataKeyBase.getKeyCount());
+    }
+
+    private void setValue(@NotNull DataKeyBase<?> key, @Nullable Object value) {
+        int index = key.getIndex();
+        Object[] values = DataKeyIndex.ensureIndex(this.values, index);
+        values[index] = value;
+        this.values = values;
+    }
+
+    @NotNull
+    @Override
+    public <T> MutableIndexedDataSet set(@NotNull DataKey<T> key, @NotNull T value) {
+        super.set(key, value);
+        setValue(key, value);
+        return this;
+    }
+
+    @NotNull
+    @Override
+    public <T> MutableIndexedDataSet set(@NotNull NullableDataKey<T> key, @Nullable T value) {
+        super.set(key, value);
+        setValue(key, value);
+        return this;
+    }
+
+    @NotNull
+    @Override
+    public MutableIndexedDataSet setAll(@NotNull DataHolder other) {
+        for (Map.Entry<? extends DataKeyBase<?>, Object> entry : other.getAll().entrySet()) {
+            dataSet.put(entry.getKey(), entry.getValue());
+            setValue(entry.getKey(), entry.getValue());
+        }
+        return this;
+    }
+
+    @NotNull
+    @Override
+    public MutableIndexedDataSet remove(@NotNull DataKeyBase<?> key) {
+        super.remove(key);
+        int index = key.getIndex();
+        if (index < values.length) values[index] = DataKeyIndex.NOT_SET;
+        return this;
+    }
+
+    @NotNull
+    @Override
+    public MutableIndexedDataSet clear() {
+        super.clear();
+        Arrays.fill(values, DataKeyIndex.NOT_SET);
+        return this;
+    }
+
+    @Override
+    public boolean contains(@NotNull DataKeyBase<?> key) {
+        int index = key.getIndex();
+        return index < values.length && values[index] != DataKeyIndex.NOT_SET;
+    }
+
+    @Override
+    public @Nullable Object getOrCompute(@NotNull DataKeyBase<?> key, @NotNull DataValueFactory<?> factory) {
+        int index = key.getIndex();
+        if (index < values.length) {
+            Object value = values[index];
+            if (value != DataKeyIndex.NOT_SET) return value;
+        }
+
+        Object value = factory.apply(this);
+        dataSet.put(key, value);
+        setValue(key, value);
+        return value;
+    }
+}
@@ -7,15 +7,23 @@ import java.util.*;
 
 public class ScopedDataSet extends DataSet {
     protected final DataHolder parent;
+    final private Object[] values;     // own values by key index
 
     public ScopedDataSet(@Nullable DataHolder parent) {
         super();
         this.parent = parent;
+        this.values = DataKeyIndex.EMPTY;
     }
 
     public ScopedDataSet(@Nullable DataHolder parent, @Nullable DataHolder other) {
         super(other);
         this.parent = parent;
+        this.values = DataKeyIndex.values(dataSet, 0);
+    }
+
+    private boolean containsOwn(@NotNull DataKeyBase<?> key) {
+        int index = key.getIndex();
+        return index < values.length && values[index] != DataKeyIndex.NOT_SET;
     }
 
     public DataHolder getParent() {
@@ -53,15 +61,17 @@ public class ScopedDataSet extends DataSet {
 
     @Override
     public boolean contains(@NotNull DataKeyBase<?> key) {
-        return super.contains(key) || (parent != null && parent.contains(key));
+        return containsOwn(key) || (parent != null && parent.contains(key));
     }
 
     @Override
     public @Nullable Object getOrCompute(@NotNull DataKeyBase<?> key, @NotNull DataValueFactory<?> factory) {
-        if (parent == null || super.contains(key) || !parent.contains(key)) {
-            return super.getOrCompute(key, factory);
-        } else {
+        if (containsOwn(key)) {
+            return values[key.getIndex()];
+        } else if (parent != null && parent.contains(key)) {
             return parent.getOrCompute(key, factory);
+        } else {
+            return factory.apply(this);
         }
     }
 }
@@ -125,7 +125,7 @@ public class HtmlAppendableBase<T extends HtmlAppendableBase<T>> implements Html
     @NotNull
     @Override
     public T text(@NotNull CharSequence s) {
-        appendable.append(Escaping.escapeHtml(s, false));
+        appendable.append(s instanceof BasedSequence ? Escaping.escapeHtmlSequence((BasedSequence) s, false) : Escaping.escapeHtml(s, false));
         return (T) this;
     }
 
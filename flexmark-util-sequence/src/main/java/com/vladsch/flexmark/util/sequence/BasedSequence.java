@@ -404,6 +404,19 @@ public interface BasedSequence extends IRichSequence<BasedSequence>, BasedOption
     @NotNull BasedSequence prefixWithIndent(int maxColumns);
     @NotNull BasedSequence prefixWithIndent();
 
+    /**
+     * Get line start index of the base sequence
+     * <p>
+     * {@link SubSequence} and {@link CharSubSequence} build it on first use and share it with all sequences with the same base,
+     * other base sequences build it on every call.
+     *
+     * @return line start index of base sequence
+     */
+    default @NotNull LineStartIndex getBaseLineStartIndex() {
+        BasedSequence baseSequence = getBaseSequence();
+        return baseSequence == this ? LineStartIndex.of(this) : baseSequence.getBaseLineStartIndex();
+    }
+
     /*
       These are convenience methods returning coordinates in Base Sequence of this sequence
      */
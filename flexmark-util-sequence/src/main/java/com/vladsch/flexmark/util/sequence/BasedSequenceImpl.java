@@ -354,13 +354,23 @@ public abstract class BasedSequenceImpl extends IRichSequenceBase<BasedSequence>
         else return this.baseSubSequence(other.getEndOffset(), getEndOffset());
     }
 
+    /**
+     * Line start index is only used for base sequences which keep it, building it for a single lookup costs more than a scan
+     *
+     * @return true if base sequence keeps its line start index
+     */
+    private boolean hasBaseLineStartIndex() {
+        BasedSequence baseSequence = getBaseSequence();
+        return baseSequence instanceof SubSequence || baseSequence instanceof CharSubSequence;
+    }
+
     // @formatter:off
     // TEST: all these need tests
-    @Override public @NotNull Range baseLineRangeAtIndex(int index) { return getBaseSequence().lineRangeAt(index); }
-    @Override public @NotNull Pair<Integer, Integer> baseLineColumnAtIndex(int index) { return getBaseSequence().lineColumnAtIndex(index);}
-    @Override public int baseEndOfLine(int index) { return getBaseSequence().endOfLine(index); }
+    @Override public @NotNull Range baseLineRangeAtIndex(int index) { if (!hasBaseLineStartIndex()) return getBaseSequence().lineRangeAt(index); LineStartIndex lineStartIndex = getBaseLineStartIndex(); return Range.of(lineStartIndex.startOfLine(index), lineStartIndex.endOfLine(index)); }
+    @Override public @NotNull Pair<Integer, Integer> baseLineColumnAtIndex(int index) { return hasBaseLineStartIndex() ? getBaseLineStartIndex().lineColumnAtIndex(index) : getBaseSequence().lineColumnAtIndex(index); }
+    @Override public int baseEndOfLine(int index) { return hasBaseLineStartIndex() ? getBaseLineStartIndex().endOfLine(index) : getBaseSequence().endOfLine(index); }
     @Override public int baseEndOfLineAnyEOL(int index) { return getBaseSequence().endOfLineAnyEOL(index); }
-    @Override public int baseStartOfLine(int index) { return getBaseSequence().startOfLine(index); }
+    @Override public int baseStartOfLine(int index) { return hasBaseLineStartIndex() ? getBaseLineStartIndex().startOfLine(index) : getBaseSequence().startOfLine(index); }
     @Override public int baseStartOfLineAnyEOL(int index) { return getBaseSequence().startOfLineAnyEOL(index); }
     @Override public int baseColumnAtIndex(int index) { return getBaseSequence().columnAtIndex(index); }
 
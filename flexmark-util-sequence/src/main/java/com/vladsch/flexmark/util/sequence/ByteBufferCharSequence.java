@@ -0,0 +1,289 @@
+package com.vladsch.flexmark.util.sequence;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * CharSequence which decodes characters from bytes of a ByteBuffer on access, without copying the bytes into a char[]
+ * <p>
+ * Use {@link BasedSequence#of(CharSequence)} to get a based sequence for parsing, ie. of a memory mapped file from {@link #map(Path, Charset)}.
+ * <p>
+ * ISO-8859-1, US-ASCII and UTF-8 are supported. Pure ASCII UTF-8 content is accessed directly by index. Otherwise the
+ * byte offset of every 32nd character is kept and a block of 32 characters is decoded when one of its characters is
+ * accessed, the last decoded block is kept for the following accesses. Blocks of ASCII characters are still accessed
+ * directly. Characters outside the BMP are surrogate pairs, as in a String.
+ * Malformed input is replaced by U+FFFD in the same way as {@link String#String(byte[], Charset)}.
+ * <p>
+ * The bytes of the buffer must not be modified while the sequence is used.
+ */
+final public class ByteBufferCharSequence implements CharSequence {
+    final private static int BLOCK_SHIFT = 5;
+    final private static int BLOCK_SIZE = 1 << BLOCK_SHIFT;
+    final private static int BLOCK_MASK = BLOCK_SIZE - 1;
+    final private static char REPLACEMENT = '\uFFFD';
+
+    final private @NotNull ByteBuffer buffer;
+    final private int bufferStart;
+    final private int byteLength;
+    final private int length;
+    final private boolean ascii;              // only for US-ASCII, bytes >= 0x80 are replaced
+    final private int[] blockOffsets;         // UTF-8 with non-ASCII content, byte offset of every BLOCK_SIZE'th char, ~offset if char is low surrogate
+    final private int startIndex;
+    final private int endIndex;
+    private DecodedBlock decoded;             // last decoded non-ASCII block, sequential access decodes each block once
+
+    // immutable so it can be shared by threads accessing the sequence without synchronization
+    private static class DecodedBlock {
+        final int block;
+        final char[] chars;
+
+        DecodedBlock(int block, char[] chars) {
+            this.block = block;
+            this.chars = chars;
+        }
+    }
+
+    private ByteBufferCharSequence(@NotNull ByteBuffer buffer, @NotNull Charset charset) {
+        this.buffer = buffer;
+        bufferStart = buffer.position();
+        byteLength = buffer.remaining();
+
+        if (charset.equals(StandardCharsets.UTF_8)) {
+            ascii = false;
+            int i = 0;
+            while (i < byteLength && buffer.get(bufferStart + i) >= 0) i++;
+
+            if (i == byteLength) {
+                blockOffsets = null;
+                length = byteLength;
+            } else {
+                int[] offsets = new int[Math.max(16, (byteLength >> BLOCK_SHIFT) + 1)];
+                int chars = 0;
+                int pos = 0;
+                while (pos < byteLength) {
+                    int decoded = decodeAt(pos);
+                    int charCount = (decoded & 0x1FFFFF) >= 0x10000 ? 2 : 1;
+
+                    for (int c = 0; c < charCount; c++) {
+                        if (((chars + c) & BLOCK_MASK) == 0) {
+                            int block = (chars + c) >> BLOCK_SHIFT;
+                            if (block == offsets.length) offsets = Arrays.copyOf(offsets, block * 2);
+                            offsets[block] = c == 0 ? pos : ~pos;
+                        }
+                    }
+
+                    chars += charCount;
+                    pos += decoded >>> 21;
+                }
+
+                blockOffsets = Arrays.copyOf(offsets, (chars + BLOCK_MASK) >> BLOCK_SHIFT);
+                length = chars;
+            }
+        } else if (charset.equals(StandardCharsets.ISO_8859_1) || charset.equals(StandardCharsets.US_ASCII)) {
+            ascii = charset.equals(StandardCharsets.US_ASCII);
+            blockOffsets = null;
+            length = byteLength;
+        } else {
+            throw new IllegalArgumentException("Unsupported charset " + charset.name() + ", only UTF-8, ISO-8859-1 and US-ASCII are supported");
+        }
+
+        startIndex = 0;
+        endIndex = length;
+    }
+
+    private ByteBufferCharSequence(@NotNull ByteBufferCharSequence other, int startIndex, int endIndex) {
+        buffer = other.buffer;
+        bufferStart = other.bufferStart;
+        byteLength = other.byteLength;
+        length = other.length;
+        ascii = other.ascii;
+        blockOffsets = other.blockOffsets;
+        decoded = other.decoded;
+        this.startIndex = startIndex;
+        this.endIndex = endIndex;
+    }
+
+    /**
+     * Create a sequence of the remaining bytes of the buffer, the buffer's position is not changed
+     *
+     * @param buffer  byte buffer
+     * @param charset charset of the bytes
+     * @return char sequence
+     */
+    @NotNull
+    public static ByteBufferCharSequence of(@NotNull ByteBuffer buffer, @NotNull Charset charset) {
+        return new ByteBufferCharSequence(buffer.duplicate(), charset);
+    }
+
+    @NotNull
+    public static ByteBufferCharSequence of(@NotNull ByteBuffer buffer) {
+        return of(buffer, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Create a sequence of a read-only memory mapped file. The mapping remains valid until the sequence is garbage collected.
+     *
+     * @param path    file path
+     * @param charset charset of the file
+     * @return char sequence
+     * @throws IOException when the file cannot be mapped or is 2GB or larger
+     */
+    @NotNull
+    public static ByteBufferCharSequence map(@NotNull Path path, @NotNull Charset charset) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size >= Integer.MAX_VALUE) {
+                throw new IOException("File " + path + " is too large to map, size: " + size);
+            }
+            return new ByteBufferCharSequence(channel.map(FileChannel.MapMode.READ_ONLY, 0, size), charset);
+        }
+    }
+
+    @NotNull
+    public static ByteBufferCharSequence map(@NotNull Path path) throws IOException {
+        return map(path, StandardCharsets.UTF_8);
+    }
+
+    private int byteAt(int pos) {
+        return buffer.get(bufferStart + pos) & 0xFF;
+    }
+
+    /**
+     * Decode UTF-8 code point at byte offset
+     *
+     * @param pos byte offset
+     * @return byte length of the code point in bits 21 and up, code point or U+FFFD in bits 0-20
+     */
+    private int decodeAt(int pos) {
+        int b0 = byteAt(pos);
+        if (b0 < 0x80) return (1 << 21) | b0;
+
+        int need;
+        int codePoint;
+        int min1 = 0x80;
+        int max1 = 0xBF;
+
+        if (b0 >= 0xC2 && b0 <= 0xDF) {
+            need = 1;
+            codePoint = b0 & 0x1F;
+        } else if (b0 >= 0xE0 && b0 <= 0xEF) {
+            need = 2;
+            codePoint = b0 & 0x0F;
+            if (b0 == 0xE0) min1 = 0xA0;
+        } else if (b0 >= 0xF0 && b0 <= 0xF4) {
+            need = 3;
+            codePoint = b0 & 0x07;
+            if (b0 == 0xF0) min1 = 0x90;
+            else if (b0 == 0xF4) max1 = 0x8F;
+        } else {
+            return (1 << 21) | REPLACEMENT;
+        }
+
+        // malformed sequence is replaced up to the first byte which cannot continue it
+        for (int i = 1; i <= need; i++) {
+            if (pos + i >= byteLength) return (i << 21) | REPLACEMENT;
+
+            int b = byteAt(pos + i);
+            if (b < (i == 1 ? min1 : 0x80) || b > (i == 1 ? max1 : 0xBF)) return (i << 21) | REPLACEMENT;
+            codePoint = (codePoint << 6) | (b & 0x3F);
+        }
+
+        // encoded surrogate is replaced as a whole
+        if (Character.isSurrogate((char) codePoint) && need == 2) return (3 << 21) | REPLACEMENT;
+        return ((need + 1) << 21) | codePoint;
+    }
+
+    private char charAtIndex(int index) {
+        if (blockOffsets == null) {
+            int c = byteAt(index);
+            return ascii && c >= 0x80 ? REPLACEMENT : (char) c;
+        }
+
+        int block = index >> BLOCK_SHIFT;
+        int blockStart = blockOffsets[block];
+
+        if (blockStart >= 0) {
+            // block with one byte per character has only ASCII or single malformed bytes
+            int blockEnd = block + 1 < blockOffsets.length ? blockOffsets[block + 1] : byteLength;
+            if (blockEnd - blockStart == Math.min(BLOCK_SIZE, length - (block << BLOCK_SHIFT))) {
+                int c = byteAt(blockStart + (index & BLOCK_MASK));
+                return c < 0x80 ? (char) c : REPLACEMENT;
+            }
+        }
+
+        DecodedBlock decoded = this.decoded;
+        if (decoded == null || decoded.block != block) {
+            decoded = new DecodedBlock(block, decodeBlock(block));
+            this.decoded = decoded;
+        }
+        return decoded.chars[index & BLOCK_MASK];
+    }
+
+    private char[] decodeBlock(int block) {
+        char[] chars = new char[Math.min(BLOCK_SIZE, length - (block << BLOCK_SHIFT))];
+        int pos = blockOffsets[block];
+        int i = 0;
+
+        if (pos < 0) {
+            // block starts with low surrogate of code point at ~pos
+            pos = ~pos;
+            int decoded = decodeAt(pos);
+            chars[i++] = Character.lowSurrogate(decoded & 0x1FFFFF);
+            pos += decoded >>> 21;
+        }
+
+        while (i < chars.length) {
+            int decoded = decodeAt(pos);
+            int codePoint = decoded & 0x1FFFFF;
+
+            if (codePoint >= 0x10000) {
+                chars[i++] = Character.highSurrogate(codePoint);
+                if (i < chars.length) chars[i++] = Character.lowSurrogate(codePoint);
+            } else {
+                chars[i++] = (char) codePoint;
+            }
+            pos += decoded >>> 21;
+        }
+        return chars;
+    }
+
+    @Override
+    public int length() {
+        return endIndex - startIndex;
+    }
+
+    @Override
+    public char charAt(int index) {
+        if (index < 0 || index >= endIndex - startIndex) {
+            throw new StringIndexOutOfBoundsException("index " + index + " out of bounds for length " + (endIndex - startIndex));
+        }
+        return charAtIndex(startIndex + index);
+    }
+
+    @NotNull
+    @Override
+    public CharSequence subSequence(int startIndex, int endIndex) {
+        if (startIndex < 0 || startIndex > endIndex || endIndex > this.endIndex - this.startIndex) {
+            throw new StringIndexOutOfBoundsException("subSequence(" + startIndex + ", " + endIndex + ") out of bounds for length " + (this.endIndex - this.startIndex));
+        }
+        return new ByteBufferCharSequence(this, this.startIndex + startIndex, this.startIndex + endIndex);
+    }
+
+    @NotNull
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder(length());
+        for (int i = startIndex; i < endIndex; i++) {
+            sb.append(charAtIndex(i));
+        }
+        return sb.toString();
+    }
+}
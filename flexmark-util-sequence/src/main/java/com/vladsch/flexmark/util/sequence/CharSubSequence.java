@@ -16,6 +16,7 @@ final public class CharSubSequence extends BasedSequenceImpl {
     final private CharSubSequence base;
     final private int startOffset;
     final private int endOffset;
+    private @Nullable LineStartIndex lineStartIndex;    // only set in base sequence
 
     private CharSubSequence(char[] chars, int hash) {
         super(hash);
@@ -76,6 +77,20 @@ final public class CharSubSequence extends BasedSequenceImpl {
         return baseChars;
     }
 
+    @NotNull
+    @Override
+    public LineStartIndex getBaseLineStartIndex() {
+        if (base != this) return base.getBaseLineStartIndex();
+
+        // index is immutable, a concurrent first use at most builds it twice
+        LineStartIndex index = lineStartIndex;
+        if (index == null) {
+            index = LineStartIndex.of(this);
+            lineStartIndex = index;
+        }
+        return index;
+    }
+
     public int getStartOffset() {
         return startOffset;
     }
@@ -108,6 +123,13 @@ final public class CharSubSequence extends BasedSequenceImpl {
         return c == SequenceUtils.NUL ? SequenceUtils.ENC_NUL : c;
     }
 
+    @Override
+    public void getChars(int srcBegin, int srcEnd, char[] dst, int dstBegin) {
+        SequenceUtils.validateStartEnd(srcBegin, srcEnd, length());
+        System.arraycopy(baseChars, srcBegin + startOffset, dst, dstBegin, srcEnd - srcBegin);
+        SequenceUtils.encodeNul(dst, dstBegin, dstBegin + srcEnd - srcBegin);
+    }
+
     @NotNull
     @Override
     public CharSubSequence subSequence(int startIndex, int endIndex) {
@@ -25,28 +25,15 @@ public class Escaping {
 
     final private static String ENTITY = "&(?:#x[a-f0-9]{1,8}|#[0-9]{1,8}|[a-z][a-z0-9]{1,31});";
 
-    final private static Pattern BACKSLASH_ONLY = Pattern.compile("[\\\\]");
-
     final private static Pattern ESCAPED_CHAR =
             Pattern.compile("\\\\" + ESCAPABLE, Pattern.CASE_INSENSITIVE);
 
-    final private static Pattern BACKSLASH_OR_AMP = Pattern.compile("[\\\\&]");
-
-    final private static Pattern AMP_ONLY = Pattern.compile("[\\&]");
-
     final private static Pattern ENTITY_OR_ESCAPED_CHAR =
             Pattern.compile("\\\\" + ESCAPABLE + '|' + ENTITY, Pattern.CASE_INSENSITIVE);
 
     final private static Pattern ENTITY_ONLY =
             Pattern.compile(ENTITY, Pattern.CASE_INSENSITIVE);
 
-    final private static String XML_SPECIAL = "[&<>\"]";
-
-    final private static Pattern XML_SPECIAL_RE = Pattern.compile(XML_SPECIAL);
-
-    final private static Pattern XML_SPECIAL_OR_ENTITY =
-            Pattern.compile(ENTITY + '|' + XML_SPECIAL, Pattern.CASE_INSENSITIVE);
-
     // From RFC 3986 (see "reserved", "unreserved") except don't escape '[' or ']' to be compatible with JS encodeURI
     final private static Pattern ESCAPE_IN_URI =
             Pattern.compile("(%[a-fA-F0-9]{0,2}|[^:/?#@!$&'()*+,;=a-zA-Z0-9\\-._~])");
@@ -61,39 +48,6 @@ public class Escaping {
 
     final private static Pattern COLLAPSE_WHITESPACE = Pattern.compile("[ \t]{2,}");
 
-    final private static Replacer UNSAFE_CHAR_REPLACER = new Replacer() {
-        @Override
-        public void replace(@NotNull String s, @NotNull StringBuilder sb) {
-            if (s.equals("&")) {
-                sb.append("&amp;");
-            } else if (s.equals("<")) {
-                sb.append("&lt;");
-            } else if (s.equals(">")) {
-                sb.append("&gt;");
-            } else if (s.equals("\"")) {
-                sb.append("&quot;");
-            } else {
-                sb.append(s);
-            }
-        }
-
-        @Override
-        public void replace(@NotNull BasedSequence original, int startIndex, int endIndex, @NotNull ReplacedTextMapper textMapper) {
-            String s1 = original.subSequence(startIndex, endIndex).toString();
-            if (s1.equals("&")) {
-                textMapper.addReplacedText(startIndex, endIndex, PrefixedSubSequence.prefixOf("&amp;", BasedSequence.NULL));
-            } else if (s1.equals("<")) {
-                textMapper.addReplacedText(startIndex, endIndex, PrefixedSubSequence.prefixOf("&lt;", BasedSequence.NULL));
-            } else if (s1.equals(">")) {
-                textMapper.addReplacedText(startIndex, endIndex, PrefixedSubSequence.prefixOf("&gt;", BasedSequence.NULL));
-            } else if (s1.equals("\"")) {
-                textMapper.addReplacedText(startIndex, endIndex, PrefixedSubSequence.prefixOf("&quot;", BasedSequence.NULL));
-            } else {
-                textMapper.addOriginalText(startIndex, endIndex);
-            }
-        }
-    };
-
     final private static Replacer COLLAPSE_WHITESPACE_REPLACER = new Replacer() {
         @Override
         public void replace(@NotNull String s, @NotNull StringBuilder sb) {
@@ -215,26 +169,126 @@ public class Escaping {
 
     final public static @NotNull CharPredicate AMP_BACKSLASH_SET = CharPredicate.anyOf('\\', '&');
 
+    final private static @NotNull CharPredicate XML_SPECIAL_SET = CharPredicate.anyOf('&', '<', '>', '"');
+
+    // complement of ESCAPE_IN_URI chars, '%' is always matched by ESCAPE_IN_URI
+    final private static @NotNull CharPredicate URI_ESCAPE_SET = CharPredicate.anyOf(":/?#@!$&'()*+,;=-._~"
+            + "abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789").negate();
+
+    // escaped text of XML_SPECIAL_SET chars indexed by char
+    final private static String[] XML_SPECIAL_ESCAPES = new String['>' + 1];
+    static {
+        XML_SPECIAL_ESCAPES['&'] = "&amp;";
+        XML_SPECIAL_ESCAPES['<'] = "&lt;";
+        XML_SPECIAL_ESCAPES['>'] = "&gt;";
+        XML_SPECIAL_ESCAPES['"'] = "&quot;";
+    }
+
+    /**
+     * Escape HTML special characters
+     * <p>
+     * When there is nothing to escape the result is {@code String.valueOf(s)}, which is the input only if it is a String,
+     * use {@link #escapeHtmlSequence(BasedSequence, boolean)} to get a based sequence input back without copying it.
+     *
+     * @param s                text to escape
+     * @param preserveEntities true if HTML entities are not to be escaped
+     * @return escaped string
+     */
+    @NotNull
     public static String escapeHtml(@NotNull CharSequence s, boolean preserveEntities) {
-        Pattern p = preserveEntities ? XML_SPECIAL_OR_ENTITY : XML_SPECIAL_RE;
-        return replaceAll(p, s, UNSAFE_CHAR_REPLACER);
+        int index = SequenceUtils.indexOfAny(s, XML_SPECIAL_SET);
+        if (index == -1) return String.valueOf(s);
+
+        int iMax = s.length();
+        StringBuilder sb = new StringBuilder(iMax + 16);
+        Matcher entityMatcher = null;
+        int lastEnd = 0;
+
+        do {
+            char c = s.charAt(index);
+            if (c == '&' && preserveEntities) {
+                if (entityMatcher == null) entityMatcher = ENTITY_ONLY.matcher(s);
+                entityMatcher.region(index, iMax);
+                if (entityMatcher.lookingAt()) {
+                    index = SequenceUtils.indexOfAny(s, XML_SPECIAL_SET, entityMatcher.end());
+                    continue;
+                }
+            }
+
+            sb.append(s, lastEnd, index).append(XML_SPECIAL_ESCAPES[c]);
+            lastEnd = index + 1;
+            index = SequenceUtils.indexOfAny(s, XML_SPECIAL_SET, lastEnd);
+        } while (index != -1);
+
+        sb.append(s, lastEnd, iMax);
+        return sb.toString();
+    }
+
+    /**
+     * Escape HTML special characters
+     *
+     * @param s                text to escape
+     * @param preserveEntities true if HTML entities are not to be escaped
+     * @return s if there is nothing to escape, otherwise a sequence of the escaped text
+     */
+    @NotNull
+    public static BasedSequence escapeHtmlSequence(@NotNull BasedSequence s, boolean preserveEntities) {
+        if (s.indexOfAny(XML_SPECIAL_SET) == -1) return s;
+        return BasedSequence.of(escapeHtml(s, preserveEntities));
     }
 
     @NotNull
     public static BasedSequence escapeHtml(@NotNull BasedSequence s, boolean preserveEntities, @NotNull ReplacedTextMapper textMapper) {
-        Pattern p = preserveEntities ? XML_SPECIAL_OR_ENTITY : XML_SPECIAL_RE;
-        return replaceAll(p, s, UNSAFE_CHAR_REPLACER, textMapper);
+        int index = s.indexOfAny(XML_SPECIAL_SET);
+        if (index == -1) return noReplacements(s, textMapper);
+
+        if (textMapper.isModified()) {
+            textMapper.startNestedReplacement(s);
+        }
+
+        int iMax = s.length();
+        Matcher entityMatcher = null;
+        int lastEnd = 0;
+
+        do {
+            char c = s.charAt(index);
+            textMapper.addOriginalText(lastEnd, index);
+
+            if (c == '&' && preserveEntities) {
+                if (entityMatcher == null) entityMatcher = ENTITY_ONLY.matcher(s);
+                entityMatcher.region(index, iMax);
+                if (entityMatcher.lookingAt()) {
+                    textMapper.addOriginalText(index, entityMatcher.end());
+                    lastEnd = entityMatcher.end();
+                    index = s.indexOfAny(XML_SPECIAL_SET, lastEnd);
+                    continue;
+                }
+            }
+
+            textMapper.addReplacedText(index, index + 1, PrefixedSubSequence.prefixOf(XML_SPECIAL_ESCAPES[c], BasedSequence.NULL));
+            lastEnd = index + 1;
+            index = s.indexOfAny(XML_SPECIAL_SET, lastEnd);
+        } while (index != -1);
+
+        if (lastEnd < iMax) {
+            textMapper.addOriginalText(lastEnd, iMax);
+        }
+
+        return textMapper.getReplacedSequence();
     }
 
     /**
      * Replace entities and backslash escapes with literal characters.
+     * <p>
+     * When there is nothing to un-escape the result is {@code String.valueOf(s)}, which is the input only if it is a String,
+     * use {@link #unescapeSequence(BasedSequence)} to get a based sequence input back without copying it.
      *
      * @param s string to un-escape
      * @return un-escaped string
      */
     @NotNull
     public static String unescapeString(@NotNull CharSequence s) {
-        if (BACKSLASH_OR_AMP.matcher(s).find()) {
+        if (SequenceUtils.indexOfAny(s, AMP_BACKSLASH_SET) != -1) {
             return replaceAll(ENTITY_OR_ESCAPED_CHAR, s, UNESCAPE_REPLACER);
         } else {
             return String.valueOf(s);
@@ -243,6 +297,8 @@ public class Escaping {
 
     /**
      * Replace entities and backslash escapes with literal characters.
+     * <p>
+     * When there is nothing to un-escape the result is {@code String.valueOf(s)}, which is the input only if it is a String.
      *
      * @param s                string to un-escape
      * @param unescapeEntities true if HTML entities are to be unescaped
@@ -251,13 +307,13 @@ public class Escaping {
     @NotNull
     public static String unescapeString(@NotNull CharSequence s, boolean unescapeEntities) {
         if (unescapeEntities) {
-            if (BACKSLASH_OR_AMP.matcher(s).find()) {
+            if (SequenceUtils.indexOfAny(s, AMP_BACKSLASH_SET) != -1) {
                 return replaceAll(ESCAPED_CHAR, s, UNESCAPE_REPLACER);
             } else {
                 return String.valueOf(s);
             }
         } else {
-            if (BACKSLASH_ONLY.matcher(s).find()) {
+            if (SequenceUtils.indexOf(s, '\\') != -1) {
                 return replaceAll(ENTITY_OR_ESCAPED_CHAR, s, UNESCAPE_REPLACER);
             } else {
                 return String.valueOf(s);
@@ -265,6 +321,18 @@ public class Escaping {
         }
     }
 
+    /**
+     * Replace entities and backslash escapes with literal characters.
+     *
+     * @param s based sequence to un-escape
+     * @return s if there is nothing to un-escape, otherwise a sequence of the un-escaped text
+     */
+    @NotNull
+    public static BasedSequence unescapeSequence(@NotNull BasedSequence s) {
+        if (s.indexOfAny(AMP_BACKSLASH_SET) == -1) return s;
+        return BasedSequence.of(replaceAll(ENTITY_OR_ESCAPED_CHAR, s, UNESCAPE_REPLACER));
+    }
+
     /**
      * Replace entities and backslash escapes with literal characters.
      *
@@ -308,7 +376,7 @@ public class Escaping {
      */
     @NotNull
     public static String unescapeHtml(@NotNull CharSequence s) {
-        if (AMP_ONLY.matcher(s).find()) {
+        if (SequenceUtils.indexOf(s, '&') != -1) {
             return replaceAll(ENTITY_ONLY, s, ENTITY_REPLACER);
         } else {
             return String.valueOf(s);
@@ -487,14 +555,28 @@ public class Escaping {
     }
 
     /**
+     * When there is nothing to encode the result is {@code String.valueOf(s)}, which is the input only if it is a String,
+     * use {@link #percentEncodeUrlSequence(BasedSequence)} to get a based sequence input back without copying it.
+     *
      * @param s string to encode
      * @return encoded string
      */
     @NotNull
     public static String percentEncodeUrl(@NotNull CharSequence s) {
+        if (SequenceUtils.indexOfAny(s, URI_ESCAPE_SET) == -1) return String.valueOf(s);
         return replaceAll(ESCAPE_IN_URI, s, URL_ENCODE_REPLACER);
     }
 
+    /**
+     * @param s sequence to encode
+     * @return s if there is nothing to encode, otherwise a sequence of the encoded text
+     */
+    @NotNull
+    public static BasedSequence percentEncodeUrlSequence(@NotNull BasedSequence s) {
+        if (s.indexOfAny(URI_ESCAPE_SET) == -1) return s;
+        return BasedSequence.of(replaceAll(ESCAPE_IN_URI, s, URL_ENCODE_REPLACER));
+    }
+
     /**
      * @param s          string to encode
      * @param textMapper text mapper to update for the replaced text
@@ -502,18 +584,33 @@ public class Escaping {
      */
     @NotNull
     public static BasedSequence percentEncodeUrl(@NotNull BasedSequence s, @NotNull ReplacedTextMapper textMapper) {
+        if (s.indexOfAny(URI_ESCAPE_SET) == -1) return noReplacements(s, textMapper);
         return replaceAll(ESCAPE_IN_URI, s, URL_ENCODE_REPLACER, textMapper);
     }
 
     /**
-     * @param s string to encode
-     * @return encoded string
+     * When there is nothing to decode the result is {@code String.valueOf(s)}, which is the input only if it is a String,
+     * use {@link #percentDecodeUrlSequence(BasedSequence)} to get a based sequence input back without copying it.
+     *
+     * @param s string to decode
+     * @return decoded string
      */
     @NotNull
     public static String percentDecodeUrl(@NotNull CharSequence s) {
+        if (SequenceUtils.indexOf(s, '%') == -1) return String.valueOf(s);
         return replaceAll(ESCAPE_URI_DECODE, s, URL_DECODE_REPLACER);
     }
 
+    /**
+     * @param s sequence to decode
+     * @return s if there is nothing to decode, otherwise a sequence of the decoded text
+     */
+    @NotNull
+    public static BasedSequence percentDecodeUrlSequence(@NotNull BasedSequence s) {
+        if (s.indexOf('%') == -1) return s;
+        return BasedSequence.of(replaceAll(ESCAPE_URI_DECODE, s, URL_DECODE_REPLACER));
+    }
+
     /**
      * @param s          string to encode
      * @param textMapper text mapper to update for the replaced text
@@ -521,11 +618,15 @@ public class Escaping {
      */
     @NotNull
     public static BasedSequence percentDecodeUrl(@NotNull BasedSequence s, @NotNull ReplacedTextMapper textMapper) {
+        if (s.indexOf('%') == -1) return noReplacements(s, textMapper);
         return replaceAll(ESCAPE_URI_DECODE, s, URL_DECODE_REPLACER, textMapper);
     }
 
     /**
      * Normalize the link reference id
+     * <p>
+     * When the id is already normalized the result is {@code String.valueOf(s)}, which is the input only if it is a String,
+     * use {@link #normalizeReferenceSequence(BasedSequence, boolean)} to get a based sequence input back without copying it.
      *
      * @param s          sequence containing the link reference id
      * @param changeCase if true then reference will be converted to lowercase
@@ -533,10 +634,40 @@ public class Escaping {
      */
     @NotNull
     public static String normalizeReference(@NotNull CharSequence s, boolean changeCase) {
+        if (isNormalizedReference(s, changeCase)) return String.valueOf(s);
         if (changeCase) return Escaping.collapseWhitespace(s.toString(), true).toLowerCase();
         else return Escaping.collapseWhitespace(s.toString(), true);
     }
 
+    /**
+     * Normalize the link reference id
+     *
+     * @param s          sequence containing the link reference id
+     * @param changeCase if true then reference will be converted to lowercase
+     * @return s if it is already normalized, otherwise a sequence of the normalized link reference id
+     */
+    @NotNull
+    public static BasedSequence normalizeReferenceSequence(@NotNull BasedSequence s, boolean changeCase) {
+        if (isNormalizedReference(s, changeCase)) return s;
+        return BasedSequence.of(normalizeReference(s, changeCase));
+    }
+
+    // true if reference has only single spaces between non-blank text and, if changing case, only ascii chars which are not upper case
+    private static boolean isNormalizedReference(@NotNull CharSequence s, boolean changeCase) {
+        int iMax = s.length();
+        if (iMax == 0) return true;
+        if (s.charAt(0) == ' ' || s.charAt(iMax - 1) == ' ') return false;
+
+        char prev = 0;
+        for (int i = 0; i < iMax; i++) {
+            char c = s.charAt(i);
+            if (c == '\t' || c == '\n' || c == '\r' || c == ' ' && prev == ' ') return false;
+            if (changeCase && (c >= 'A' && c <= 'Z' || c > 127)) return false;
+            prev = c;
+        }
+        return true;
+    }
+
     @Nullable
     private static String encode(char c) {
         switch (c) {
@@ -640,9 +771,20 @@ public class Escaping {
         return replaceAll(COLLAPSE_WHITESPACE, s, COLLAPSE_WHITESPACE_REPLACER, textMapper);
     }
 
+    // same text mapper result as replaceAll when there are no matches
+    @NotNull
+    private static BasedSequence noReplacements(@NotNull BasedSequence s, @NotNull ReplacedTextMapper textMapper) {
+        if (textMapper.isModified()) {
+            textMapper.startNestedReplacement(s);
+        }
+
+        textMapper.addOriginalText(0, s.length());
+        return s;
+    }
+
     @NotNull
     private static String replaceAll(@NotNull Pattern p, @NotNull CharSequence s, @NotNull Replacer replacer) {
-        Matcher matcher = p.matcher(s);
+        Matcher matcher = p.matcher(SequenceUtils.charCursor(s));
 
         if (!matcher.find()) {
             return String.valueOf(s);
@@ -669,7 +811,7 @@ public class Escaping {
 
     @NotNull
     private static BasedSequence replaceAll(@NotNull Pattern p, @NotNull BasedSequence s, int startOffset, int endOffset, @NotNull Replacer replacer, @NotNull ReplacedTextMapper textMapper) {
-        Matcher matcher = p.matcher(s);
+        Matcher matcher = p.matcher(SequenceUtils.charCursor(s));
         matcher.region(startOffset, endOffset);
         matcher.useTransparentBounds(false);
 
@@ -698,7 +840,7 @@ public class Escaping {
 
     @NotNull
     private static BasedSequence replaceAll(@NotNull Pattern p, @NotNull BasedSequence s, @NotNull List<Range> ranges, @NotNull Replacer replacer, @NotNull ReplacedTextMapper textMapper) {
-        Matcher matcher = p.matcher(s);
+        Matcher matcher = p.matcher(SequenceUtils.charCursor(s));
         matcher.useTransparentBounds(false);
 
         if (textMapper.isModified()) {
@@ -1,96 +1,146 @@
 package com.vladsch.flexmark.util.sequence;
 
-import java.io.BufferedReader;
-import java.io.IOException;
-import java.io.InputStream;
-import java.io.InputStreamReader;
-import java.nio.charset.Charset;
-import java.nio.charset.StandardCharsets;
-import java.util.Arrays;
-import java.util.HashMap;
-import java.util.Map;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
+/**
+ * HTML5 character reference resolution
+ * <p>
+ * Named references are looked up by binary search of a generated table, directly on the characters of the name
+ * without creating a string for it.
+ */
 public class Html5Entities {
+    final private static String REPLACEMENT = "\uFFFD";
 
-    final private static Map<String, String> NAMED_CHARACTER_REFERENCES = readEntities();
-    final private static Pattern NUMERIC_PATTERN = Pattern.compile("^&#[Xx]?");
-    final private static String ENTITY_PATH = "/com/vladsch/flexmark/util/html/entities.properties";
+    // start of each name in Html5EntityTable.NAMES, with end of table as the last entry
+    final private static int[] NAME_STARTS = nameStarts();
+
+    // value strings, created on first use
+    final private static String[] VALUES = new String[Html5EntityTable.COUNT];
 
     public static String entityToString(String input) {
-        Matcher matcher = NUMERIC_PATTERN.matcher(input);
-
-        if (matcher.find()) {
-            int base = matcher.end() == 2 ? 10 : 16;
-            try {
-                int codePoint = Integer.parseInt(input.substring(matcher.end(), input.length() - 1), base);
-                if (codePoint == 0) {
-                    return "\uFFFD";
-                }
-                return new String(Character.toChars(codePoint));
-            } catch (IllegalArgumentException e) {
-                return "\uFFFD";
-            }
-        } else {
-            String name = input.substring(1, input.length() - 1);
-            String s = NAMED_CHARACTER_REFERENCES.get(name);
-            if (s != null) {
-                return s;
-            } else {
-                return input;
-            }
+        return entityToString(input, 0, input.length());
+    }
+
+    /**
+     * Resolve character reference in a range of characters
+     *
+     * @param chars      characters
+     * @param startIndex start of character reference, at '&amp;'
+     * @param endIndex   end of character reference, after ';'
+     * @return characters of the reference, or text of the range if it is not a known named reference
+     */
+    @NotNull
+    public static String entityToString(@NotNull CharSequence chars, int startIndex, int endIndex) {
+        if (startIndex + 1 < endIndex && chars.charAt(startIndex + 1) == '#') {
+            return numericToString(chars, startIndex + 2, endIndex - 1);
         }
+
+        String s = namedEntity(chars, startIndex + 1, endIndex - 1);
+        return s != null ? s : chars.subSequence(startIndex, endIndex).toString();
     }
 
     public static BasedSequence entityToSequence(BasedSequence input) {
-        Matcher matcher = NUMERIC_PATTERN.matcher(input);
         BasedSequence baseSeq = input.subSequence(0, 0);
+        int iMax = input.length();
 
-        if (matcher.find()) {
-            int base = matcher.end() == 2 ? 10 : 16;
-            try {
-                int codePoint = Integer.parseInt(input.subSequence(matcher.end(), input.length() - 1).toString(), base);
-                if (codePoint == 0) {
-                    return PrefixedSubSequence.prefixOf("\uFFFD", baseSeq);
-                }
-                return PrefixedSubSequence.prefixOf(Arrays.toString(Character.toChars(codePoint)), baseSeq);
-            } catch (IllegalArgumentException e) {
-                return PrefixedSubSequence.prefixOf("\uFFFD", baseSeq);
-            }
+        if (iMax > 1 && input.charAt(1) == '#') {
+            return PrefixedSubSequence.prefixOf(numericToString(input, 2, iMax - 1), baseSeq);
+        }
+
+        String s = namedEntity(input, 1, iMax - 1);
+        if (s != null) {
+            return PrefixedSubSequence.prefixOf(s, baseSeq);
         } else {
-            String name = input.subSequence(1, input.length() - 1).toString();
-            String s = NAMED_CHARACTER_REFERENCES.get(name);
-            if (s != null) {
-                return PrefixedSubSequence.prefixOf(s, baseSeq);
-            } else {
-                return input;
+            return input;
+        }
+    }
+
+    /**
+     * Get the value of a named character reference
+     *
+     * @param chars      characters
+     * @param startIndex start of name, after '&amp;'
+     * @param endIndex   end of name, before ';'
+     * @return value of the named reference or null if the name is not known
+     */
+    @Nullable
+    public static String namedEntity(@NotNull CharSequence chars, int startIndex, int endIndex) {
+        int index = indexOfName(chars, startIndex, endIndex);
+        if (index < 0) return null;
+
+        String value = VALUES[index];
+        if (value == null) {
+            String values = Html5EntityTable.VALUES;
+            int valueStart = index << 1;
+            value = values.substring(valueStart, values.charAt(valueStart + 1) == '\0' ? valueStart + 1 : valueStart + 2);
+            VALUES[index] = value;
+        }
+        return value;
+    }
+
+    private static int indexOfName(@NotNull CharSequence chars, int startIndex, int endIndex) {
+        String names = Html5EntityTable.NAMES;
+        int nameLength = endIndex - startIndex;
+        int low = 0;
+        int high = Html5EntityTable.COUNT - 1;
+
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int nameStart = NAME_STARTS[mid];
+            int length = NAME_STARTS[mid + 1] - nameStart - 1;
+            int iMax = Math.min(length, nameLength);
+            int cmp = 0;
+
+            for (int i = 0; i < iMax; i++) {
+                cmp = names.charAt(nameStart + i) - chars.charAt(startIndex + i);
+                if (cmp != 0) break;
             }
+
+            if (cmp == 0) cmp = length - nameLength;
+
+            if (cmp < 0) low = mid + 1;
+            else if (cmp > 0) high = mid - 1;
+            else return mid;
         }
+        return -1;
     }
 
-    private static Map<String, String> readEntities() {
-        Map<String, String> entities = new HashMap<>();
-        InputStream stream = Html5Entities.class.getResourceAsStream(ENTITY_PATH);
-        Charset charset = StandardCharsets.UTF_8;
-        try {
-            String line;
-            InputStreamReader streamReader = new InputStreamReader(stream, charset);
-            BufferedReader bufferedReader = new BufferedReader(streamReader);
-
-            while ((line = bufferedReader.readLine()) != null) {
-                if (line.length() == 0) {
-                    continue;
-                }
-                int equal = line.indexOf("=");
-                String key = line.substring(0, equal);
-                String value = line.substring(equal + 1);
-                entities.put(key, value);
+    @NotNull
+    private static String numericToString(@NotNull CharSequence chars, int startIndex, int endIndex) {
+        int base = 10;
+        if (startIndex < endIndex && (chars.charAt(startIndex) == 'x' || chars.charAt(startIndex) == 'X')) {
+            base = 16;
+            startIndex++;
+        }
+
+        if (startIndex >= endIndex) return REPLACEMENT;
+
+        int codePoint = 0;
+        for (int i = startIndex; i < endIndex; i++) {
+            int digit = Character.digit(chars.charAt(i), base);
+            if (digit < 0) return REPLACEMENT;
+            codePoint = codePoint * base + digit;
+            if (codePoint > Character.MAX_CODE_POINT) return REPLACEMENT;
+        }
+
+        if (codePoint == 0) return REPLACEMENT;
+        return new String(Character.toChars(codePoint));
+    }
+
+    private static int[] nameStarts() {
+        String names = Html5EntityTable.NAMES;
+        int[] starts = new int[Html5EntityTable.COUNT + 1];
+        int count = 0;
+        int iMax = names.length();
+
+        for (int i = 0; i < iMax; i++) {
+            if (names.charAt(i) == ';') {
+                starts[++count] = i + 1;
             }
-        } catch (IOException e) {
-            throw new IllegalStateException("Failed reading data for HTML named character references", e);
         }
-        entities.put("NewLine", "\n");
-        return entities;
+
+        assert count == Html5EntityTable.COUNT;
+        return starts;
     }
 }
@@ -0,0 +1,334 @@
+package com.vladsch.flexmark.util.sequence;
+
+/**
+ * HTML5 named character references, generated from flexmark-util-html/src/main/resources/com/vladsch/flexmark/util/html/entities.properties
+ * <p>
+ * Regenerate when entities.properties changes, Html5EntitiesTest checks that both have the same entities.
+ */
+final class Html5EntityTable {
+    final static int COUNT = 2125;
+
+    /**
+     * entity names in ascending char order, each followed by ';'
+     */
+    final static String NAMES = "" +
+            "AElig;AMP;Aacute;Abreve;Acirc;Acy;Afr;Agrave;Alpha;Amacr;And;Aogon;" +
+            "Aopf;ApplyFunction;Aring;Ascr;Assign;Atilde;Auml;Backslash;Barv;Barwed;Bcy;Because;" +
+            "Bernoullis;Beta;Bfr;Bopf;Breve;Bscr;Bumpeq;CHcy;COPY;Cacute;Cap;CapitalDifferentialD;" +
+            "Cayleys;Ccaron;Ccedil;Ccirc;Cconint;Cdot;Cedilla;CenterDot;Cfr;Chi;CircleDot;CircleMinus;" +
+            "CirclePlus;CircleTimes;ClockwiseContourIntegral;CloseCurlyDoubleQuote;CloseCurlyQuote;Colon;Colone;Congruent;Conint;ContourIntegral;Copf;Coproduct;" +
+            "CounterClockwiseContourIntegral;Cross;Cscr;Cup;CupCap;DD;DDotrahd;DJcy;DScy;DZcy;Dagger;Darr;" +
+            "Dashv;Dcaron;Dcy;Del;Delta;Dfr;DiacriticalAcute;DiacriticalDot;DiacriticalDoubleAcute;DiacriticalGrave;DiacriticalTilde;Diamond;" +
+            "DifferentialD;Dopf;Dot;DotDot;DotEqual;DoubleContourIntegral;DoubleDot;DoubleDownArrow;DoubleLeftArrow;DoubleLeftRightArrow;DoubleLeftTee;DoubleLongLeftArrow;" +
+            "DoubleLongLeftRightArrow;DoubleLongRightArrow;DoubleRightArrow;DoubleRightTee;DoubleUpArrow;DoubleUpDownArrow;DoubleVerticalBar;DownArrow;DownArrowBar;DownArrowUpArrow;DownBreve;DownLeftRightVector;" +
+            "DownLeftTeeVector;DownLeftVector;DownLeftVectorBar;DownRightTeeVector;DownRightVector;DownRightVectorBar;DownTee;DownTeeArrow;Downarrow;Dscr;Dstrok;ENG;" +
+            "ETH;Eacute;Ecaron;Ecirc;Ecy;Edot;Efr;Egrave;Element;Emacr;EmptySmallSquare;EmptyVerySmallSquare;" +
+            "Eogon;Eopf;Epsilon;Equal;EqualTilde;Equilibrium;Escr;Esim;Eta;Euml;Exists;ExponentialE;" +
+            "Fcy;Ffr;FilledSmallSquare;FilledVerySmallSquare;Fopf;ForAll;Fouriertrf;Fscr;GJcy;GT;Gamma;Gammad;" +
+            "Gbreve;Gcedil;Gcirc;Gcy;Gdot;Gfr;Gg;Gopf;GreaterEqual;GreaterEqualLess;GreaterFullEqual;GreaterGreater;" +
+            "GreaterLess;GreaterSlantEqual;GreaterTilde;Gscr;Gt;HARDcy;Hacek;Hat;Hcirc;Hfr;HilbertSpace;Hopf;" +
+            "HorizontalLine;Hscr;Hstrok;HumpDownHump;HumpEqual;IEcy;IJlig;IOcy;Iacute;Icirc;Icy;Idot;" +
+            "Ifr;Igrave;Im;Imacr;ImaginaryI;Implies;Int;Integral;Intersection;InvisibleComma;InvisibleTimes;Iogon;" +
+            "Iopf;Iota;Iscr;Itilde;Iukcy;Iuml;Jcirc;Jcy;Jfr;Jopf;Jscr;Jsercy;" +
+            "Jukcy;KHcy;KJcy;Kappa;Kcedil;Kcy;Kfr;Kopf;Kscr;LJcy;LT;Lacute;" +
+            "Lambda;Lang;Laplacetrf;Larr;Lcaron;Lcedil;Lcy;LeftAngleBracket;LeftArrow;LeftArrowBar;LeftArrowRightArrow;LeftCeiling;" +
+            "LeftDoubleBracket;LeftDownTeeVector;LeftDownVector;LeftDownVectorBar;LeftFloor;LeftRightArrow;LeftRightVector;LeftTee;LeftTeeArrow;LeftTeeVector;LeftTriangle;LeftTriangleBar;" +
+            "LeftTriangleEqual;LeftUpDownVector;LeftUpTeeVector;LeftUpVector;LeftUpVectorBar;LeftVector;LeftVectorBar;Leftarrow;Leftrightarrow;LessEqualGreater;LessFullEqual;LessGreater;" +
+            "LessLess;LessSlantEqual;LessTilde;Lfr;Ll;Lleftarrow;Lmidot;LongLeftArrow;LongLeftRightArrow;LongRightArrow;Longleftarrow;Longleftrightarrow;" +
+            "Longrightarrow;Lopf;LowerLeftArrow;LowerRightArrow;Lscr;Lsh;Lstrok;Lt;Map;Mcy;MediumSpace;Mellintrf;" +
+            "Mfr;MinusPlus;Mopf;Mscr;Mu;NJcy;Nacute;Ncaron;Ncedil;Ncy;NegativeMediumSpace;NegativeThickSpace;" +
+            "NegativeThinSpace;NegativeVeryThinSpace;NestedGreaterGreater;NestedLessLess;NewLine;Nfr;NoBreak;NonBreakingSpace;Nopf;Not;NotCongruent;NotCupCap;" +
+            "NotDoubleVerticalBar;NotElement;NotEqual;NotEqualTilde;NotExists;NotGreater;NotGreaterEqual;NotGreaterFullEqual;NotGreaterGreater;NotGreaterLess;NotGreaterSlantEqual;NotGreaterTilde;" +
+            "NotHumpDownHump;NotHumpEqual;NotLeftTriangle;NotLeftTriangleBar;NotLeftTriangleEqual;NotLess;NotLessEqual;NotLessGreater;NotLessLess;NotLessSlantEqual;NotLessTilde;NotNestedGreaterGreater;" +
+            "NotNestedLessLess;NotPrecedes;NotPrecedesEqual;NotPrecedesSlantEqual;NotReverseElement;NotRightTriangle;NotRightTriangleBar;NotRightTriangleEqual;NotSquareSubset;NotSquareSubsetEqual;NotSquareSuperset;NotSquareSupersetEqual;" +
+            "NotSubset;NotSubsetEqual;NotSucceeds;NotSucceedsEqual;NotSucceedsSlantEqual;NotSucceedsTilde;NotSuperset;NotSupersetEqual;NotTilde;NotTildeEqual;NotTildeFullEqual;NotTildeTilde;" +
+            "NotVerticalBar;Nscr;Ntilde;Nu;OElig;Oacute;Ocirc;Ocy;Odblac;Ofr;Ograve;Omacr;" +
+            "Omega;Omicron;Oopf;OpenCurlyDoubleQuote;OpenCurlyQuote;Or;Oscr;Oslash;Otilde;Otimes;Ouml;OverBar;" +
+            "OverBrace;OverBracket;OverParenthesis;PartialD;Pcy;Pfr;Phi;Pi;PlusMinus;Poincareplane;Popf;Pr;" +
+            "Precedes;PrecedesEqual;PrecedesSlantEqual;PrecedesTilde;Prime;Product;Proportion;Proportional;Pscr;Psi;QUOT;Qfr;" +
+            "Qopf;Qscr;RBarr;REG;Racute;Rang;Rarr;Rarrtl;Rcaron;Rcedil;Rcy;Re;" +
+            "ReverseElement;ReverseEquilibrium;ReverseUpEquilibrium;Rfr;Rho;RightAngleBracket;RightArrow;RightArrowBar;RightArrowLeftArrow;RightCeiling;RightDoubleBracket;RightDownTeeVector;" +
+            "RightDownVector;RightDownVectorBar;RightFloor;RightTee;RightTeeArrow;RightTeeVector;RightTriangle;RightTriangleBar;RightTriangleEqual;RightUpDownVector;RightUpTeeVector;RightUpVector;" +
+            "RightUpVectorBar;RightVector;RightVectorBar;Rightarrow;Ropf;RoundImplies;Rrightarrow;Rscr;Rsh;RuleDelayed;SHCHcy;SHcy;" +
+            "SOFTcy;Sacute;Sc;Scaron;Scedil;Scirc;Scy;Sfr;ShortDownArrow;ShortLeftArrow;ShortRightArrow;ShortUpArrow;" +
+            "Sigma;SmallCircle;Sopf;Sqrt;Square;SquareIntersection;SquareSubset;SquareSubsetEqual;SquareSuperset;SquareSupersetEqual;SquareUnion;Sscr;" +
+            "Star;Sub;Subset;SubsetEqual;Succeeds;SucceedsEqual;SucceedsSlantEqual;SucceedsTilde;SuchThat;Sum;Sup;Superset;" +
+            "SupersetEqual;Supset;THORN;TRADE;TSHcy;TScy;Tab;Tau;Tcaron;Tcedil;Tcy;Tfr;" +
+            "Therefore;Theta;ThickSpace;ThinSpace;Tilde;TildeEqual;TildeFullEqual;TildeTilde;Topf;TripleDot;Tscr;Tstrok;" +
+            "Uacute;Uarr;Uarrocir;Ubrcy;Ubreve;Ucirc;Ucy;Udblac;Ufr;Ugrave;Umacr;UnderBar;" +
+            "UnderBrace;UnderBracket;UnderParenthesis;Union;UnionPlus;Uogon;Uopf;UpArrow;UpArrowBar;UpArrowDownArrow;UpDownArrow;UpEquilibrium;" +
+            "UpTee;UpTeeArrow;Uparrow;Updownarrow;UpperLeftArrow;UpperRightArrow;Upsi;Upsilon;Uring;Uscr;Utilde;Uuml;" +
+            "VDash;Vbar;Vcy;Vdash;Vdashl;Vee;Verbar;Vert;VerticalBar;VerticalLine;VerticalSeparator;VerticalTilde;" +
+            "VeryThinSpace;Vfr;Vopf;Vscr;Vvdash;Wcirc;Wedge;Wfr;Wopf;Wscr;Xfr;Xi;" +
+            "Xopf;Xscr;YAcy;YIcy;YUcy;Yacute;Ycirc;Ycy;Yfr;Yopf;Yscr;Yuml;" +
+            "ZHcy;Zacute;Zcaron;Zcy;Zdot;ZeroWidthSpace;Zeta;Zfr;Zopf;Zscr;aacute;abreve;" +
+            "ac;acE;acd;acirc;acute;acy;aelig;af;afr;agrave;alefsym;aleph;" +
+            "alpha;amacr;amalg;amp;and;andand;andd;andslope;andv;ang;ange;angle;" +
+            "angmsd;angmsdaa;angmsdab;angmsdac;angmsdad;angmsdae;angmsdaf;angmsdag;angmsdah;angrt;angrtvb;angrtvbd;" +
+            "angsph;angst;angzarr;aogon;aopf;ap;apE;apacir;ape;apid;apos;approx;" +
+            "approxeq;aring;ascr;ast;asymp;asympeq;atilde;auml;awconint;awint;bNot;backcong;" +
+            "backepsilon;backprime;backsim;backsimeq;barvee;barwed;barwedge;bbrk;bbrktbrk;bcong;bcy;bdquo;" +
+            "becaus;because;bemptyv;bepsi;bernou;beta;beth;between;bfr;bigcap;bigcirc;bigcup;" +
+            "bigodot;bigoplus;bigotimes;bigsqcup;bigstar;bigtriangledown;bigtriangleup;biguplus;bigvee;bigwedge;bkarow;blacklozenge;" +
+            "blacksquare;blacktriangle;blacktriangledown;blacktriangleleft;blacktriangleright;blank;blk12;blk14;blk34;block;bne;bnequiv;" +
+            "bnot;bopf;bot;bottom;bowtie;boxDL;boxDR;boxDl;boxDr;boxH;boxHD;boxHU;" +
+            "boxHd;boxHu;boxUL;boxUR;boxUl;boxUr;boxV;boxVH;boxVL;boxVR;boxVh;boxVl;" +
+            "boxVr;boxbox;boxdL;boxdR;boxdl;boxdr;boxh;boxhD;boxhU;boxhd;boxhu;boxminus;" +
+            "boxplus;boxtimes;boxuL;boxuR;boxul;boxur;boxv;boxvH;boxvL;boxvR;boxvh;boxvl;" +
+            "boxvr;bprime;breve;brvbar;bscr;bsemi;bsim;bsime;bsol;bsolb;bsolhsub;bull;" +
+            "bullet;bump;bumpE;bumpe;bumpeq;cacute;cap;capand;capbrcup;capcap;capcup;capdot;" +
+            "caps;caret;caron;ccaps;ccaron;ccedil;ccirc;ccups;ccupssm;cdot;cedil;cemptyv;" +
+            "cent;centerdot;cfr;chcy;check;checkmark;chi;cir;cirE;circ;circeq;circlearrowleft;" +
+            "circlearrowright;circledR;circledS;circledast;circledcirc;circleddash;cire;cirfnint;cirmid;cirscir;clubs;clubsuit;" +
+            "colon;colone;coloneq;comma;commat;comp;compfn;complement;complexes;cong;congdot;conint;" +
+            "copf;coprod;copy;copysr;crarr;cross;cscr;csub;csube;csup;csupe;ctdot;" +
+            "cudarrl;cudarrr;cuepr;cuesc;cularr;cularrp;cup;cupbrcap;cupcap;cupcup;cupdot;cupor;" +
+            "cups;curarr;curarrm;curlyeqprec;curlyeqsucc;curlyvee;curlywedge;curren;curvearrowleft;curvearrowright;cuvee;cuwed;" +
+            "cwconint;cwint;cylcty;dArr;dHar;dagger;daleth;darr;dash;dashv;dbkarow;dblac;" +
+            "dcaron;dcy;dd;ddagger;ddarr;ddotseq;deg;delta;demptyv;dfisht;dfr;dharl;" +
+            "dharr;diam;diamond;diamondsuit;diams;die;digamma;disin;div;divide;divideontimes;divonx;" +
+            "djcy;dlcorn;dlcrop;dollar;dopf;dot;doteq;doteqdot;dotminus;dotplus;dotsquare;doublebarwedge;" +
+            "downarrow;downdownarrows;downharpoonleft;downharpoonright;drbkarow;drcorn;drcrop;dscr;dscy;dsol;dstrok;dtdot;" +
+            "dtri;dtrif;duarr;duhar;dwangle;dzcy;dzigrarr;eDDot;eDot;eacute;easter;ecaron;" +
+            "ecir;ecirc;ecolon;ecy;edot;ee;efDot;efr;eg;egrave;egs;egsdot;" +
+            "el;elinters;ell;els;elsdot;emacr;empty;emptyset;emptyv;emsp;emsp13;emsp14;" +
+            "eng;ensp;eogon;eopf;epar;eparsl;eplus;epsi;epsilon;epsiv;eqcirc;eqcolon;" +
+            "eqsim;eqslantgtr;eqslantless;equals;equest;equiv;equivDD;eqvparsl;erDot;erarr;escr;esdot;" +
+            "esim;eta;eth;euml;euro;excl;exist;expectation;exponentiale;fallingdotseq;fcy;female;" +
+            "ffilig;fflig;ffllig;ffr;filig;fjlig;flat;fllig;fltns;fnof;fopf;forall;" +
+            "fork;forkv;fpartint;frac12;frac13;frac14;frac15;frac16;frac18;frac23;frac25;frac34;" +
+            "frac35;frac38;frac45;frac56;frac58;frac78;frasl;frown;fscr;gE;gEl;gacute;" +
+            "gamma;gammad;gap;gbreve;gcirc;gcy;gdot;ge;gel;geq;geqq;geqslant;" +
+            "ges;gescc;gesdot;gesdoto;gesdotol;gesl;gesles;gfr;gg;ggg;gimel;gjcy;" +
+            "gl;glE;gla;glj;gnE;gnap;gnapprox;gne;gneq;gneqq;gnsim;gopf;" +
+            "grave;gscr;gsim;gsime;gsiml;gt;gtcc;gtcir;gtdot;gtlPar;gtquest;gtrapprox;" +
+            "gtrarr;gtrdot;gtreqless;gtreqqless;gtrless;gtrsim;gvertneqq;gvnE;hArr;hairsp;half;hamilt;" +
+            "hardcy;harr;harrcir;harrw;hbar;hcirc;hearts;heartsuit;hellip;hercon;hfr;hksearow;" +
+            "hkswarow;hoarr;homtht;hookleftarrow;hookrightarrow;hopf;horbar;hscr;hslash;hstrok;hybull;hyphen;" +
+            "iacute;ic;icirc;icy;iecy;iexcl;iff;ifr;igrave;ii;iiiint;iiint;" +
+            "iinfin;iiota;ijlig;imacr;image;imagline;imagpart;imath;imof;imped;in;incare;" +
+            "infin;infintie;inodot;int;intcal;integers;intercal;intlarhk;intprod;iocy;iogon;iopf;" +
+            "iota;iprod;iquest;iscr;isin;isinE;isindot;isins;isinsv;isinv;it;itilde;" +
+            "iukcy;iuml;jcirc;jcy;jfr;jmath;jopf;jscr;jsercy;jukcy;kappa;kappav;" +
+            "kcedil;kcy;kfr;kgreen;khcy;kjcy;kopf;kscr;lAarr;lArr;lAtail;lBarr;" +
+            "lE;lEg;lHar;lacute;laemptyv;lagran;lambda;lang;langd;langle;lap;laquo;" +
+            "larr;larrb;larrbfs;larrfs;larrhk;larrlp;larrpl;larrsim;larrtl;lat;latail;late;" +
+            "lates;lbarr;lbbrk;lbrace;lbrack;lbrke;lbrksld;lbrkslu;lcaron;lcedil;lceil;lcub;" +
+            "lcy;ldca;ldquo;ldquor;ldrdhar;ldrushar;ldsh;le;leftarrow;leftarrowtail;leftharpoondown;leftharpoonup;" +
+            "leftleftarrows;leftrightarrow;leftrightarrows;leftrightharpoons;leftrightsquigarrow;leftthreetimes;leg;leq;leqq;leqslant;les;lescc;" +
+            "lesdot;lesdoto;lesdotor;lesg;lesges;lessapprox;lessdot;lesseqgtr;lesseqqgtr;lessgtr;lesssim;lfisht;" +
+            "lfloor;lfr;lg;lgE;lhard;lharu;lharul;lhblk;ljcy;ll;llarr;llcorner;" +
+            "llhard;lltri;lmidot;lmoust;lmoustache;lnE;lnap;lnapprox;lne;lneq;lneqq;lnsim;" +
+            "loang;loarr;lobrk;longleftarrow;longleftrightarrow;longmapsto;longrightarrow;looparrowleft;looparrowright;lopar;lopf;loplus;" +
+            "lotimes;lowast;lowbar;loz;lozenge;lozf;lpar;lparlt;lrarr;lrcorner;lrhar;lrhard;" +
+            "lrm;lrtri;lsaquo;lscr;lsh;lsim;lsime;lsimg;lsqb;lsquo;lsquor;lstrok;" +
+            "lt;ltcc;ltcir;ltdot;lthree;ltimes;ltlarr;ltquest;ltrPar;ltri;ltrie;ltrif;" +
+            "lurdshar;luruhar;lvertneqq;lvnE;mDDot;macr;male;malt;maltese;map;mapsto;mapstodown;" +
+            "mapstoleft;mapstoup;marker;mcomma;mcy;mdash;measuredangle;mfr;mho;micro;mid;midast;" +
+            "midcir;middot;minus;minusb;minusd;minusdu;mlcp;mldr;mnplus;models;mopf;mp;" +
+            "mscr;mstpos;mu;multimap;mumap;nGg;nGt;nGtv;nLeftarrow;nLeftrightarrow;nLl;nLt;" +
+            "nLtv;nRightarrow;nVDash;nVdash;nabla;nacute;nang;nap;napE;napid;napos;napprox;" +
+            "natur;natural;naturals;nbsp;nbump;nbumpe;ncap;ncaron;ncedil;ncong;ncongdot;ncup;" +
+            "ncy;ndash;ne;neArr;nearhk;nearr;nearrow;nedot;nequiv;nesear;nesim;nexist;" +
+            "nexists;nfr;ngE;nge;ngeq;ngeqq;ngeqslant;nges;ngsim;ngt;ngtr;nhArr;" +
+            "nharr;nhpar;ni;nis;nisd;niv;njcy;nlArr;nlE;nlarr;nldr;nle;" +
+            "nleftarrow;nleftrightarrow;nleq;nleqq;nleqslant;nles;nless;nlsim;nlt;nltri;nltrie;nmid;" +
+            "nopf;not;notin;notinE;notindot;notinva;notinvb;notinvc;notni;notniva;notnivb;notnivc;" +
+            "npar;nparallel;nparsl;npart;npolint;npr;nprcue;npre;nprec;npreceq;nrArr;nrarr;" +
+            "nrarrc;nrarrw;nrightarrow;nrtri;nrtrie;nsc;nsccue;nsce;nscr;nshortmid;nshortparallel;nsim;" +
+            "nsime;nsimeq;nsmid;nspar;nsqsube;nsqsupe;nsub;nsubE;nsube;nsubset;nsubseteq;nsubseteqq;" +
+            "nsucc;nsucceq;nsup;nsupE;nsupe;nsupset;nsupseteq;nsupseteqq;ntgl;ntilde;ntlg;ntriangleleft;" +
+            "ntrianglelefteq;ntriangleright;ntrianglerighteq;nu;num;numero;numsp;nvDash;nvHarr;nvap;nvdash;nvge;" +
+            "nvgt;nvinfin;nvlArr;nvle;nvlt;nvltrie;nvrArr;nvrtrie;nvsim;nwArr;nwarhk;nwarr;" +
+            "nwarrow;nwnear;oS;oacute;oast;ocir;ocirc;ocy;odash;odblac;odiv;odot;" +
+            "odsold;oelig;ofcir;ofr;ogon;ograve;ogt;ohbar;ohm;oint;olarr;olcir;" +
+            "olcross;oline;olt;omacr;omega;omicron;omid;ominus;oopf;opar;operp;oplus;" +
+            "or;orarr;ord;order;orderof;ordf;ordm;origof;oror;orslope;orv;oscr;" +
+            "oslash;osol;otilde;otimes;otimesas;ouml;ovbar;par;para;parallel;parsim;parsl;" +
+            "part;pcy;percnt;period;permil;perp;pertenk;pfr;phi;phiv;phmmat;phone;" +
+            "pi;pitchfork;piv;planck;planckh;plankv;plus;plusacir;plusb;pluscir;plusdo;plusdu;" +
+            "pluse;plusmn;plussim;plustwo;pm;pointint;popf;pound;pr;prE;prap;prcue;" +
+            "pre;prec;precapprox;preccurlyeq;preceq;precnapprox;precneqq;precnsim;precsim;prime;primes;prnE;" +
+            "prnap;prnsim;prod;profalar;profline;profsurf;prop;propto;prsim;prurel;pscr;psi;" +
+            "puncsp;qfr;qint;qopf;qprime;qscr;quaternions;quatint;quest;questeq;quot;rAarr;" +
+            "rArr;rAtail;rBarr;rHar;race;racute;radic;raemptyv;rang;rangd;range;rangle;" +
+            "raquo;rarr;rarrap;rarrb;rarrbfs;rarrc;rarrfs;rarrhk;rarrlp;rarrpl;rarrsim;rarrtl;" +
+            "rarrw;ratail;ratio;rationals;rbarr;rbbrk;rbrace;rbrack;rbrke;rbrksld;rbrkslu;rcaron;" +
+            "rcedil;rceil;rcub;rcy;rdca;rdldhar;rdquo;rdquor;rdsh;real;realine;realpart;" +
+            "reals;rect;reg;rfisht;rfloor;rfr;rhard;rharu;rharul;rho;rhov;rightarrow;" +
+            "rightarrowtail;rightharpoondown;rightharpoonup;rightleftarrows;rightleftharpoons;rightrightarrows;rightsquigarrow;rightthreetimes;ring;risingdotseq;rlarr;rlhar;" +
+            "rlm;rmoust;rmoustache;rnmid;roang;roarr;robrk;ropar;ropf;roplus;rotimes;rpar;" +
+            "rpargt;rppolint;rrarr;rsaquo;rscr;rsh;rsqb;rsquo;rsquor;rthree;rtimes;rtri;" +
+            "rtrie;rtrif;rtriltri;ruluhar;rx;sacute;sbquo;sc;scE;scap;scaron;sccue;" +
+            "sce;scedil;scirc;scnE;scnap;scnsim;scpolint;scsim;scy;sdot;sdotb;sdote;" +
+            "seArr;searhk;searr;searrow;sect;semi;seswar;setminus;setmn;sext;sfr;sfrown;" +
+            "sharp;shchcy;shcy;shortmid;shortparallel;shy;sigma;sigmaf;sigmav;sim;simdot;sime;" +
+            "simeq;simg;simgE;siml;simlE;simne;simplus;simrarr;slarr;smallsetminus;smashp;smeparsl;" +
+            "smid;smile;smt;smte;smtes;softcy;sol;solb;solbar;sopf;spades;spadesuit;" +
+            "spar;sqcap;sqcaps;sqcup;sqcups;sqsub;sqsube;sqsubset;sqsubseteq;sqsup;sqsupe;sqsupset;" +
+            "sqsupseteq;squ;square;squarf;squf;srarr;sscr;ssetmn;ssmile;sstarf;star;starf;" +
+            "straightepsilon;straightphi;strns;sub;subE;subdot;sube;subedot;submult;subnE;subne;subplus;" +
+            "subrarr;subset;subseteq;subseteqq;subsetneq;subsetneqq;subsim;subsub;subsup;succ;succapprox;succcurlyeq;" +
+            "succeq;succnapprox;succneqq;succnsim;succsim;sum;sung;sup;sup1;sup2;sup3;supE;" +
+            "supdot;supdsub;supe;supedot;suphsol;suphsub;suplarr;supmult;supnE;supne;supplus;supset;" +
+            "supseteq;supseteqq;supsetneq;supsetneqq;supsim;supsub;supsup;swArr;swarhk;swarr;swarrow;swnwar;" +
+            "szlig;target;tau;tbrk;tcaron;tcedil;tcy;tdot;telrec;tfr;there4;therefore;" +
+            "theta;thetasym;thetav;thickapprox;thicksim;thinsp;thkap;thksim;thorn;tilde;times;timesb;" +
+            "timesbar;timesd;tint;toea;top;topbot;topcir;topf;topfork;tosa;tprime;trade;" +
+            "triangle;triangledown;triangleleft;trianglelefteq;triangleq;triangleright;trianglerighteq;tridot;trie;triminus;triplus;trisb;" +
+            "tritime;trpezium;tscr;tscy;tshcy;tstrok;twixt;twoheadleftarrow;twoheadrightarrow;uArr;uHar;uacute;" +
+            "uarr;ubrcy;ubreve;ucirc;ucy;udarr;udblac;udhar;ufisht;ufr;ugrave;uharl;" +
+            "uharr;uhblk;ulcorn;ulcorner;ulcrop;ultri;umacr;uml;uogon;uopf;uparrow;updownarrow;" +
+            "upharpoonleft;upharpoonright;uplus;upsi;upsih;upsilon;upuparrows;urcorn;urcorner;urcrop;uring;urtri;" +
+            "uscr;utdot;utilde;utri;utrif;uuarr;uuml;uwangle;vArr;vBar;vBarv;vDash;" +
+            "vangrt;varepsilon;varkappa;varnothing;varphi;varpi;varpropto;varr;varrho;varsigma;varsubsetneq;varsubsetneqq;" +
+            "varsupsetneq;varsupsetneqq;vartheta;vartriangleleft;vartriangleright;vcy;vdash;vee;veebar;veeeq;vellip;verbar;" +
+            "vert;vfr;vltri;vnsub;vnsup;vopf;vprop;vrtri;vscr;vsubnE;vsubne;vsupnE;" +
+            "vsupne;vzigzag;wcirc;wedbar;wedge;wedgeq;weierp;wfr;wopf;wp;wr;wreath;" +
+            "wscr;xcap;xcirc;xcup;xdtri;xfr;xhArr;xharr;xi;xlArr;xlarr;xmap;" +
+            "xnis;xodot;xopf;xoplus;xotime;xrArr;xrarr;xscr;xsqcup;xuplus;xutri;xvee;" +
+            "xwedge;yacute;yacy;ycirc;ycy;yen;yfr;yicy;yopf;yscr;yucy;yuml;" +
+            "zacute;zcaron;zcy;zdot;zeetrf;zeta;zfr;zhcy;zigrarr;zopf;zscr;zwj;" +
+            "zwnj;";
+
+    /**
+     * entity values in name order, two chars per entity, second char is NUL for single char values
+     */
+    final static String VALUES = "" +
+            "\u00c6\000&\000\u00c1\000\u0102\000\u00c2\000\u0410\000\ud835\udd04\u00c0\000\u0391\000\u0100\000\u2a53\000\u0104\000\ud835\udd38\u2061\000\u00c5\000\ud835\udc9c" +
+            "\u2254\000\u00c3\000\u00c4\000\u2216\000\u2ae7\000\u2306\000\u0411\000\u2235\000\u212c\000\u0392\000\ud835\udd05\ud835\udd39\u02d8\000\u212c\000\u224e\000\u0427\000" +
+            "\u00a9\000\u0106\000\u22d2\000\u2145\000\u212d\000\u010c\000\u00c7\000\u0108\000\u2230\000\u010a\000\u00b8\000\u00b7\000\u212d\000\u03a7\000\u2299\000\u2296\000" +
+            "\u2295\000\u2297\000\u2232\000\u201d\000\u2019\000\u2237\000\u2a74\000\u2261\000\u222f\000\u222e\000\u2102\000\u2210\000\u2233\000\u2a2f\000\ud835\udc9e\u22d3\000" +
+            "\u224d\000\u2145\000\u2911\000\u0402\000\u0405\000\u040f\000\u2021\000\u21a1\000\u2ae4\000\u010e\000\u0414\000\u2207\000\u0394\000\ud835\udd07\u00b4\000\u02d9\000" +
+            "\u02dd\000`\000\u02dc\000\u22c4\000\u2146\000\ud835\udd3b\u00a8\000\u20dc\000\u2250\000\u222f\000\u00a8\000\u21d3\000\u21d0\000\u21d4\000\u2ae4\000\u27f8\000" +
+            "\u27fa\000\u27f9\000\u21d2\000\u22a8\000\u21d1\000\u21d5\000\u2225\000\u2193\000\u2913\000\u21f5\000\u0311\000\u2950\000\u295e\000\u21bd\000\u2956\000\u295f\000" +
+            "\u21c1\000\u2957\000\u22a4\000\u21a7\000\u21d3\000\ud835\udc9f\u0110\000\u014a\000\u00d0\000\u00c9\000\u011a\000\u00ca\000\u042d\000\u0116\000\ud835\udd08\u00c8\000" +
+            "\u2208\000\u0112\000\u25fb\000\u25ab\000\u0118\000\ud835\udd3c\u0395\000\u2a75\000\u2242\000\u21cc\000\u2130\000\u2a73\000\u0397\000\u00cb\000\u2203\000\u2147\000" +
+            "\u0424\000\ud835\udd09\u25fc\000\u25aa\000\ud835\udd3d\u2200\000\u2131\000\u2131\000\u0403\000>\000\u0393\000\u03dc\000\u011e\000\u0122\000\u011c\000\u0413\000" +
+            "\u0120\000\ud835\udd0a\u22d9\000\ud835\udd3e\u2265\000\u22db\000\u2267\000\u2aa2\000\u2277\000\u2a7e\000\u2273\000\ud835\udca2\u226b\000\u042a\000\u02c7\000^\000" +
+            "\u0124\000\u210c\000\u210b\000\u210d\000\u2500\000\u210b\000\u0126\000\u224e\000\u224f\000\u0415\000\u0132\000\u0401\000\u00cd\000\u00ce\000\u0418\000\u0130\000" +
+            "\u2111\000\u00cc\000\u2111\000\u012a\000\u2148\000\u21d2\000\u222c\000\u222b\000\u22c2\000\u2063\000\u2062\000\u012e\000\ud835\udd40\u0399\000\u2110\000\u0128\000" +
+            "\u0406\000\u00cf\000\u0134\000\u0419\000\ud835\udd0d\ud835\udd41\ud835\udca5\u0408\000\u0404\000\u0425\000\u040c\000\u039a\000\u0136\000\u041a\000\ud835\udd0e\ud835\udd42" +
+            "\ud835\udca6\u0409\000<\000\u0139\000\u039b\000\u27ea\000\u2112\000\u219e\000\u013d\000\u013b\000\u041b\000\u27e8\000\u2190\000\u21e4\000\u21c6\000\u2308\000" +
+            "\u27e6\000\u2961\000\u21c3\000\u2959\000\u230a\000\u2194\000\u294e\000\u22a3\000\u21a4\000\u295a\000\u22b2\000\u29cf\000\u22b4\000\u2951\000\u2960\000\u21bf\000" +
+            "\u2958\000\u21bc\000\u2952\000\u21d0\000\u21d4\000\u22da\000\u2266\000\u2276\000\u2aa1\000\u2a7d\000\u2272\000\ud835\udd0f\u22d8\000\u21da\000\u013f\000\u27f5\000" +
+            "\u27f7\000\u27f6\000\u27f8\000\u27fa\000\u27f9\000\ud835\udd43\u2199\000\u2198\000\u2112\000\u21b0\000\u0141\000\u226a\000\u2905\000\u041c\000\u205f\000\u2133\000" +
+            "\ud835\udd10\u2213\000\ud835\udd44\u2133\000\u039c\000\u040a\000\u0143\000\u0147\000\u0145\000\u041d\000\u200b\000\u200b\000\u200b\000\u200b\000\u226b\000\u226a\000" +
+            "\n\000\ud835\udd11\u2060\000\u00a0\000\u2115\000\u2aec\000\u2262\000\u226d\000\u2226\000\u2209\000\u2260\000\u2242\u0338\u2204\000\u226f\000\u2271\000\u2267\u0338" +
+            "\u226b\u0338\u2279\000\u2a7e\u0338\u2275\000\u224e\u0338\u224f\u0338\u22ea\000\u29cf\u0338\u22ec\000\u226e\000\u2270\000\u2278\000\u226a\u0338\u2a7d\u0338\u2274\000\u2aa2\u0338" +
+            "\u2aa1\u0338\u2280\000\u2aaf\u0338\u22e0\000\u220c\000\u22eb\000\u29d0\u0338\u22ed\000\u228f\u0338\u22e2\000\u2290\u0338\u22e3\000\u2282\u20d2\u2288\000\u2281\000\u2ab0\u0338" +
+            "\u22e1\000\u227f\u0338\u2283\u20d2\u2289\000\u2241\000\u2244\000\u2247\000\u2249\000\u2224\000\ud835\udca9\u00d1\000\u039d\000\u0152\000\u00d3\000\u00d4\000\u041e\000" +
+            "\u0150\000\ud835\udd12\u00d2\000\u014c\000\u03a9\000\u039f\000\ud835\udd46\u201c\000\u2018\000\u2a54\000\ud835\udcaa\u00d8\000\u00d5\000\u2a37\000\u00d6\000\u203e\000" +
+            "\u23de\000\u23b4\000\u23dc\000\u2202\000\u041f\000\ud835\udd13\u03a6\000\u03a0\000\u00b1\000\u210c\000\u2119\000\u2abb\000\u227a\000\u2aaf\000\u227c\000\u227e\000" +
+            "\u2033\000\u220f\000\u2237\000\u221d\000\ud835\udcab\u03a8\000\"\000\ud835\udd14\u211a\000\ud835\udcac\u2910\000\u00ae\000\u0154\000\u27eb\000\u21a0\000\u2916\000" +
+            "\u0158\000\u0156\000\u0420\000\u211c\000\u220b\000\u21cb\000\u296f\000\u211c\000\u03a1\000\u27e9\000\u2192\000\u21e5\000\u21c4\000\u2309\000\u27e7\000\u295d\000" +
+            "\u21c2\000\u2955\000\u230b\000\u22a2\000\u21a6\000\u295b\000\u22b3\000\u29d0\000\u22b5\000\u294f\000\u295c\000\u21be\000\u2954\000\u21c0\000\u2953\000\u21d2\000" +
+            "\u211d\000\u2970\000\u21db\000\u211b\000\u21b1\000\u29f4\000\u0429\000\u0428\000\u042c\000\u015a\000\u2abc\000\u0160\000\u015e\000\u015c\000\u0421\000\ud835\udd16" +
+            "\u2193\000\u2190\000\u2192\000\u2191\000\u03a3\000\u2218\000\ud835\udd4a\u221a\000\u25a1\000\u2293\000\u228f\000\u2291\000\u2290\000\u2292\000\u2294\000\ud835\udcae" +
+            "\u22c6\000\u22d0\000\u22d0\000\u2286\000\u227b\000\u2ab0\000\u227d\000\u227f\000\u220b\000\u2211\000\u22d1\000\u2283\000\u2287\000\u22d1\000\u00de\000\u2122\000" +
+            "\u040b\000\u0426\000\t\000\u03a4\000\u0164\000\u0162\000\u0422\000\ud835\udd17\u2234\000\u0398\000\u205f\u200a\u2009\000\u223c\000\u2243\000\u2245\000\u2248\000" +
+            "\ud835\udd4b\u20db\000\ud835\udcaf\u0166\000\u00da\000\u219f\000\u2949\000\u040e\000\u016c\000\u00db\000\u0423\000\u0170\000\ud835\udd18\u00d9\000\u016a\000_\000" +
+            "\u23df\000\u23b5\000\u23dd\000\u22c3\000\u228e\000\u0172\000\ud835\udd4c\u2191\000\u2912\000\u21c5\000\u2195\000\u296e\000\u22a5\000\u21a5\000\u21d1\000\u21d5\000" +
+            "\u2196\000\u2197\000\u03d2\000\u03a5\000\u016e\000\ud835\udcb0\u0168\000\u00dc\000\u22ab\000\u2aeb\000\u0412\000\u22a9\000\u2ae6\000\u22c1\000\u2016\000\u2016\000" +
+            "\u2223\000|\000\u2758\000\u2240\000\u200a\000\ud835\udd19\ud835\udd4d\ud835\udcb1\u22aa\000\u0174\000\u22c0\000\ud835\udd1a\ud835\udd4e\ud835\udcb2\ud835\udd1b\u039e\000" +
+            "\ud835\udd4f\ud835\udcb3\u042f\000\u0407\000\u042e\000\u00dd\000\u0176\000\u042b\000\ud835\udd1c\ud835\udd50\ud835\udcb4\u0178\000\u0416\000\u0179\000\u017d\000\u0417\000" +
+            "\u017b\000\u200b\000\u0396\000\u2128\000\u2124\000\ud835\udcb5\u00e1\000\u0103\000\u223e\000\u223e\u0333\u223f\000\u00e2\000\u00b4\000\u0430\000\u00e6\000\u2061\000" +
+            "\ud835\udd1e\u00e0\000\u2135\000\u2135\000\u03b1\000\u0101\000\u2a3f\000&\000\u2227\000\u2a55\000\u2a5c\000\u2a58\000\u2a5a\000\u2220\000\u29a4\000\u2220\000" +
+            "\u2221\000\u29a8\000\u29a9\000\u29aa\000\u29ab\000\u29ac\000\u29ad\000\u29ae\000\u29af\000\u221f\000\u22be\000\u299d\000\u2222\000\u00c5\000\u237c\000\u0105\000" +
+            "\ud835\udd52\u2248\000\u2a70\000\u2a6f\000\u224a\000\u224b\000'\000\u2248\000\u224a\000\u00e5\000\ud835\udcb6*\000\u2248\000\u224d\000\u00e3\000\u00e4\000" +
+            "\u2233\000\u2a11\000\u2aed\000\u224c\000\u03f6\000\u2035\000\u223d\000\u22cd\000\u22bd\000\u2305\000\u2305\000\u23b5\000\u23b6\000\u224c\000\u0431\000\u201e\000" +
+            "\u2235\000\u2235\000\u29b0\000\u03f6\000\u212c\000\u03b2\000\u2136\000\u226c\000\ud835\udd1f\u22c2\000\u25ef\000\u22c3\000\u2a00\000\u2a01\000\u2a02\000\u2a06\000" +
+            "\u2605\000\u25bd\000\u25b3\000\u2a04\000\u22c1\000\u22c0\000\u290d\000\u29eb\000\u25aa\000\u25b4\000\u25be\000\u25c2\000\u25b8\000\u2423\000\u2592\000\u2591\000" +
+            "\u2593\000\u2588\000=\u20e5\u2261\u20e5\u2310\000\ud835\udd53\u22a5\000\u22a5\000\u22c8\000\u2557\000\u2554\000\u2556\000\u2553\000\u2550\000\u2566\000\u2569\000" +
+            "\u2564\000\u2567\000\u255d\000\u255a\000\u255c\000\u2559\000\u2551\000\u256c\000\u2563\000\u2560\000\u256b\000\u2562\000\u255f\000\u29c9\000\u2555\000\u2552\000" +
+            "\u2510\000\u250c\000\u2500\000\u2565\000\u2568\000\u252c\000\u2534\000\u229f\000\u229e\000\u22a0\000\u255b\000\u2558\000\u2518\000\u2514\000\u2502\000\u256a\000" +
+            "\u2561\000\u255e\000\u253c\000\u2524\000\u251c\000\u2035\000\u02d8\000\u00a6\000\ud835\udcb7\u204f\000\u223d\000\u22cd\000\\\000\u29c5\000\u27c8\000\u2022\000" +
+            "\u2022\000\u224e\000\u2aae\000\u224f\000\u224f\000\u0107\000\u2229\000\u2a44\000\u2a49\000\u2a4b\000\u2a47\000\u2a40\000\u2229\ufe00\u2041\000\u02c7\000\u2a4d\000" +
+            "\u010d\000\u00e7\000\u0109\000\u2a4c\000\u2a50\000\u010b\000\u00b8\000\u29b2\000\u00a2\000\u00b7\000\ud835\udd20\u0447\000\u2713\000\u2713\000\u03c7\000\u25cb\000" +
+            "\u29c3\000\u02c6\000\u2257\000\u21ba\000\u21bb\000\u00ae\000\u24c8\000\u229b\000\u229a\000\u229d\000\u2257\000\u2a10\000\u2aef\000\u29c2\000\u2663\000\u2663\000" +
+            ":\000\u2254\000\u2254\000,\000@\000\u2201\000\u2218\000\u2201\000\u2102\000\u2245\000\u2a6d\000\u222e\000\ud835\udd54\u2210\000\u00a9\000\u2117\000" +
+            "\u21b5\000\u2717\000\ud835\udcb8\u2acf\000\u2ad1\000\u2ad0\000\u2ad2\000\u22ef\000\u2938\000\u2935\000\u22de\000\u22df\000\u21b6\000\u293d\000\u222a\000\u2a48\000" +
+            "\u2a46\000\u2a4a\000\u228d\000\u2a45\000\u222a\ufe00\u21b7\000\u293c\000\u22de\000\u22df\000\u22ce\000\u22cf\000\u00a4\000\u21b6\000\u21b7\000\u22ce\000\u22cf\000" +
+            "\u2232\000\u2231\000\u232d\000\u21d3\000\u2965\000\u2020\000\u2138\000\u2193\000\u2010\000\u22a3\000\u290f\000\u02dd\000\u010f\000\u0434\000\u2146\000\u2021\000" +
+            "\u21ca\000\u2a77\000\u00b0\000\u03b4\000\u29b1\000\u297f\000\ud835\udd21\u21c3\000\u21c2\000\u22c4\000\u22c4\000\u2666\000\u2666\000\u00a8\000\u03dd\000\u22f2\000" +
+            "\u00f7\000\u00f7\000\u22c7\000\u22c7\000\u0452\000\u231e\000\u230d\000$\000\ud835\udd55\u02d9\000\u2250\000\u2251\000\u2238\000\u2214\000\u22a1\000\u2306\000" +
+            "\u2193\000\u21ca\000\u21c3\000\u21c2\000\u2910\000\u231f\000\u230c\000\ud835\udcb9\u0455\000\u29f6\000\u0111\000\u22f1\000\u25bf\000\u25be\000\u21f5\000\u296f\000" +
+            "\u29a6\000\u045f\000\u27ff\000\u2a77\000\u2251\000\u00e9\000\u2a6e\000\u011b\000\u2256\000\u00ea\000\u2255\000\u044d\000\u0117\000\u2147\000\u2252\000\ud835\udd22" +
+            "\u2a9a\000\u00e8\000\u2a96\000\u2a98\000\u2a99\000\u23e7\000\u2113\000\u2a95\000\u2a97\000\u0113\000\u2205\000\u2205\000\u2205\000\u2003\000\u2004\000\u2005\000" +
+            "\u014b\000\u2002\000\u0119\000\ud835\udd56\u22d5\000\u29e3\000\u2a71\000\u03b5\000\u03b5\000\u03f5\000\u2256\000\u2255\000\u2242\000\u2a96\000\u2a95\000=\000" +
+            "\u225f\000\u2261\000\u2a78\000\u29e5\000\u2253\000\u2971\000\u212f\000\u2250\000\u2242\000\u03b7\000\u00f0\000\u00eb\000\u20ac\000!\000\u2203\000\u2130\000" +
+            "\u2147\000\u2252\000\u0444\000\u2640\000\ufb03\000\ufb00\000\ufb04\000\ud835\udd23\ufb01\000fj\u266d\000\ufb02\000\u25b1\000\u0192\000\ud835\udd57\u2200\000" +
+            "\u22d4\000\u2ad9\000\u2a0d\000\u00bd\000\u2153\000\u00bc\000\u2155\000\u2159\000\u215b\000\u2154\000\u2156\000\u00be\000\u2157\000\u215c\000\u2158\000\u215a\000" +
+            "\u215d\000\u215e\000\u2044\000\u2322\000\ud835\udcbb\u2267\000\u2a8c\000\u01f5\000\u03b3\000\u03dd\000\u2a86\000\u011f\000\u011d\000\u0433\000\u0121\000\u2265\000" +
+            "\u22db\000\u2265\000\u2267\000\u2a7e\000\u2a7e\000\u2aa9\000\u2a80\000\u2a82\000\u2a84\000\u22db\ufe00\u2a94\000\ud835\udd24\u226b\000\u22d9\000\u2137\000\u0453\000" +
+            "\u2277\000\u2a92\000\u2aa5\000\u2aa4\000\u2269\000\u2a8a\000\u2a8a\000\u2a88\000\u2a88\000\u2269\000\u22e7\000\ud835\udd58`\000\u210a\000\u2273\000\u2a8e\000" +
+            "\u2a90\000>\000\u2aa7\000\u2a7a\000\u22d7\000\u2995\000\u2a7c\000\u2a86\000\u2978\000\u22d7\000\u22db\000\u2a8c\000\u2277\000\u2273\000\u2269\ufe00\u2269\ufe00" +
+            "\u21d4\000\u200a\000\u00bd\000\u210b\000\u044a\000\u2194\000\u2948\000\u21ad\000\u210f\000\u0125\000\u2665\000\u2665\000\u2026\000\u22b9\000\ud835\udd25\u2925\000" +
+            "\u2926\000\u21ff\000\u223b\000\u21a9\000\u21aa\000\ud835\udd59\u2015\000\ud835\udcbd\u210f\000\u0127\000\u2043\000\u2010\000\u00ed\000\u2063\000\u00ee\000\u0438\000" +
+            "\u0435\000\u00a1\000\u21d4\000\ud835\udd26\u00ec\000\u2148\000\u2a0c\000\u222d\000\u29dc\000\u2129\000\u0133\000\u012b\000\u2111\000\u2110\000\u2111\000\u0131\000" +
+            "\u22b7\000\u01b5\000\u2208\000\u2105\000\u221e\000\u29dd\000\u0131\000\u222b\000\u22ba\000\u2124\000\u22ba\000\u2a17\000\u2a3c\000\u0451\000\u012f\000\ud835\udd5a" +
+            "\u03b9\000\u2a3c\000\u00bf\000\ud835\udcbe\u2208\000\u22f9\000\u22f5\000\u22f4\000\u22f3\000\u2208\000\u2062\000\u0129\000\u0456\000\u00ef\000\u0135\000\u0439\000" +
+            "\ud835\udd27\u0237\000\ud835\udd5b\ud835\udcbf\u0458\000\u0454\000\u03ba\000\u03f0\000\u0137\000\u043a\000\ud835\udd28\u0138\000\u0445\000\u045c\000\ud835\udd5c\ud835\udcc0" +
+            "\u21da\000\u21d0\000\u291b\000\u290e\000\u2266\000\u2a8b\000\u2962\000\u013a\000\u29b4\000\u2112\000\u03bb\000\u27e8\000\u2991\000\u27e8\000\u2a85\000\u00ab\000" +
+            "\u2190\000\u21e4\000\u291f\000\u291d\000\u21a9\000\u21ab\000\u2939\000\u2973\000\u21a2\000\u2aab\000\u2919\000\u2aad\000\u2aad\ufe00\u290c\000\u2772\000{\000" +
+            "[\000\u298b\000\u298f\000\u298d\000\u013e\000\u013c\000\u2308\000{\000\u043b\000\u2936\000\u201c\000\u201e\000\u2967\000\u294b\000\u21b2\000\u2264\000" +
+            "\u2190\000\u21a2\000\u21bd\000\u21bc\000\u21c7\000\u2194\000\u21c6\000\u21cb\000\u21ad\000\u22cb\000\u22da\000\u2264\000\u2266\000\u2a7d\000\u2a7d\000\u2aa8\000" +
+            "\u2a7f\000\u2a81\000\u2a83\000\u22da\ufe00\u2a93\000\u2a85\000\u22d6\000\u22da\000\u2a8b\000\u2276\000\u2272\000\u297c\000\u230a\000\ud835\udd29\u2276\000\u2a91\000" +
+            "\u21bd\000\u21bc\000\u296a\000\u2584\000\u0459\000\u226a\000\u21c7\000\u231e\000\u296b\000\u25fa\000\u0140\000\u23b0\000\u23b0\000\u2268\000\u2a89\000\u2a89\000" +
+            "\u2a87\000\u2a87\000\u2268\000\u22e6\000\u27ec\000\u21fd\000\u27e6\000\u27f5\000\u27f7\000\u27fc\000\u27f6\000\u21ab\000\u21ac\000\u2985\000\ud835\udd5d\u2a2d\000" +
+            "\u2a34\000\u2217\000_\000\u25ca\000\u25ca\000\u29eb\000(\000\u2993\000\u21c6\000\u231f\000\u21cb\000\u296d\000\u200e\000\u22bf\000\u2039\000\ud835\udcc1" +
+            "\u21b0\000\u2272\000\u2a8d\000\u2a8f\000[\000\u2018\000\u201a\000\u0142\000<\000\u2aa6\000\u2a79\000\u22d6\000\u22cb\000\u22c9\000\u2976\000\u2a7b\000" +
+            "\u2996\000\u25c3\000\u22b4\000\u25c2\000\u294a\000\u2966\000\u2268\ufe00\u2268\ufe00\u223a\000\u00af\000\u2642\000\u2720\000\u2720\000\u21a6\000\u21a6\000\u21a7\000" +
+            "\u21a4\000\u21a5\000\u25ae\000\u2a29\000\u043c\000\u2014\000\u2221\000\ud835\udd2a\u2127\000\u00b5\000\u2223\000*\000\u2af0\000\u00b7\000\u2212\000\u229f\000" +
+            "\u2238\000\u2a2a\000\u2adb\000\u2026\000\u2213\000\u22a7\000\ud835\udd5e\u2213\000\ud835\udcc2\u223e\000\u03bc\000\u22b8\000\u22b8\000\u22d9\u0338\u226b\u20d2\u226b\u0338" +
+            "\u21cd\000\u21ce\000\u22d8\u0338\u226a\u20d2\u226a\u0338\u21cf\000\u22af\000\u22ae\000\u2207\000\u0144\000\u2220\u20d2\u2249\000\u2a70\u0338\u224b\u0338\u0149\000\u2249\000" +
+            "\u266e\000\u266e\000\u2115\000\u00a0\000\u224e\u0338\u224f\u0338\u2a43\000\u0148\000\u0146\000\u2247\000\u2a6d\u0338\u2a42\000\u043d\000\u2013\000\u2260\000\u21d7\000" +
+            "\u2924\000\u2197\000\u2197\000\u2250\u0338\u2262\000\u2928\000\u2242\u0338\u2204\000\u2204\000\ud835\udd2b\u2267\u0338\u2271\000\u2271\000\u2267\u0338\u2a7e\u0338\u2a7e\u0338" +
+            "\u2275\000\u226f\000\u226f\000\u21ce\000\u21ae\000\u2af2\000\u220b\000\u22fc\000\u22fa\000\u220b\000\u045a\000\u21cd\000\u2266\u0338\u219a\000\u2025\000\u2270\000" +
+            "\u219a\000\u21ae\000\u2270\000\u2266\u0338\u2a7d\u0338\u2a7d\u0338\u226e\000\u2274\000\u226e\000\u22ea\000\u22ec\000\u2224\000\ud835\udd5f\u00ac\000\u2209\000\u22f9\u0338" +
+            "\u22f5\u0338\u2209\000\u22f7\000\u22f6\000\u220c\000\u220c\000\u22fe\000\u22fd\000\u2226\000\u2226\000\u2afd\u20e5\u2202\u0338\u2a14\000\u2280\000\u22e0\000\u2aaf\u0338" +
+            "\u2280\000\u2aaf\u0338\u21cf\000\u219b\000\u2933\u0338\u219d\u0338\u219b\000\u22eb\000\u22ed\000\u2281\000\u22e1\000\u2ab0\u0338\ud835\udcc3\u2224\000\u2226\000\u2241\000" +
+            "\u2244\000\u2244\000\u2224\000\u2226\000\u22e2\000\u22e3\000\u2284\000\u2ac5\u0338\u2288\000\u2282\u20d2\u2288\000\u2ac5\u0338\u2281\000\u2ab0\u0338\u2285\000\u2ac6\u0338" +
+            "\u2289\000\u2283\u20d2\u2289\000\u2ac6\u0338\u2279\000\u00f1\000\u2278\000\u22ea\000\u22ec\000\u22eb\000\u22ed\000\u03bd\000#\000\u2116\000\u2007\000\u22ad\000" +
+            "\u2904\000\u224d\u20d2\u22ac\000\u2265\u20d2>\u20d2\u29de\000\u2902\000\u2264\u20d2<\u20d2\u22b4\u20d2\u2903\000\u22b5\u20d2\u223c\u20d2\u21d6\000\u2923\000\u2196\000" +
+            "\u2196\000\u2927\000\u24c8\000\u00f3\000\u229b\000\u229a\000\u00f4\000\u043e\000\u229d\000\u0151\000\u2a38\000\u2299\000\u29bc\000\u0153\000\u29bf\000\ud835\udd2c" +
+            "\u02db\000\u00f2\000\u29c1\000\u29b5\000\u03a9\000\u222e\000\u21ba\000\u29be\000\u29bb\000\u203e\000\u29c0\000\u014d\000\u03c9\000\u03bf\000\u29b6\000\u2296\000" +
+            "\ud835\udd60\u29b7\000\u29b9\000\u2295\000\u2228\000\u21bb\000\u2a5d\000\u2134\000\u2134\000\u00aa\000\u00ba\000\u22b6\000\u2a56\000\u2a57\000\u2a5b\000\u2134\000" +
+            "\u00f8\000\u2298\000\u00f5\000\u2297\000\u2a36\000\u00f6\000\u233d\000\u2225\000\u00b6\000\u2225\000\u2af3\000\u2afd\000\u2202\000\u043f\000%\000.\000" +
+            "\u2030\000\u22a5\000\u2031\000\ud835\udd2d\u03c6\000\u03d5\000\u2133\000\u260e\000\u03c0\000\u22d4\000\u03d6\000\u210f\000\u210e\000\u210f\000+\000\u2a23\000" +
+            "\u229e\000\u2a22\000\u2214\000\u2a25\000\u2a72\000\u00b1\000\u2a26\000\u2a27\000\u00b1\000\u2a15\000\ud835\udd61\u00a3\000\u227a\000\u2ab3\000\u2ab7\000\u227c\000" +
+            "\u2aaf\000\u227a\000\u2ab7\000\u227c\000\u2aaf\000\u2ab9\000\u2ab5\000\u22e8\000\u227e\000\u2032\000\u2119\000\u2ab5\000\u2ab9\000\u22e8\000\u220f\000\u232e\000" +
+            "\u2312\000\u2313\000\u221d\000\u221d\000\u227e\000\u22b0\000\ud835\udcc5\u03c8\000\u2008\000\ud835\udd2e\u2a0c\000\ud835\udd62\u2057\000\ud835\udcc6\u210d\000\u2a16\000" +
+            "?\000\u225f\000\"\000\u21db\000\u21d2\000\u291c\000\u290f\000\u2964\000\u223d\u0331\u0155\000\u221a\000\u29b3\000\u27e9\000\u2992\000\u29a5\000\u27e9\000" +
+            "\u00bb\000\u2192\000\u2975\000\u21e5\000\u2920\000\u2933\000\u291e\000\u21aa\000\u21ac\000\u2945\000\u2974\000\u21a3\000\u219d\000\u291a\000\u2236\000\u211a\000" +
+            "\u290d\000\u2773\000}\000]\000\u298c\000\u298e\000\u2990\000\u0159\000\u0157\000\u2309\000}\000\u0440\000\u2937\000\u2969\000\u201d\000\u201d\000" +
+            "\u21b3\000\u211c\000\u211b\000\u211c\000\u211d\000\u25ad\000\u00ae\000\u297d\000\u230b\000\ud835\udd2f\u21c1\000\u21c0\000\u296c\000\u03c1\000\u03f1\000\u2192\000" +
+            "\u21a3\000\u21c1\000\u21c0\000\u21c4\000\u21cc\000\u21c9\000\u219d\000\u22cc\000\u02da\000\u2253\000\u21c4\000\u21cc\000\u200f\000\u23b1\000\u23b1\000\u2aee\000" +
+            "\u27ed\000\u21fe\000\u27e7\000\u2986\000\ud835\udd63\u2a2e\000\u2a35\000)\000\u2994\000\u2a12\000\u21c9\000\u203a\000\ud835\udcc7\u21b1\000]\000\u2019\000" +
+            "\u2019\000\u22cc\000\u22ca\000\u25b9\000\u22b5\000\u25b8\000\u29ce\000\u2968\000\u211e\000\u015b\000\u201a\000\u227b\000\u2ab4\000\u2ab8\000\u0161\000\u227d\000" +
+            "\u2ab0\000\u015f\000\u015d\000\u2ab6\000\u2aba\000\u22e9\000\u2a13\000\u227f\000\u0441\000\u22c5\000\u22a1\000\u2a66\000\u21d8\000\u2925\000\u2198\000\u2198\000" +
+            "\u00a7\000;\000\u2929\000\u2216\000\u2216\000\u2736\000\ud835\udd30\u2322\000\u266f\000\u0449\000\u0448\000\u2223\000\u2225\000\u00ad\000\u03c3\000\u03c2\000" +
+            "\u03c2\000\u223c\000\u2a6a\000\u2243\000\u2243\000\u2a9e\000\u2aa0\000\u2a9d\000\u2a9f\000\u2246\000\u2a24\000\u2972\000\u2190\000\u2216\000\u2a33\000\u29e4\000" +
+            "\u2223\000\u2323\000\u2aaa\000\u2aac\000\u2aac\ufe00\u044c\000/\000\u29c4\000\u233f\000\ud835\udd64\u2660\000\u2660\000\u2225\000\u2293\000\u2293\ufe00\u2294\000" +
+            "\u2294\ufe00\u228f\000\u2291\000\u228f\000\u2291\000\u2290\000\u2292\000\u2290\000\u2292\000\u25a1\000\u25a1\000\u25aa\000\u25aa\000\u2192\000\ud835\udcc8\u2216\000" +
+            "\u2323\000\u22c6\000\u2606\000\u2605\000\u03f5\000\u03d5\000\u00af\000\u2282\000\u2ac5\000\u2abd\000\u2286\000\u2ac3\000\u2ac1\000\u2acb\000\u228a\000\u2abf\000" +
+            "\u2979\000\u2282\000\u2286\000\u2ac5\000\u228a\000\u2acb\000\u2ac7\000\u2ad5\000\u2ad3\000\u227b\000\u2ab8\000\u227d\000\u2ab0\000\u2aba\000\u2ab6\000\u22e9\000" +
+            "\u227f\000\u2211\000\u266a\000\u2283\000\u00b9\000\u00b2\000\u00b3\000\u2ac6\000\u2abe\000\u2ad8\000\u2287\000\u2ac4\000\u27c9\000\u2ad7\000\u297b\000\u2ac2\000" +
+            "\u2acc\000\u228b\000\u2ac0\000\u2283\000\u2287\000\u2ac6\000\u228b\000\u2acc\000\u2ac8\000\u2ad4\000\u2ad6\000\u21d9\000\u2926\000\u2199\000\u2199\000\u292a\000" +
+            "\u00df\000\u2316\000\u03c4\000\u23b4\000\u0165\000\u0163\000\u0442\000\u20db\000\u2315\000\ud835\udd31\u2234\000\u2234\000\u03b8\000\u03d1\000\u03d1\000\u2248\000" +
+            "\u223c\000\u2009\000\u2248\000\u223c\000\u00fe\000\u02dc\000\u00d7\000\u22a0\000\u2a31\000\u2a30\000\u222d\000\u2928\000\u22a4\000\u2336\000\u2af1\000\ud835\udd65" +
+            "\u2ada\000\u2929\000\u2034\000\u2122\000\u25b5\000\u25bf\000\u25c3\000\u22b4\000\u225c\000\u25b9\000\u22b5\000\u25ec\000\u225c\000\u2a3a\000\u2a39\000\u29cd\000" +
+            "\u2a3b\000\u23e2\000\ud835\udcc9\u0446\000\u045b\000\u0167\000\u226c\000\u219e\000\u21a0\000\u21d1\000\u2963\000\u00fa\000\u2191\000\u045e\000\u016d\000\u00fb\000" +
+            "\u0443\000\u21c5\000\u0171\000\u296e\000\u297e\000\ud835\udd32\u00f9\000\u21bf\000\u21be\000\u2580\000\u231c\000\u231c\000\u230f\000\u25f8\000\u016b\000\u00a8\000" +
+            "\u0173\000\ud835\udd66\u2191\000\u2195\000\u21bf\000\u21be\000\u228e\000\u03c5\000\u03d2\000\u03c5\000\u21c8\000\u231d\000\u231d\000\u230e\000\u016f\000\u25f9\000" +
+            "\ud835\udcca\u22f0\000\u0169\000\u25b5\000\u25b4\000\u21c8\000\u00fc\000\u29a7\000\u21d5\000\u2ae8\000\u2ae9\000\u22a8\000\u299c\000\u03f5\000\u03f0\000\u2205\000" +
+            "\u03d5\000\u03d6\000\u221d\000\u2195\000\u03f1\000\u03c2\000\u228a\ufe00\u2acb\ufe00\u228b\ufe00\u2acc\ufe00\u03d1\000\u22b2\000\u22b3\000\u0432\000\u22a2\000\u2228\000" +
+            "\u22bb\000\u225a\000\u22ee\000|\000|\000\ud835\udd33\u22b2\000\u2282\u20d2\u2283\u20d2\ud835\udd67\u221d\000\u22b3\000\ud835\udccb\u2acb\ufe00\u228a\ufe00\u2acc\ufe00" +
+            "\u228b\ufe00\u299a\000\u0175\000\u2a5f\000\u2227\000\u2259\000\u2118\000\ud835\udd34\ud835\udd68\u2118\000\u2240\000\u2240\000\ud835\udccc\u22c2\000\u25ef\000\u22c3\000" +
+            "\u25bd\000\ud835\udd35\u27fa\000\u27f7\000\u03be\000\u27f8\000\u27f5\000\u27fc\000\u22fb\000\u2a00\000\ud835\udd69\u2a01\000\u2a02\000\u27f9\000\u27f6\000\ud835\udccd" +
+            "\u2a06\000\u2a04\000\u25b3\000\u22c1\000\u22c0\000\u00fd\000\u044f\000\u0177\000\u044b\000\u00a5\000\ud835\udd36\u0457\000\ud835\udd6a\ud835\udcce\u044e\000\u00ff\000" +
+            "\u017a\000\u017e\000\u0437\000\u017c\000\u2128\000\u03b6\000\ud835\udd37\u0436\000\u21dd\000\ud835\udd6b\ud835\udccf\u200d\000\u200c\000";
+
+    private Html5EntityTable() {
+    }
+}
@@ -59,6 +59,25 @@ public interface IRichSequence<T extends IRichSequence<T>> extends CharSequence,
      */
     char safeCharAt(int index);
 
+    /**
+     * Copy characters of this sequence to a char array, same as {@link String#getChars(int, int, char[], int)}
+     * <p>
+     * Implementations copy directly from their underlying characters, use for scanning longer ranges to avoid per
+     * character index translation of {@link #charAt(int)}. Default copies using {@link #charAt(int)}.
+     *
+     * @param srcBegin start index in this sequence
+     * @param srcEnd   end index in this sequence
+     * @param dst      destination array
+     * @param dstBegin start index in destination array
+     */
+    default void getChars(int srcBegin, int srcEnd, char[] dst, int dstBegin) {
+        SequenceUtils.validateStartEnd(srcBegin, srcEnd, length());
+
+        for (int i = srcBegin; i < srcEnd; i++) {
+            dst[dstBegin++] = charAt(i);
+        }
+    }
+
     /**
      * Get a portion of this sequence
      * <p>
@@ -921,6 +921,10 @@ public class LineAppendableImpl implements LineAppendable {
             lines.subList(useStartLine, useEndLine).clear();
             modificationCount++;
 
+            // preformatted first/last lines are line indices, keep them on the same line
+            preFormattedFirstLine = adjustRemovedLineIndex(preFormattedFirstLine, useStartLine, useEndLine);
+            preFormattedLastLine = adjustRemovedLineIndex(preFormattedLastLine, useStartLine, useEndLine);
+
             // recompute lineInfo for lines at or after the deleted lines
             return useStartLine;
         }
@@ -933,6 +937,12 @@ public class LineAppendableImpl implements LineAppendable {
         return lines.size();
     }
 
+    private static int adjustRemovedLineIndex(int lineIndex, int startLine, int endLine) {
+        if (lineIndex < startLine) return lineIndex;
+        if (lineIndex < endLine) return -1;
+        return lineIndex - (endLine - startLine);
+    }
+
     void recomputeLineInfo(int startLine) {
         // recompute lineInfo for lines at or after the deleted lines
         int iMax = lines.size();
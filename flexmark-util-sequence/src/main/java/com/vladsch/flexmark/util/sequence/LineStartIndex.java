@@ -0,0 +1,162 @@
+package com.vladsch.flexmark.util.sequence;
+
+import com.vladsch.flexmark.util.misc.Pair;
+import com.vladsch.flexmark.util.misc.Utils;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+
+/**
+ * Index of line starts in a character sequence for offset to line and column lookups by binary search
+ * <p>
+ * A line ends with \r\n, \r or \n, the index holds the offset after each line end.
+ * Results are the same as the corresponding {@link SequenceUtils} methods which scan the sequence.
+ * <p>
+ * The index is immutable, it is built once for a base sequence and shared by all its sub-sequences,
+ * see {@link BasedSequence#getBaseLineStartIndex()}.
+ */
+final public class LineStartIndex {
+    final private @NotNull CharSequence chars;
+    final private int length;
+    final private @NotNull int[] lineStarts;
+
+    private LineStartIndex(@NotNull CharSequence chars) {
+        this.chars = chars;
+        length = chars.length();
+
+        int[] starts = new int[Math.max(16, length >> 5)];
+        int count = 0;
+
+        // characters are copied in chunks and compared to '\r', the larger EOL char, to skip non EOL chars with one test
+        char[] chunk = new char[Math.min(SequenceUtils.CHUNK_SIZE, length)];
+        int chunkStart = 0;
+
+        while (chunkStart < length) {
+            int iMax = Math.min(chunk.length, length - chunkStart);
+            SequenceUtils.getChars(chars, chunkStart, chunkStart + iMax, chunk, 0);
+            int nextChunkStart = chunkStart + iMax;
+
+            for (int i = 0; i < iMax; i++) {
+                char c = chunk[i];
+                if (c > '\r') continue;
+
+                int lineStart = chunkStart + i + 1;
+                if (c == '\r') {
+                    if (lineStart < length && (i + 1 < iMax ? chunk[i + 1] : chars.charAt(lineStart)) == '\n') {
+                        lineStart++;
+                        i++;
+                        if (lineStart > nextChunkStart) nextChunkStart = lineStart;
+                    }
+                } else if (c != '\n') {
+                    continue;
+                }
+
+                if (count == starts.length) starts = Arrays.copyOf(starts, count * 2);
+                starts[count++] = lineStart;
+            }
+
+            chunkStart = nextChunkStart;
+        }
+
+        lineStarts = Arrays.copyOf(starts, count);
+    }
+
+    @NotNull
+    public static LineStartIndex of(@NotNull CharSequence chars) {
+        return new LineStartIndex(chars);
+    }
+
+    public int length() {
+        return length;
+    }
+
+    /**
+     * @return number of lines, text after the last EOL is counted as a line even when empty
+     */
+    public int getLineCount() {
+        return lineStarts.length + 1;
+    }
+
+    /**
+     * @param line line number
+     * @return offset of the start of the line
+     */
+    public int getLineStart(int line) {
+        return line == 0 ? 0 : lineStarts[line - 1];
+    }
+
+    // number of line starts at or before offset
+    private int lineStartsUpTo(int offset) {
+        int low = 0;
+        int high = lineStarts.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (lineStarts[mid] <= offset) low = mid + 1;
+            else high = mid;
+        }
+        return low;
+    }
+
+    private boolean isLineFeedStart(int lineStartIndex) {
+        return chars.charAt(lineStarts[lineStartIndex] - 1) == '\n';
+    }
+
+    /**
+     * Get line number at offset, an offset between \r and \n is on the same line as the \r
+     *
+     * @param offset offset in sequence
+     * @return line number
+     */
+    public int getLineNumber(int offset) {
+        return lineStartsUpTo(offset);
+    }
+
+    /**
+     * Same as {@link SequenceUtils#lineColumnAtIndex(CharSequence, int)}, an index between \r and \n is at the start of the next line
+     *
+     * @param index index in sequence
+     * @return line and column
+     */
+    @NotNull
+    public Pair<Integer, Integer> lineColumnAtIndex(int index) {
+        if (index < 0 || index > length) {
+            throw new IllegalArgumentException("Index: " + index + " out of range [0, " + length + "]");
+        }
+
+        int line = lineStartsUpTo(index);
+        if (index > 0 && index < length && chars.charAt(index) == '\n' && chars.charAt(index - 1) == '\r') {
+            return new Pair<>(line + 1, 0);
+        }
+        return new Pair<>(line, index - getLineStart(line));
+    }
+
+    /**
+     * Same as {@link SequenceUtils#startOfLine(CharSequence, int)}, only \n ends a line
+     *
+     * @param index index in sequence
+     * @return offset after the last \n before index or 0
+     */
+    public int startOfLine(int index) {
+        index = Utils.rangeLimit(index, 0, length);
+        int i = lineStartsUpTo(index);
+        while (i-- > 0) {
+            if (isLineFeedStart(i)) return lineStarts[i];
+        }
+        return 0;
+    }
+
+    /**
+     * Same as {@link SequenceUtils#endOfLine(CharSequence, int)}, only \n ends a line
+     *
+     * @param index index in sequence
+     * @return offset of the first \n at or after index or length of sequence
+     */
+    public int endOfLine(int index) {
+        index = Utils.rangeLimit(index, 0, length);
+        int iMax = lineStarts.length;
+        for (int i = lineStartsUpTo(index); i < iMax; i++) {
+            if (isLineFeedStart(i)) return lineStarts[i] - 1;
+        }
+        return length;
+    }
+}
@@ -32,6 +32,16 @@ final public class MappedBasedSequence extends BasedSequenceImpl implements Mapp
         return mapper.map(baseSeq.charAt(index));
     }
 
+    @Override
+    public void getChars(int srcBegin, int srcEnd, char[] dst, int dstBegin) {
+        baseSeq.getChars(srcBegin, srcEnd, dst, dstBegin);
+
+        int iMax = dstBegin + srcEnd - srcBegin;
+        for (int i = dstBegin; i < iMax; i++) {
+            dst[i] = mapper.map(dst[i]);
+        }
+    }
+
     @NotNull
     @Override
     public BasedSequence getCharSequence() {
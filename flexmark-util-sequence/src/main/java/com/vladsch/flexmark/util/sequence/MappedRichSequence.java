@@ -37,6 +37,16 @@ public class MappedRichSequence extends IRichSequenceBase<RichSequence> implemen
         return mapper.map(base.charAt(index));
     }
 
+    @Override
+    public void getChars(int srcBegin, int srcEnd, char[] dst, int dstBegin) {
+        base.getChars(srcBegin, srcEnd, dst, dstBegin);
+
+        int iMax = dstBegin + srcEnd - srcBegin;
+        for (int i = dstBegin; i < iMax; i++) {
+            dst[i] = mapper.map(dst[i]);
+        }
+    }
+
     public RichSequence getBaseSequence() {
         return base;
     }
@@ -62,6 +62,13 @@ public class RichSequenceImpl extends IRichSequenceBase<RichSequence> implements
         return c == SequenceUtils.NUL ? SequenceUtils.ENC_NUL : c;
     }
 
+    @Override
+    public void getChars(int srcBegin, int srcEnd, char[] dst, int dstBegin) {
+        SequenceUtils.validateStartEnd(srcBegin, srcEnd, length());
+        SequenceUtils.getChars(charSequence, srcBegin, srcEnd, dst, dstBegin);
+        SequenceUtils.encodeNul(dst, dstBegin, dstBegin + srcEnd - srcBegin);
+    }
+
     @NotNull
     @Override
     public RichSequence toMapped(CharMapper mapper) {
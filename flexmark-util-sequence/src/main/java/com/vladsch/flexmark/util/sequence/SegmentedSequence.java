@@ -149,6 +149,9 @@ public abstract class SegmentedSequence extends BasedSequenceImpl implements Rep
                 return SegmentedSequenceFull.create(baseSequence, builder.getSegmentBuilder());
             } else if (baseSequence.anyOptions(F_TREE_SEGMENTED_SEQUENCES)) {
                 return SegmentedSequenceTree.create(baseSequence, builder.getSegmentBuilder());
+            } else if (SegmentedSequenceRanges.isRanges(builder.getSegmentBuilder())) {
+                // few base ranges are cheaper to build and access without a tree
+                return SegmentedSequenceRanges.create(baseSequence, builder.getSegmentBuilder());
             } else {
                 // Can decide based on segments and length but tree based is not slower and much more efficient
 //                return SegmentedSequenceFull.create(baseSequence, builder.getSegmentBuilder());
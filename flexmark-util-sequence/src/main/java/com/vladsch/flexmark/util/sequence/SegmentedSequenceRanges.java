@@ -0,0 +1,174 @@
+package com.vladsch.flexmark.util.sequence;
+
+import com.vladsch.flexmark.util.sequence.builder.IBasedSegmentBuilder;
+import com.vladsch.flexmark.util.sequence.builder.ISegmentBuilder;
+import com.vladsch.flexmark.util.sequence.builder.SegmentedSequenceStats;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+
+/**
+ * A BasedSequence which consists of a few ranges of the base sequence, without out of base text
+ * <p>
+ * Used for the frequent case of joining up to {@link #MAX_RANGES} base ranges, ie. paragraph lines or text between
+ * removed characters. Ranges are kept in a small table of start indices and base offsets, which is scanned to find the
+ * range of a character, so there is no segment tree to build and no per thread cache of the current segment.
+ */
+final public class SegmentedSequenceRanges extends SegmentedSequence {
+    final public static int MAX_RANGES = 8;
+
+    final private int[] rangeStarts;        // start index of each range in the full sequence, with full sequence length as last entry
+    final private int[] rangeOffsets;       // base offset of each range
+    final private int startIndex;           // start index of this sub-sequence in the full sequence, 0 for original
+
+    private SegmentedSequenceRanges(BasedSequence baseSeq, int startOffset, int endOffset, int length, int[] rangeStarts, int[] rangeOffsets, int startIndex) {
+        super(baseSeq, startOffset, endOffset, length);
+        this.rangeStarts = rangeStarts;
+        this.rangeOffsets = rangeOffsets;
+        this.startIndex = startIndex;
+    }
+
+    /**
+     * Base offset of character in the full sequence
+     *
+     * @param index index in the full sequence, must be less than its length
+     * @return base offset
+     */
+    private int offsetOf(int index) {
+        int[] rangeStarts = this.rangeStarts;
+        int i = 1;
+        while (index >= rangeStarts[i]) i++;
+        return rangeOffsets[i - 1] + index - rangeStarts[i - 1];
+    }
+
+    @Override
+    public int getIndexOffset(int index) {
+        SequenceUtils.validateIndexInclusiveEnd(index, length());
+
+        if (index < length) {
+            return offsetOf(startIndex + index);
+        } else if (startIndex + index > 0) {
+            // end of sequence is after the previous character, same as tree based sequences
+            return offsetOf(startIndex + index - 1) + 1;
+        } else {
+            return startOffset;
+        }
+    }
+
+    @Override
+    public void addSegments(@NotNull IBasedSegmentBuilder<?> builder) {
+        builder.appendAnchor(startOffset);
+
+        int endIndex = startIndex + length;
+        int currentEnd = startOffset;
+        int iMax = rangeOffsets.length;
+
+        for (int i = 0; i < iMax; i++) {
+            int rangeStart = Math.max(rangeStarts[i], startIndex);
+            int rangeEnd = Math.min(rangeStarts[i + 1], endIndex);
+
+            if (rangeStart < rangeEnd) {
+                int offset = rangeOffsets[i] - rangeStarts[i];
+                builder.append(offset + rangeStart, offset + rangeEnd);
+                currentEnd = Math.max(currentEnd, offset + rangeEnd);
+            }
+        }
+
+        builder.appendAnchor(Math.max(currentEnd, endOffset));
+    }
+
+    @Override
+    public char charAt(int index) {
+        SequenceUtils.validateIndex(index, length());
+        return baseSeq.charAt(offsetOf(startIndex + index));
+    }
+
+    @Override
+    public void getChars(int srcBegin, int srcEnd, char[] dst, int dstBegin) {
+        SequenceUtils.validateStartEnd(srcBegin, srcEnd, length());
+
+        int start = startIndex + srcBegin;
+        int end = startIndex + srcEnd;
+        int iMax = rangeOffsets.length;
+
+        for (int i = 0; i < iMax && start < end; i++) {
+            int rangeEnd = Math.min(rangeStarts[i + 1], end);
+            if (start < rangeEnd) {
+                int offset = rangeOffsets[i] - rangeStarts[i];
+                baseSeq.getChars(offset + start, offset + rangeEnd, dst, dstBegin);
+                dstBegin += rangeEnd - start;
+                start = rangeEnd;
+            }
+        }
+    }
+
+    @NotNull
+    @Override
+    public BasedSequence subSequence(int startIndex, int endIndex) {
+        SequenceUtils.validateStartEnd(startIndex, endIndex, length());
+
+        if (startIndex == 0 && endIndex == length) {
+            return this;
+        } else {
+            int fullLength = rangeStarts[rangeOffsets.length];
+            int start = this.startIndex + startIndex;
+            int startOffset = start < fullLength ? offsetOf(start) : offsetOf(fullLength - 1) + 1;
+            int endOffset = startIndex == endIndex ? startOffset : offsetOf(this.startIndex + endIndex - 1) + 1;
+            return new SegmentedSequenceRanges(baseSeq, startOffset, endOffset, endIndex - startIndex, rangeStarts, rangeOffsets, start);
+        }
+    }
+
+    /**
+     * Test if builder content can be represented by this sequence
+     *
+     * @param builder builder containing segments
+     * @return true if builder has no text and from 2 to {@link #MAX_RANGES} base ranges
+     */
+    public static boolean isRanges(@NotNull ISegmentBuilder<?> builder) {
+        int ranges = builder.noAnchorsSize();
+        return builder.getTextLength() == 0 && ranges > 1 && ranges <= MAX_RANGES;
+    }
+
+    /**
+     * Base Constructor
+     *
+     * @param baseSequence base sequence
+     * @param builder      builder containing segments for this sequence, {@link #isRanges(ISegmentBuilder)} must be true
+     * @return segmented sequence
+     */
+    public static SegmentedSequenceRanges create(@NotNull BasedSequence baseSequence, ISegmentBuilder<?> builder) {
+        BasedSequence baseSeq = baseSequence.getBaseSequence();
+        int[] rangeStarts = new int[builder.noAnchorsSize() + 1];
+        int[] rangeOffsets = new int[rangeStarts.length - 1];
+        int ranges = 0;
+        int length = 0;
+
+        for (Object part : builder) {
+            if (part instanceof Range) {
+                Range range = (Range) part;
+                if (range.isEmpty()) continue;
+
+                rangeStarts[ranges] = length;
+                rangeOffsets[ranges++] = range.getStart();
+                length += range.getSpan();
+            } else if (part instanceof CharSequence && ((CharSequence) part).length() > 0 || part != null && !(part instanceof CharSequence)) {
+                throw new IllegalStateException("Invalid part type " + part.getClass());
+            }
+        }
+
+        if (ranges < rangeOffsets.length) {
+            rangeStarts = Arrays.copyOf(rangeStarts, ranges + 1);
+            rangeOffsets = Arrays.copyOf(rangeOffsets, ranges);
+        }
+        rangeStarts[ranges] = length;
+
+        if (baseSeq.anyOptions(F_COLLECT_SEGMENTED_STATS)) {
+            SegmentedSequenceStats stats = baseSeq.getOption(SEGMENTED_STATS);
+            if (stats != null) {
+                stats.addStats(builder.noAnchorsSize(), length, (rangeStarts.length + rangeOffsets.length) * 4);
+            }
+        }
+
+        return new SegmentedSequenceRanges(baseSeq, builder.getStartOffset(), builder.getEndOffset(), length, rangeStarts, rangeOffsets, 0);
+    }
+}
@@ -19,7 +19,7 @@ final public class SegmentedSequenceTree extends SegmentedSequence {
     final private int startIndex;               // start index of this sub-sequence in the segment tree, 0 for original
     final private int startPos;                 // start position for segments of this sequence in the tree
     final private int endPos;                   // end position for segments of this sequence in the tree
-    final private ThreadLocal<Cache> cache = new ThreadLocal<>();
+    private @Nullable Cache cache;              // last accessed segment, replaced as a whole so it is safe to share between threads
 
     private static class Cache {
         final @NotNull Segment segment;
@@ -59,24 +59,83 @@ final public class SegmentedSequenceTree extends SegmentedSequence {
 
     @NotNull
     private Cache getCache(int index) {
-        Cache cache = this.cache.get();
+        Cache cache = this.cache;
 
         if (cache == null || cache.segment.notInSegment(index + startIndex)) {
-            Segment segment = segmentTree.findSegment(index + startIndex, startPos, endPos, baseSeq, cache == null ? null : cache.segment);
-            assert segment != null;
-
-            cache = new Cache(segment, segment.getCharSequence(), startIndex);
-            this.cache.set(cache);
+            cache = findCache(index, cache);
+            this.cache = cache;
         }
         return cache;
     }
 
+    @NotNull
+    private Cache findCache(int index, @Nullable Cache cache) {
+        Segment segment = segmentTree.findSegment(index + startIndex, startPos, endPos, baseSeq, cache == null ? null : cache.segment);
+        assert segment != null;
+
+        return new Cache(segment, segment.getCharSequence(), startIndex);
+    }
+
     @Nullable
     private Segment getCachedSegment() {
-        Cache cache = this.cache.get();
+        Cache cache = this.cache;
         return cache == null ? null : cache.segment;
     }
 
+    /**
+     * Get a cursor for sequential access to the characters of this sequence
+     * <p>
+     * The cursor keeps its current segment locally, so sequential scans by one thread are not affected by
+     * other threads accessing this sequence. A cursor is not thread safe and should be used only for the duration of a scan.
+     *
+     * @return char sequence with the same characters as this sequence
+     */
+    @NotNull
+    public CharSequence cursor() {
+        return new Cursor(this);
+    }
+
+    private static class Cursor implements CharSequence {
+        final private @NotNull SegmentedSequenceTree sequence;
+        private @Nullable Cache cache;
+
+        Cursor(@NotNull SegmentedSequenceTree sequence) {
+            this.sequence = sequence;
+            cache = sequence.cache;
+        }
+
+        @Override
+        public int length() {
+            return sequence.length;
+        }
+
+        @Override
+        public char charAt(int index) {
+            SequenceUtils.validateIndex(index, sequence.length);
+
+            Cache cache = this.cache;
+            if (cache == null || cache.segment.notInSegment(index + sequence.startIndex)) {
+                cache = sequence.findCache(index, cache);
+                this.cache = cache;
+                // next cursor starts from here
+                sequence.cache = cache;
+            }
+            return cache.charAt(index);
+        }
+
+        @NotNull
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            return sequence.subSequence(start, end);
+        }
+
+        @NotNull
+        @Override
+        public String toString() {
+            return sequence.toString();
+        }
+    }
+
     @Override
     public int getIndexOffset(int index) {
         if (index == length) {
@@ -117,6 +176,27 @@ final public class SegmentedSequenceTree extends SegmentedSequence {
         return getCache(index).charAt(index);
     }
 
+    @Override
+    public void getChars(int srcBegin, int srcEnd, char[] dst, int dstBegin) {
+        SequenceUtils.validateStartEnd(srcBegin, srcEnd, length());
+
+        Cache cache = this.cache;
+        int index = srcBegin;
+
+        while (index < srcEnd) {
+            if (cache == null || cache.segment.notInSegment(index + startIndex)) {
+                cache = findCache(index, cache);
+            }
+
+            int segmentEnd = Math.min(srcEnd, cache.segment.getEndIndex() - startIndex);
+            SequenceUtils.getChars(cache.chars, cache.charIndex(index), cache.charIndex(segmentEnd), dst, dstBegin);
+            dstBegin += segmentEnd - index;
+            index = segmentEnd;
+        }
+
+        this.cache = cache;
+    }
+
     @NotNull
     @Override
     public BasedSequence subSequence(int startIndex, int endIndex) {
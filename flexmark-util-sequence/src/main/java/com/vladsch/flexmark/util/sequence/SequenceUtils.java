@@ -86,6 +86,9 @@ public interface SequenceUtils {
 
     int[] EMPTY_INDICES = { };
 
+    int CHUNK_SIZE = 256;          // chars copied at a time by scans of longer ranges
+    int CHAR_AT_SCAN = 256;        // chars tested with charAt() before copying chunks, most searches and matches end within a line
+
     @NotNull
     static <T extends CharSequence> T subSequence(@NotNull T thizz, int startIndex) {
         return (T) thizz.subSequence(startIndex, thizz.length());
@@ -175,14 +178,135 @@ public interface SequenceUtils {
     static int lastIndexOfNot(@NotNull CharSequence thizz,  char c, int fromIndex)                                           { return lastIndexOfNot(thizz, c, 0, fromIndex); }
     // @formatter:on
 
+    /**
+     * Get characters for a sequential scan of a char sequence
+     *
+     * @param chars char sequence
+     * @return cursor of a tree based segmented sequence, which keeps its current segment locally, otherwise the chars
+     */
+    static @NotNull CharSequence charCursor(@NotNull CharSequence chars) {
+        return chars instanceof SegmentedSequenceTree ? ((SegmentedSequenceTree) chars).cursor() : chars;
+    }
+
+    /**
+     * Copy characters of a char sequence to a char array, same as {@link String#getChars(int, int, char[], int)}
+     *
+     * @param chars    char sequence
+     * @param srcBegin start index in chars
+     * @param srcEnd   end index in chars
+     * @param dst      destination array
+     * @param dstBegin start index in destination array
+     */
+    static void getChars(@NotNull CharSequence chars, int srcBegin, int srcEnd, char[] dst, int dstBegin) {
+        if (chars instanceof String) {
+            ((String) chars).getChars(srcBegin, srcEnd, dst, dstBegin);
+        } else if (chars instanceof IRichSequence<?>) {
+            ((IRichSequence<?>) chars).getChars(srcBegin, srcEnd, dst, dstBegin);
+        } else if (chars instanceof StringBuilder) {
+            ((StringBuilder) chars).getChars(srcBegin, srcEnd, dst, dstBegin);
+        } else {
+            for (int i = srcBegin; i < srcEnd; i++) {
+                dst[dstBegin++] = chars.charAt(i);
+            }
+        }
+    }
+
+    /**
+     * Replace '\0' by {@link #ENC_NUL} in a range of chars, as done by charAt() of based and rich sequences
+     *
+     * @param chars      char array
+     * @param startIndex start index
+     * @param endIndex   end index
+     */
+    static void encodeNul(char[] chars, int startIndex, int endIndex) {
+        for (int i = startIndex; i < endIndex; i++) {
+            if (chars[i] == NUL) chars[i] = ENC_NUL;
+        }
+    }
+
+    /**
+     * End of the part of a forward search range tested with charAt()
+     * <p>
+     * Copying chunks only pays for searches which do not match near their start, so the first {@link #CHAR_AT_SCAN} chars
+     * are tested with charAt() and the rest of the range is searched by {@link #indexOfChunked(CharSequence, CharPredicate, int, int)}
+     *
+     * @param chars     char sequence
+     * @param fromIndex start of range
+     * @param endIndex  end of range
+     * @return endIndex if the whole range is tested with charAt(), otherwise start of range to search in chunks
+     */
+    static int charAtScanEnd(@NotNull CharSequence chars, int fromIndex, int endIndex) {
+        return endIndex - fromIndex > CHAR_AT_SCAN && !(chars instanceof String) ? fromIndex + CHAR_AT_SCAN : endIndex;
+    }
+
+    /**
+     * Start of the part of a backward search range tested with charAt(), see {@link #charAtScanEnd(CharSequence, int, int)}
+     *
+     * @param chars      char sequence
+     * @param startIndex start of range
+     * @param endIndex   end of range
+     * @return startIndex if the whole range is tested with charAt(), otherwise end of range to search in chunks by {@link #lastIndexOfChunked(CharSequence, CharPredicate, int, int)}
+     */
+    static int charAtScanStart(@NotNull CharSequence chars, int startIndex, int endIndex) {
+        return endIndex - startIndex > CHAR_AT_SCAN && !(chars instanceof String) ? endIndex - CHAR_AT_SCAN : startIndex;
+    }
+
+    /**
+     * Find first char matching predicate in a range, copying chars in chunks
+     *
+     * @param chars     char sequence
+     * @param predicate char predicate
+     * @param fromIndex start of range
+     * @param endIndex  end of range
+     * @return index of first matching char or -1
+     */
+    static int indexOfChunked(@NotNull CharSequence chars, @NotNull CharPredicate predicate, int fromIndex, int endIndex) {
+        if (fromIndex >= endIndex) return -1;
+
+        char[] chunk = new char[Math.min(CHUNK_SIZE, endIndex - fromIndex)];
+        for (int start = fromIndex; start < endIndex; start += chunk.length) {
+            int iMax = Math.min(chunk.length, endIndex - start);
+            getChars(chars, start, start + iMax, chunk, 0);
+            for (int i = 0; i < iMax; i++) {
+                if (predicate.test(chunk[i])) return start + i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Find last char matching predicate in a range, copying chars in chunks
+     *
+     * @param chars      char sequence
+     * @param predicate  char predicate
+     * @param startIndex start of range
+     * @param endIndex   end of range
+     * @return index of last matching char or -1
+     */
+    static int lastIndexOfChunked(@NotNull CharSequence chars, @NotNull CharPredicate predicate, int startIndex, int endIndex) {
+        if (startIndex >= endIndex) return -1;
+
+        char[] chunk = new char[Math.min(CHUNK_SIZE, endIndex - startIndex)];
+        for (int end = endIndex; end > startIndex; end -= chunk.length) {
+            int start = Math.max(startIndex, end - chunk.length);
+            getChars(chars, start, end, chunk, 0);
+            for (int i = end - start; i-- > 0; ) {
+                if (predicate.test(chunk[i])) return start + i;
+            }
+        }
+        return -1;
+    }
+
     static int indexOf(@NotNull CharSequence thizz, char c, int fromIndex, int endIndex) {
         fromIndex = Math.max(fromIndex, 0);
         endIndex = Math.min(thizz.length(), endIndex);
 
-        for (int i = fromIndex; i < endIndex; i++) {
-            if (c == thizz.charAt(i)) return i;
+        CharSequence chars = charCursor(thizz);
+        int scanEnd = charAtScanEnd(thizz, fromIndex, endIndex);
+        for (int i = fromIndex; i < scanEnd; i++) {
+            if (c == chars.charAt(i)) return i;
         }
-        return -1;
+        return scanEnd == endIndex ? -1 : indexOfChunked(thizz, value -> value == c, scanEnd, endIndex);
     }
 
     // TEST:
@@ -214,31 +338,37 @@ public interface SequenceUtils {
 
         startIndex = Math.max(startIndex, 0);
 
-        for (int i = fromIndex; i-- > startIndex; ) {
-            if (c == thizz.charAt(i)) return i;
+        CharSequence chars = charCursor(thizz);
+        int scanStart = charAtScanStart(thizz, startIndex, fromIndex);
+        for (int i = fromIndex; i-- > scanStart; ) {
+            if (c == chars.charAt(i)) return i;
         }
-        return -1;
+        return scanStart == startIndex ? -1 : lastIndexOfChunked(thizz, value -> value == c, startIndex, scanStart);
     }
 
     static int indexOfNot(@NotNull CharSequence thizz, char c, int fromIndex, int endIndex) {
         fromIndex = Math.max(fromIndex, 0);
         endIndex = Math.min(endIndex, thizz.length());
 
-        for (int i = fromIndex; i < endIndex; i++) {
-            if (thizz.charAt(i) != c) return i;
+        CharSequence chars = charCursor(thizz);
+        int scanEnd = charAtScanEnd(thizz, fromIndex, endIndex);
+        for (int i = fromIndex; i < scanEnd; i++) {
+            if (chars.charAt(i) != c) return i;
         }
-        return -1;
+        return scanEnd == endIndex ? -1 : indexOfChunked(thizz, value -> value != c, scanEnd, endIndex);
     }
 
     static int indexOfAny(@NotNull CharSequence thizz, @NotNull CharPredicate s, int fromIndex, int endIndex) {
         fromIndex = Math.max(fromIndex, 0);
         endIndex = Math.min(endIndex, thizz.length());
 
-        for (int i = fromIndex; i < endIndex; i++) {
-            char c = thizz.charAt(i);
+        CharSequence chars = charCursor(thizz);
+        int scanEnd = charAtScanEnd(thizz, fromIndex, endIndex);
+        for (int i = fromIndex; i < scanEnd; i++) {
+            char c = chars.charAt(i);
             if (s.test(c)) return i;
         }
-        return -1;
+        return scanEnd == endIndex ? -1 : indexOfChunked(thizz, s, scanEnd, endIndex);
     }
 
     // TEST:
@@ -250,7 +380,7 @@ public interface SequenceUtils {
 
         fromIndex = Math.min(fromIndex, thizz.length());
 
-        if (startIndex < fromIndex) {
+        if (startIndex + sMax - 1 <= fromIndex) {
             int pos = fromIndex;
             char lastChar = s.charAt(sMax - 1);
 
@@ -272,10 +402,12 @@ public interface SequenceUtils {
 
         startIndex = Math.max(startIndex, 0);
 
-        for (int i = fromIndex; i-- > startIndex; ) {
-            if (thizz.charAt(i) != c) return i;
+        CharSequence chars = charCursor(thizz);
+        int scanStart = charAtScanStart(thizz, startIndex, fromIndex);
+        for (int i = fromIndex; i-- > scanStart; ) {
+            if (chars.charAt(i) != c) return i;
         }
-        return -1;
+        return scanStart == startIndex ? -1 : lastIndexOfChunked(thizz, value -> value != c, startIndex, scanStart);
     }
 
     // TEST:
@@ -285,11 +417,13 @@ public interface SequenceUtils {
 
         startIndex = Math.max(startIndex, 0);
 
-        for (int i = fromIndex; i-- > startIndex; ) {
-            char c = thizz.charAt(i);
+        CharSequence chars = charCursor(thizz);
+        int scanStart = charAtScanStart(thizz, startIndex, fromIndex);
+        for (int i = fromIndex; i-- > scanStart; ) {
+            char c = chars.charAt(i);
             if (s.test(c)) return i;
         }
-        return -1;
+        return scanStart == startIndex ? -1 : lastIndexOfChunked(thizz, s, startIndex, scanStart);
     }
 
     /**
@@ -328,9 +462,19 @@ public interface SequenceUtils {
     static public int hashCode(@NotNull CharSequence thizz) {
         int h = 0;
         int length = thizz.length();
-        if (length > 0) {
-            for (int i = 0; i < length; i++) {
-                h = 31 * h + thizz.charAt(i);
+        int scanEnd = charAtScanEnd(thizz, 0, length);
+        for (int i = 0; i < scanEnd; i++) {
+            h = 31 * h + thizz.charAt(i);
+        }
+
+        if (scanEnd < length) {
+            char[] chunk = new char[Math.min(CHUNK_SIZE, length - scanEnd)];
+            for (int start = scanEnd; start < length; start += chunk.length) {
+                int iMax = Math.min(chunk.length, length - start);
+                getChars(thizz, start, start + iMax, chunk, 0);
+                for (int i = 0; i < iMax; i++) {
+                    h = 31 * h + chunk[i];
+                }
             }
         }
         return h;
@@ -515,9 +659,24 @@ public interface SequenceUtils {
                 }
             }
         } else {
-            for (int i = 0; i < iMax; i++) {
+            // most matches fail within a few chars, only a long matched prefix is worth copying chunks for
+            int scanEnd = iMax > CHAR_AT_SCAN && !(thizz instanceof String && chars instanceof String) ? CHAR_AT_SCAN : iMax;
+            for (int i = 0; i < scanEnd; i++) {
                 if (chars.charAt(i) != thizz.charAt(i + startIndex)) return i;
             }
+
+            if (scanEnd < iMax) {
+                char[] chunk = new char[Math.min(CHUNK_SIZE, iMax - scanEnd)];
+                char[] chunk2 = new char[chunk.length];
+                for (int start = scanEnd; start < iMax; start += chunk.length) {
+                    int jMax = Math.min(chunk.length, iMax - start);
+                    getChars(chars, start, start + jMax, chunk, 0);
+                    getChars(thizz, start + startIndex, start + startIndex + jMax, chunk2, 0);
+                    for (int j = 0; j < jMax; j++) {
+                        if (chunk[j] != chunk2[j]) return start + j;
+                    }
+                }
+            }
         }
         return iMax;
     }
@@ -1132,6 +1291,7 @@ public interface SequenceUtils {
                 hadCr = false;
             } else {
                 col++;
+                hadCr = false;
             }
         }
 
@@ -17,6 +17,7 @@ final public class SubSequence extends BasedSequenceImpl {
     final private @NotNull SubSequence baseSeq;
     final private int startOffset;
     final private int endOffset;
+    private @Nullable LineStartIndex lineStartIndex;    // only set in base sequence
 
     @NotNull
     @Override
@@ -55,6 +56,20 @@ final public class SubSequence extends BasedSequenceImpl {
         return charSequence;
     }
 
+    @NotNull
+    @Override
+    public LineStartIndex getBaseLineStartIndex() {
+        if (baseSeq != this) return baseSeq.getBaseLineStartIndex();
+
+        // index is immutable, a concurrent first use at most builds it twice
+        LineStartIndex index = lineStartIndex;
+        if (index == null) {
+            index = LineStartIndex.of(this);
+            lineStartIndex = index;
+        }
+        return index;
+    }
+
     public int getStartOffset() {
         return startOffset;
     }
@@ -116,6 +131,13 @@ final public class SubSequence extends BasedSequenceImpl {
         return c == SequenceUtils.NUL ? SequenceUtils.ENC_NUL : c;
     }
 
+    @Override
+    public void getChars(int srcBegin, int srcEnd, char[] dst, int dstBegin) {
+        SequenceUtils.validateStartEnd(srcBegin, srcEnd, length());
+        SequenceUtils.getChars(charSequence, srcBegin + startOffset, srcEnd + startOffset, dst, dstBegin);
+        SequenceUtils.encodeNul(dst, dstBegin, dstBegin + srcEnd - srcBegin);
+    }
+
     @NotNull
     @Override
     public SubSequence subSequence(int startIndex, int endIndex) {
@@ -1,10 +1,11 @@
 package com.vladsch.flexmark.util.ast;
 
+import com.vladsch.flexmark.util.data.DataKey;
 import com.vladsch.flexmark.util.data.MutableDataSet;
 import com.vladsch.flexmark.util.sequence.BasedSequence;
 import org.junit.Test;
 
-import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.*;
 
 public class DocumentTest {
 
@@ -76,4 +77,51 @@ public class DocumentTest {
         assertEquals(2, document.getLineNumber(8));
         assertEquals(2, document.getLineNumber(10));
     }
+
+    final static DataKey<String> THREAD_KEY_1 = new DataKey<>("THREAD_KEY_1", "");
+    final static DataKey<String> THREAD_KEY_2 = new DataKey<>("THREAD_KEY_2", "");
+
+    private static void runThread(Runnable runnable) throws InterruptedException {
+        Thread thread = new Thread(runnable);
+        thread.start();
+        thread.join();
+    }
+
+    @Test
+    public void testThreadDataSetsMerged() throws InterruptedException {
+        Document document = new Document(new MutableDataSet(), BasedSequence.of("Hello"));
+
+        document.beginThreadDataSets();
+        runThread(() -> document.set(THREAD_KEY_1, "thread 1"));
+        runThread(() -> document.set(THREAD_KEY_2, "thread 2"));
+        runThread(() -> document.set(THREAD_KEY_2, "thread 2"));
+        assertFalse(document.contains(THREAD_KEY_1));
+        document.endThreadDataSets();
+
+        assertEquals("thread 1", THREAD_KEY_1.get(document));
+        assertEquals("thread 2", THREAD_KEY_2.get(document));
+    }
+
+    @Test
+    public void testThreadDataSetsConflict() throws InterruptedException {
+        Document document = new Document(new MutableDataSet(), BasedSequence.of("Hello"));
+
+        document.beginThreadDataSets();
+        runThread(() -> document.set(THREAD_KEY_1, "thread 1"));
+        runThread(() -> document.set(THREAD_KEY_1, "thread 2"));
+        runThread(() -> document.set(THREAD_KEY_2, "thread 2"));
+
+        try {
+            document.endThreadDataSets();
+            fail("expected IllegalStateException");
+        } catch (IllegalStateException e) {
+            assertTrue(e.getMessage().contains("THREAD_KEY_1"));
+        }
+
+        // no changes applied, document data used directly again
+        assertFalse(document.contains(THREAD_KEY_1));
+        assertFalse(document.contains(THREAD_KEY_2));
+        document.set(THREAD_KEY_1, "main");
+        assertEquals("main", THREAD_KEY_1.get(document));
+    }
 }
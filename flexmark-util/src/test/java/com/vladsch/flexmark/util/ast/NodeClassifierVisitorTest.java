@@ -0,0 +1,102 @@
+package com.vladsch.flexmark.util.ast;
+
+import com.vladsch.flexmark.util.data.MutableDataSet;
+import com.vladsch.flexmark.util.sequence.BasedSequence;
+import org.junit.Test;
+
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+public class NodeClassifierVisitorTest {
+    static class TestNode extends Node {
+        TestNode() {
+            super(BasedSequence.NULL);
+        }
+
+        @Override
+        public BasedSequence[] getSegments() {
+            return EMPTY_SEGMENTS;
+        }
+    }
+
+    static class TestText extends TestNode {}
+
+    static class TestLink extends TestNode {}
+
+    static class TestCode extends TestNode {}
+
+    private static Map<Class<? extends Node>, Set<Class<?>>> exclusionMap() {
+        HashMap<Class<? extends Node>, Set<Class<?>>> exclusionMap = new HashMap<>();
+        exclusionMap.put(TestText.class, new HashSet<>(Arrays.asList(TestLink.class, TestCode.class)));
+        return exclusionMap;
+    }
+
+    private static boolean hasAncestor(ClassifyingNodeTracker tracker, Node node, Class<?> ancestorType) {
+        BitSet ancestry = tracker.getNodeAncestry(tracker.getNodeIndex(node));
+        return ancestry != null && ancestry.get(tracker.getExclusionSet().indexOf(ancestorType));
+    }
+
+    @Test
+    public void test_ancestry() {
+        Document document = new Document(new MutableDataSet(), BasedSequence.NULL);
+        TestNode paragraph = new TestNode();
+        TestText plain = new TestText();
+        TestLink link1 = new TestLink();
+        TestText linkText1 = new TestText();
+        TestLink link2 = new TestLink();
+        TestText linkText2 = new TestText();
+        TestCode code = new TestCode();
+        TestLink codeLink = new TestLink();
+        TestText codeLinkText = new TestText();
+
+        document.appendChild(paragraph);
+        paragraph.appendChild(plain);
+        paragraph.appendChild(link1);
+        link1.appendChild(linkText1);
+        paragraph.appendChild(link2);
+        link2.appendChild(linkText2);
+        paragraph.appendChild(code);
+        code.appendChild(codeLink);
+        codeLink.appendChild(codeLinkText);
+
+        ClassifyingNodeTracker tracker = new NodeClassifierVisitor(exclusionMap()).classify(document);
+
+        assertNull(tracker.getNodeAncestry(tracker.getNodeIndex(plain)));
+        assertTrue(hasAncestor(tracker, linkText1, TestLink.class));
+        assertFalse(hasAncestor(tracker, linkText1, TestCode.class));
+        assertTrue(hasAncestor(tracker, codeLinkText, TestLink.class));
+        assertTrue(hasAncestor(tracker, codeLinkText, TestCode.class));
+
+        // same ancestry shares one set: empty, link, code, code and link
+        assertSame(tracker.getNodeAncestry(tracker.getNodeIndex(linkText1)), tracker.getNodeAncestry(tracker.getNodeIndex(linkText2)));
+        assertEquals(4, tracker.getAncestrySetCount());
+        assertEquals(-1, tracker.getNodeIndex(new TestText()));
+    }
+
+    @Test
+    public void test_nodeAdded() {
+        Document document = new Document(new MutableDataSet(), BasedSequence.NULL);
+        TestNode paragraph = new TestNode();
+        TestLink link = new TestLink();
+        document.appendChild(paragraph);
+        paragraph.appendChild(link);
+
+        ClassifyingNodeTracker tracker = new NodeClassifierVisitor(exclusionMap()).classify(document);
+
+        TestCode code = new TestCode();
+        TestText text = new TestText();
+        code.appendChild(text);
+        link.appendChild(code);
+        tracker.nodeAddedWithDescendants(code);
+
+        assertTrue(hasAncestor(tracker, code, TestLink.class));
+        assertTrue(hasAncestor(tracker, text, TestLink.class));
+        assertTrue(hasAncestor(tracker, text, TestCode.class));
+
+        TestText added = new TestText();
+        paragraph.appendChild(added);
+        tracker.nodeAdded(added);
+        assertNull(tracker.getNodeAncestry(tracker.getNodeIndex(added)));
+    }
+}
@@ -0,0 +1,46 @@
+package com.vladsch.flexmark.util.collection;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class ClassIndexedMapTest {
+    @Test
+    public void testBasic() {
+        ClassIndexedMap<String> map = new ClassIndexedMap<>();
+
+        assertTrue(map.isEmpty());
+        assertNull(map.get(String.class));
+
+        assertNull(map.put(String.class, "string"));
+        assertNull(map.put(Integer.class, "integer"));
+        assertEquals("string", map.put(String.class, "string2"));
+
+        assertEquals(2, map.size());
+        assertEquals("string2", map.get(String.class));
+        assertEquals("integer", map.get(Integer.class));
+        assertFalse(map.containsKey(Long.class));
+
+        assertEquals("integer", map.remove(Integer.class));
+        assertNull(map.remove(Integer.class));
+        assertEquals(1, map.size());
+        assertNull(map.get(Integer.class));
+
+        assertEquals("long", map.computeIfAbsent(Long.class, type -> "long"));
+        assertEquals("long", map.computeIfAbsent(Long.class, type -> "other"));
+    }
+
+    @Test
+    public void testClassId() {
+        assertEquals(ClassIndexedMap.classId(String.class), ClassIndexedMap.classId(String.class));
+        assertNotEquals(ClassIndexedMap.classId(String.class), ClassIndexedMap.classId(Integer.class));
+
+        // ids are shared by all maps
+        ClassIndexedMap<String> map1 = new ClassIndexedMap<>();
+        ClassIndexedMap<String> map2 = new ClassIndexedMap<>();
+        map1.put(Double.class, "1");
+        map2.put(Float.class, "2");
+        assertNull(map1.get(Float.class));
+        assertNull(map2.get(Double.class));
+    }
+}
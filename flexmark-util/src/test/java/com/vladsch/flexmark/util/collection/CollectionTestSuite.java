@@ -9,6 +9,7 @@ import org.junit.runners.Suite;
         OrderedMultiMapTest.class,
         OrderedSetTest.class,
         ClassificationBagTest.class,
+        ClassIndexedMapTest.class,
         MaxAggregatorTest.class,
         MinAggregatorTest.class,
         BoundedMaxAggregatorTest.class,
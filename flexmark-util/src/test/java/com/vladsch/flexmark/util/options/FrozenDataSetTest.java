@@ -0,0 +1,94 @@
+package com.vladsch.flexmark.util.options;
+
+import com.vladsch.flexmark.util.data.*;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class FrozenDataSetTest {
+    final private static DataKey<Integer> INT_KEY = new DataKey<>("INT_KEY", 1);
+    final private static DataKey<String> STRING_KEY = new DataKey<>("STRING_KEY", "default");
+    final private static NullableDataKey<String> NULLABLE_KEY = new NullableDataKey<>("NULLABLE_KEY", "nullable");
+    final private static DataKey<List<String>> LIST_KEY = new DataKey<>("LIST_KEY", ArrayList::new);
+    final private static DataKey<Integer> DEPENDENT_KEY = new DataKey<>("DEPENDENT_KEY", INT_KEY);
+
+    @Test
+    public void test_keyIndex() {
+        assertNotEquals(INT_KEY.getIndex(), STRING_KEY.getIndex());
+        assertTrue(DEPENDENT_KEY.getIndex() < DataKeyBase.getKeyCount());
+    }
+
+    @Test
+    public void test_frozen() {
+        MutableDataSet options = new MutableDataSet().set(INT_KEY, 5).set(NULLABLE_KEY, null);
+        FrozenDataSet frozen = new FrozenDataSet(options);
+
+        assertSame(frozen, FrozenDataSet.of(frozen));
+        assertEquals(options.toImmutable(), frozen);
+        assertTrue(frozen.contains(INT_KEY));
+        assertTrue(frozen.contains(NULLABLE_KEY));
+        assertFalse(frozen.contains(STRING_KEY));
+        assertEquals(5, (int) INT_KEY.get(frozen));
+        assertEquals(5, (int) DEPENDENT_KEY.get(frozen));
+        assertNull(NULLABLE_KEY.get(frozen));
+        assertEquals("default", STRING_KEY.get(frozen));
+
+        // immutable, computed values are not kept
+        assertNotSame(LIST_KEY.get(frozen), LIST_KEY.get(frozen));
+        assertFalse(frozen.contains(LIST_KEY));
+    }
+
+    @Test
+    public void test_mutableIndexed() {
+        MutableIndexedDataSet dataSet = new MutableIndexedDataSet(new FrozenDataSet(new MutableDataSet().set(INT_KEY, 5)));
+
+        assertEquals(5, (int) INT_KEY.get(dataSet));
+        assertEquals(5, (int) DEPENDENT_KEY.get(dataSet));
+
+        // computed values are kept
+        List<String> list = LIST_KEY.get(dataSet);
+        assertSame(list, LIST_KEY.get(dataSet));
+        assertTrue(dataSet.contains(LIST_KEY));
+        assertTrue(dataSet.getAll().containsKey(LIST_KEY));
+
+        dataSet.set(STRING_KEY, "value");
+        assertEquals("value", STRING_KEY.get(dataSet));
+        dataSet.remove(STRING_KEY);
+        assertFalse(dataSet.contains(STRING_KEY));
+        assertEquals("default", STRING_KEY.get(dataSet));
+
+        dataSet.setAll(new MutableDataSet().set(INT_KEY, 7).set(NULLABLE_KEY, null));
+        assertEquals(7, (int) INT_KEY.get(dataSet));
+        assertNull(NULLABLE_KEY.get(dataSet));
+
+        // key created after data set
+        DataKey<String> lateKey = new DataKey<>("LATE_KEY", "late");
+        dataSet.set(lateKey, "set");
+        assertEquals("set", lateKey.get(dataSet));
+
+        dataSet.clear();
+        assertFalse(dataSet.contains(INT_KEY));
+        assertFalse(dataSet.contains(lateKey));
+        assertEquals(1, (int) INT_KEY.get(dataSet));
+        assertTrue(dataSet.getAll().containsKey(INT_KEY));
+    }
+
+    @Test
+    public void test_scoped() {
+        MutableDataSet parent = new MutableIndexedDataSet().set(INT_KEY, 5).set(STRING_KEY, "parent");
+        ScopedDataSet scoped = new ScopedDataSet(parent, new MutableDataSet().set(STRING_KEY, "scoped"));
+
+        assertEquals("scoped", STRING_KEY.get(scoped));
+        assertEquals(5, (int) INT_KEY.get(scoped));
+        assertTrue(scoped.contains(INT_KEY));
+        assertFalse(scoped.contains(NULLABLE_KEY));
+        assertEquals("nullable", NULLABLE_KEY.get(scoped));
+
+        // computed in parent when parent has key
+        List<String> list = LIST_KEY.get(parent);
+        assertSame(list, LIST_KEY.get(scoped));
+    }
+}
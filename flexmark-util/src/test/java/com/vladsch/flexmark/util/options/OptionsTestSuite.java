@@ -8,6 +8,7 @@ import org.junit.runners.Suite;
         MutableAttributeTest.class,
         AttributesTest.class,
         AttributeTest.class,
+        FrozenDataSetTest.class,
 })
 public class OptionsTestSuite {
 }
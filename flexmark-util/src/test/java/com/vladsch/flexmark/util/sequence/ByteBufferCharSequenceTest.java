@@ -0,0 +1,108 @@
+package com.vladsch.flexmark.util.sequence;
+
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+public class ByteBufferCharSequenceTest {
+    final private static String[] PARTS = { "a", "b", " ", "\n", "é", "€", "😀", "\u0000" };
+    final private static byte[] BAD_BYTES = { (byte) 0x80, (byte) 0xc3, (byte) 0xe2, (byte) 0x82, (byte) 0xf0, (byte) 0x9f, (byte) 0xff, (byte) 0xed, (byte) 0xa0 };
+
+    private static void assertSameAsString(byte[] bytes, Charset charset) {
+        String expected = new String(bytes, charset);
+        ByteBufferCharSequence chars = ByteBufferCharSequence.of(ByteBuffer.wrap(bytes), charset);
+
+        assertEquals(expected.length(), chars.length());
+        for (int i = 0; i < expected.length(); i++) {
+            assertEquals("at " + i, expected.charAt(i), chars.charAt(i));
+        }
+        assertEquals(expected, chars.toString());
+
+        if (expected.length() > 2) {
+            int start = expected.length() / 3;
+            int end = expected.length() - 1;
+            assertEquals(expected.substring(start, end), chars.subSequence(start, end).toString());
+            assertEquals(expected.substring(start + 1, end), chars.subSequence(start, end).subSequence(1, end - start).toString());
+        }
+    }
+
+    @Test
+    public void test_ascii() {
+        assertSameAsString("".getBytes(StandardCharsets.UTF_8), StandardCharsets.UTF_8);
+        assertSameAsString("# Heading\n\ntext\n".getBytes(StandardCharsets.UTF_8), StandardCharsets.UTF_8);
+    }
+
+    @Test
+    public void test_latin1() {
+        byte[] bytes = new byte[256];
+        for (int i = 0; i < bytes.length; i++) bytes[i] = (byte) i;
+        assertSameAsString(bytes, StandardCharsets.ISO_8859_1);
+        assertSameAsString(bytes, StandardCharsets.US_ASCII);
+    }
+
+    @Test
+    public void test_bufferPosition() {
+        ByteBuffer buffer = ByteBuffer.wrap("skip text €".getBytes(StandardCharsets.UTF_8));
+        buffer.position(5);
+        assertEquals("text €", ByteBufferCharSequence.of(buffer).toString());
+        assertEquals(5, buffer.position());
+    }
+
+    @Test
+    public void test_basedSequence() {
+        BasedSequence sequence = BasedSequence.of(ByteBufferCharSequence.of(ByteBuffer.wrap("a\u0000€\n😀b".getBytes(StandardCharsets.UTF_8))));
+        assertEquals(BasedSequence.of("a\u0000€\n😀b").toString(), sequence.toString());
+        assertEquals("😀b", sequence.subSequence(4).toString());
+        assertEquals(1, sequence.getBaseLineStartIndex().getLineNumber(4));
+    }
+
+    @Test
+    public void test_random() {
+        Random random = new Random(1);
+        StringBuilder sb = new StringBuilder();
+
+        for (int i = 0; i < 500; i++) {
+            sb.setLength(0);
+            int length = random.nextInt(200);
+            for (int j = 0; j < length; j++) {
+                // mostly ascii to get ascii blocks
+                sb.append(random.nextInt(4) == 0 ? PARTS[random.nextInt(PARTS.length)] : "x");
+            }
+
+            byte[] bytes = sb.toString().getBytes(StandardCharsets.UTF_8);
+            assertSameAsString(bytes, StandardCharsets.UTF_8);
+
+            // malformed sequences
+            for (int j = 0; j < 3 && bytes.length > 0; j++) {
+                bytes[random.nextInt(bytes.length)] = BAD_BYTES[random.nextInt(BAD_BYTES.length)];
+            }
+            assertSameAsString(bytes, StandardCharsets.UTF_8);
+        }
+    }
+
+    @Test
+    public void test_randomAccess() {
+        Random random = new Random(1);
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 1000; i++) {
+            sb.append(random.nextInt(4) == 0 ? PARTS[random.nextInt(PARTS.length)] : "x");
+        }
+
+        String expected = sb.toString();
+        ByteBufferCharSequence chars = ByteBufferCharSequence.of(ByteBuffer.wrap(expected.getBytes(StandardCharsets.UTF_8)));
+
+        for (int i = expected.length(); i-- > 0; ) {
+            assertEquals("at " + i, expected.charAt(i), chars.charAt(i));
+        }
+
+        for (int i = 0; i < 5000; i++) {
+            int index = random.nextInt(expected.length());
+            assertEquals("at " + index, expected.charAt(index), chars.charAt(index));
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.vladsch.flexmark.util.sequence;
+
+import org.junit.Test;
+
+import java.util.Random;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+public class EscapingTest {
+    final private static String[] PARTS = { "a", "B", " ", "  ", "\t", "\n", "&", "<", ">", "\"", "&amp;", "&#x26;", "&#38;", "&AMP;", "&a;", "%", "%2", "%2F", "%zz", "[", "é", "\\", "/", ":" };
+    final private static Pattern XML_SPECIAL_OR_ENTITY = Pattern.compile("&(?:#x[a-f0-9]{1,8}|#[0-9]{1,8}|[a-z][a-z0-9]{1,31});|[&<>\"]", Pattern.CASE_INSENSITIVE);
+
+    // regex based escaping used before the fast paths
+    private static String regexEscapeHtml(String s, boolean preserveEntities) {
+        Matcher matcher = preserveEntities ? XML_SPECIAL_OR_ENTITY.matcher(s) : Pattern.compile("[&<>\"]").matcher(s);
+        StringBuilder sb = new StringBuilder();
+        int lastEnd = 0;
+        while (matcher.find()) {
+            sb.append(s, lastEnd, matcher.start());
+            String m = matcher.group();
+            sb.append(m.equals("&") ? "&amp;" : m.equals("<") ? "&lt;" : m.equals(">") ? "&gt;" : m.equals("\"") ? "&quot;" : m);
+            lastEnd = matcher.end();
+        }
+        return sb.append(s, lastEnd, s.length()).toString();
+    }
+
+    private static String randomText(Random random) {
+        StringBuilder sb = new StringBuilder();
+        int length = random.nextInt(12);
+        for (int j = 0; j < length; j++) {
+            sb.append(random.nextInt(3) == 0 ? PARTS[random.nextInt(PARTS.length)] : "x");
+        }
+        return sb.toString();
+    }
+
+    private static void assertMapped(String expected, ReplacedTextMapper textMapper, BasedSequence replaced) {
+        assertEquals(expected, replaced.toString());
+        assertEquals(expected, textMapper.getReplacedSequence().toString());
+        assertEquals(expected.length(), textMapper.getReplacedLength());
+    }
+
+    @Test
+    public void test_noChangeReturnsSame() {
+        BasedSequence sequence = BasedSequence.of("plain text");
+        assertSame(sequence, Escaping.escapeHtml(sequence, false, new ReplacedTextMapper(sequence)));
+        BasedSequence url = BasedSequence.of("http://a.b/c?d=e&f#g");
+        assertSame(url, Escaping.percentEncodeUrl(url, new ReplacedTextMapper(url)));
+        assertSame(url, Escaping.percentDecodeUrl(url, new ReplacedTextMapper(url)));
+        assertEquals("a b", Escaping.normalizeReference("a b", true));
+        assertEquals("a b", Escaping.normalizeReference(" A \t b ", true));
+        assertEquals("A b", Escaping.normalizeReference("A\nb", false));
+
+        assertSame(sequence, Escaping.escapeHtmlSequence(sequence, true));
+        assertSame(sequence, Escaping.unescapeSequence(sequence));
+        assertSame(url, Escaping.percentEncodeUrlSequence(url));
+        assertSame(url, Escaping.percentDecodeUrlSequence(url));
+        BasedSequence reference = BasedSequence.of("a b");
+        assertSame(reference, Escaping.normalizeReferenceSequence(reference, true));
+    }
+
+    @Test
+    public void test_escapeHtml() {
+        assertEquals("&lt;a href=&quot;x&quot;&gt;&amp;&amp;copy;", Escaping.escapeHtml("<a href=\"x\">&&copy;", false));
+        assertEquals("&lt;a href=&quot;x&quot;&gt;&amp;&copy;", Escaping.escapeHtml("<a href=\"x\">&&copy;", true));
+        assertEquals("&AMP;&amp;x;", Escaping.escapeHtml("&AMP;&x;", true));
+    }
+
+    @Test
+    public void test_percentEncodeUrl() {
+        assertEquals("http://a.b/c?d=e&f#g", Escaping.percentEncodeUrl("http://a.b/c?d=e&f#g"));
+        assertEquals("a%20b%5B%5D%25%2F%C3%A9", Escaping.percentEncodeUrl("a b[]%%2F\u00e9"));
+        assertEquals("a/b c", Escaping.percentDecodeUrl("a%2Fb%20c"));
+    }
+
+    @Test
+    public void test_random() {
+        Random random = new Random(1);
+
+        for (int i = 0; i < 5000; i++) {
+            String text = randomText(random);
+            BasedSequence sequence = BasedSequence.of(text);
+
+            for (boolean preserveEntities : new boolean[] { false, true }) {
+                String expected = regexEscapeHtml(text, preserveEntities);
+                assertEquals(text, expected, Escaping.escapeHtml(text, preserveEntities));
+
+                ReplacedTextMapper textMapper = new ReplacedTextMapper(sequence);
+                assertMapped(expected, textMapper, Escaping.escapeHtml(sequence, preserveEntities, textMapper));
+            }
+
+            ReplacedTextMapper textMapper = new ReplacedTextMapper(sequence);
+            assertMapped(Escaping.percentEncodeUrl(text), textMapper, Escaping.percentEncodeUrl(sequence, textMapper));
+            textMapper = new ReplacedTextMapper(sequence);
+            assertMapped(Escaping.percentDecodeUrl(text), textMapper, Escaping.percentDecodeUrl(sequence, textMapper));
+
+            assertEquals(text, Escaping.escapeHtml(text, false), Escaping.escapeHtmlSequence(sequence, false).toString());
+            assertEquals(text, Escaping.unescapeString(text), Escaping.unescapeSequence(sequence).toString());
+            assertEquals(text, Escaping.percentEncodeUrl(text), Escaping.percentEncodeUrlSequence(sequence).toString());
+            assertEquals(text, Escaping.percentDecodeUrl(text), Escaping.percentDecodeUrlSequence(sequence).toString());
+            assertEquals(text, Escaping.normalizeReference(text, true), Escaping.normalizeReferenceSequence(sequence, true).toString());
+
+            String collapsed = Escaping.collapseWhitespace(text, true);
+            assertEquals(text, collapsed, Escaping.normalizeReference(text, false));
+            assertEquals(text, collapsed.toLowerCase(), Escaping.normalizeReference(text, true));
+        }
+    }
+}
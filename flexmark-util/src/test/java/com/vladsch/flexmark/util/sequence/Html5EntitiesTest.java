@@ -0,0 +1,72 @@
+package com.vladsch.flexmark.util.sequence;
+
+import org.junit.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class Html5EntitiesTest {
+    final private static String ENTITY_PATH = "/com/vladsch/flexmark/util/html/entities.properties";
+
+    private static Map<String, String> readEntities() throws IOException {
+        Map<String, String> entities = new HashMap<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(Html5EntitiesTest.class.getResourceAsStream(ENTITY_PATH), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isEmpty()) continue;
+                int equal = line.indexOf('=');
+                entities.put(line.substring(0, equal), line.substring(equal + 1));
+            }
+        }
+
+        // whitespace values are lost in the properties file
+        entities.put("NewLine", "\n");
+        entities.put("Tab", "\t");
+        return entities;
+    }
+
+    @Test
+    public void test_sameAsProperties() throws IOException {
+        Map<String, String> entities = readEntities();
+        assertEquals(entities.size(), Html5EntityTable.COUNT);
+
+        for (Map.Entry<String, String> entry : entities.entrySet()) {
+            String name = entry.getKey();
+            assertEquals(name, entry.getValue(), Html5Entities.namedEntity(name, 0, name.length()));
+            assertEquals(name, entry.getValue(), Html5Entities.entityToString("&" + name + ";"));
+        }
+    }
+
+    @Test
+    public void test_named() {
+        BasedSequence sequence = BasedSequence.of("a &amp; &copy b &nbsp;&Amp;&ampx;");
+        assertEquals("&", Html5Entities.namedEntity(sequence, 3, 6));
+        assertEquals("&", Html5Entities.entityToSequence(sequence.subSequence(2, 7)).toString());
+        assertEquals(" ", Html5Entities.entityToString(sequence, 16, 22));
+        assertEquals("&Amp;", Html5Entities.entityToString(sequence, 22, 27));
+        assertEquals("&ampx;", Html5Entities.entityToString(sequence, 27, 33));
+        assertNull(Html5Entities.namedEntity(sequence, 0, 0));
+        assertNull(Html5Entities.namedEntity("zzzz", 0, 4));
+        assertEquals("𝔄", Html5Entities.entityToString("&Afr;"));
+    }
+
+    @Test
+    public void test_numeric() {
+        assertEquals("A", Html5Entities.entityToString("&#65;"));
+        assertEquals("A", Html5Entities.entityToString("&#x41;"));
+        assertEquals("A", Html5Entities.entityToString("&#X41;"));
+        assertEquals("😀", Html5Entities.entityToString("&#x1F600;"));
+        assertEquals("�", Html5Entities.entityToString("&#0;"));
+        assertEquals("�", Html5Entities.entityToString("&#x;"));
+        assertEquals("�", Html5Entities.entityToString("&#x110000;"));
+        assertEquals("�", Html5Entities.entityToString("&#99999999;"));
+        assertEquals("A", Html5Entities.entityToSequence(BasedSequence.of("&#65;")).toString());
+    }
+}
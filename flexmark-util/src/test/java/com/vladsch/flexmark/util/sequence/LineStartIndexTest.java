@@ -0,0 +1,98 @@
+package com.vladsch.flexmark.util.sequence;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+public class LineStartIndexTest {
+    final private static String CHARS = "ab \r\n";
+
+    private static void assertSameAsScan(String text) {
+        BasedSequence sequence = BasedSequence.of(text);
+        LineStartIndex index = sequence.getBaseLineStartIndex();
+        String message = sequence.toVisibleWhitespaceString();
+
+        for (int i = 0; i <= text.length(); i++) {
+            assertEquals(message + " at " + i, SequenceUtils.lineColumnAtIndex(sequence, i), index.lineColumnAtIndex(i));
+            assertEquals(message + " at " + i, SequenceUtils.startOfLine(sequence, i), index.startOfLine(i));
+            assertEquals(message + " at " + i, SequenceUtils.endOfLine(sequence, i), index.endOfLine(i));
+        }
+    }
+
+    @Test
+    public void test_basic() {
+        LineStartIndex index = BasedSequence.of("line 1\nline 2\r\nline 3\rline 4").getBaseLineStartIndex();
+        assertEquals(4, index.getLineCount());
+        assertEquals(0, index.getLineStart(0));
+        assertEquals(7, index.getLineStart(1));
+        assertEquals(15, index.getLineStart(2));
+        assertEquals(22, index.getLineStart(3));
+
+        assertEquals(0, index.getLineNumber(6));
+        assertEquals(1, index.getLineNumber(7));
+        assertEquals(1, index.getLineNumber(14));
+        assertEquals(2, index.getLineNumber(15));
+        assertEquals(3, index.getLineNumber(22));
+    }
+
+    @Test
+    public void test_shared() {
+        BasedSequence sequence = BasedSequence.of("line 1\nline 2\n");
+        LineStartIndex index = sequence.getBaseLineStartIndex();
+        assertEquals(index, sequence.subSequence(7, 10).getBaseLineStartIndex());
+        assertEquals(index, PrefixedSubSequence.prefixOf("> ", sequence.subSequence(7)).getBaseLineStartIndex());
+        assertEquals(7, sequence.subSequence(9, 10).baseStartOfLine());
+        assertEquals(13, sequence.subSequence(9, 10).baseEndOfLine());
+    }
+
+    @Test
+    public void test_edges() {
+        assertSameAsScan("");
+        assertSameAsScan("\n");
+        assertSameAsScan("\r");
+        assertSameAsScan("\r\n");
+        assertSameAsScan("\n\r");
+        assertSameAsScan("a\r\r\nb\n\n");
+    }
+
+    @Test
+    public void test_random() {
+        Random random = new Random(1);
+        StringBuilder sb = new StringBuilder();
+
+        for (int i = 0; i < 2000; i++) {
+            sb.setLength(0);
+            int length = random.nextInt(20);
+            for (int j = 0; j < length; j++) {
+                sb.append(CHARS.charAt(random.nextInt(CHARS.length())));
+            }
+            assertSameAsScan(sb.toString());
+        }
+    }
+
+    @Test
+    public void test_chunkBoundaries() {
+        // CR LF split between chunks and line breaks on either side of a chunk boundary
+        for (int offset = -2; offset <= 1; offset++) {
+            StringBuilder sb = new StringBuilder();
+            for (int i = 0; i < SequenceUtils.CHUNK_SIZE + offset; i++) sb.append('a');
+            assertSameAsScan(sb + "\r\nb");
+            assertSameAsScan(sb + "\r");
+            assertSameAsScan(sb + "\n\r\n");
+            assertSameAsScan(sb + "\r\n" + sb + "\r\n" + sb);
+        }
+
+        Random random = new Random(1);
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 50; i++) {
+            sb.setLength(0);
+            int length = SequenceUtils.CHUNK_SIZE * 2 + random.nextInt(SequenceUtils.CHUNK_SIZE);
+            for (int j = 0; j < length; j++) {
+                sb.append(CHARS.charAt(random.nextInt(CHARS.length())));
+            }
+            assertSameAsScan(sb.toString());
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.vladsch.flexmark.util.sequence;
+
+import com.vladsch.flexmark.util.sequence.builder.BasedSegmentBuilder;
+import com.vladsch.flexmark.util.sequence.builder.SequenceBuilder;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class SegmentedSequenceRangesTest {
+    private static BasedSequence build(BasedSequence base, int[] ranges) {
+        SequenceBuilder builder = base.getBuilder();
+        for (int i = 0; i < ranges.length; i += 2) {
+            builder.append(base.subSequence(ranges[i], ranges[i + 1]));
+        }
+        return builder.toSequence();
+    }
+
+    private static String segments(BasedSequence sequence) {
+        BasedSegmentBuilder builder = BasedSegmentBuilder.emptyBuilder(sequence.getBaseSequence());
+        sequence.addSegments(builder);
+        return builder.toStringWithRanges(sequence.getBaseSequence());
+    }
+
+    private static void assertSameAsTree(String message, BasedSequence expected, BasedSequence actual) {
+        assertEquals(message, expected.toString(), actual.toString());
+        assertEquals(message, expected.getStartOffset(), actual.getStartOffset());
+        assertEquals(message, expected.getEndOffset(), actual.getEndOffset());
+        assertEquals(message, segments(expected), segments(actual));
+
+        // tree based sequence cannot give end offset of empty sequence
+        int iMax = expected.isEmpty() ? -1 : expected.length();
+        for (int i = 0; i <= iMax; i++) {
+            assertEquals(message + " at " + i, expected.getIndexOffset(i), actual.getIndexOffset(i));
+        }
+    }
+
+    @Test
+    public void test_basic() {
+        BasedSequence base = BasedSequence.of("0123456789");
+        BasedSequence sequence = build(base, new int[] { 0, 2, 4, 6, 8, 10 });
+
+        assertTrue(sequence instanceof SegmentedSequenceRanges);
+        assertEquals("014589", sequence.toString());
+        assertEquals(Range.of(0, 10), sequence.getSourceRange());
+        assertEquals(4, sequence.getIndexOffset(2));
+        assertEquals("45", sequence.subSequence(2, 4).toString());
+        assertEquals(Range.of(4, 6), sequence.subSequence(2, 4).getSourceRange());
+        assertEquals("1458", sequence.subSequence(1, 5).toString());
+        assertEquals(Range.of(1, 9), sequence.subSequence(1, 5).getSourceRange());
+    }
+
+    @Test
+    public void test_textUsesTree() {
+        BasedSequence base = BasedSequence.of("0123456789");
+        BasedSequence sequence = base.getBuilder().append(base.subSequence(0, 2)).append("-").append(base.subSequence(4, 6)).toSequence();
+        assertTrue(sequence instanceof SegmentedSequenceTree);
+    }
+
+    @Test
+    public void test_random() {
+        Random random = new Random(1);
+        String text = "0123456789abcdefghijklmnopqrstuvwxyz";
+        BasedSequence base = BasedSequence.of(text);
+        BasedSequence treeBase = BasedSequence.of(BasedOptionsSequence.of(text, BasedSequence.F_TREE_SEGMENTED_SEQUENCES));
+
+        for (int n = 0; n < 300; n++) {
+            int count = 2 + random.nextInt(SegmentedSequenceRanges.MAX_RANGES - 1);
+            int[] ranges = new int[count * 2];
+            int offset = 0;
+            for (int i = 0; i < count * 2; i += 2) {
+                // ranges separated by at least one char so they are not merged
+                ranges[i] = offset + 1 + random.nextInt(2);
+                ranges[i + 1] = ranges[i] + 1 + random.nextInt(3);
+                offset = ranges[i + 1];
+            }
+
+            BasedSequence sequence = build(base, ranges);
+            BasedSequence tree = build(treeBase, ranges);
+            assertTrue(sequence instanceof SegmentedSequenceRanges);
+            assertSameAsTree(sequence.toString(), tree, sequence);
+
+            int length = sequence.length();
+            for (int i = 0; i <= length; i++) {
+                for (int j = i; j <= length; j++) {
+                    String message = sequence + "[" + i + ", " + j + ")";
+                    BasedSequence subSequence = sequence.subSequence(i, j);
+                    assertSameAsTree(message, tree.subSequence(i, j), subSequence);
+
+                    if (j - i > 1) {
+                        assertSameAsTree(message + "[1, " + (j - i - 1) + ")", tree.subSequence(i, j).subSequence(1, j - i - 1), subSequence.subSequence(1, j - i - 1));
+                    }
+                }
+            }
+        }
+    }
+}
@@ -10,6 +10,7 @@ import org.junit.Test;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import static org.junit.Assert.*;
 
@@ -1626,4 +1627,52 @@ public class SegmentedSequenceTreeTest {
         SequenceBuilder appendedSubBuilder = sequence.getBuilder().append(appendedSub);
         assertEquals("⟦⟧> ⟦[simLink⟧ ⟦spaced](simLink.md)⟧", appendedSubBuilder.toStringWithRanges(true));
     }
+
+    @Test
+    public void test_cursor() {
+        BasedSequence sequence = basedSequenceOf("0123456789");
+        BasedSequence segmented = sequence.getBuilder().append(sequence.subSequence(0, 3)).append("-").append(sequence.subSequence(5, 8)).append("+").toSequence();
+        assertTrue(segmented instanceof SegmentedSequenceTree);
+
+        CharSequence cursor = SequenceUtils.charCursor(segmented);
+        assertEquals(segmented.length(), cursor.length());
+        for (int i = segmented.length(); i-- > 0; ) {
+            assertEquals(segmented.charAt(i), cursor.charAt(i));
+        }
+        assertEquals("012-567+", cursor.toString());
+        assertEquals("-56", cursor.subSequence(3, 6).toString());
+        assertEquals(4, segmented.indexOf('5'));
+        assertEquals(7, segmented.lastIndexOfAny(CharPredicate.anyOf('+', '-')));
+        assertSame(sequence, SequenceUtils.charCursor(sequence));
+    }
+
+    @Test
+    public void test_concurrentAccess() throws InterruptedException {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 100; i++) sb.append("line ").append(i).append('\n');
+        BasedSequence sequence = basedSequenceOf(sb);
+        SequenceBuilder builder = sequence.getBuilder();
+        for (BasedSequence line : sequence.splitListEOL()) {
+            builder.append(line.subSequence(1)).append(">");
+        }
+        BasedSequence segmented = builder.toSequence();
+        String expected = segmented.toString();
+
+        AtomicBoolean failed = new AtomicBoolean();
+        Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++) {
+            int step = t + 1;
+            threads[t] = new Thread(() -> {
+                for (int n = 0; n < 20; n++) {
+                    for (int i = (n * step) % expected.length(); i < expected.length(); i += step) {
+                        if (segmented.charAt(i) != expected.charAt(i)) failed.set(true);
+                    }
+                }
+            });
+            threads[t].start();
+        }
+
+        for (Thread thread : threads) thread.join();
+        assertFalse(failed.get());
+    }
 }
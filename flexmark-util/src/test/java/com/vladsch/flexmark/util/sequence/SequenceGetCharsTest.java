@@ -0,0 +1,128 @@
+package com.vladsch.flexmark.util.sequence;
+
+import com.vladsch.flexmark.util.misc.CharPredicate;
+import com.vladsch.flexmark.util.sequence.mappers.SpaceMapper;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+public class SequenceGetCharsTest {
+    final private static String CHARS = "ab \n\t\0";
+
+    private static String randomText(Random random, int length) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            sb.append(CHARS.charAt(random.nextInt(CHARS.length())));
+        }
+        return sb.toString();
+    }
+
+    private static List<CharSequence> sequences(Random random, String text) {
+        List<CharSequence> sequences = new ArrayList<>();
+        BasedSequence based = BasedSequence.of(text);
+        BasedSequence treeBased = BasedSequence.of(BasedOptionsSequence.of(text, BasedSequence.F_TREE_SEGMENTED_SEQUENCES));
+        int length = text.length();
+
+        sequences.add(based);
+        sequences.add(BasedSequence.of(new StringBuilder(text)));
+        sequences.add(CharSubSequence.of(text.toCharArray(), 0, length));
+        sequences.add(RichSequence.of(text));
+        sequences.add(based.subSequence(length / 3));
+        sequences.add(PrefixedSubSequence.prefixOf("> \0", based.subSequence(1)));
+        sequences.add(based.toMapped(SpaceMapper.toNonBreakSpace));
+        sequences.add(RichSequence.of(text).toMapped(SpaceMapper.toNonBreakSpace));
+
+        for (BasedSequence base : new BasedSequence[] { based, treeBased }) {
+            // ranges with and without inserted text
+            int split = 1 + random.nextInt(length - 2);
+            sequences.add(base.getBuilder().append(base.subSequence(0, split)).append(base.subSequence(split + 1)).toSequence());
+            sequences.add(base.getBuilder().append(base.subSequence(0, split)).append("-\0-").append(base.subSequence(split + 1)).toSequence());
+            sequences.add(base.getBuilder().append(base.subSequence(0, split)).append("-\0-").append(base.subSequence(split + 1)).toSequence().subSequence(1, length));
+        }
+        return sequences;
+    }
+
+    @Test
+    public void test_getChars() {
+        Random random = new Random(1);
+
+        for (int n = 0; n < 200; n++) {
+            String text = randomText(random, 3 + random.nextInt(600));
+
+            for (CharSequence chars : sequences(random, text)) {
+                int length = chars.length();
+                int start = random.nextInt(length + 1);
+                int end = start + random.nextInt(length - start + 1);
+
+                char[] expected = new char[end - start + 2];
+                char[] actual = new char[end - start + 2];
+                for (int i = start; i < end; i++) expected[i - start + 1] = chars.charAt(i);
+                SequenceUtils.getChars(chars, start, end, actual, 1);
+                assertArrayEquals(chars.getClass().getSimpleName(), expected, actual);
+            }
+        }
+    }
+
+    @Test
+    public void test_chunkScans() {
+        Random random = new Random(1);
+        CharPredicate predicate = CharPredicate.anyOf('\t', '\n');
+
+        for (int n = 0; n < 200; n++) {
+            String text = randomText(random, 3 + random.nextInt(600));
+
+            for (CharSequence chars : sequences(random, text)) {
+                String string = chars.toString();
+                String message = chars.getClass().getSimpleName();
+                int length = string.length();
+                int from = random.nextInt(length + 1);
+                char c = CHARS.charAt(random.nextInt(CHARS.length() - 1));
+
+                assertEquals(message, SequenceUtils.indexOf(string, c, from, length), SequenceUtils.indexOf(chars, c, from, length));
+                assertEquals(message, SequenceUtils.indexOfNot(string, c, from, length), SequenceUtils.indexOfNot(chars, c, from, length));
+                assertEquals(message, SequenceUtils.indexOfAny(string, predicate, from, length), SequenceUtils.indexOfAny(chars, predicate, from, length));
+                assertEquals(message, SequenceUtils.lastIndexOf(string, c, 0, from), SequenceUtils.lastIndexOf(chars, c, 0, from));
+                assertEquals(message, SequenceUtils.lastIndexOfNot(string, c, 0, from), SequenceUtils.lastIndexOfNot(chars, c, 0, from));
+                assertEquals(message, SequenceUtils.lastIndexOfAny(string, predicate, 0, from), SequenceUtils.lastIndexOfAny(chars, predicate, 0, from));
+                assertEquals(message, string.hashCode(), SequenceUtils.hashCode(chars));
+                assertEquals(message, from, SequenceUtils.matchedCharCount(chars, string.substring(0, from) + "\u0001", 0, false));
+                assertEquals(message, true, SequenceUtils.equals(chars, new StringBuilder(string)));
+            }
+        }
+    }
+
+    @Test
+    public void test_chunkScansLongRanges() {
+        Random random = new Random(1);
+        CharPredicate predicate = CharPredicate.anyOf('x', '-');
+
+        for (int n = 0; n < 200; n++) {
+            // searches which do not match within the chars tested with charAt() continue in chunks
+            String text = RepeatedSequence.repeatOf('a', 1 + random.nextInt(700)) + "x" + RepeatedSequence.repeatOf('a', 1 + random.nextInt(700));
+
+            for (CharSequence chars : sequences(random, text)) {
+                String string = chars.toString();
+                String message = chars.getClass().getSimpleName();
+                int length = string.length();
+                int from = random.nextInt(length + 1);
+
+                assertEquals(message, SequenceUtils.indexOf(string, 'x', from, length), SequenceUtils.indexOf(chars, 'x', from, length));
+                assertEquals(message, SequenceUtils.indexOfNot(string, 'a', from, length), SequenceUtils.indexOfNot(chars, 'a', from, length));
+                assertEquals(message, SequenceUtils.indexOfAny(string, predicate, from, length), SequenceUtils.indexOfAny(chars, predicate, from, length));
+                assertEquals(message, SequenceUtils.lastIndexOf(string, 'x', 0, from), SequenceUtils.lastIndexOf(chars, 'x', 0, from));
+                assertEquals(message, SequenceUtils.lastIndexOfNot(string, 'a', 0, from), SequenceUtils.lastIndexOfNot(chars, 'a', 0, from));
+                assertEquals(message, SequenceUtils.lastIndexOfAny(string, predicate, 0, from), SequenceUtils.lastIndexOfAny(chars, predicate, 0, from));
+
+                // matches longer than the chars tested with charAt() continue in chunks
+                assertEquals(message, string.hashCode(), SequenceUtils.hashCode(chars));
+                assertEquals(message, from, SequenceUtils.matchedCharCount(chars, string.substring(0, from) + "\u0001", 0, false));
+                assertEquals(message, true, SequenceUtils.equals(chars, new StringBuilder(string)));
+            }
+        }
+    }
+}
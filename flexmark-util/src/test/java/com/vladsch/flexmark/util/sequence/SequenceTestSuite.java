@@ -32,6 +32,12 @@ import org.junit.runners.Suite;
         SegmentOffsetTreeTest.class,
         BasedOffsetTrackerTest.class,
         LineAppendableImplTest.class,
+        LineStartIndexTest.class,
+        ByteBufferCharSequenceTest.class,
+        EscapingTest.class,
+        Html5EntitiesTest.class,
+        SegmentedSequenceRangesTest.class,
+        SequenceGetCharsTest.class,
 })
 public class SequenceTestSuite {
 }
@@ -8,6 +8,7 @@ import com.vladsch.flexmark.util.sequence.BasedSequence;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.List;
+import java.util.function.UnaryOperator;
 
 public class BlockQuote extends Block implements BlockQuoteLike, KeepTrailingBlankLineContainer {
     private BasedSequence openingMarker = BasedSequence.NULL;
@@ -17,6 +18,12 @@ public class BlockQuote extends Block implements BlockQuoteLike, KeepTrailingBla
         segmentSpanChars(out, openingMarker, "marker");
     }
 
+    @Override
+    public void mapSequences(@NotNull UnaryOperator<BasedSequence> mapper) {
+        super.mapSequences(mapper);
+        openingMarker = mapper.apply(openingMarker);
+    }
+
     @NotNull
     @Override
     public BasedSequence[] getSegments() {
@@ -4,6 +4,8 @@ import com.vladsch.flexmark.util.sequence.BasedSequence;
 import com.vladsch.flexmark.util.sequence.BasedSequenceImpl;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.function.UnaryOperator;
+
 public class DelimitedLinkNode extends LinkNode {
 
     public DelimitedLinkNode() {
@@ -17,6 +19,14 @@ public class DelimitedLinkNode extends LinkNode {
     protected BasedSequence text = BasedSequence.NULL;
     protected BasedSequence closingMarker = BasedSequence.NULL;
 
+    @Override
+    public void mapSequences(@NotNull UnaryOperator<BasedSequence> mapper) {
+        super.mapSequences(mapper);
+        openingMarker = mapper.apply(openingMarker);
+        text = mapper.apply(text);
+        closingMarker = mapper.apply(closingMarker);
+    }
+
     @NotNull
     @Override
     public BasedSequence[] getSegments() {
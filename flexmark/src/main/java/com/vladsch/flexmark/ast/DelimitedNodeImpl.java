@@ -5,6 +5,8 @@ import com.vladsch.flexmark.util.ast.Node;
 import com.vladsch.flexmark.util.sequence.BasedSequence;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.function.UnaryOperator;
+
 public abstract class DelimitedNodeImpl extends Node implements DelimitedNode {
     protected BasedSequence openingMarker = BasedSequence.NULL;
     protected BasedSequence text = BasedSequence.NULL;
@@ -15,6 +17,14 @@ public abstract class DelimitedNodeImpl extends Node implements DelimitedNode {
         delimitedSegmentSpanChars(out, openingMarker, text, closingMarker, "text");
     }
 
+    @Override
+    public void mapSequences(@NotNull UnaryOperator<BasedSequence> mapper) {
+        super.mapSequences(mapper);
+        openingMarker = mapper.apply(openingMarker);
+        text = mapper.apply(text);
+        closingMarker = mapper.apply(closingMarker);
+    }
+
     @NotNull
     @Override
     public BasedSequence[] getSegments() {
@@ -7,6 +7,7 @@ import com.vladsch.flexmark.util.sequence.BasedSequence;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.List;
+import java.util.function.UnaryOperator;
 
 public class FencedCodeBlock extends Block implements DoNotDecorate {
     private int fenceIndent;
@@ -27,6 +28,15 @@ public class FencedCodeBlock extends Block implements DoNotDecorate {
         segmentSpanChars(out, closingMarker, "close");
     }
 
+    @Override
+    public void mapSequences(@NotNull UnaryOperator<BasedSequence> mapper) {
+        super.mapSequences(mapper);
+        openingMarker = mapper.apply(openingMarker);
+        info = mapper.apply(info);
+        attributes = mapper.apply(attributes);
+        closingMarker = mapper.apply(closingMarker);
+    }
+
     @NotNull
     @Override
     public BasedSequence[] getSegments() {
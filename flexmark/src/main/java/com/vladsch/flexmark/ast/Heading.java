@@ -9,6 +9,7 @@ import com.vladsch.flexmark.util.sequence.BasedSequence;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.List;
+import java.util.function.UnaryOperator;
 
 public class Heading extends Block implements AnchorRefTarget {
     protected int level;
@@ -23,6 +24,14 @@ public class Heading extends Block implements AnchorRefTarget {
         delimitedSegmentSpanChars(out, openingMarker, text, closingMarker, "text");
     }
 
+    @Override
+    public void mapSequences(@NotNull UnaryOperator<BasedSequence> mapper) {
+        super.mapSequences(mapper);
+        openingMarker = mapper.apply(openingMarker);
+        text = mapper.apply(text);
+        closingMarker = mapper.apply(closingMarker);
+    }
+
     @NotNull
     @Override
     public BasedSequence[] getSegments() {
@@ -3,9 +3,17 @@ package com.vladsch.flexmark.ast;
 import com.vladsch.flexmark.util.sequence.BasedSequence;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.function.UnaryOperator;
+
 public class Image extends InlineLinkNode {
     private BasedSequence urlContent = BasedSequence.NULL;
 
+    @Override
+    public void mapSequences(@NotNull UnaryOperator<BasedSequence> mapper) {
+        super.mapSequences(mapper);
+        urlContent = mapper.apply(urlContent);
+    }
+
     @NotNull
     @Override
     public BasedSequence[] getSegments() {
@@ -3,6 +3,8 @@ package com.vladsch.flexmark.ast;
 import com.vladsch.flexmark.util.sequence.BasedSequence;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.function.UnaryOperator;
+
 public abstract class InlineLinkNode extends LinkNode {
     protected BasedSequence textOpeningMarker = BasedSequence.NULL;
     protected BasedSequence text = BasedSequence.NULL;
@@ -10,6 +12,16 @@ public abstract class InlineLinkNode extends LinkNode {
     protected BasedSequence linkOpeningMarker = BasedSequence.NULL;
     protected BasedSequence linkClosingMarker = BasedSequence.NULL;
 
+    @Override
+    public void mapSequences(@NotNull UnaryOperator<BasedSequence> mapper) {
+        super.mapSequences(mapper);
+        textOpeningMarker = mapper.apply(textOpeningMarker);
+        text = mapper.apply(text);
+        textClosingMarker = mapper.apply(textClosingMarker);
+        linkOpeningMarker = mapper.apply(linkOpeningMarker);
+        linkClosingMarker = mapper.apply(linkClosingMarker);
+    }
+
     @NotNull
     @Override
     public BasedSequence[] getSegments() {
@@ -2,6 +2,9 @@ package com.vladsch.flexmark.ast;
 
 import com.vladsch.flexmark.util.ast.Node;
 import com.vladsch.flexmark.util.sequence.BasedSequence;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.function.UnaryOperator;
 
 public abstract class LinkNodeBase extends Node {
     protected BasedSequence urlOpeningMarker = BasedSequence.NULL;
@@ -21,6 +24,20 @@ public abstract class LinkNodeBase extends Node {
         super(chars);
     }
 
+    @Override
+    public void mapSequences(@NotNull UnaryOperator<BasedSequence> mapper) {
+        super.mapSequences(mapper);
+        urlOpeningMarker = mapper.apply(urlOpeningMarker);
+        url = mapper.apply(url);
+        pageRef = mapper.apply(pageRef);
+        anchorMarker = mapper.apply(anchorMarker);
+        anchorRef = mapper.apply(anchorRef);
+        urlClosingMarker = mapper.apply(urlClosingMarker);
+        titleOpeningMarker = mapper.apply(titleOpeningMarker);
+        title = mapper.apply(title);
+        titleClosingMarker = mapper.apply(titleClosingMarker);
+    }
+
     public void setTitleChars(BasedSequence titleChars) {
         if (titleChars != null && titleChars != BasedSequence.NULL) {
             int titleCharsLength = titleChars.length();
@@ -10,6 +10,7 @@ import com.vladsch.flexmark.util.sequence.BasedSequence;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.List;
+import java.util.function.UnaryOperator;
 
 public abstract class ListItem extends Block implements ParagraphItemContainer, BlankLineContainer, ParagraphContainer {
     protected BasedSequence openingMarker = BasedSequence.NULL;
@@ -60,6 +61,13 @@ public abstract class ListItem extends Block implements ParagraphItemContainer,
         else if (isContainsBlankLine()) out.append(" hadBlankLine");
     }
 
+    @Override
+    public void mapSequences(@NotNull UnaryOperator<BasedSequence> mapper) {
+        super.mapSequences(mapper);
+        openingMarker = mapper.apply(openingMarker);
+        markerSuffix = mapper.apply(markerSuffix);
+    }
+
     @NotNull
     @Override
     public BasedSequence[] getSegments() {
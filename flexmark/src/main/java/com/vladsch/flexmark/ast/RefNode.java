@@ -10,6 +10,8 @@ import com.vladsch.flexmark.util.sequence.ReplacedTextMapper;
 import com.vladsch.flexmark.util.sequence.builder.ISequenceBuilder;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.function.UnaryOperator;
+
 public abstract class RefNode extends Node implements LinkRefDerived, ReferencingNode<ReferenceRepository, Reference>, DoNotLinkDecorate, TextContainer {
     protected BasedSequence textOpeningMarker = BasedSequence.NULL;
     protected BasedSequence text = BasedSequence.NULL;
@@ -19,6 +21,17 @@ public abstract class RefNode extends Node implements LinkRefDerived, Referencin
     protected BasedSequence referenceClosingMarker = BasedSequence.NULL;
     protected boolean isDefined = false;
 
+    @Override
+    public void mapSequences(@NotNull UnaryOperator<BasedSequence> mapper) {
+        super.mapSequences(mapper);
+        textOpeningMarker = mapper.apply(textOpeningMarker);
+        text = mapper.apply(text);
+        textClosingMarker = mapper.apply(textClosingMarker);
+        referenceOpeningMarker = mapper.apply(referenceOpeningMarker);
+        reference = mapper.apply(reference);
+        referenceClosingMarker = mapper.apply(referenceClosingMarker);
+    }
+
     @NotNull
     @Override
     public BasedSequence[] getSegments() {
@@ -80,6 +80,13 @@ public class ClassifyingBlockTracker implements BlockTracker, BlockParserTracker
         return nodeClassifier;
     }
 
+    /**
+     * Remove all block parsers and blocks, also clears the node classifier
+     */
+    public void clear() {
+        allBlockParsersMap.clear();
+    }
+
     @Override
     public void blockParserAdded(BlockParser blockParser) {
         allBlockParsersMap.putKeyValue(blockParser, blockParser.getBlock());
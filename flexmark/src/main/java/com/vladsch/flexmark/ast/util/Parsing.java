@@ -2,9 +2,14 @@ package com.vladsch.flexmark.ast.util;
 
 import com.vladsch.flexmark.parser.Parser;
 import com.vladsch.flexmark.util.data.DataHolder;
+import com.vladsch.flexmark.util.data.DataSet;
+import com.vladsch.flexmark.util.data.MutableDataSet;
 import com.vladsch.flexmark.util.format.TableFormatOptions;
 import com.vladsch.flexmark.util.sequence.Escaping;
 
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.regex.Pattern;
 
 import static com.vladsch.flexmark.parser.Parser.*;
@@ -13,6 +18,16 @@ public class Parsing {
     final public static char INTELLIJ_DUMMY_IDENTIFIER_CHAR = TableFormatOptions.INTELLIJ_DUMMY_IDENTIFIER_CHAR;
     final public static String INTELLIJ_DUMMY_IDENTIFIER = TableFormatOptions.INTELLIJ_DUMMY_IDENTIFIER;
 
+    // instances with compiled patterns keyed by values of options which affect them, least recently used are dropped
+    // when there are more than MAX_SHARED
+    final private static int MAX_SHARED = 32;
+    final private static Map<DataSet, Parsing> SHARED = Collections.synchronizedMap(new LinkedHashMap<DataSet, Parsing>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<DataSet, Parsing> eldest) {
+            return size() > MAX_SHARED;
+        }
+    });
+
     // save options for others to use when only parsing instance is available
     final public DataHolder options;
 
@@ -93,6 +108,107 @@ public class Parsing {
     final public String REG_CHAR_PARENS;
     final public String REG_CHAR_SP_PARENS;
 
+    /**
+     * Get an instance for the options whose patterns are shared
+     * <p>
+     * Patterns are compiled once for each combination of values of options which affect them and shared by all instances
+     * with these values. The instance keeps the given options for extensions which read other options from it.
+     *
+     * @param options options
+     * @return instance with shared patterns
+     */
+    public static Parsing of(DataHolder options) {
+        DataSet patternOptions = new MutableDataSet()
+                .set(Parser.INTELLIJ_DUMMY_IDENTIFIER, Parser.INTELLIJ_DUMMY_IDENTIFIER.get(options))
+                .set(Parser.HTML_FOR_TRANSLATOR, Parser.HTML_FOR_TRANSLATOR.get(options))
+                .set(Parser.TRANSLATION_HTML_INLINE_TAG_PATTERN, Parser.TRANSLATION_HTML_INLINE_TAG_PATTERN.get(options))
+                .set(Parser.TRANSLATION_AUTOLINK_TAG_PATTERN, Parser.TRANSLATION_AUTOLINK_TAG_PATTERN.get(options))
+                .set(Parser.SPACE_IN_LINK_URLS, Parser.SPACE_IN_LINK_URLS.get(options))
+                .set(Parser.PARSE_JEKYLL_MACROS_IN_URLS, Parser.PARSE_JEKYLL_MACROS_IN_URLS.get(options))
+                .set(LISTS_ITEM_PREFIX_CHARS, LISTS_ITEM_PREFIX_CHARS.get(options))
+                .set(LISTS_ITEM_MARKER_SPACE, LISTS_ITEM_MARKER_SPACE.get(options))
+                .set(LISTS_ORDERED_ITEM_DOT_ONLY, LISTS_ORDERED_ITEM_DOT_ONLY.get(options))
+                .toImmutable();
+
+        return new Parsing(options, SHARED.computeIfAbsent(patternOptions, Parsing::new));
+    }
+
+    private Parsing(DataHolder options, Parsing patterns) {
+        this.options = options;
+        this.intellijDummyIdentifier = patterns.intellijDummyIdentifier;
+        this.htmlForTranslator = patterns.htmlForTranslator;
+        this.translationHtmlInlineTagPattern = patterns.translationHtmlInlineTagPattern;
+        this.translationAutolinkTagPattern = patterns.translationAutolinkTagPattern;
+
+        this.ADDITIONAL_CHARS = patterns.ADDITIONAL_CHARS;
+        this.EXCLUDED_0_TO_SPACE = patterns.EXCLUDED_0_TO_SPACE;
+        this.EOL = patterns.EOL;
+        this.ESCAPED_CHAR = patterns.ESCAPED_CHAR;
+        this.LINK_LABEL = patterns.LINK_LABEL;
+        this.LINK_DESTINATION_ANGLES = patterns.LINK_DESTINATION_ANGLES;
+        this.LINK_TITLE_STRING = patterns.LINK_TITLE_STRING;
+        this.LINK_TITLE = patterns.LINK_TITLE;
+        this.REG_CHAR = patterns.REG_CHAR;
+        this.REG_CHAR_SP = patterns.REG_CHAR_SP;
+        this.IN_PARENS_NOSP = patterns.IN_PARENS_NOSP;
+        this.IN_PARENS_W_SP = patterns.IN_PARENS_W_SP;
+        this.IN_BRACES_W_SP = patterns.IN_BRACES_W_SP;
+        this.LINK_DESTINATION = patterns.LINK_DESTINATION;
+        this.LINK_DESTINATION_MATCHED_PARENS = patterns.LINK_DESTINATION_MATCHED_PARENS;
+        this.LINK_DESTINATION_MATCHED_PARENS_NOSP = patterns.LINK_DESTINATION_MATCHED_PARENS_NOSP;
+        this.HTMLCOMMENT = patterns.HTMLCOMMENT;
+        this.PROCESSINGINSTRUCTION = patterns.PROCESSINGINSTRUCTION;
+        this.DECLARATION = patterns.DECLARATION;
+        this.CDATA = patterns.CDATA;
+        this.ENTITY = patterns.ENTITY;
+        this.ENTITY_HERE = patterns.ENTITY_HERE;
+        this.ASCII_PUNCTUATION = patterns.ASCII_PUNCTUATION;
+        this.ASCII_OPEN_PUNCTUATION = patterns.ASCII_OPEN_PUNCTUATION;
+        this.ASCII_CLOSE_PUNCTUATION = patterns.ASCII_CLOSE_PUNCTUATION;
+        this.PUNCTUATION = patterns.PUNCTUATION;
+        this.PUNCTUATION_OPEN = patterns.PUNCTUATION_OPEN;
+        this.PUNCTUATION_CLOSE = patterns.PUNCTUATION_CLOSE;
+        this.PUNCTUATION_ONLY = patterns.PUNCTUATION_ONLY;
+        this.PUNCTUATION_OPEN_ONLY = patterns.PUNCTUATION_OPEN_ONLY;
+        this.PUNCTUATION_CLOSE_ONLY = patterns.PUNCTUATION_CLOSE_ONLY;
+        this.ESCAPABLE = patterns.ESCAPABLE;
+        this.TICKS = patterns.TICKS;
+        this.TICKS_HERE = patterns.TICKS_HERE;
+        this.EMAIL_AUTOLINK = patterns.EMAIL_AUTOLINK;
+        this.AUTOLINK = patterns.AUTOLINK;
+        this.WWW_AUTOLINK = patterns.WWW_AUTOLINK;
+        this.SPNL = patterns.SPNL;
+        this.SPNL_URL = patterns.SPNL_URL;
+        this.SPNI = patterns.SPNI;
+        this.SP = patterns.SP;
+        this.REST_OF_LINE = patterns.REST_OF_LINE;
+        this.UNICODE_WHITESPACE_CHAR = patterns.UNICODE_WHITESPACE_CHAR;
+        this.WHITESPACE = patterns.WHITESPACE;
+        this.FINAL_SPACE = patterns.FINAL_SPACE;
+        this.LINE_END = patterns.LINE_END;
+        this.TAGNAME = patterns.TAGNAME;
+        this.ATTRIBUTENAME = patterns.ATTRIBUTENAME;
+        this.UNQUOTEDVALUE = patterns.UNQUOTEDVALUE;
+        this.SINGLEQUOTEDVALUE = patterns.SINGLEQUOTEDVALUE;
+        this.DOUBLEQUOTEDVALUE = patterns.DOUBLEQUOTEDVALUE;
+        this.ATTRIBUTEVALUE = patterns.ATTRIBUTEVALUE;
+        this.ATTRIBUTEVALUESPEC = patterns.ATTRIBUTEVALUESPEC;
+        this.ATTRIBUTE = patterns.ATTRIBUTE;
+        this.OPENTAG = patterns.OPENTAG;
+        this.CLOSETAG = patterns.CLOSETAG;
+        this.HTMLTAG = patterns.HTMLTAG;
+        this.HTML_TAG = patterns.HTML_TAG;
+        this.LIST_ITEM_MARKER = patterns.LIST_ITEM_MARKER;
+        this.INVALID_LINK_CHARS = patterns.INVALID_LINK_CHARS;
+        this.IN_MATCHED_PARENS_NOSP = patterns.IN_MATCHED_PARENS_NOSP;
+        this.IN_MATCHED_PARENS_W_SP = patterns.IN_MATCHED_PARENS_W_SP;
+        this.REG_CHAR_PARENS = patterns.REG_CHAR_PARENS;
+        this.REG_CHAR_SP_PARENS = patterns.REG_CHAR_SP_PARENS;
+
+        // make sure this is consistent with lists settings
+        this.CODE_BLOCK_INDENT = Parser.CODE_BLOCK_INDENT.get(options);
+    }
+
     public Parsing(DataHolder options) {
         this.options = options;
         this.intellijDummyIdentifier = Parser.INTELLIJ_DUMMY_IDENTIFIER.get(options);
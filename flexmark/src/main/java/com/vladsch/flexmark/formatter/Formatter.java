@@ -9,6 +9,7 @@ import com.vladsch.flexmark.parser.Parser;
 import com.vladsch.flexmark.parser.ParserEmulationProfile;
 import com.vladsch.flexmark.util.ast.*;
 import com.vladsch.flexmark.util.builder.BuilderBase;
+import com.vladsch.flexmark.util.collection.ClassIndexedMap;
 import com.vladsch.flexmark.util.collection.SubClassingBag;
 import com.vladsch.flexmark.util.data.*;
 import com.vladsch.flexmark.util.dependency.DependencyResolver;
@@ -173,7 +174,7 @@ public class Formatter implements IRender {
     final HeaderIdGeneratorFactory idGeneratorFactory;
 
     Formatter(Builder builder) {
-        this.options = builder.toImmutable();
+        this.options = new FrozenDataSet(builder);
         this.idGeneratorFactory = builder.htmlIdGeneratorFactory == null ? new HeaderIdGenerator.Factory() : builder.htmlIdGeneratorFactory;
 
         this.linkResolverFactories = DependencyResolver.resolveFlatDependencies(builder.linkResolverFactories, null, null);
@@ -546,7 +547,7 @@ public class Formatter implements IRender {
 
     private class MainNodeFormatter extends NodeFormatterSubContext {
         final private Document document;
-        final private Map<Class<?>, List<NodeFormattingHandler<?>>> renderers;
+        final private ClassIndexedMap<List<NodeFormattingHandler<?>>> renderers;
         final private SubClassingBag<Node> collectedNodes;
 
         final private List<PhasedNodeFormatter> phasedFormatters;
@@ -573,7 +574,7 @@ public class Formatter implements IRender {
             this.options = new ScopedDataSet(document, options);
             this.formatterOptions = new FormatterOptions(this.options);
             this.document = document;
-            this.renderers = new HashMap<>(32);
+            this.renderers = new ClassIndexedMap<>();
             this.renderingPhases = new HashSet<>(FormattingPhase.values().length);
             Set<Class<?>> collectNodeTypes = new HashSet<>(100);
 
@@ -7,6 +7,7 @@ import com.vladsch.flexmark.util.ast.Document;
 import com.vladsch.flexmark.util.ast.IRender;
 import com.vladsch.flexmark.util.ast.Node;
 import com.vladsch.flexmark.util.builder.BuilderBase;
+import com.vladsch.flexmark.util.collection.ClassIndexedMap;
 import com.vladsch.flexmark.util.data.*;
 import com.vladsch.flexmark.util.dependency.DependencyResolver;
 import com.vladsch.flexmark.util.format.TrackedOffset;
@@ -16,6 +17,7 @@ import com.vladsch.flexmark.util.misc.Extension;
 import com.vladsch.flexmark.util.misc.Pair;
 import com.vladsch.flexmark.util.sequence.Escaping;
 import com.vladsch.flexmark.util.sequence.LineAppendable;
+import com.vladsch.flexmark.util.sequence.LineInfo;
 import com.vladsch.flexmark.util.sequence.TagRange;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -81,6 +83,14 @@ public class HtmlRenderer implements IRender {
     final public static DataKey<Boolean> OBFUSCATE_EMAIL_RANDOM = new DataKey<>("OBFUSCATE_EMAIL_RANDOM", true);
     final public static DataKey<Boolean> HTML_BLOCK_OPEN_TAG_EOL = new DataKey<>("HTML_BLOCK_OPEN_TAG_EOL", true);
     final public static DataKey<Boolean> HTML_BLOCK_CLOSE_TAG_EOL = new DataKey<>("HTML_BLOCK_CLOSE_TAG_EOL", true);
+
+    /**
+     * When true, lines of HTML for top level blocks are appended to the output as rendering progresses instead of after the whole document is rendered.
+     * <p>
+     * Only complete lines which are followed by a non-blank line are output, these cannot be affected by blank line
+     * and trailing blank line limits. Not done when the document has tracked offsets.
+     */
+    final public static DataKey<Boolean> STREAMING_OUTPUT = new DataKey<>("STREAMING_OUTPUT", false);
     final public static DataKey<Boolean> UNESCAPE_HTML_ENTITIES = new DataKey<>("UNESCAPE_HTML_ENTITIES", true);
     final public static DataKey<String> AUTOLINK_WWW_PREFIX = new DataKey<>("AUTOLINK_WWW_PREFIX", "http://");
 
@@ -121,6 +131,18 @@ public class HtmlRenderer implements IRender {
     // Experimental, not tested
     final public static DataKey<List<TrackedOffset>> TRACKED_OFFSETS = new DataKey<>("TRACKED_OFFSETS", Collections.emptyList());
 
+    /**
+     * Cache of rendered HTML of top level blocks, default null for no caching.
+     * <p>
+     * Only blocks whose nodes are all rendered by node renderers which report them as document independent, see {@link NodeRenderer#isDocumentIndependent(Node)},
+     * are cached. Blocks are keyed by renderer options, block text and node structure so the cache can be shared by renderers,
+     * documents are expected to be parsed with the same parser options.
+     * <p>
+     * Caching is not done when link resolvers or attribute providers, other than the embedded attribute provider, are used, when
+     * source position attributes are rendered, HTML block tag EOLs are suppressed or the document has tracked offsets.
+     */
+    final public static NullableDataKey<RenderedBlockCache> BLOCK_RENDER_CACHE = new NullableDataKey<>("BLOCK_RENDER_CACHE");
+
     // now not final only to allow disposal of resources
     final List<AttributeProviderFactory> attributeProviderFactories;
     final List<DelegatingNodeRendererFactoryWrapper> nodeRendererFactories;
@@ -128,9 +150,11 @@ public class HtmlRenderer implements IRender {
     final HeaderIdGeneratorFactory htmlIdGeneratorFactory;
     final HtmlRendererOptions htmlOptions;
     final DataHolder options;
+    final @Nullable RenderedBlockCache blockRenderCache;
+    final int blockRenderCacheOptionsHash;
 
     HtmlRenderer(@NotNull Builder builder) {
-        this.options = builder.toImmutable();
+        this.options = new FrozenDataSet(builder);
         this.htmlOptions = new HtmlRendererOptions(this.options);
 
         this.htmlIdGeneratorFactory = builder.htmlIdGeneratorFactory;
@@ -159,6 +183,19 @@ public class HtmlRenderer implements IRender {
 
         this.attributeProviderFactories = DependencyResolver.resolveFlatDependencies(values, null, null);
         this.linkResolverFactories = DependencyResolver.resolveFlatDependencies(builder.linkResolverFactories, null, null);
+
+        RenderedBlockCache blockRenderCache = BLOCK_RENDER_CACHE.get(options);
+        if (blockRenderCache != null) {
+            // cached blocks are appended as complete lines
+            boolean canCache = linkResolverFactories.isEmpty() && htmlOptions.sourcePositionAttribute.isEmpty()
+                    && htmlOptions.htmlBlockOpenTagEol && htmlOptions.htmlBlockCloseTagEol;
+            for (AttributeProviderFactory attributeProviderFactory : attributeProviderFactories) {
+                if (attributeProviderFactory != EmbeddedAttributeProvider.Factory) canCache = false;
+            }
+            if (!canCache) blockRenderCache = null;
+        }
+        this.blockRenderCache = blockRenderCache;
+        this.blockRenderCacheOptionsHash = blockRenderCache != null ? options.hashCode() : 0;
     }
 
     /**
@@ -203,8 +240,12 @@ public class HtmlRenderer implements IRender {
      * @param output appendable to use for the output
      */
     public void render(@NotNull Node node, @NotNull Appendable output, int maxTrailingBlankLines) {
+        render(node, output, maxTrailingBlankLines, null);
+    }
+
+    void render(@NotNull Node node, @NotNull Appendable output, int maxTrailingBlankLines, @Nullable RenderSession session) {
         HtmlWriter htmlWriter = new HtmlWriter(output, htmlOptions.indentSize, htmlOptions.formatFlags, !htmlOptions.htmlBlockOpenTagEol, !htmlOptions.htmlBlockCloseTagEol);
-        MainNodeRenderer renderer = new MainNodeRenderer(options, htmlWriter, node.getDocument());
+        MainNodeRenderer renderer = new MainNodeRenderer(options, htmlWriter, node.getDocument(), session, htmlOptions.streamingOutput ? output : null);
         if (renderer.htmlIdGenerator != HtmlIdGenerator.NULL && !(node instanceof Document)) {
             renderer.htmlIdGenerator.generateIds(node.getDocument());
         }
@@ -230,6 +271,72 @@ public class HtmlRenderer implements IRender {
         return sb.toString();
     }
 
+    /**
+     * Create a session for rendering many documents parsed with the same options.
+     * <p>
+     * Node renderers which implement {@link ReusableNodeRenderer} are created once for the session and reused
+     * for all rendered documents, when all node renderers are reusable then the node rendering handler dispatch
+     * table is also reused. Other node renderers, link resolvers, attribute providers and the id generator are created for each document.
+     * <p>
+     * A session is not thread-safe, use a separate session for each thread.
+     *
+     * @return new render session
+     */
+    public @NotNull RenderSession renderSession() {
+        return new RenderSession();
+    }
+
+    /**
+     * Renders documents reusing node renderers and their rendering handlers. See {@link #renderSession()}
+     */
+    public class RenderSession {
+        final NodeRenderer[] nodeRenderers = new NodeRenderer[nodeRendererFactories.size()];
+        final ArrayList<Set<NodeRenderingHandler<?>>> nodeRenderingHandlers = new ArrayList<>(Collections.nCopies(nodeRendererFactories.size(), null));
+        ClassIndexedMap<NodeRenderingHandlerWrapper> renderers;
+        List<PhasedNodeRenderer> phasedRenderers;
+        Set<RenderingPhase> renderingPhases;
+
+        RenderSession() {
+        }
+
+        /**
+         * Render a node to the appendable
+         *
+         * @param node   node to render
+         * @param output appendable to use for the output
+         */
+        public void render(@NotNull Node node, @NotNull Appendable output) {
+            render(node, output, htmlOptions.maxTrailingBlankLines);
+        }
+
+        /**
+         * Render a node to the appendable
+         *
+         * @param node                  node to render
+         * @param output                appendable to use for the output
+         * @param maxTrailingBlankLines max trailing blank lines in output
+         */
+        public void render(@NotNull Node node, @NotNull Appendable output, int maxTrailingBlankLines) {
+            for (NodeRenderer nodeRenderer : nodeRenderers) {
+                if (nodeRenderer != null) ((ReusableNodeRenderer) nodeRenderer).resetRenderingState();
+            }
+
+            HtmlRenderer.this.render(node, output, maxTrailingBlankLines, this);
+        }
+
+        /**
+         * Render the tree of nodes to HTML.
+         *
+         * @param node the root node
+         * @return the rendered HTML.
+         */
+        public @NotNull String render(@NotNull Node node) {
+            StringBuilder sb = new StringBuilder();
+            render(node, sb);
+            return sb.toString();
+        }
+    }
+
     static public boolean isCompatibleRendererType(@NotNull MutableDataHolder options, @NotNull String supportedRendererType) {
         String rendererType = HtmlRenderer.TYPE.get(options);
         return isCompatibleRendererType(options, rendererType, supportedRendererType);
@@ -496,7 +603,7 @@ public class HtmlRenderer implements IRender {
 
     private class MainNodeRenderer extends NodeRendererSubContext implements NodeRendererContext, Disposable {
         private Document document;
-        private Map<Class<?>, NodeRenderingHandlerWrapper> renderers;
+        private ClassIndexedMap<NodeRenderingHandlerWrapper> renderers;
         private List<PhasedNodeRenderer> phasedRenderers;
         private LinkResolver[] myLinkResolvers;
         private Set<RenderingPhase> renderingPhases;
@@ -505,12 +612,16 @@ public class HtmlRenderer implements IRender {
         HtmlIdGenerator htmlIdGenerator;
         private HashMap<LinkType, HashMap<String, ResolvedLink>> resolvedLinkMap = new HashMap<>();
         private AttributeProvider[] attributeProviders;
+        private @Nullable RenderedBlockCache blockRenderCache;
+        private @Nullable Appendable streamingOutput;
 
         @Override
         public void dispose() {
             document = null;
             renderers = null;
             phasedRenderers = null;
+            blockRenderCache = null;
+            streamingOutput = null;
 
             for (LinkResolver linkResolver : myLinkResolvers) {
                 if (linkResolver instanceof Disposable) ((Disposable) linkResolver).dispose();
@@ -530,13 +641,10 @@ public class HtmlRenderer implements IRender {
             attributeProviders = null;
         }
 
-        MainNodeRenderer(DataHolder options, HtmlWriter htmlWriter, Document document) {
+        MainNodeRenderer(DataHolder options, HtmlWriter htmlWriter, Document document, @Nullable RenderSession session, @Nullable Appendable streamingOutput) {
             super(htmlWriter);
             this.options = new ScopedDataSet(document, options);
             this.document = document;
-            this.renderers = new HashMap<>(32);
-            this.renderingPhases = new HashSet<>(RenderingPhase.values().length);
-            this.phasedRenderers = new ArrayList<>(nodeRendererFactories.size());
             this.myLinkResolvers = new LinkResolver[linkResolverFactories.size()];
             this.doNotRenderLinksNesting = htmlOptions.doNotRenderLinksInDocument ? 0 : 1;
             this.htmlIdGenerator = htmlIdGeneratorFactory != null ? htmlIdGeneratorFactory.create(this)
@@ -544,24 +652,58 @@ public class HtmlRenderer implements IRender {
 
             htmlWriter.setContext(this);
 
-            for (int i = nodeRendererFactories.size() - 1; i >= 0; i--) {
-                NodeRendererFactory nodeRendererFactory = nodeRendererFactories.get(i);
-                NodeRenderer nodeRenderer = nodeRendererFactory.apply(this.getOptions());
-                Set<NodeRenderingHandler<?>> renderingHandlers = nodeRenderer.getNodeRenderingHandlers();
+            if (session != null && session.renderers != null) {
+                // all node renderers are reused by the session
+                this.renderers = session.renderers;
+                this.renderingPhases = session.renderingPhases;
+                this.phasedRenderers = session.phasedRenderers;
+            } else {
+                this.renderers = new ClassIndexedMap<>();
+                this.renderingPhases = new HashSet<>(RenderingPhase.values().length);
+                this.phasedRenderers = new ArrayList<>(nodeRendererFactories.size());
+                boolean allReusable = session != null;
+
+                for (int i = nodeRendererFactories.size() - 1; i >= 0; i--) {
+                    NodeRenderer nodeRenderer = session != null ? session.nodeRenderers[i] : null;
+                    Set<NodeRenderingHandler<?>> renderingHandlers;
+
+                    if (nodeRenderer == null) {
+                        NodeRendererFactory nodeRendererFactory = nodeRendererFactories.get(i);
+                        nodeRenderer = nodeRendererFactory.apply(this.getOptions());
+                        renderingHandlers = nodeRenderer.getNodeRenderingHandlers();
+
+                        if (session != null) {
+                            if (nodeRenderer instanceof ReusableNodeRenderer) {
+                                session.nodeRenderers[i] = nodeRenderer;
+                                session.nodeRenderingHandlers.set(i, renderingHandlers);
+                            } else {
+                                allReusable = false;
+                            }
+                        }
+                    } else {
+                        renderingHandlers = session.nodeRenderingHandlers.get(i);
+                    }
+
+                    assert (renderingHandlers != null);
+                    for (NodeRenderingHandler<?> nodeType : renderingHandlers) {
+                        // Overwrite existing renderer
+                        NodeRenderingHandlerWrapper handlerWrapper = new NodeRenderingHandlerWrapper(nodeType, renderers.get(nodeType.getNodeType()), nodeRenderer);
+                        renderers.put(nodeType.getNodeType(), handlerWrapper);
+                    }
 
-                assert (renderingHandlers != null);
-                for (NodeRenderingHandler<?> nodeType : renderingHandlers) {
-                    // Overwrite existing renderer
-                    NodeRenderingHandlerWrapper handlerWrapper = new NodeRenderingHandlerWrapper(nodeType, renderers.get(nodeType.getNodeType()));
-                    renderers.put(nodeType.getNodeType(), handlerWrapper);
-                }
+                    if (nodeRenderer instanceof PhasedNodeRenderer) {
+                        Set<RenderingPhase> renderingPhases = ((PhasedNodeRenderer) nodeRenderer).getRenderingPhases();
+                        assert (renderingPhases != null);
 
-                if (nodeRenderer instanceof PhasedNodeRenderer) {
-                    Set<RenderingPhase> renderingPhases = ((PhasedNodeRenderer) nodeRenderer).getRenderingPhases();
-                    assert (renderingPhases != null);
+                        this.renderingPhases.addAll(renderingPhases);
+                        this.phasedRenderers.add((PhasedNodeRenderer) nodeRenderer);
+                    }
+                }
 
-                    this.renderingPhases.addAll(renderingPhases);
-                    this.phasedRenderers.add((PhasedNodeRenderer) nodeRenderer);
+                if (allReusable) {
+                    session.renderers = this.renderers;
+                    session.renderingPhases = this.renderingPhases;
+                    session.phasedRenderers = this.phasedRenderers;
                 }
             }
 
@@ -573,6 +715,10 @@ public class HtmlRenderer implements IRender {
             for (int i = 0; i < attributeProviderFactories.size(); i++) {
                 attributeProviders[i] = attributeProviderFactories.get(i).apply(this);
             }
+
+            boolean noTrackedOffsets = TRACKED_OFFSETS.get(document).isEmpty();
+            this.blockRenderCache = noTrackedOffsets ? HtmlRenderer.this.blockRenderCache : null;
+            this.streamingOutput = noTrackedOffsets ? streamingOutput : null;
         }
 
         @NotNull
@@ -775,7 +921,7 @@ public class HtmlRenderer implements IRender {
                         }
                     }
                 }
-            } else {
+            } else if (blockRenderCache == null || subContext != this || node.getParent() != document || phase != RenderingPhase.BODY || !renderCachedBlock(node)) {
                 NodeRenderingHandlerWrapper nodeRenderer = renderers.get(node.getClass());
                 if (nodeRenderer != null) {
                     Node oldNode = this.renderingNode;
@@ -794,20 +940,109 @@ public class HtmlRenderer implements IRender {
             }
         }
 
+        /**
+         * Render top level block using cached HTML
+         *
+         * @param block top level block
+         * @return false if the block cannot be cached and needs to be rendered
+         */
+        private boolean renderCachedBlock(@NotNull Node block) {
+            int[] structure = documentIndependentStructure(block);
+            if (structure == null) return false;
+
+            // block text is compared after the structure, as its sequence, without a copy for cache hits
+            RenderedBlockCache.Key key = new RenderedBlockCache.Key(HtmlRenderer.this.options, blockRenderCacheOptionsHash, block.getClass(), block.getChars(), structure);
+            String html = blockRenderCache.get(key);
+            if (html == null) {
+                HtmlWriter blockWriter = new HtmlWriter(htmlWriter, true);
+                blockWriter.setSuppressOpenTagLine(htmlWriter.isSuppressOpenTagLine());
+                blockWriter.setSuppressCloseTagLine(htmlWriter.isSuppressCloseTagLine());
+                blockWriter.setContext(this);
+                renderNode(block, new SubNodeRenderer(this, blockWriter, false));
+                html = blockWriter.toString(htmlOptions.maxBlankLines, 0);
+                blockRenderCache.put(key.toStringKey(), html);
+            }
+            // block HTML is already formatted, preformatted lines are not modified by the writer
+            htmlWriter.line().rawPre(html);
+            return true;
+        }
+
+        /**
+         * Get node class ids and offsets of the block's descendants
+         *
+         * @param block top level block
+         * @return node class id, start and end offset relative to block start for each descendant or null if any node is not rendered independent of document state
+         */
+        private @Nullable int[] documentIndependentStructure(@NotNull Node block) {
+            if (!isDocumentIndependent(block)) return null;
+
+            int startOffset = block.getStartOffset();
+            int[] structure = new int[48];
+            int length = 0;
+            for (Node node : block.getDescendants()) {
+                if (!isDocumentIndependent(node)) return null;
+                if (length == structure.length) structure = Arrays.copyOf(structure, length * 2);
+                structure[length++] = RenderedBlockCache.Key.getNodeClassId(node.getClass());
+                structure[length++] = node.getStartOffset() - startOffset;
+                structure[length++] = node.getEndOffset() - startOffset;
+            }
+            return Arrays.copyOf(structure, length);
+        }
+
+        private boolean isDocumentIndependent(@NotNull Node node) {
+            if (node instanceof EmbeddedAttributeProvider.EmbeddedNodeAttributes) return false;
+
+            NodeRenderingHandlerWrapper wrapper = renderers.get(node.getClass());
+            while (wrapper != null) {
+                if (!wrapper.myNodeRenderer.isDocumentIndependent(node)) return false;
+                wrapper = wrapper.myPreviousRenderingHandler;
+            }
+            return true;
+        }
+
         public void renderChildren(@NotNull Node parent) {
             renderChildrenNode(parent, this);
         }
 
         @SuppressWarnings("WeakerAccess")
         protected void renderChildrenNode(Node parent, NodeRendererSubContext subContext) {
+            boolean streaming = streamingOutput != null && parent == document && subContext == this;
             Node node = parent.getFirstChild();
             while (node != null) {
                 Node next = node.getNext();
                 renderNode(node, subContext);
+                if (streaming) outputCompletedLines();
                 node = next;
             }
         }
 
+        /**
+         * Output lines up to the last non-blank line which is followed by a non-blank line,
+         * lines after it can still be affected by blank line limits
+         */
+        private void outputCompletedLines() {
+            int lineCount = htmlWriter.getLineCount();
+            if (lineCount == 0 || lineCount != htmlWriter.getLineCountWithPending() || htmlWriter.isPreFormatted()) return;
+
+            int end = 0;
+            boolean haveLastNonBlank = false;
+            for (int i = lineCount; i-- > 0; ) {
+                LineInfo info = htmlWriter.getLineInfo(i);
+                if (!info.isBlankText() || info.isPreformatted()) {
+                    if (haveLastNonBlank) {
+                        end = i + 1;
+                        break;
+                    }
+                    haveLastNonBlank = true;
+                }
+            }
+
+            if (end > 0) {
+                htmlWriter.appendToSilently(streamingOutput, true, htmlOptions.maxBlankLines, 0, 0, end);
+                htmlWriter.removeLines(0, end);
+            }
+        }
+
         @SuppressWarnings("WeakerAccess")
         private class SubNodeRenderer extends NodeRendererSubContext implements NodeRendererContext {
             final private MainNodeRenderer myMainNodeRenderer;
@@ -46,6 +46,7 @@ public class HtmlRendererOptions {
     final public int maxBlankLines;
     final public boolean htmlBlockOpenTagEol;
     final public boolean htmlBlockCloseTagEol;
+    final public boolean streamingOutput;
     final public boolean unescapeHtmlEntities;
     final public boolean noPTagsUseBr;
     final public @NotNull String autolinkWwwPrefix;
@@ -87,6 +88,7 @@ public class HtmlRendererOptions {
         maxBlankLines = HtmlRenderer.MAX_BLANK_LINES.get(options);
         htmlBlockOpenTagEol = HtmlRenderer.HTML_BLOCK_OPEN_TAG_EOL.get(options);
         htmlBlockCloseTagEol = HtmlRenderer.HTML_BLOCK_CLOSE_TAG_EOL.get(options);
+        streamingOutput = HtmlRenderer.STREAMING_OUTPUT.get(options);
         unescapeHtmlEntities = HtmlRenderer.UNESCAPE_HTML_ENTITIES.get(options);
         noPTagsUseBr = HtmlRenderer.NO_P_TAGS_USE_BR.get(options);
         inlineCodeSpliceClass = HtmlRenderer.INLINE_CODE_SPLICE_CLASS.get(options);
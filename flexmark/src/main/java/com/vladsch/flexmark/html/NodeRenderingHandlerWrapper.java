@@ -1,5 +1,6 @@
 package com.vladsch.flexmark.html;
 
+import com.vladsch.flexmark.html.renderer.NodeRenderer;
 import com.vladsch.flexmark.html.renderer.NodeRenderingHandler;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -7,9 +8,11 @@ import org.jetbrains.annotations.Nullable;
 class NodeRenderingHandlerWrapper {
     final public @NotNull NodeRenderingHandler<?> myRenderingHandler;
     final public @Nullable NodeRenderingHandlerWrapper myPreviousRenderingHandler;
+    final public @NotNull NodeRenderer myNodeRenderer;
 
-    public NodeRenderingHandlerWrapper(@NotNull NodeRenderingHandler<?> renderingHandler, @Nullable NodeRenderingHandlerWrapper previousRenderingHandler) {
+    public NodeRenderingHandlerWrapper(@NotNull NodeRenderingHandler<?> renderingHandler, @Nullable NodeRenderingHandlerWrapper previousRenderingHandler, @NotNull NodeRenderer nodeRenderer) {
         myRenderingHandler = renderingHandler;
         myPreviousRenderingHandler = previousRenderingHandler;
+        myNodeRenderer = nodeRenderer;
     }
 }
@@ -34,7 +34,7 @@ import static com.vladsch.flexmark.html.renderer.LinkStatus.UNKNOWN;
  * The node renderer that renders all the core nodes (comes last in the order of node renderers).
  */
 @SuppressWarnings({ "WeakerAccess", "OverlyCoupledClass" })
-public class CoreNodeRenderer implements NodeRenderer {
+public class CoreNodeRenderer implements ReusableNodeRenderer {
     final public static AttributablePart LOOSE_LIST_ITEM = new AttributablePart("LOOSE_LIST_ITEM");
     final public static AttributablePart TIGHT_LIST_ITEM = new AttributablePart("TIGHT_LIST_ITEM");
     final public static AttributablePart PARAGRAPH_LINE = new AttributablePart("PARAGRAPH_LINE");
@@ -43,10 +43,10 @@ public class CoreNodeRenderer implements NodeRenderer {
     final private ListOptions listOptions;
     final private boolean obfuscateEmail;
     final private boolean obfuscateEmailRandom;
-    final private ReferenceRepository referenceRepository;
     final private boolean recheckUndefinedReferences;
     final private boolean codeContentBlock;
     final private boolean codeSoftLineBreaks;
+    final private boolean headerIds;
 
     private List<Range> myLines;
     private List<Integer> myEOLs;
@@ -54,13 +54,18 @@ public class CoreNodeRenderer implements NodeRenderer {
     private int nextLineStartOffset;
 
     public CoreNodeRenderer(DataHolder options) {
-        referenceRepository = Parser.REFERENCES.get(options);
         recheckUndefinedReferences = HtmlRenderer.RECHECK_UNDEFINED_REFERENCES.get(options);
         listOptions = ListOptions.get(options);
         obfuscateEmail = HtmlRenderer.OBFUSCATE_EMAIL.get(options);
         obfuscateEmailRandom = HtmlRenderer.OBFUSCATE_EMAIL_RANDOM.get(options);
         codeContentBlock = Parser.FENCED_CODE_CONTENT_BLOCK.get(options);
         codeSoftLineBreaks = Parser.CODE_SOFT_LINE_BREAKS.get(options);
+        headerIds = HtmlRenderer.RENDER_HEADER_ID.get(options) || HtmlRenderer.GENERATE_HEADER_ID.get(options);
+        resetRenderingState();
+    }
+
+    @Override
+    public void resetRenderingState() {
         myLines = null;
         myEOLs = null;
         myNextLine = 0;
@@ -107,6 +112,13 @@ public class CoreNodeRenderer implements NodeRenderer {
         ));
     }
 
+    @Override
+    public boolean isDocumentIndependent(@NotNull Node node) {
+        // references are resolved from the document, header ids are unique in the document and random obfuscation differs for each rendering
+        return !(node instanceof RefNode || node instanceof Reference || node instanceof Heading && headerIds
+                || node instanceof MailLink && obfuscateEmail && obfuscateEmailRandom);
+    }
+
     @SuppressWarnings("MethodMayBeStatic")
     void render(Document node, NodeRendererContext context, HtmlWriter html) {
         // No rendering itself
@@ -686,6 +698,7 @@ public class CoreNodeRenderer implements NodeRenderer {
     void render(ImageRef node, NodeRendererContext context, HtmlWriter html) {
         ResolvedLink resolvedLink;
         boolean isSuppressed = false;
+        ReferenceRepository referenceRepository = Parser.REFERENCES.get(context.getOptions());
 
         if (!node.isDefined() && recheckUndefinedReferences) {
             if (node.getReferenceNode(referenceRepository) != null) {
@@ -740,6 +753,7 @@ public class CoreNodeRenderer implements NodeRenderer {
     void render(LinkRef node, NodeRendererContext context, HtmlWriter html) {
         ResolvedLink resolvedLink;
         boolean isSuppressed = false;
+        ReferenceRepository referenceRepository = Parser.REFERENCES.get(context.getOptions());
 
         if (!node.isDefined() && recheckUndefinedReferences) {
             if (node.getReferenceNode(referenceRepository) != null) {
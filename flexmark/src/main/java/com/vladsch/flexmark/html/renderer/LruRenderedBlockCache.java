@@ -0,0 +1,105 @@
+package com.vladsch.flexmark.html.renderer;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Rendered block cache which evicts least recently used blocks when the number of blocks or
+ * the total length of cached block text and HTML exceeds its limits
+ */
+public class LruRenderedBlockCache implements RenderedBlockCache {
+    final private int maxBlocks;
+    final private long maxChars;
+    final private LinkedHashMap<Key, String> blocks = new LinkedHashMap<>(16, 0.75f, true);
+    private long chars;
+    private long hitCount;
+    private long missCount;
+    private long evictionCount;
+
+    /**
+     * @param maxBlocks maximum number of cached blocks
+     */
+    public LruRenderedBlockCache(int maxBlocks) {
+        this(maxBlocks, Long.MAX_VALUE);
+    }
+
+    /**
+     * @param maxBlocks maximum number of cached blocks
+     * @param maxChars  maximum total length of cached block text and HTML
+     */
+    public LruRenderedBlockCache(int maxBlocks, long maxChars) {
+        this.maxBlocks = maxBlocks;
+        this.maxChars = maxChars;
+    }
+
+    @Override
+    public synchronized @Nullable String get(@NotNull Key key) {
+        String html = blocks.get(key);
+        if (html != null) hitCount++;
+        else missCount++;
+        return html;
+    }
+
+    @Override
+    public synchronized void put(@NotNull Key key, @NotNull String html) {
+        String previous = blocks.put(key, html);
+        if (previous != null) chars -= length(key, previous);
+        chars += length(key, html);
+
+        Iterator<Map.Entry<Key, String>> iterator = blocks.entrySet().iterator();
+        while ((blocks.size() > maxBlocks || chars > maxChars) && iterator.hasNext()) {
+            Map.Entry<Key, String> entry = iterator.next();
+            chars -= length(entry.getKey(), entry.getValue());
+            iterator.remove();
+            evictionCount++;
+        }
+    }
+
+    private static long length(@NotNull Key key, @NotNull String html) {
+        return key.getText().length() + html.length();
+    }
+
+    @Override
+    public synchronized void clear() {
+        blocks.clear();
+        chars = 0;
+    }
+
+    @Override
+    public synchronized int size() {
+        return blocks.size();
+    }
+
+    /**
+     * @return total length of cached block text and HTML
+     */
+    public synchronized long getChars() {
+        return chars;
+    }
+
+    public int getMaxBlocks() {
+        return maxBlocks;
+    }
+
+    public long getMaxChars() {
+        return maxChars;
+    }
+
+    @Override
+    public synchronized long getHitCount() {
+        return hitCount;
+    }
+
+    @Override
+    public synchronized long getMissCount() {
+        return missCount;
+    }
+
+    public synchronized long getEvictionCount() {
+        return evictionCount;
+    }
+}
@@ -1,5 +1,7 @@
 package com.vladsch.flexmark.html.renderer;
 
+import com.vladsch.flexmark.util.ast.Node;
+import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.Set;
@@ -12,4 +14,17 @@ public interface NodeRenderer {
      * @return the mapping of nodes this renderer handles to rendering function
      */
     @Nullable Set<NodeRenderingHandler<?>> getNodeRenderingHandlers();
+
+    /**
+     * Whether rendering of the node by this renderer depends only on the node, its descendants and options.
+     * <p>
+     * Rendering which uses document wide state, ie. references, footnotes, header ids or abbreviations, is not independent.
+     * Rendered HTML of top level blocks whose nodes are all rendered independently can be cached, see {@link com.vladsch.flexmark.html.HtmlRenderer#BLOCK_RENDER_CACHE}
+     *
+     * @param node node handled by this renderer
+     * @return true if rendered HTML of the node does not depend on document state
+     */
+    default boolean isDocumentIndependent(@NotNull Node node) {
+        return false;
+    }
 }
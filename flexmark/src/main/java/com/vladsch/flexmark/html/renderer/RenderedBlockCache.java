@@ -0,0 +1,122 @@
+package com.vladsch.flexmark.html.renderer;
+
+import com.vladsch.flexmark.util.data.DataHolder;
+import com.vladsch.flexmark.util.sequence.SequenceUtils;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Cache of rendered HTML of top level blocks, see {@link com.vladsch.flexmark.html.HtmlRenderer#BLOCK_RENDER_CACHE}
+ * <p>
+ * Implementations must be thread-safe when used by a renderer which renders documents concurrently.
+ */
+public interface RenderedBlockCache {
+    /**
+     * @param key block key
+     * @return cached HTML or null if not cached
+     */
+    @Nullable String get(@NotNull Key key);
+
+    /**
+     * @param key  block key
+     * @param html rendered HTML of the block
+     */
+    void put(@NotNull Key key, @NotNull String html);
+
+    void clear();
+
+    /**
+     * @return number of cached blocks
+     */
+    int size();
+
+    long getHitCount();
+
+    long getMissCount();
+
+    default double getHitRate() {
+        long hitCount = getHitCount();
+        long total = hitCount + getMissCount();
+        return total == 0 ? 0.0 : (double) hitCount / total;
+    }
+
+    /**
+     * Key of a rendered block: renderer options, block node class, block text and node structure of the block's descendants
+     * <p>
+     * Keys used for lookup hold the block's text sequence, keys passed to {@link #put(Key, String)} hold a String copy of it.
+     */
+    final class Key {
+        final private static AtomicInteger nextNodeClassId = new AtomicInteger();
+        final private static ClassValue<Integer> NODE_CLASS_IDS = new ClassValue<Integer>() {
+            @Override
+            protected Integer computeValue(Class<?> type) {
+                return nextNodeClassId.incrementAndGet();
+            }
+        };
+
+        final private @NotNull DataHolder options;
+        final private @NotNull Class<?> nodeClass;
+        final private @NotNull CharSequence text;
+        final private @NotNull int[] structure;
+        final private int hash;
+
+        /**
+         * @param options     renderer options
+         * @param optionsHash hash code of renderer options
+         * @param nodeClass   block node class
+         * @param text        block text, String or BasedSequence
+         * @param structure   node class id, start and end offset relative to block start, for each descendant of the block
+         */
+        public Key(@NotNull DataHolder options, int optionsHash, @NotNull Class<?> nodeClass, @NotNull CharSequence text, @NotNull int[] structure) {
+            this(options, nodeClass, text, structure, 31 * (31 * (31 * optionsHash + nodeClass.hashCode()) + Arrays.hashCode(structure)) + text.hashCode());
+        }
+
+        private Key(@NotNull DataHolder options, @NotNull Class<?> nodeClass, @NotNull CharSequence text, @NotNull int[] structure, int hash) {
+            this.options = options;
+            this.nodeClass = nodeClass;
+            this.text = text;
+            this.structure = structure;
+            this.hash = hash;
+        }
+
+        /**
+         * @param nodeClass node class
+         * @return id of the node class for key structure, same for all renderers
+         */
+        public static int getNodeClassId(@NotNull Class<?> nodeClass) {
+            return NODE_CLASS_IDS.get(nodeClass);
+        }
+
+        public @NotNull CharSequence getText() {
+            return text;
+        }
+
+        /**
+         * @return key with a String copy of the text, so it does not keep the document's sequence
+         */
+        public @NotNull Key toStringKey() {
+            return text instanceof String ? this : new Key(options, nodeClass, text.toString(), structure, hash);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key)) return false;
+
+            Key key = (Key) o;
+            return hash == key.hash
+                    && nodeClass == key.nodeClass
+                    && Arrays.equals(structure, key.structure)
+                    && SequenceUtils.equals(text, key.text)
+                    && (options == key.options || options.equals(key.options));
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
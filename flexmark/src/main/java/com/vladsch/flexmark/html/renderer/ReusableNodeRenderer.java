@@ -0,0 +1,13 @@
+package com.vladsch.flexmark.html.renderer;
+
+/**
+ * A node renderer which does not keep state of the rendered document, other than options,
+ * and can be reused by {@link com.vladsch.flexmark.html.HtmlRenderer.RenderSession} to render other documents
+ * parsed with the same options.
+ */
+public interface ReusableNodeRenderer extends NodeRenderer {
+    /**
+     * Reset any state kept from rendering of a previous document, called before each node is rendered by a session
+     */
+    void resetRenderingState();
+}
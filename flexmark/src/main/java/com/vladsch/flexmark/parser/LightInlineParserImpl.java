@@ -28,7 +28,7 @@ public class LightInlineParserImpl implements LightInlineParser {
 
     public LightInlineParserImpl(DataHolder dataOptions) {
         this.options = new InlineParserOptions(dataOptions);
-        this.myParsing = new Parsing(dataOptions);
+        this.myParsing = Parsing.of(dataOptions);
     }
 
     @NotNull
@@ -158,7 +158,7 @@ public class LightInlineParserImpl implements LightInlineParser {
         if (index >= input.length()) {
             return null;
         }
-        Matcher matcher = re.matcher(input);
+        Matcher matcher = re.matcher(SequenceUtils.charCursor(input));
         matcher.region(index, input.length());
         boolean m = matcher.find();
         if (m) {
@@ -181,7 +181,7 @@ public class LightInlineParserImpl implements LightInlineParser {
         if (index >= input.length()) {
             return null;
         }
-        Matcher matcher = re.matcher(input);
+        Matcher matcher = re.matcher(SequenceUtils.charCursor(input));
         matcher.region(index, input.length());
         boolean m = matcher.find();
         if (m) {
@@ -214,7 +214,7 @@ public class LightInlineParserImpl implements LightInlineParser {
         if (index >= input.length()) {
             return null;
         }
-        Matcher matcher = re.matcher(input);
+        Matcher matcher = re.matcher(SequenceUtils.charCursor(input));
         matcher.region(index, input.length());
         boolean m = matcher.find();
         if (m) {
@@ -7,14 +7,18 @@ import com.vladsch.flexmark.parser.block.CustomBlockParserFactory;
 import com.vladsch.flexmark.parser.block.ParagraphPreProcessorFactory;
 import com.vladsch.flexmark.parser.delimiter.DelimiterProcessor;
 import com.vladsch.flexmark.parser.internal.DocumentParser;
+import com.vladsch.flexmark.parser.internal.DocumentParserPool;
+import com.vladsch.flexmark.parser.internal.IncrementalDocumentParser;
 import com.vladsch.flexmark.parser.internal.InlineParserImpl;
 import com.vladsch.flexmark.parser.internal.LinkRefProcessorData;
 import com.vladsch.flexmark.parser.internal.PostProcessorManager;
+import com.vladsch.flexmark.parser.internal.StreamingDocumentParser;
 import com.vladsch.flexmark.util.ast.*;
 import com.vladsch.flexmark.util.builder.BuilderBase;
 import com.vladsch.flexmark.util.data.*;
 import com.vladsch.flexmark.util.misc.Extension;
 import com.vladsch.flexmark.util.sequence.BasedSequence;
+import com.vladsch.flexmark.util.sequence.ByteBufferCharSequence;
 import com.vladsch.flexmark.util.sequence.ReplacedBasedSequence;
 import com.vladsch.flexmark.util.sequence.mappers.SpecialLeadInHandler;
 import org.jetbrains.annotations.NotNull;
@@ -22,7 +26,11 @@ import org.jetbrains.annotations.Nullable;
 
 import java.io.IOException;
 import java.io.Reader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
 import java.util.*;
+import java.util.function.Consumer;
 
 /**
  * Parses input text to a tree of nodes.
@@ -95,6 +103,45 @@ public class Parser implements IParse {
     final public static DataKey<Boolean> BLANK_LINES_IN_AST = SharedDataKeys.BLANK_LINES_IN_AST;
     final public static DataKey<Boolean> USE_HARDCODED_LINK_ADDRESS_PARSER = new DataKey<>("USE_HARDCODED_LINK_ADDRESS_PARSER", true);
 
+    /**
+     * USE_HARDCODED_INLINE_SCANNERS default false, when true link destinations in angle brackets, link titles, entities,
+     * autolinks and inline HTML are parsed by hand rolled scanners instead of Parsing patterns.
+     * Patterns are still used for autolinks and inline HTML when HTML_FOR_TRANSLATOR is enabled.
+     */
+    final public static DataKey<Boolean> USE_HARDCODED_INLINE_SCANNERS = new DataKey<>("USE_HARDCODED_INLINE_SCANNERS", false);
+
+    /**
+     * PARALLEL_INLINE_PARSING default false, when true inline parsing of blocks is done in parallel on the common ForkJoinPool
+     * for documents with at least PARALLEL_INLINE_PARSING_MIN_BLOCKS blocks, each worker using its own inline parser.
+     * <p>
+     * Each thread reads document data from its own copy, so data key values computed on first use are safe. Changes threads
+     * make to document data are applied when parsing is done, an IllegalStateException is thrown if threads change the same key
+     * to values which are not equal. Values stored in document data, such as repositories, are shared by all threads. Only enable
+     * when inline parser extensions, delimiter processors and link ref processors do not modify such shared values or depend on
+     * the order in which blocks are parsed. For example the footnotes extension adds footnote references to its repository in
+     * document order while parsing inlines, so it must not be used with this option.
+     */
+    final public static DataKey<Boolean> PARALLEL_INLINE_PARSING = new DataKey<>("PARALLEL_INLINE_PARSING", false);
+    final public static DataKey<Integer> PARALLEL_INLINE_PARSING_MIN_BLOCKS = new DataKey<>("PARALLEL_INLINE_PARSING_MIN_BLOCKS", 1000);
+
+    /**
+     * FUSED_POST_PROCESSING default false, when true node post processors of a dependency stage are run in one pass over
+     * the tracked nodes, each node given to all its post processors in dependency order, instead of one pass per post processor.
+     * <p>
+     * Each post processor gets the same nodes, but their processing is interleaved. Only enable when post processors modify
+     * only the node being processed and do not depend on another post processor of the stage having finished all its nodes.
+     */
+    final public static DataKey<Boolean> FUSED_POST_PROCESSING = new DataKey<>("FUSED_POST_PROCESSING", false);
+
+    /**
+     * DOCUMENT_PARSER_POOL_SIZE default 0, when greater than 0 document parsers are reset and reused for parsing other documents,
+     * keeping at most this many idle document parsers. Use for parsing many documents with the same parser instance.
+     * <p>
+     * Only enable when custom block parser factories and inline parser extensions do not keep document state outside of
+     * the document. Pool statistics are available from {@link #getDocumentParserPool()}.
+     */
+    final public static DataKey<Integer> DOCUMENT_PARSER_POOL_SIZE = new DataKey<>("DOCUMENT_PARSER_POOL_SIZE", 0);
+
     /**
      * STRONG_WRAPS_EMPHASIS default false, when true makes parsing CommonMark Spec 0.27 compliant
      */
@@ -298,6 +345,7 @@ public class Parser implements IParse {
     final private List<InlineParserExtensionFactory> inlineParserExtensionFactories;
     final private InlineParserFactory inlineParserFactory;
     final private @NotNull DataHolder options;
+    final private @Nullable DocumentParserPool documentParserPool;
 
     Parser(Builder builder) {
         DataSet options = builder.toImmutable();
@@ -315,7 +363,7 @@ public class Parser implements IParse {
         MutableDataSet optionsWithSpecialLeadInHandlers = new MutableDataSet(builder);
         optionsWithSpecialLeadInHandlers.set(SPECIAL_LEAD_IN_HANDLERS, specialLeadInHandlers);
 
-        this.options = optionsWithSpecialLeadInHandlers.toImmutable();
+        this.options = new FrozenDataSet(optionsWithSpecialLeadInHandlers);
         this.inlineParserFactory = builder.inlineParserFactory == null ? DocumentParser.INLINE_PARSER_FACTORY : builder.inlineParserFactory;
         this.paragraphPreProcessorFactories = DocumentParser.calculateParagraphPreProcessors(options, builder.paragraphPreProcessorFactories, this.inlineParserFactory);
         this.blockPreProcessorDependencies = DocumentParser.calculateBlockPreProcessors(options, builder.blockPreProcessorFactories);
@@ -325,6 +373,9 @@ public class Parser implements IParse {
         this.specialCharacters = InlineParserImpl.calculateSpecialCharacters(options, delimiterCharacters);
         this.postProcessorDependencies = PostProcessorManager.calculatePostProcessors(options, builder.postProcessorFactories);
         this.inlineParserExtensionFactories = builder.inlineParserExtensionFactories;
+
+        int poolSize = DOCUMENT_PARSER_POOL_SIZE.get(options);
+        this.documentParserPool = poolSize > 0 ? new DocumentParserPool(this::createDocumentParser, poolSize) : null;
     }
 
     /**
@@ -357,12 +408,9 @@ public class Parser implements IParse {
                     "");
         }
 
-        DocumentParser documentParser = new DocumentParser(options
-                , blockParserFactories
-                , paragraphPreProcessorFactories
-                , blockPreProcessorDependencies
-                , inlineParserFactory.inlineParser(options, specialCharacters, delimiterCharacters, delimiterProcessors, linkRefProcessors, inlineParserExtensionFactories));
+        DocumentParser documentParser = acquireDocumentParser();
         Document document = documentParser.parse(input);
+        releaseDocumentParser(documentParser);
         return postProcess(document);
     }
 
@@ -375,15 +423,45 @@ public class Parser implements IParse {
      * @return the root node
      */
     public @NotNull Document parse(@NotNull String input) {
-        DocumentParser documentParser = new DocumentParser(options
-                , blockParserFactories
-                , paragraphPreProcessorFactories
-                , blockPreProcessorDependencies
-                , inlineParserFactory.inlineParser(options, specialCharacters, delimiterCharacters, delimiterProcessors, linkRefProcessors, inlineParserExtensionFactories));
+        DocumentParser documentParser = acquireDocumentParser();
         Document document = documentParser.parse(BasedSequence.of(input));
+        releaseDocumentParser(documentParser);
         return postProcess(document);
     }
 
+    /**
+     * Parse the specified UTF-8 file into a tree of nodes.
+     * <p>
+     * The file is memory mapped and its characters are decoded on access, see {@link ByteBufferCharSequence}.
+     * The file must not be modified while the document or any of its nodes are used.
+     * <p>
+     * Note that this method is thread-safe (a new parser state is used for each invocation).
+     *
+     * @param path the file to parse
+     * @return the root node
+     * @throws IOException when the file cannot be mapped
+     */
+    public @NotNull Document parse(@NotNull Path path) throws IOException {
+        return parse(path, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Parse the specified file into a tree of nodes.
+     * <p>
+     * The file is memory mapped and its characters are decoded on access, see {@link ByteBufferCharSequence}.
+     * The file must not be modified while the document or any of its nodes are used.
+     * <p>
+     * Note that this method is thread-safe (a new parser state is used for each invocation).
+     *
+     * @param path    the file to parse
+     * @param charset charset of the file, one of UTF-8, ISO-8859-1 or US-ASCII
+     * @return the root node
+     * @throws IOException when the file cannot be mapped
+     */
+    public @NotNull Document parse(@NotNull Path path, @NotNull Charset charset) throws IOException {
+        return parse(BasedSequence.of(ByteBufferCharSequence.map(path, charset)));
+    }
+
     /**
      * Parse the specified reader into a tree of nodes. The caller is responsible for closing the reader.
      * <p>
@@ -394,13 +472,89 @@ public class Parser implements IParse {
      * @throws IOException when reading throws an exception
      */
     public @NotNull Document parseReader(@NotNull Reader input) throws IOException {
-        DocumentParser documentParser = new DocumentParser(options
+        DocumentParser documentParser = acquireDocumentParser();
+        Document document = documentParser.parse(input);
+        releaseDocumentParser(documentParser);
+        return postProcess(document);
+    }
+
+    /**
+     * Parse the specified reader, passing top level blocks to the consumer as soon as no block parser can continue them.
+     * The caller is responsible for closing the reader.
+     * <p>
+     * Only text of blocks which are not yet complete is kept in memory. Blocks passed to the consumer are parsed, have
+     * their inlines processed and are post processed. Node offsets are relative to the chunk of text in which the block
+     * was parsed and references are only resolved when defined before their use. See {@link StreamingDocumentParser} for details.
+     * <p>
+     * Note that this method is thread-safe (a new parser state is used for each invocation).
+     *
+     * @param input         the reader to parse
+     * @param blockConsumer consumer of completed top level blocks
+     * @return document of the last parsed chunk, its data contains data accumulated during the parse
+     * @throws IOException when reading throws an exception
+     */
+    public @NotNull Document parseReader(@NotNull Reader input, @NotNull Consumer<Node> blockConsumer) throws IOException {
+        StreamingDocumentParser streamingParser = new StreamingDocumentParser(this::createDocumentParser, postProcessorDependencies, blockConsumer);
+        return streamingParser.parse(input);
+    }
+
+    /**
+     * Re-parse a document previously returned by this parser after an edit of its text.
+     * <p>
+     * Only top level blocks affected by the edit are parsed, have their inlines parsed and are post processed.
+     * Unchanged top level blocks of the previous document are reused with their offsets shifted to the edited text.
+     * The previous document is updated and returned, it should not be used if a different document is returned.
+     * <p>
+     * When the edit cannot be handled incrementally, ie. it adds or removes reference definitions,
+     * the input is fully parsed. See {@link IncrementalDocumentParser} for details.
+     *
+     * @param previous       document previously returned by this parser
+     * @param input          full text after the edit
+     * @param editStart      start offset of the edit in previous document text
+     * @param editEnd        end offset of replaced text in previous document text
+     * @param insertedLength length of text which replaced the edited range
+     * @return the root node for the edited text
+     */
+    public @NotNull Document parseIncremental(@NotNull Document previous, @NotNull BasedSequence input, int editStart, int editEnd, int insertedLength) {
+        // NOTE: parser can only handle contiguous sequences with no out of base characters
+        if (input instanceof ReplacedBasedSequence) {
+            throw new IllegalArgumentException("" +
+                    "Parser.parseIncremental() does not support BasedSequences with replaced or non-contiguous segments.\n" +
+                    "Use BasedSequence.of(input.toString()) to convert to contiguous based sequence." +
+                    "");
+        }
+
+        DocumentParser documentParser = acquireDocumentParser();
+        IncrementalDocumentParser incrementalParser = new IncrementalDocumentParser(documentParser, postProcessorDependencies);
+        Document document = incrementalParser.reparse(previous, input, editStart, editEnd, insertedLength);
+        releaseDocumentParser(documentParser);
+        return document != null ? document : parse(input);
+    }
+
+    /**
+     * Get the document parser pool used by this parser
+     *
+     * @return document parser pool or null if {@link #DOCUMENT_PARSER_POOL_SIZE} is 0
+     */
+    public @Nullable DocumentParserPool getDocumentParserPool() {
+        return documentParserPool;
+    }
+
+    private DocumentParser acquireDocumentParser() {
+        return documentParserPool != null ? documentParserPool.acquire() : createDocumentParser();
+    }
+
+    private void releaseDocumentParser(DocumentParser documentParser) {
+        if (documentParserPool != null) documentParserPool.release(documentParser);
+    }
+
+    private DocumentParser createDocumentParser() {
+        return new DocumentParser(options
                 , blockParserFactories
                 , paragraphPreProcessorFactories
                 , blockPreProcessorDependencies
-                , inlineParserFactory.inlineParser(options, specialCharacters, delimiterCharacters, delimiterProcessors, linkRefProcessors, inlineParserExtensionFactories));
-        Document document = documentParser.parse(input);
-        return postProcess(document);
+                , inlineParserFactory.inlineParser(options, specialCharacters, delimiterCharacters, delimiterProcessors, linkRefProcessors, inlineParserExtensionFactories)
+                , () -> inlineParserFactory.inlineParser(options, specialCharacters, delimiterCharacters, delimiterProcessors, linkRefProcessors, inlineParserExtensionFactories));
     }
 
     private Document postProcess(Document document) {
@@ -17,15 +17,21 @@ import com.vladsch.flexmark.util.data.MutableDataHolder;
 import com.vladsch.flexmark.util.dependency.DependencyResolver;
 import com.vladsch.flexmark.util.misc.CharPredicate;
 import com.vladsch.flexmark.util.sequence.BasedSequence;
+import com.vladsch.flexmark.util.sequence.LineStartIndex;
 import com.vladsch.flexmark.util.sequence.PrefixedSubSequence;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.Reader;
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Supplier;
 
 import static com.vladsch.flexmark.parser.Parser.BLANK_LINES_IN_AST;
+import static com.vladsch.flexmark.parser.Parser.PARALLEL_INLINE_PARSING;
+import static com.vladsch.flexmark.parser.Parser.PARALLEL_INLINE_PARSING_MIN_BLOCKS;
 import static com.vladsch.flexmark.parser.Parser.TRACK_DOCUMENT_LINES;
 
 public class DocumentParser implements ParserState {
@@ -104,6 +110,9 @@ public class DocumentParser implements ParserState {
 
     private int nextNonSpace = 0;
     private int nextNonSpaceColumn = 0;
+    private BasedSequence nextNonSpaceLine = null;      // line, index and column of last findNextNonSpace() scan
+    private int nextNonSpaceFromIndex = -1;
+    private int nextNonSpaceFromColumn = -1;
     private int indent = 0;
     private boolean blank;
     private boolean isBlankLine;
@@ -112,7 +121,9 @@ public class DocumentParser implements ParserState {
     final private List<List<ParagraphPreProcessorFactory>> paragraphPreProcessorDependencies;
     final private List<List<BlockPreProcessorFactory>> blockPreProcessorDependencies;
     final private InlineParser inlineParser;
-    final private DocumentBlockParser documentBlockParser;
+    final private @Nullable Supplier<InlineParser> inlineParserFactory;
+    final private int parallelInlineParsingMinBlocks;
+    private DocumentBlockParser documentBlockParser;
     final private boolean blankLinesInAst;
     final private boolean trackDocumentLines;
     final private List<BasedSequence> lineSegments = new ArrayList<>();
@@ -173,6 +184,25 @@ public class DocumentParser implements ParserState {
             List<List<ParagraphPreProcessorFactory>> paragraphPreProcessorDependencies,
             List<List<BlockPreProcessorFactory>> blockPreProcessorDependencies,
             InlineParser inlineParser
+    ) {
+        this(options, customBlockParserFactories, paragraphPreProcessorDependencies, blockPreProcessorDependencies, inlineParser, null);
+    }
+
+    /**
+     * @param options                           parser options
+     * @param customBlockParserFactories        block parser factories
+     * @param paragraphPreProcessorDependencies paragraph pre-processor factories in dependency order
+     * @param blockPreProcessorDependencies     block pre-processor factories in dependency order
+     * @param inlineParser                      inline parser
+     * @param inlineParserFactory               creates inline parsers for parallel inline parsing, null if not supported
+     */
+    public DocumentParser(
+            DataHolder options,
+            List<CustomBlockParserFactory> customBlockParserFactories,
+            List<List<ParagraphPreProcessorFactory>> paragraphPreProcessorDependencies,
+            List<List<BlockPreProcessorFactory>> blockPreProcessorDependencies,
+            InlineParser inlineParser,
+            @Nullable Supplier<InlineParser> inlineParserFactory
     ) {
         this.options = options;
         this.myParsing = inlineParser.getParsing();
@@ -192,6 +222,45 @@ public class DocumentParser implements ParserState {
         this.currentPhase = ParserPhase.STARTING;
         this.blankLinesInAst = BLANK_LINES_IN_AST.get(options);
         this.trackDocumentLines = TRACK_DOCUMENT_LINES.get(options);
+        this.inlineParserFactory = PARALLEL_INLINE_PARSING.get(options) ? inlineParserFactory : null;
+        this.parallelInlineParsingMinBlocks = PARALLEL_INLINE_PARSING_MIN_BLOCKS.get(options);
+    }
+
+    /**
+     * Reset parsing state so this document parser can be used to parse another document.
+     * <p>
+     * Block parser factories, pre-processor dependencies and the inline parser are kept. Block parser factories must not
+     * keep document state and the inline parser is re-initialized at the start of each document.
+     * <p>
+     * Only a parser whose parse completed normally should be reset and reused, see {@link DocumentParserPool}.
+     */
+    public void reset() {
+        line = null;
+        lineWithEOL = null;
+        lineNumber = 0;
+        lineStart = 0;
+        lineEOLIndex = 0;
+        lineEndIndex = 0;
+        index = 0;
+        column = 0;
+        columnIsInTab = false;
+        nextNonSpace = 0;
+        nextNonSpaceColumn = 0;
+        nextNonSpaceLine = null;
+        nextNonSpaceFromIndex = -1;
+        nextNonSpaceFromColumn = -1;
+        indent = 0;
+        blank = false;
+        isBlankLine = false;
+
+        lineSegments.clear();
+        activeBlockParsers.clear();
+        lastLineBlank.clear();
+        blockTracker.clear();
+
+        documentBlockParser = new DocumentBlockParser();
+        activateBlockParser(documentBlockParser);
+        currentPhase = ParserPhase.STARTING;
     }
 
     @Override
@@ -272,7 +341,6 @@ public class DocumentParser implements ParserState {
     public Document parse(CharSequence source) {
         BasedSequence input = BasedSequence.of(source);
         int lineStart = 0;
-        int lineBreak;
         int lineEOL;
         int lineEnd;
         lineNumber = 0;
@@ -282,6 +350,69 @@ public class DocumentParser implements ParserState {
 
         currentPhase = ParserPhase.PARSE_BLOCKS;
 
+        // line ends are found in one pass over the input, for the whole base it is shared with offset to line lookups
+        LineStartIndex lineStarts = input == input.getBaseSequence() ? input.getBaseLineStartIndex() : LineStartIndex.of(input);
+        int lineCount = lineStarts.getLineCount() - 1;
+
+        for (int i = 0; i < lineCount; i++) {
+            lineEnd = lineStarts.getLineStart(i + 1);
+            lineEOL = lineEnd - 1;
+            if (lineEOL > lineStart && input.charAt(lineEOL) == '\n' && input.charAt(lineEOL - 1) == '\r') {
+                lineEOL--;
+            }
+
+            BasedSequence line = input.subSequence(lineStart, lineEOL);
+            this.lineWithEOL = input.subSequence(lineStart, lineEnd);
+            this.lineStart = lineStart;
+            this.lineEOLIndex = lineEOL;
+            this.lineEndIndex = lineEnd;
+            incorporateLine(line);
+            lineNumber++;
+            lineStart = lineEnd;
+        }
+
+        if (input.length() > 0 && (lineStart == 0 || lineStart < input.length())) {
+            this.lineWithEOL = input.subSequence(lineStart, input.length());
+            this.lineStart = lineStart;
+            this.lineEOLIndex = input.length();
+            this.lineEndIndex = this.lineEOLIndex;
+            incorporateLine(lineWithEOL);
+            lineNumber++;
+        }
+
+        return finalizeAndProcess();
+    }
+
+    /**
+     * Parse a region of the input, used by incremental parsing to re-parse only the top level blocks affected by an edit
+     * and by streaming parsing to parse input up to the last completed top level block.
+     * <p>
+     * Parsing starts at startOffset, which must be the start of a line where no blocks other than the document are open,
+     * and stops after a blank line which leaves only the document block open, ends at or after minEndOffset
+     * and is at one of the syncOffsets. If no such line is found then parsing continues to the end of input.
+     *
+     * @param input           full source sequence
+     * @param startOffset     offset of the first line to parse
+     * @param startLineNumber line number of the first line to parse
+     * @param minEndOffset    minimum offset at which parsing can stop
+     * @param syncOffsets     sorted line start offsets at which parsing can stop
+     * @param documentData    data to set on the document before parsing, used to provide references defined outside the region
+     * @return Document node holding blocks of the parsed region, its chars span the parsed region
+     */
+    public Document parseRegion(BasedSequence input, int startOffset, int startLineNumber, int minEndOffset, int[] syncOffsets, DataHolder documentData) {
+        int lineStart = startOffset;
+        int lineBreak;
+        int lineEOL;
+        int lineEnd;
+        int endOffset = input.length();
+        lineNumber = startLineNumber;
+
+        documentBlockParser.initializeDocument(options, input.subSequence(startOffset, input.length()));
+        documentBlockParser.getBlock().setAll(documentData);
+        inlineParser.initializeDocument(documentBlockParser.getBlock());
+
+        currentPhase = ParserPhase.PARSE_BLOCKS;
+
         while ((lineBreak = Parsing.findLineBreak(input, lineStart)) != -1) {
             BasedSequence line = input.subSequence(lineStart, lineBreak);
             lineEOL = lineBreak;
@@ -298,9 +429,14 @@ public class DocumentParser implements ParserState {
             incorporateLine(line);
             lineNumber++;
             lineStart = lineEnd;
+
+            if (blank && activeBlockParsers.size() == 1 && lineStart >= minEndOffset && lineStart < input.length() && Arrays.binarySearch(syncOffsets, lineStart) >= 0) {
+                endOffset = lineStart;
+                break;
+            }
         }
 
-        if (input.length() > 0 && (lineStart == 0 || lineStart < input.length())) {
+        if (endOffset == input.length() && lineStart < input.length()) {
             this.lineWithEOL = input.subSequence(lineStart, input.length());
             this.lineStart = lineStart;
             this.lineEOLIndex = input.length();
@@ -309,9 +445,75 @@ public class DocumentParser implements ParserState {
             lineNumber++;
         }
 
+        documentBlockParser.getBlock().setChars(input.subSequence(startOffset, endOffset));
         return finalizeAndProcess();
     }
 
+    /**
+     * Find the last sync offset at which parsing of a region can safely stop, used by streaming parsing before flushing a chunk.
+     * <p>
+     * Parses and pre-processes blocks of the whole input, without document data and without processing inlines, and returns the
+     * last of syncOffsets which follows a blank line leaving only the document block open and at which a top level block starts.
+     * A line which continues a preceding block after a blank line, as definition items do, leaves its offset unsafe.
+     * <p>
+     * The parser instance must be {@link #reset()} before it is used for parsing after this call.
+     *
+     * @param input       full source sequence
+     * @param syncOffsets sorted line start offsets at which parsing could stop
+     * @return last safe sync offset or -1 if there is none
+     */
+    public int findSyncOffset(BasedSequence input, int[] syncOffsets) {
+        int lineStart = 0;
+        int lineBreak;
+        int lineEnd;
+        int candidateCount = 0;
+        int[] candidates = new int[syncOffsets.length];
+        lineNumber = 0;
+
+        documentBlockParser.initializeDocument(options, input);
+        inlineParser.initializeDocument(documentBlockParser.getBlock());
+        currentPhase = ParserPhase.PARSE_BLOCKS;
+
+        while ((lineBreak = Parsing.findLineBreak(input, lineStart)) != -1) {
+            if (lineBreak + 1 < input.length() && input.charAt(lineBreak) == '\r' && input.charAt(lineBreak + 1) == '\n') {
+                lineEnd = lineBreak + 2;
+            } else {
+                lineEnd = lineBreak + 1;
+            }
+
+            this.lineWithEOL = input.subSequence(lineStart, lineEnd);
+            this.lineStart = lineStart;
+            this.lineEOLIndex = lineBreak;
+            this.lineEndIndex = lineEnd;
+            incorporateLine(input.subSequence(lineStart, lineBreak));
+            lineNumber++;
+            lineStart = lineEnd;
+
+            if (blank && activeBlockParsers.size() == 1 && lineStart < input.length() && Arrays.binarySearch(syncOffsets, lineStart) >= 0) {
+                candidates[candidateCount++] = lineStart;
+            }
+        }
+
+        // block pre-processors can combine top level blocks, definition items are joined to the preceding paragraph this way
+        finalizeBlocks(activeBlockParsers);
+        currentPhase = ParserPhase.PRE_PROCESS_PARAGRAPHS;
+        preProcessParagraphs();
+        currentPhase = ParserPhase.PRE_PROCESS_BLOCKS;
+        preProcessBlocks();
+        currentPhase = ParserPhase.DONE;
+
+        Node child = documentBlockParser.getBlock().getLastChild();
+        for (int i = candidateCount; i-- > 0; ) {
+            while (child != null && child.getStartOffset() > candidates[i]) {
+                child = child.getPrevious();
+            }
+
+            if (child == null) break;
+            if (child.getStartOffset() == candidates[i]) return candidates[i];
+        }
+        return -1;
+    }
+
     public Document parse(Reader input) throws IOException {
         BufferedReader bufferedReader;
         if (input instanceof BufferedReader) {
@@ -600,6 +802,12 @@ public class DocumentParser implements ParserState {
         int i = index;
         int cols = column;
 
+        // block parsers which do not advance leave the scan result unchanged
+        if (nextNonSpaceLine == line && nextNonSpaceFromIndex == i && nextNonSpaceFromColumn == cols) return;
+        nextNonSpaceLine = line;
+        nextNonSpaceFromIndex = i;
+        nextNonSpaceFromColumn = cols;
+
         blank = true;
         while (i < line.length()) {
             char c = line.charAt(i);
@@ -746,6 +954,12 @@ public class DocumentParser implements ParserState {
      * Walk through a block & children recursively, parsing string content into inline content where appropriate.
      */
     private void processInlines() {
+        if (inlineParserFactory != null && blockTracker.allBlockParsers().size() >= parallelInlineParsingMinBlocks) {
+            ParallelInlineProcessor processor = new ParallelInlineProcessor(documentBlockParser.getBlock(), new ArrayList<>(blockTracker.allBlockParsers()), inlineParserFactory);
+            processor.process(ForkJoinPool.commonPool());
+            return;
+        }
+
         for (BlockParser blockParser : blockTracker.allBlockParsers()) {
             blockParser.parseInlines(inlineParser);
         }
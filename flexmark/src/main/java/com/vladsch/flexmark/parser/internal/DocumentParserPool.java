@@ -0,0 +1,100 @@
+package com.vladsch.flexmark.parser.internal;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Pool of document parsers for reuse by a parser when parsing many documents.
+ * <p>
+ * Creating a document parser instantiates all block parser factories and an inline parser with its parsing patterns,
+ * a pooled document parser keeps these and only has its parsing state reset, see {@link DocumentParser#reset()}.
+ * <p>
+ * A document parser is acquired for the duration of a single parse and released when the parse completes normally.
+ * A parser which was not released, because of an exception or because the pool is full, is left for garbage collection.
+ * <p>
+ * The pool is thread-safe.
+ */
+public class DocumentParserPool {
+    final private @NotNull Supplier<DocumentParser> documentParserFactory;
+    final private int maxSize;
+    final private ConcurrentLinkedQueue<DocumentParser> pooled = new ConcurrentLinkedQueue<>();
+    final private AtomicInteger pooledCount = new AtomicInteger();
+    final private AtomicLong hitCount = new AtomicLong();
+    final private AtomicLong missCount = new AtomicLong();
+
+    /**
+     * @param documentParserFactory creates new document parsers when the pool is empty
+     * @param maxSize               maximum number of idle document parsers kept in the pool
+     */
+    public DocumentParserPool(@NotNull Supplier<DocumentParser> documentParserFactory, int maxSize) {
+        this.documentParserFactory = documentParserFactory;
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Get a pooled document parser or create a new one if none are available
+     *
+     * @return document parser ready for parsing a document
+     */
+    public @NotNull DocumentParser acquire() {
+        DocumentParser documentParser = pooled.poll();
+        if (documentParser != null) {
+            pooledCount.decrementAndGet();
+            hitCount.incrementAndGet();
+            return documentParser;
+        }
+
+        missCount.incrementAndGet();
+        return documentParserFactory.get();
+    }
+
+    /**
+     * Return a document parser to the pool after its parse completed normally
+     *
+     * @param documentParser document parser acquired from this pool
+     */
+    public void release(@NotNull DocumentParser documentParser) {
+        if (pooledCount.incrementAndGet() > maxSize) {
+            pooledCount.decrementAndGet();
+            return;
+        }
+
+        documentParser.reset();
+        pooled.offer(documentParser);
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * @return number of idle document parsers in the pool
+     */
+    public int getPooledCount() {
+        return pooledCount.get();
+    }
+
+    /**
+     * @return number of acquires which were satisfied by a pooled document parser
+     */
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    /**
+     * @return number of acquires which required creating a new document parser
+     */
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    public void clear() {
+        while (pooled.poll() != null) {
+            pooledCount.decrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,281 @@
+package com.vladsch.flexmark.parser.internal;
+
+import com.vladsch.flexmark.parser.PostProcessorFactory;
+import com.vladsch.flexmark.util.ast.*;
+import com.vladsch.flexmark.util.data.DataKeyBase;
+import com.vladsch.flexmark.util.data.MutableDataSet;
+import com.vladsch.flexmark.util.sequence.BasedSequence;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import static com.vladsch.flexmark.parser.Parser.TRACK_DOCUMENT_LINES;
+
+/**
+ * Re-parses a previously parsed document after an edit by parsing only the top level blocks affected by the edit.
+ * <p>
+ * The re-parsed region starts at a top level block preceding the edit which follows a blank line and ends after
+ * a blank line following the edit at which the previous document had a top level block start. At these points no blocks other than
+ * the document are open. Block parsers of extensions can still continue a block after a blank line, ie. a definition
+ * following a paragraph, so the region includes the first top level block following the edit at such a point and
+ * the edit is only handled incrementally if that block is parsed the same as in the previous document. Unchanged top level blocks
+ * are reused with their sequences moved to the edited text, see {@link com.vladsch.flexmark.util.ast.Node#mapSequences}.
+ * <p>
+ * Edits which add or remove reference definitions affect inline parsing of the whole document and are not handled incrementally,
+ * neither are documents processed by global scope post processors or parsed with {@link com.vladsch.flexmark.parser.Parser#TRACK_DOCUMENT_LINES}.
+ */
+public class IncrementalDocumentParser {
+    final private DocumentParser documentParser;
+    final private List<PostProcessorManager.PostProcessorDependencyStage> postProcessorDependencies;
+
+    public IncrementalDocumentParser(DocumentParser documentParser, List<PostProcessorManager.PostProcessorDependencyStage> postProcessorDependencies) {
+        this.documentParser = documentParser;
+        this.postProcessorDependencies = postProcessorDependencies;
+    }
+
+    /**
+     * Re-parse previous document for edited input
+     *
+     * @param previous       previously parsed document, its children are moved to the returned document
+     * @param input          full text after the edit
+     * @param editStart      start offset of the edit in previous document text
+     * @param editEnd        end offset of replaced text in previous document text
+     * @param insertedLength length of text replacing the edited range
+     * @return previous document updated for the edited text or null if the edit cannot be handled incrementally
+     *         and the input needs to be fully parsed
+     */
+    public @Nullable Document reparse(@NotNull Document previous, @NotNull BasedSequence input, int editStart, int editEnd, int insertedLength) {
+        BasedSequence oldChars = previous.getChars();
+        int delta = insertedLength - (editEnd - editStart);
+
+        if (editStart < 0 || editStart > editEnd || editEnd > oldChars.length() || insertedLength < 0) {
+            throw new IllegalArgumentException(String.format("Invalid edit range [%d, %d) for document length %d", editStart, editEnd, oldChars.length()));
+        }
+
+        if (oldChars.length() + delta != input.length()) {
+            throw new IllegalArgumentException(String.format("Input length %d does not match edited document length %d", input.length(), oldChars.length() + delta));
+        }
+
+        if (!canReparse(previous, input)) return null;
+
+        ArrayList<Node> children = new ArrayList<>();
+        for (Node child : previous.getChildren()) {
+            children.add(child);
+        }
+
+        int first = -1;
+        int last = -1;
+        int iMax = children.size();
+        for (int i = 0; i < iMax; i++) {
+            Node child = children.get(i);
+            if (child instanceof BlankLine) continue;
+            if (child.getStartOffset() <= editStart) first = i;
+            if (child.getStartOffset() <= editEnd) last = i;
+        }
+
+        // the block preceding the edited one can be changed by the edit, ie. lazy continuation or setext heading
+        if (first > 0) first = previousBlock(children, first);
+
+        int regionStart = 0;
+        while (first > 0) {
+            int lineStart = oldChars.startOfLine(children.get(first).getStartOffset());
+            if (children.get(first - 1).getEndOffset() <= lineStart && isAfterBlankLine(oldChars, lineStart)) {
+                regionStart = lineStart;
+                break;
+            }
+            first = previousBlock(children, first);
+        }
+        if (first < 0) first = 0;
+
+        int minEndOffset = editEnd;
+        if (last >= 0) minEndOffset = Math.max(minEndOffset, children.get(last).getEndOffset());
+
+        int[] syncOffsets = new int[iMax];
+        int syncCount = 0;
+        int checkBlock = -1;
+        for (int i = Math.max(first, last + 1); i < iMax; i++) {
+            Node child = children.get(i);
+            if (child instanceof BlankLine) continue;
+
+            int startOffset = child.getStartOffset();
+            if (startOffset > regionStart && startOffset >= minEndOffset && isLineStart(oldChars, startOffset) && isAfterBlankLine(oldChars, startOffset)) {
+                if (syncCount == 0) checkBlock = i;
+                syncOffsets[syncCount++] = startOffset + delta;
+            }
+        }
+
+        // region does not end before the first block after the edit, it is compared to the previous block
+        int regionMinEnd = checkBlock == -1 ? minEndOffset + delta : syncOffsets[0] + 1;
+
+        int startLineNumber = previous.getLineNumber(regionStart);
+        Document region = documentParser.parseRegion(input, regionStart, startLineNumber, regionMinEnd, Arrays.copyOf(syncOffsets, syncCount), documentData(previous));
+
+        int regionEnd = region.getChars().getEndOffset();
+        int suffix = iMax;
+        if (regionEnd < input.length()) {
+            if (!isSameBlock(children.get(checkBlock), findBlock(region, syncOffsets[0]), delta)) return null;
+
+            int suffixStart = regionEnd - delta;
+            for (int i = first; i < iMax; i++) {
+                if (children.get(i).getStartOffset() >= suffixStart) {
+                    suffix = i;
+                    break;
+                }
+            }
+
+            if (suffix == iMax || children.get(suffix).getStartOffset() != suffixStart) return null;
+        }
+
+        // reference definitions affect inline parsing outside the region
+        if (hasReferenceNode(region)) return null;
+        for (int i = first; i < suffix; i++) {
+            if (hasReferenceNode(children.get(i))) return null;
+        }
+
+        NodeSequenceRebaser rebaser = new NodeSequenceRebaser(oldChars.getBaseSequence(), input.getBaseSequence());
+        for (int i = 0; i < first; i++) {
+            if (!rebaser.addNode(children.get(i), 0)) return null;
+        }
+
+        for (int i = suffix; i < iMax; i++) {
+            if (!rebaser.addNode(children.get(i), delta)) return null;
+        }
+
+        region = PostProcessorManager.processDocument(region, postProcessorDependencies);
+
+        rebaser.apply();
+
+        for (int i = first; i < suffix; i++) {
+            children.get(i).unlink();
+        }
+
+        Node suffixNode = suffix < iMax ? children.get(suffix) : null;
+        Node child = region.getFirstChild();
+        while (child != null) {
+            Node next = child.getNext();
+            child.unlink();
+            if (suffixNode != null) suffixNode.insertBefore(child);
+            else previous.appendChild(child);
+            child = next;
+        }
+
+        previous.setChars(input);
+        return previous;
+    }
+
+    private boolean canReparse(@NotNull Document previous, @NotNull BasedSequence input) {
+        if (TRACK_DOCUMENT_LINES.get(previous)) return false;
+
+        // only full base sequences, offsets of nodes must be valid in the edited text
+        BasedSequence oldChars = previous.getChars();
+        if (oldChars.getStartOffset() != 0 || oldChars.getEndOffset() != oldChars.getBaseSequence().length()) return false;
+        if (input.getStartOffset() != 0 || input.getEndOffset() != input.getBaseSequence().length()) return false;
+
+        for (PostProcessorManager.PostProcessorDependencyStage stage : postProcessorDependencies) {
+            for (PostProcessorFactory factory : stage.dependents) {
+                if (factory.affectsGlobalScope()) return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Copy previous document data, node repositories are copied so that definitions added while parsing
+     * the region do not modify the previous document
+     *
+     * @param previous previous document
+     * @return data for the region document
+     */
+    @SuppressWarnings("unchecked")
+    private static MutableDataSet documentData(@NotNull Document previous) {
+        MutableDataSet dataSet = new MutableDataSet(previous);
+
+        for (Map.Entry<? extends DataKeyBase<?>, Object> entry : previous.getAll().entrySet()) {
+            if (entry.getValue() instanceof NodeRepository) {
+                DataKeyBase<?> key = entry.getKey();
+                dataSet.remove(key);
+                NodeRepository<Object> repository = (NodeRepository<Object>) key.get(dataSet);
+                repository.putAll((NodeRepository<Object>) entry.getValue());
+            }
+        }
+        return dataSet;
+    }
+
+    private static int previousBlock(@NotNull List<Node> children, int index) {
+        for (int i = index - 1; i >= 0; i--) {
+            if (!(children.get(i) instanceof BlankLine)) return i;
+        }
+        return -1;
+    }
+
+    @Nullable
+    private static Node findBlock(@NotNull Document region, int startOffset) {
+        for (Node child : region.getChildren()) {
+            if (!(child instanceof BlankLine) && child.getStartOffset() == startOffset) return child;
+        }
+        return null;
+    }
+
+    /**
+     * @param previous block of previous document
+     * @param block    block of the region or null
+     * @param delta    offset delta of the edit
+     * @return true if block and its descendants have the same types and offsets as the previous block
+     */
+    private static boolean isSameBlock(@NotNull Node previous, @Nullable Node block, int delta) {
+        if (!isSameNode(previous, block, delta)) return false;
+
+        Iterator<Node> previousDescendants = previous.getDescendants().iterator();
+        Iterator<Node> descendants = block.getDescendants().iterator();
+        while (previousDescendants.hasNext() && descendants.hasNext()) {
+            if (!isSameNode(previousDescendants.next(), descendants.next(), delta)) return false;
+        }
+        return !previousDescendants.hasNext() && !descendants.hasNext();
+    }
+
+    private static boolean isSameNode(@NotNull Node previous, @Nullable Node node, int delta) {
+        return node != null && node.getClass() == previous.getClass()
+                && node.getStartOffset() == previous.getStartOffset() + delta && node.getEndOffset() == previous.getEndOffset() + delta;
+    }
+
+    private static boolean hasReferenceNode(@NotNull Node node) {
+        if (node instanceof ReferenceNode) return true;
+
+        for (Node descendant : node.getDescendants()) {
+            if (descendant instanceof ReferenceNode) return true;
+        }
+        return false;
+    }
+
+    private static boolean isLineStart(@NotNull BasedSequence chars, int offset) {
+        if (offset == 0) return true;
+        char c = chars.charAt(offset - 1);
+        return c == '\n' || c == '\r';
+    }
+
+    /**
+     * @param chars  document chars
+     * @param offset offset of start of line
+     * @return true if line at offset is the first line or preceded by a blank line
+     */
+    private static boolean isAfterBlankLine(@NotNull BasedSequence chars, int offset) {
+        if (offset == 0) return true;
+
+        int i = offset - 1;
+        if (chars.charAt(i) == '\n') i--;
+        if (i >= 0 && chars.charAt(i) == '\r') i--;
+
+        while (i >= 0) {
+            char c = chars.charAt(i);
+            if (c == '\n' || c == '\r') return true;
+            if (c != ' ' && c != '\t') return false;
+            i--;
+        }
+        return true;
+    }
+}
@@ -36,6 +36,7 @@ public class InlineParserImpl extends LightInlineParserImpl implements InlinePar
     protected Map<Character, List<InlineParserExtension>> inlineParserExtensions = null;
     protected List<InlineParserExtensionFactory> inlineParserExtensionFactories = null;
     protected LinkDestinationParser linkDestinationParser = null;
+    protected InlineScanner inlineScanner = null;
 
     // used to temporarily override handling of special characters by custom ParagraphPreProcessors
     protected BitSet specialCharacters;
@@ -43,6 +44,11 @@ public class InlineParserImpl extends LightInlineParserImpl implements InlinePar
     protected Map<Character, CharacterNodeFactory> customSpecialCharacterFactoryMap = null;
     protected ArrayList<Node> customSpecialCharacterNodes = null;
 
+    // characters of input copied for scanning text runs, reused between inputs, released at end of document if longer than max
+    final private static int MAX_RETAINED_INPUT_CHARS = 8192;
+    private char[] inputChars = null;
+    private BasedSequence inputCharsSource = null;
+
     /**
      * Link references by ID, needs to be built up using parseReference before calling parse.
      */
@@ -78,6 +84,10 @@ public class InlineParserImpl extends LightInlineParserImpl implements InlinePar
         if (this.options.useHardcodedLinkAddressParser) {
             this.linkDestinationParser = new LinkDestinationParser(this.options.linksAllowMatchedParentheses, this.options.spaceInLinkUrls, this.options.parseJekyllMacrosInUrls, this.options.intellijDummyIdentifier);
         }
+
+        if (this.options.useHardcodedInlineScanners) {
+            this.inlineScanner = new InlineScanner(this.options.spaceInLinkUrls, this.options.intellijDummyIdentifier);
+        }
     }
 
     @Override
@@ -118,6 +128,10 @@ public class InlineParserImpl extends LightInlineParserImpl implements InlinePar
     public void finalizeDocument(@NotNull Document document) {
         assert this.referenceRepository == Parser.REFERENCES.get(document);
 
+        // do not keep document text or a large copy of it for the next document
+        inputCharsSource = null;
+        if (inputChars != null && inputChars.length > MAX_RETAINED_INPUT_CHARS) inputChars = null;
+
         if (inlineParserExtensions != null) {
             for (List<InlineParserExtension> extensionList : inlineParserExtensions.values()) {
                 for (InlineParserExtension extension : extensionList) {
@@ -1181,7 +1195,7 @@ public class InlineParserImpl extends LightInlineParserImpl implements InlinePar
      */
     @Override
     public BasedSequence parseLinkDestination() {
-        BasedSequence res = match(myParsing.LINK_DESTINATION_ANGLES);
+        BasedSequence res = inlineScanner != null ? matchScanned(inlineScanner.scanLinkDestinationAngles(input, index)) : match(myParsing.LINK_DESTINATION_ANGLES);
         if (res != null) {
             return res;
         } else {
@@ -1238,7 +1252,7 @@ public class InlineParserImpl extends LightInlineParserImpl implements InlinePar
      */
     @Override
     public BasedSequence parseLinkTitle() {
-        BasedSequence title = match(myParsing.LINK_TITLE);
+        BasedSequence title = inlineScanner != null ? matchScanned(inlineScanner.scanLinkTitle(input, index)) : match(myParsing.LINK_TITLE);
         // chop off quotes from title and unescape:
         return title; //Escaping.unescapeString(title.substring(1, title.length() - 1));
     }
@@ -1261,6 +1275,10 @@ public class InlineParserImpl extends LightInlineParserImpl implements InlinePar
      */
     @Override
     public boolean parseAutolink() {
+        if (inlineScanner != null && !myParsing.htmlForTranslator) {
+            return parseScannedAutolink();
+        }
+
         BasedSequence m;
         if ((m = match(myParsing.EMAIL_AUTOLINK)) != null) {
             MailLink node = new MailLink(m.subSequence(0, 1), m.subSequence(1, m.length() - 1), m.subSequence(m.length() - 1, m.length()));
@@ -1279,6 +1297,22 @@ public class InlineParserImpl extends LightInlineParserImpl implements InlinePar
         }
     }
 
+    private boolean parseScannedAutolink() {
+        BasedSequence m;
+        if ((m = matchScanned(inlineScanner.scanEmailAutolink(input, index))) != null) {
+            MailLink node = new MailLink(m.subSequence(0, 1), m.subSequence(1, m.length() - 1), m.subSequence(m.length() - 1, m.length()));
+            appendNode(node);
+            return true;
+        } else if ((m = matchScanned(inlineScanner.scanAutolink(input, index))) != null
+                || options.wwwAutoLinkElement && (m = matchScanned(inlineScanner.scanWwwAutolink(input, index))) != null) {
+            AutoLink node = new AutoLink(m.subSequence(0, 1), m.subSequence(1, m.length() - 1), m.subSequence(m.length() - 1, m.length()));
+            appendNode(node);
+            return true;
+        } else {
+            return false;
+        }
+    }
+
     /**
      * Attempt to parse inline HTML.
      *
@@ -1286,7 +1320,7 @@ public class InlineParserImpl extends LightInlineParserImpl implements InlinePar
      */
     @Override
     public boolean parseHtmlInline() {
-        BasedSequence m = match(myParsing.HTML_TAG);
+        BasedSequence m = inlineScanner != null && !myParsing.htmlForTranslator ? matchScanned(inlineScanner.scanHtmlTag(input, index)) : match(myParsing.HTML_TAG);
         if (m != null) {
             // separate HTML comment from herd
             HtmlInlineBase node;
@@ -1310,7 +1344,7 @@ public class InlineParserImpl extends LightInlineParserImpl implements InlinePar
     @Override
     public boolean parseEntity() {
         BasedSequence m;
-        if ((m = match(myParsing.ENTITY_HERE)) != null) {
+        if ((m = inlineScanner != null ? matchScanned(inlineScanner.scanEntity(input, index)) : match(myParsing.ENTITY_HERE)) != null) {
             HtmlEntity node = new HtmlEntity(m);
             appendNode(node);
             return true;
@@ -1319,6 +1353,22 @@ public class InlineParserImpl extends LightInlineParserImpl implements InlinePar
         }
     }
 
+    /**
+     * Advance index to the end of a match by an inline scanner
+     *
+     * @param end end index returned by scanner, -1 if not matched
+     * @return sequence matched or null
+     */
+    protected BasedSequence matchScanned(int end) {
+        if (end == -1) {
+            return null;
+        }
+
+        BasedSequence matched = input.subSequence(index, end);
+        index = end;
+        return matched;
+    }
+
     /**
      * Parse a run of ordinary characters, or a single character with a special meaning in markdown, as a plain string.
      *
@@ -1327,10 +1377,16 @@ public class InlineParserImpl extends LightInlineParserImpl implements InlinePar
     protected boolean parseString() {
         int begin = index;
         int length = input.length();
-        while (index != length) {
-            if (specialCharacters.get(input.charAt(index))) {
-                break;
-            }
+
+        if (inputCharsSource != input) {
+            if (inputChars == null || inputChars.length < length) inputChars = new char[length];
+            input.getChars(0, length, inputChars, 0);
+            inputCharsSource = input;
+        }
+
+        char[] chars = inputChars;
+        BitSet specialCharacters = this.specialCharacters;
+        while (index != length && !specialCharacters.get(chars[index])) {
             index++;
         }
         if (begin != index) {
@@ -1343,7 +1399,10 @@ public class InlineParserImpl extends LightInlineParserImpl implements InlinePar
 
     @Override
     protected Object clone() throws CloneNotSupportedException {
-        return super.clone();
+        InlineParserImpl parser = (InlineParserImpl) super.clone();
+        parser.inputChars = null;
+        parser.inputCharsSource = null;
+        return parser;
     }
 
     /**
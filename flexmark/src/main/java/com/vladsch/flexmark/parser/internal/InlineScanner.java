@@ -0,0 +1,487 @@
+package com.vladsch.flexmark.parser.internal;
+
+import com.vladsch.flexmark.util.format.TableFormatOptions;
+import com.vladsch.flexmark.util.sequence.BasedSequence;
+import com.vladsch.flexmark.util.sequence.Escaping;
+
+import java.util.BitSet;
+
+import static com.vladsch.flexmark.parser.internal.LinkDestinationParser.getCharSet;
+
+/**
+ * Hand rolled scanners for inline elements, matching the same text as the corresponding {@link com.vladsch.flexmark.ast.util.Parsing} patterns
+ * without creating a matcher.
+ * <p>
+ * Each scan method takes the input and the index at which the element is expected to start and returns the index
+ * after the end of the match or -1 if the element does not match at the index.
+ * <p>
+ * Patterns which include translation tag patterns, used when HTML_FOR_TRANSLATOR is enabled, have no scanner equivalent
+ * and the regex must be used for them.
+ */
+public class InlineScanner {
+    final public static char NUL = '\u0000';
+
+    final public BitSet ESCAPABLE_CHARS;
+    final public BitSet EXCLUDED_0_TO_SPACE_CHARS;
+    final public BitSet ALPHA_CHARS;
+    final public BitSet ALPHA_NUMERIC_CHARS;
+    final public BitSet HEX_CHARS;
+    final public BitSet DIGIT_CHARS;
+    final public BitSet WHITESPACE_CHARS;
+    final public BitSet LINE_TERMINATOR_CHARS;
+    final public BitSet ANGLES_EXCLUDED_CHARS;
+    final public BitSet EMAIL_LOCAL_CHARS;
+    final public BitSet SCHEME_CHARS;
+    final public BitSet LABEL_CHARS;
+    final public BitSet AUTOLINK_EXCLUDED_CHARS;
+    final public BitSet DECLARATION_NAME_CHARS;
+    final public BitSet TAG_NAME_START_CHARS;
+    final public BitSet TAG_NAME_CHARS;
+    final public BitSet ATTRIBUTE_NAME_START_CHARS;
+    final public BitSet ATTRIBUTE_NAME_CHARS;
+    final public BitSet UNQUOTED_VALUE_EXCLUDED_CHARS;
+    final public boolean spaceInUrls;
+    final public boolean intellijDummyIdentifier;
+
+    /**
+     * Inline element scanner
+     *
+     * @param spaceInUrls             allow space in link destination in angle brackets, same as SPACE_IN_LINK_URLS
+     * @param intellijDummyIdentifier allow intellij dummy identifier character
+     */
+    public InlineScanner(boolean spaceInUrls, boolean intellijDummyIdentifier) {
+        this.spaceInUrls = spaceInUrls;
+        this.intellijDummyIdentifier = intellijDummyIdentifier;
+
+        ESCAPABLE_CHARS = getCharSet("!" + Escaping.ESCAPABLE_CHARS);
+
+        EXCLUDED_0_TO_SPACE_CHARS = getCharSet('\u0000', ' ');
+        if (intellijDummyIdentifier) EXCLUDED_0_TO_SPACE_CHARS.clear(TableFormatOptions.INTELLIJ_DUMMY_IDENTIFIER_CHAR);
+
+        ALPHA_CHARS = getCharSet('a', 'z');
+        ALPHA_CHARS.or(getCharSet('A', 'Z'));
+
+        DIGIT_CHARS = getCharSet('0', '9');
+
+        ALPHA_NUMERIC_CHARS = (BitSet) ALPHA_CHARS.clone();
+        ALPHA_NUMERIC_CHARS.or(DIGIT_CHARS);
+
+        HEX_CHARS = getCharSet("0123456789abcdefABCDEF");
+
+        // Java regex \s
+        WHITESPACE_CHARS = getCharSet(" \t\n\u000B\f\r");
+
+        // chars not matched by . in Java regex
+        LINE_TERMINATOR_CHARS = getCharSet("\n\r\u0085");
+        LINE_TERMINATOR_CHARS.set('\u2028');
+        LINE_TERMINATOR_CHARS.set('\u2029');
+
+        ANGLES_EXCLUDED_CHARS = getCharSet("<> \t\n\\\u0000");
+
+        EMAIL_LOCAL_CHARS = (BitSet) ALPHA_NUMERIC_CHARS.clone();
+        EMAIL_LOCAL_CHARS.or(getCharSet(".!#$%&'*+/=?^_`{|}~-"));
+
+        SCHEME_CHARS = (BitSet) ALPHA_NUMERIC_CHARS.clone();
+        SCHEME_CHARS.or(getCharSet(".+-"));
+
+        LABEL_CHARS = (BitSet) ALPHA_NUMERIC_CHARS.clone();
+        LABEL_CHARS.set('-');
+
+        DECLARATION_NAME_CHARS = (BitSet) ALPHA_CHARS.clone();
+
+        AUTOLINK_EXCLUDED_CHARS = getCharSet("<>");
+        AUTOLINK_EXCLUDED_CHARS.or(EXCLUDED_0_TO_SPACE_CHARS);
+
+        TAG_NAME_START_CHARS = (BitSet) ALPHA_CHARS.clone();
+
+        TAG_NAME_CHARS = (BitSet) ALPHA_NUMERIC_CHARS.clone();
+        TAG_NAME_CHARS.set('-');
+
+        ATTRIBUTE_NAME_START_CHARS = (BitSet) ALPHA_CHARS.clone();
+        ATTRIBUTE_NAME_START_CHARS.or(getCharSet("_:"));
+
+        ATTRIBUTE_NAME_CHARS = (BitSet) ALPHA_NUMERIC_CHARS.clone();
+        ATTRIBUTE_NAME_CHARS.or(getCharSet(":._-"));
+
+        UNQUOTED_VALUE_EXCLUDED_CHARS = getCharSet("\"'=<>{}`");
+        UNQUOTED_VALUE_EXCLUDED_CHARS.or(EXCLUDED_0_TO_SPACE_CHARS);
+
+        if (intellijDummyIdentifier) {
+            // additional chars allowed in patterns
+            char dummy = TableFormatOptions.INTELLIJ_DUMMY_IDENTIFIER_CHAR;
+            ALPHA_NUMERIC_CHARS.set(dummy);
+            HEX_CHARS.set(dummy);
+            EMAIL_LOCAL_CHARS.set(dummy);
+            LABEL_CHARS.set(dummy);
+            SCHEME_CHARS.set(dummy);
+            DECLARATION_NAME_CHARS.set(dummy);
+            TAG_NAME_START_CHARS.set(dummy);
+            TAG_NAME_CHARS.set(dummy);
+            ATTRIBUTE_NAME_START_CHARS.set(dummy);
+            ATTRIBUTE_NAME_CHARS.set(dummy);
+        }
+    }
+
+    private static boolean isIn(BitSet charSet, BasedSequence input, int index) {
+        return index < input.length() && charSet.get(input.charAt(index));
+    }
+
+    private static boolean isChar(char c, BasedSequence input, int index) {
+        return index < input.length() && input.charAt(index) == c;
+    }
+
+    private static int skip(BitSet charSet, BasedSequence input, int index) {
+        int iMax = input.length();
+        while (index < iMax && charSet.get(input.charAt(index))) index++;
+        return index;
+    }
+
+    private static int skipNot(BitSet charSet, BasedSequence input, int index) {
+        int iMax = input.length();
+        while (index < iMax && !charSet.get(input.charAt(index))) index++;
+        return index;
+    }
+
+    private static boolean startsWith(String prefix, BasedSequence input, int index, boolean ignoreCase) {
+        int iMax = prefix.length();
+        if (index + iMax > input.length()) return false;
+
+        for (int i = 0; i < iMax; i++) {
+            char c = input.charAt(index + i);
+            char p = prefix.charAt(i);
+            if (c != p && !(ignoreCase && Character.toLowerCase(c) == p && c < 128)) return false;
+        }
+        return true;
+    }
+
+    private static int indexOf(String target, BasedSequence input, int index) {
+        int iMax = input.length() - target.length();
+        for (int i = index; i <= iMax; i++) {
+            if (startsWith(target, input, i, false)) return i;
+        }
+        return -1;
+    }
+
+    /**
+     * Scan link destination in angle brackets, same as Parsing.LINK_DESTINATION_ANGLES
+     *
+     * @param input input
+     * @param index start index
+     * @return end index of match or -1
+     */
+    public int scanLinkDestinationAngles(BasedSequence input, int index) {
+        if (!isChar('<', input, index)) return -1;
+
+        int iMax = input.length();
+        int lastEscapedClose = -1;
+        int i = index + 1;
+
+        while (i < iMax) {
+            char c = input.charAt(i);
+
+            if (c == '\\') {
+                if (isIn(ESCAPABLE_CHARS, input, i + 1)) {
+                    // escaped > can also end the destination if nothing after it does
+                    if (input.charAt(i + 1) == '>') lastEscapedClose = i + 1;
+                    i += 2;
+                } else {
+                    i++;
+                }
+            } else if (c == ' ' && spaceInUrls) {
+                if (isChar('"', input, i + 1) || isChar('\'', input, i + 1)) break;
+                i++;
+            } else if (ANGLES_EXCLUDED_CHARS.get(c)) {
+                break;
+            } else {
+                i++;
+            }
+        }
+
+        if (isChar('>', input, i)) return i + 1;
+        return lastEscapedClose == -1 ? -1 : lastEscapedClose + 1;
+    }
+
+    /**
+     * Scan link title, including quotes, same as Parsing.LINK_TITLE
+     *
+     * @param input input
+     * @param index start index
+     * @return end index of match or -1
+     */
+    public int scanLinkTitle(BasedSequence input, int index) {
+        if (index >= input.length()) return -1;
+
+        char close;
+        switch (input.charAt(index)) {
+            case '"':
+                close = '"';
+                break;
+            case '\'':
+                close = '\'';
+                break;
+            case '(':
+                close = ')';
+                break;
+            default:
+                return -1;
+        }
+
+        int iMax = input.length();
+        int lastEscapedClose = -1;
+        int i = index + 1;
+
+        while (i < iMax) {
+            char c = input.charAt(i);
+
+            if (c == close || c == NUL) {
+                break;
+            } else if (c == '\\' && isIn(ESCAPABLE_CHARS, input, i + 1)) {
+                // escaped close can also end the title if nothing after it does
+                if (input.charAt(i + 1) == close) lastEscapedClose = i + 1;
+                i += 2;
+            } else {
+                i++;
+            }
+        }
+
+        if (isChar(close, input, i)) return i + 1;
+        return lastEscapedClose == -1 ? -1 : lastEscapedClose + 1;
+    }
+
+    /**
+     * Scan entity, same as Parsing.ENTITY_HERE
+     *
+     * @param input input
+     * @param index start index
+     * @return end index of match or -1
+     */
+    public int scanEntity(BasedSequence input, int index) {
+        if (!isChar('&', input, index)) return -1;
+
+        int i = index + 1;
+        int end;
+
+        if (isChar('#', input, i)) {
+            i++;
+            if (isChar('x', input, i) || isChar('X', input, i)) {
+                i++;
+                end = skip(HEX_CHARS, input, i);
+                if (end - i < 1 || end - i > 8) return -1;
+            } else {
+                end = skip(DIGIT_CHARS, input, i);
+                if (end - i < 1 || end - i > 8) return -1;
+            }
+        } else {
+            if (!isIn(ALPHA_CHARS, input, i) && !(intellijDummyIdentifier && isChar(TableFormatOptions.INTELLIJ_DUMMY_IDENTIFIER_CHAR, input, i))) return -1;
+            i++;
+            end = skip(ALPHA_NUMERIC_CHARS, input, i);
+            if (end - i < 1 || end - i > 31) return -1;
+        }
+
+        return isChar(';', input, end) ? end + 1 : -1;
+    }
+
+    /**
+     * Scan email autolink, same as Parsing.EMAIL_AUTOLINK without translation tag pattern
+     *
+     * @param input input
+     * @param index start index
+     * @return end index of match or -1
+     */
+    public int scanEmailAutolink(BasedSequence input, int index) {
+        if (!isChar('<', input, index)) return -1;
+
+        int i = skip(EMAIL_LOCAL_CHARS, input, index + 1);
+        if (i == index + 1 || !isChar('@', input, i)) return -1;
+
+        // domain labels separated by .
+        while (true) {
+            int labelStart = i + 1;
+            int labelEnd = skip(LABEL_CHARS, input, labelStart);
+            int labelLength = labelEnd - labelStart;
+
+            if (labelLength < 1 || labelLength > 63) return -1;
+            if (!ALPHA_NUMERIC_CHARS.get(input.charAt(labelStart)) || !ALPHA_NUMERIC_CHARS.get(input.charAt(labelEnd - 1))) return -1;
+
+            if (isChar('.', input, labelEnd)) {
+                i = labelEnd;
+            } else {
+                return isChar('>', input, labelEnd) ? labelEnd + 1 : -1;
+            }
+        }
+    }
+
+    /**
+     * Scan URL autolink, same as Parsing.AUTOLINK without translation tag pattern
+     *
+     * @param input input
+     * @param index start index
+     * @return end index of match or -1
+     */
+    public int scanAutolink(BasedSequence input, int index) {
+        if (!isChar('<', input, index)) return -1;
+        if (!isIn(ALPHA_CHARS, input, index + 1)) return -1;
+
+        int schemeStart = index + 2;
+        int schemeEnd = skip(SCHEME_CHARS, input, schemeStart);
+        if (schemeEnd - schemeStart < 1 || schemeEnd - schemeStart > 31 || !isChar(':', input, schemeEnd)) return -1;
+
+        int end = skipNot(AUTOLINK_EXCLUDED_CHARS, input, schemeEnd + 1);
+        return isChar('>', input, end) ? end + 1 : -1;
+    }
+
+    /**
+     * Scan www autolink, same as Parsing.WWW_AUTOLINK without translation tag pattern
+     *
+     * @param input input
+     * @param index start index
+     * @return end index of match or -1
+     */
+    public int scanWwwAutolink(BasedSequence input, int index) {
+        if (!isChar('<', input, index)) return -1;
+
+        int i = index + 1;
+        if (intellijDummyIdentifier) {
+            // exactly www each optionally followed by dummy identifier
+            for (int w = 0; w < 3; w++) {
+                if (!isChar('w', input, i)) return -1;
+                i++;
+                if (isChar(TableFormatOptions.INTELLIJ_DUMMY_IDENTIFIER_CHAR, input, i)) i++;
+            }
+        } else {
+            // NOTE: pattern is (?:w?){3,3} so up to 3 w are matched
+            int w = 0;
+            while (w < 3 && isChar('w', input, i)) {
+                w++;
+                i++;
+            }
+        }
+
+        if (!isChar('.', input, i)) return -1;
+
+        int end = skipNot(AUTOLINK_EXCLUDED_CHARS, input, i + 1);
+        return isChar('>', input, end) ? end + 1 : -1;
+    }
+
+    /**
+     * Scan inline HTML, same as Parsing.HTML_TAG without translation tag patterns
+     *
+     * @param input input
+     * @param index start index
+     * @return end index of match or -1
+     */
+    public int scanHtmlTag(BasedSequence input, int index) {
+        if (!isChar('<', input, index) || index + 1 >= input.length()) return -1;
+
+        char c = input.charAt(index + 1);
+        if (c == '/') {
+            return scanCloseTag(input, index);
+        } else if (c == '?') {
+            return scanProcessingInstruction(input, index);
+        } else if (c == '!') {
+            int end = scanHtmlComment(input, index);
+            if (end == -1) end = scanDeclaration(input, index);
+            if (end == -1) end = scanCData(input, index);
+            return end;
+        } else {
+            return scanOpenTag(input, index);
+        }
+    }
+
+    private int scanOpenTag(BasedSequence input, int index) {
+        if (!isIn(TAG_NAME_START_CHARS, input, index + 1)) return -1;
+
+        int i = skip(TAG_NAME_CHARS, input, index + 2);
+
+        // attributes
+        while (true) {
+            int nameStart = skip(WHITESPACE_CHARS, input, i);
+            if (nameStart == i || !isIn(ATTRIBUTE_NAME_START_CHARS, input, nameStart)) break;
+
+            i = skip(ATTRIBUTE_NAME_CHARS, input, nameStart + 1);
+
+            // optional value spec
+            int valueSpec = skip(WHITESPACE_CHARS, input, i);
+            if (isChar('=', input, valueSpec)) {
+                int valueEnd = scanAttributeValue(input, skip(WHITESPACE_CHARS, input, valueSpec + 1));
+                if (valueEnd != -1) i = valueEnd;
+            }
+        }
+
+        i = skip(WHITESPACE_CHARS, input, i);
+        if (isChar('/', input, i)) i++;
+        return isChar('>', input, i) ? i + 1 : -1;
+    }
+
+    private int scanAttributeValue(BasedSequence input, int index) {
+        if (index >= input.length()) return -1;
+
+        char c = input.charAt(index);
+        if (c == '\'' || c == '"') {
+            int iMax = input.length();
+            for (int i = index + 1; i < iMax; i++) {
+                if (input.charAt(i) == c) return i + 1;
+            }
+            return -1;
+        } else {
+            int end = skipNot(UNQUOTED_VALUE_EXCLUDED_CHARS, input, index);
+            return end == index ? -1 : end;
+        }
+    }
+
+    private int scanCloseTag(BasedSequence input, int index) {
+        if (!isIn(TAG_NAME_START_CHARS, input, index + 2)) return -1;
+
+        int i = skip(TAG_NAME_CHARS, input, index + 3);
+        i = skip(WHITESPACE_CHARS, input, i);
+        return isChar('>', input, i) ? i + 1 : -1;
+    }
+
+    private int scanHtmlComment(BasedSequence input, int index) {
+        if (!startsWith("<!--", input, index, false)) return -1;
+        if (startsWith("<!---->", input, index, false)) return index + 7;
+
+        int body = index + 4;
+
+        // comment text cannot start with > or ->
+        if (isChar('>', input, body)) return -1;
+        if (isChar('-', input, body) && (isChar('>', input, body + 1) || isChar('-', input, body + 1))) return -1;
+        if (body >= input.length()) return -1;
+
+        // text cannot contain -- so it must be the end of the comment
+        int end = indexOf("--", input, body + 1);
+        return end != -1 && isChar('>', input, end + 2) ? end + 3 : -1;
+    }
+
+    private int scanProcessingInstruction(BasedSequence input, int index) {
+        int iMax = input.length();
+        for (int i = index + 2; i < iMax; i++) {
+            char c = input.charAt(i);
+            if (c == '?' && isChar('>', input, i + 1)) return i + 2;
+            if (LINE_TERMINATOR_CHARS.get(c)) return -1;
+        }
+        return -1;
+    }
+
+    private int scanDeclaration(BasedSequence input, int index) {
+        int nameStart = index + 2;
+        int nameEnd = skip(DECLARATION_NAME_CHARS, input, nameStart);
+        if (nameEnd == nameStart) return -1;
+
+        int i = skip(WHITESPACE_CHARS, input, nameEnd);
+        if (i == nameEnd) return -1;
+
+        int iMax = input.length();
+        for (; i < iMax; i++) {
+            if (input.charAt(i) == '>') return i + 1;
+        }
+        return -1;
+    }
+
+    private int scanCData(BasedSequence input, int index) {
+        if (!startsWith("<![cdata[", input, index, true)) return -1;
+
+        int end = indexOf("]]>", input, index + 9);
+        return end == -1 ? -1 : end + 3;
+    }
+}
@@ -0,0 +1,122 @@
+package com.vladsch.flexmark.parser.internal;
+
+import com.vladsch.flexmark.util.ast.Node;
+import com.vladsch.flexmark.util.sequence.BasedSequence;
+import com.vladsch.flexmark.util.sequence.Range;
+import com.vladsch.flexmark.util.sequence.SubSequence;
+import com.vladsch.flexmark.util.sequence.builder.BasedSegmentBuilder;
+import com.vladsch.flexmark.util.sequence.builder.SequenceBuilder;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+
+/**
+ * Moves node sequences from one base sequence to another with offsets shifted by a delta.
+ * <p>
+ * Used by incremental parsing to reuse unchanged nodes of a previous document in the document for edited text.
+ * Sequences are replaced through {@link Node#mapSequences(java.util.function.UnaryOperator)}, nodes whose
+ * {@link Node#getSegments()} include sequences which are not mapped cannot be moved. Rebasing is done in two steps so that
+ * nothing is modified unless all sequences can be rebased.
+ */
+class NodeSequenceRebaser {
+    final private @NotNull BasedSequence oldBase;
+    final private @NotNull BasedSequence newBase;
+    final private IdentityHashMap<BasedSequence, BasedSequence> rebased = new IdentityHashMap<>();
+    final private ArrayList<Node> nodes = new ArrayList<>();
+    private int delta;
+    private boolean failed;
+
+    NodeSequenceRebaser(@NotNull BasedSequence oldBase, @NotNull BasedSequence newBase) {
+        this.oldBase = oldBase;
+        this.newBase = newBase;
+    }
+
+    /**
+     * Compute rebased sequences for the node and its descendants
+     *
+     * @param node  node to rebase
+     * @param delta offset delta to apply to node sequences
+     * @return true if all sequences could be rebased
+     */
+    boolean addNode(@NotNull Node node, int delta) {
+        this.delta = delta;
+        if (!addNodeSequences(node)) return false;
+
+        for (Node descendant : node.getDescendants()) {
+            if (!addNodeSequences(descendant)) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Set all rebased sequences computed by {@link #addNode(Node, int)}
+     */
+    void apply() {
+        for (Node node : nodes) {
+            node.mapSequences(sequence -> {
+                BasedSequence rebasedSequence = rebased.get(sequence);
+                return rebasedSequence == null ? sequence : rebasedSequence;
+            });
+        }
+
+        rebased.clear();
+        nodes.clear();
+    }
+
+    private boolean addNodeSequences(@NotNull Node node) {
+        failed = false;
+        node.mapSequences(this::addSequence);
+        if (failed) return false;
+
+        // node class keeps sequences it does not map
+        for (BasedSequence segment : node.getSegments()) {
+            if (segment.getBaseSequence() == oldBase && !rebased.containsKey(segment)) return false;
+        }
+
+        nodes.add(node);
+        return true;
+    }
+
+    private @NotNull BasedSequence addSequence(@NotNull BasedSequence sequence) {
+        if (sequence.getBaseSequence() == oldBase && !rebased.containsKey(sequence)) {
+            BasedSequence rebasedSequence = rebase(sequence, delta);
+            if (rebasedSequence == null) failed = true;
+            else rebased.put(sequence, rebasedSequence);
+        }
+        return sequence;
+    }
+
+    @Nullable
+    BasedSequence rebase(@NotNull BasedSequence sequence, int delta) {
+        int newBaseLength = newBase.length();
+        if (sequence instanceof SubSequence || sequence.isEmpty()) {
+            int startOffset = sequence.getStartOffset() + delta;
+            int endOffset = sequence.getEndOffset() + delta;
+            if (startOffset < 0 || endOffset > newBaseLength) return null;
+            return newBase.subSequence(startOffset, endOffset);
+        }
+
+        BasedSegmentBuilder segments = BasedSegmentBuilder.emptyBuilder(oldBase);
+        sequence.addSegments(segments);
+
+        SequenceBuilder builder = SequenceBuilder.emptyBuilder(newBase);
+        for (Object part : segments) {
+            if (part instanceof Range) {
+                Range range = (Range) part;
+                if (range.isNull()) continue;
+
+                int startOffset = range.getStart() + delta;
+                int endOffset = range.getEnd() + delta;
+                if (startOffset < 0 || endOffset > newBaseLength) return null;
+                builder.append(startOffset, endOffset);
+            } else if (part instanceof CharSequence) {
+                builder.append((CharSequence) part);
+            }
+        }
+
+        BasedSequence rebased = builder.toSequence();
+        return rebased.length() == sequence.length() ? rebased : null;
+    }
+}
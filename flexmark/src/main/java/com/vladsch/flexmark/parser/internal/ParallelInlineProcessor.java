@@ -0,0 +1,102 @@
+package com.vladsch.flexmark.parser.internal;
+
+import com.vladsch.flexmark.parser.InlineParser;
+import com.vladsch.flexmark.parser.block.BlockParser;
+import com.vladsch.flexmark.util.ast.Document;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Supplier;
+
+/**
+ * Parses inlines of blocks in parallel, each worker thread using its own inline parser.
+ * <p>
+ * Blocks are split into contiguous ranges so blocks of each range are parsed in document order.
+ * Inline parsers are created and initialized for the document before parsing starts so that document data
+ * they compute is not modified while blocks are parsed. Data key values read while parsing blocks use a per thread copy
+ * of document data, see {@link Document#beginThreadDataSets()}. See {@link com.vladsch.flexmark.parser.Parser#PARALLEL_INLINE_PARSING}
+ */
+class ParallelInlineProcessor {
+    final private static int MIN_TASK_BLOCKS = 16;
+
+    final private @NotNull Document document;
+    final private @NotNull List<BlockParser> blockParsers;
+    final private @NotNull Supplier<InlineParser> inlineParserFactory;
+    final private ConcurrentLinkedQueue<InlineParser> availableParsers = new ConcurrentLinkedQueue<>();
+    final private ArrayList<InlineParser> inlineParsers = new ArrayList<>();
+    private int taskBlocks;
+
+    ParallelInlineProcessor(@NotNull Document document, @NotNull List<BlockParser> blockParsers, @NotNull Supplier<InlineParser> inlineParserFactory) {
+        this.document = document;
+        this.blockParsers = blockParsers;
+        this.inlineParserFactory = inlineParserFactory;
+    }
+
+    void process(@NotNull ForkJoinPool pool) {
+        int parallelism = pool.getParallelism();
+
+        // one for each worker and the invoking thread
+        for (int i = 0; i <= parallelism; i++) {
+            availableParsers.add(createInlineParser());
+        }
+
+        // several tasks per worker so workers which finish early can steal remaining work
+        taskBlocks = Math.max(MIN_TASK_BLOCKS, blockParsers.size() / (parallelism * 8));
+
+        // data key values are computed and added to document data on first get, each thread gets its own copy of it
+        document.beginThreadDataSets();
+        try {
+            pool.invoke(new InlineParsingTask(0, blockParsers.size()));
+        } finally {
+            document.endThreadDataSets();
+        }
+
+        for (InlineParser inlineParser : inlineParsers) {
+            inlineParser.finalizeDocument(document);
+        }
+    }
+
+    private synchronized InlineParser createInlineParser() {
+        InlineParser inlineParser = inlineParserFactory.get();
+        inlineParser.initializeDocument(document);
+        inlineParsers.add(inlineParser);
+        return inlineParser;
+    }
+
+    private void parseInlines(int startIndex, int endIndex) {
+        InlineParser inlineParser = availableParsers.poll();
+        if (inlineParser == null) inlineParser = createInlineParser();
+
+        try {
+            for (int i = startIndex; i < endIndex; i++) {
+                blockParsers.get(i).parseInlines(inlineParser);
+            }
+        } finally {
+            availableParsers.add(inlineParser);
+        }
+    }
+
+    private class InlineParsingTask extends RecursiveAction {
+        final private int startIndex;
+        final private int endIndex;
+
+        InlineParsingTask(int startIndex, int endIndex) {
+            this.startIndex = startIndex;
+            this.endIndex = endIndex;
+        }
+
+        @Override
+        protected void compute() {
+            if (endIndex - startIndex <= taskBlocks) {
+                parseInlines(startIndex, endIndex);
+            } else {
+                int midIndex = (startIndex + endIndex) >>> 1;
+                invokeAll(new InlineParsingTask(startIndex, midIndex), new InlineParsingTask(midIndex, endIndex));
+            }
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.vladsch.flexmark.parser.internal;
 
+import com.vladsch.flexmark.parser.Parser;
 import com.vladsch.flexmark.parser.PostProcessor;
 import com.vladsch.flexmark.parser.PostProcessorFactory;
 import com.vladsch.flexmark.util.ast.ClassifyingNodeTracker;
@@ -61,6 +62,7 @@ public class PostProcessorManager {
     public Document postProcess(Document document) {
         // first initialize node tracker if
         ClassifyingNodeTracker classifyingNodeTracker;
+        boolean fused = Parser.FUSED_POST_PROCESSING.get(document);
 
         classifyingNodeTracker = null;
         for (PostProcessorDependencyStage stage : postProcessorDependencies) {
@@ -68,6 +70,7 @@ public class PostProcessorManager {
             // provided
             //new ClassifyingNodeTracker()
             boolean hadGlobal = false;
+            boolean hadFused = false;
             for (PostProcessorFactory dependent : stage.dependents) {
                 if (dependent.affectsGlobalScope()) {
                     document = dependent.apply(document).processDocument(document);
@@ -82,45 +85,165 @@ public class PostProcessorManager {
                         classifyingNodeTracker = new NodeClassifierVisitor(stage.myNodeMap).classify(document);
                     }
 
-                    Map<Class<?>, Set<Class<?>>> dependentNodeTypes = dependent.getNodeTypes();
-                    PostProcessor postProcessor = dependent.apply(document);
-                    BitSet exclusionSet = new BitSet();
-                    if (dependentNodeTypes != null) {
-                        for (Set<Class<?>> excluded : dependentNodeTypes.values()) {
-                            BitSet mapped = classifyingNodeTracker.getExclusionSet().indexBitSet(excluded);
-                            exclusionSet.or(mapped);
+                    if (fused) {
+                        // all node dependents of the stage are done in one pass
+                        if (!hadFused) {
+                            processFused(document, classifyingNodeTracker, stage.nodeDependents);
+                            hadFused = true;
                         }
+                    } else {
+                        process(document, classifyingNodeTracker, dependent);
+                    }
+                }
+            }
+        }
 
-                        ReversibleIterable<Node> nodes = classifyingNodeTracker.getCategoryItems(Node.class, dependentNodeTypes.keySet());
-                        for (Node node : nodes) {
-                            if (node.getParent() == null) continue; // was already removed
-                            // now we need to get the bitset for the excluded ancestors of the node, then intersect it with the actual ancestors of this factory
-                            int index;
-                            BitSet nodeAncestors;
-                            BitSet nodeExclusions;
-                            Set<Class<?>> excluded = dependentNodeTypes.get(node.getClass());
-                            if (excluded != null) {
-                                index = classifyingNodeTracker.getItems().indexOf(node);
-                                if (index != -1) {
-                                    nodeAncestors = classifyingNodeTracker.getNodeAncestryMap().get(index);
-                                    if (nodeAncestors != null) {
-                                        nodeExclusions = classifyingNodeTracker.getExclusionSet().indexBitSet(excluded);
-                                        nodeExclusions.and(nodeAncestors);
-                                        if (!nodeExclusions.isEmpty()) {
-                                            // has excluded ancestor
-                                            continue;
-                                        }
-                                    }
-                                }
+        return document;
+    }
+
+    private static void process(Document document, ClassifyingNodeTracker classifyingNodeTracker, PostProcessorFactory dependent) {
+        Map<Class<?>, Set<Class<?>>> dependentNodeTypes = dependent.getNodeTypes();
+        PostProcessor postProcessor = dependent.apply(document);
+        if (dependentNodeTypes != null) {
+            // excluded ancestor types of each node type as exclusion set indices
+            HashMap<Class<?>, BitSet> nodeTypeExclusions = new HashMap<>();
+
+            ReversibleIterable<Node> nodes = classifyingNodeTracker.getCategoryItems(Node.class, dependentNodeTypes.keySet());
+            for (Node node : nodes) {
+                if (node.getParent() == null) continue; // was already removed
+                // now we need to get the bitset for the excluded ancestors of the node, then intersect it with the actual ancestors of this factory
+                Set<Class<?>> excluded = dependentNodeTypes.get(node.getClass());
+                if (excluded != null) {
+                    int index = classifyingNodeTracker.getNodeIndex(node);
+                    if (index != -1) {
+                        BitSet nodeAncestors = classifyingNodeTracker.getNodeAncestry(index);
+                        if (nodeAncestors != null) {
+                            BitSet nodeExclusions = nodeTypeExclusions.get(node.getClass());
+                            if (nodeExclusions == null) {
+                                nodeExclusions = classifyingNodeTracker.getExclusionSet().indexBitSet(excluded);
+                                nodeTypeExclusions.put(node.getClass(), nodeExclusions);
+                            }
+                            if (nodeExclusions.intersects(nodeAncestors)) {
+                                // has excluded ancestor
+                                continue;
                             }
-                            postProcessor.process(classifyingNodeTracker, node);
                         }
                     }
                 }
+                postProcessor.process(classifyingNodeTracker, node);
             }
         }
+    }
 
-        return document;
+    /**
+     * Process nodes for all dependents in one pass over tracked nodes, each node is given to its dependents in
+     * dependency order.
+     * <p>
+     * Each dependent processes the same nodes as when dependents are run one after the other: nodes tracked at the
+     * start, and nodes added while an earlier dependent was processing. Nodes added by a dependent or by a later
+     * dependent are not given to it.
+     */
+    private static void processFused(Document document, ClassifyingNodeTracker classifyingNodeTracker, List<PostProcessorFactory> dependents) {
+        FusedPass pass = new FusedPass(document, classifyingNodeTracker, dependents);
+        BitSet trackedNodes = classifyingNodeTracker.getNodeClassifier().categoriesBitSet(pass.nodeTypes);
+
+        for (int index = trackedNodes.nextSetBit(0); index >= 0; index = trackedNodes.nextSetBit(index + 1)) {
+            pass.processNode(index, 0);
+        }
+
+        // nodes added while processing, including ones added by processing of added nodes
+        for (int index = pass.trackedEnd; index < pass.items.size(); index++) {
+            pass.processNode(index, pass.addedFirstDependents[index - pass.trackedEnd]);
+        }
+    }
+
+    private static class FusedPass {
+        final ClassifyingNodeTracker classifyingNodeTracker;
+        final List<PostProcessorFactory> dependents;
+        final PostProcessor[] postProcessors;
+        final HashSet<Class<?>> nodeTypes = new HashSet<>();
+        final HashMap<Class<?>, NodeTypeDispatch> dispatchMap = new HashMap<>();
+        final List<Node> items;
+        final int trackedEnd;
+        int[] addedFirstDependents = new int[16];   // index of first dependent to process each node added after start
+
+        FusedPass(Document document, ClassifyingNodeTracker classifyingNodeTracker, List<PostProcessorFactory> dependents) {
+            this.classifyingNodeTracker = classifyingNodeTracker;
+            this.dependents = dependents;
+
+            int iMax = dependents.size();
+            postProcessors = new PostProcessor[iMax];
+            for (int i = 0; i < iMax; i++) {
+                PostProcessorFactory dependent = dependents.get(i);
+                postProcessors[i] = dependent.apply(document);
+                Map<Class<?>, Set<Class<?>>> dependentNodeTypes = dependent.getNodeTypes();
+                if (dependentNodeTypes != null) nodeTypes.addAll(dependentNodeTypes.keySet());
+            }
+
+            // tracker only adds items, so node index is position in value list
+            items = classifyingNodeTracker.getItems().getValueList();
+            trackedEnd = items.size();
+        }
+
+        void processNode(int index, int firstDependent) {
+            Node node = items.get(index);
+            if (node == null || !nodeTypes.contains(node.getClass())) return;
+
+            NodeTypeDispatch dispatch = dispatchMap.get(node.getClass());
+            if (dispatch == null) {
+                dispatch = new NodeTypeDispatch(classifyingNodeTracker, dependents, node.getClass());
+                dispatchMap.put(node.getClass(), dispatch);
+            }
+
+            BitSet nodeAncestors = classifyingNodeTracker.getNodeAncestry(index);
+            int[] dispatchDependents = dispatch.dependents;
+            int iMax = dispatchDependents.length;
+
+            for (int i = 0; i < iMax; i++) {
+                int dependent = dispatchDependents[i];
+                if (dependent < firstDependent) continue;
+                if (node.getParent() == null) break; // was already removed
+                if (nodeAncestors != null && dispatch.exclusions[i].intersects(nodeAncestors)) continue; // has excluded ancestor
+
+                int addedStart = items.size();
+                postProcessors[dependent].process(classifyingNodeTracker, node);
+
+                int addedEnd = items.size();
+                if (addedStart < addedEnd) {
+                    if (addedEnd - trackedEnd > addedFirstDependents.length) {
+                        addedFirstDependents = Arrays.copyOf(addedFirstDependents, Math.max(addedEnd - trackedEnd, addedFirstDependents.length * 2));
+                    }
+                    Arrays.fill(addedFirstDependents, addedStart - trackedEnd, addedEnd - trackedEnd, dependent + 1);
+                }
+            }
+        }
+    }
+
+    /**
+     * Dependents which process a node type, in dependency order, with indices of excluded ancestor types for each
+     */
+    private static class NodeTypeDispatch {
+        final int[] dependents;
+        final BitSet[] exclusions;
+
+        NodeTypeDispatch(ClassifyingNodeTracker classifyingNodeTracker, List<PostProcessorFactory> dependents, Class<?> nodeType) {
+            int iMax = dependents.size();
+            int[] dispatchDependents = new int[iMax];
+            BitSet[] dispatchExclusions = new BitSet[iMax];
+            int count = 0;
+
+            for (int i = 0; i < iMax; i++) {
+                Map<Class<?>, Set<Class<?>>> dependentNodeTypes = dependents.get(i).getNodeTypes();
+                Set<Class<?>> excluded = dependentNodeTypes == null ? null : dependentNodeTypes.get(nodeType);
+                if (excluded != null) {
+                    dispatchDependents[count] = i;
+                    dispatchExclusions[count++] = classifyingNodeTracker.getExclusionSet().indexBitSet(excluded);
+                }
+            }
+
+            this.dependents = Arrays.copyOf(dispatchDependents, count);
+            this.exclusions = Arrays.copyOf(dispatchExclusions, count);
+        }
     }
 
     static DependentItemMap<PostProcessorFactory> prioritizePostProcessors(DependentItemMap<PostProcessorFactory> dependentMap) {
@@ -146,12 +269,16 @@ public class PostProcessorManager {
     public static class PostProcessorDependencyStage {
         final Map<Class<? extends Node>, Set<Class<?>>> myNodeMap;
         final List<PostProcessorFactory> dependents;
+        final List<PostProcessorFactory> nodeDependents;
 
         public PostProcessorDependencyStage(List<PostProcessorFactory> dependents) {
             // compute mappings
             HashMap<Class<? extends Node>, Set<Class<?>>> nodeMap = new HashMap<>();
+            ArrayList<PostProcessorFactory> nodeDependents = new ArrayList<>(dependents.size());
 
             for (PostProcessorFactory dependent : dependents) {
+                if (!dependent.affectsGlobalScope()) nodeDependents.add(dependent);
+
                 Map<Class<?>, Set<Class<?>>> types = dependent.getNodeTypes();
                 if ((types == null || types.isEmpty()) && !dependent.affectsGlobalScope()) {
                     throw new IllegalStateException("PostProcessorFactory " + dependent + " is not document post processor and has empty node map, does nothing, should not be registered.");
@@ -181,6 +308,7 @@ public class PostProcessorManager {
             }
 
             this.dependents = dependents;
+            this.nodeDependents = nodeDependents;
             this.myNodeMap = nodeMap;
         }
     }
@@ -0,0 +1,187 @@
+package com.vladsch.flexmark.parser.internal;
+
+import com.vladsch.flexmark.util.ast.Document;
+import com.vladsch.flexmark.util.ast.Node;
+import com.vladsch.flexmark.util.data.DataHolder;
+import com.vladsch.flexmark.util.data.DataSet;
+import com.vladsch.flexmark.util.sequence.BasedSequence;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Parses input from a reader in chunks, passing top level blocks to a consumer as soon as no block parser can continue them.
+ * <p>
+ * Input is accumulated until a line following a blank line which leaves only the document block open and starts a new top
+ * level block, at which point the accumulated text before that line is parsed, its inlines processed, post processed and its
+ * top level blocks are passed to the consumer. The line is parsed with the preceding text before flushing because extension
+ * block parsers, such as definition items, can continue a block after a blank line.
+ * Memory used is bounded by the largest span of text containing no such line rather than the whole input.
+ * <p>
+ * Each chunk is parsed into its own {@link Document} with its own base sequence, so node offsets are relative to the chunk.
+ * Document data, including reference repositories, is carried from one chunk to the next, so references can only be resolved
+ * if they are defined before their use. Document post processors are applied to each chunk.
+ */
+public class StreamingDocumentParser {
+    final private static int[] EMPTY_OFFSETS = new int[0];
+
+    final private @NotNull Supplier<DocumentParser> documentParserFactory;
+    final private @NotNull List<PostProcessorManager.PostProcessorDependencyStage> postProcessorDependencies;
+    final private @NotNull Consumer<Node> blockConsumer;
+
+    private StringBuilder chunk = new StringBuilder();
+    private DataHolder documentData = new DataSet();
+    private Document document;
+    private int lineStart = 0;          // start of current line in chunk
+    private int chunkLines = 0;         // complete lines in chunk
+    private int chunkLineNumber = 0;    // line number of chunk start in input
+    private boolean lastLineBlank = false;
+    private int minParseLength = 0;     // chunk length needed for next parse attempt, doubles on failed attempts
+    private int[] syncOffsets = new int[16];
+    private int[] syncLines = new int[16];
+    private int syncCount = 0;
+
+    public StreamingDocumentParser(@NotNull Supplier<DocumentParser> documentParserFactory, @NotNull List<PostProcessorManager.PostProcessorDependencyStage> postProcessorDependencies, @NotNull Consumer<Node> blockConsumer) {
+        this.documentParserFactory = documentParserFactory;
+        this.postProcessorDependencies = postProcessorDependencies;
+        this.blockConsumer = blockConsumer;
+    }
+
+    /**
+     * Parse the reader, passing top level blocks to the consumer
+     *
+     * @param input reader to parse
+     * @return Document of the last parsed chunk, its data has the accumulated data of all chunks
+     * @throws IOException when reading throws an exception
+     */
+    public @NotNull Document parse(@NotNull Reader input) throws IOException {
+        char[] buffer = new char[16384];
+        boolean pendingCR = false;
+
+        while (true) {
+            int charsRead = input.read(buffer);
+            if (charsRead < 0) break;
+
+            for (int i = 0; i < charsRead; i++) {
+                char c = buffer[i];
+                if (pendingCR) {
+                    pendingCR = false;
+                    if (c == '\n') {
+                        chunk.append(c);
+                        lineEnded();
+                        continue;
+                    }
+                    lineEnded();
+                }
+
+                chunk.append(c);
+                if (c == '\n') lineEnded();
+                else if (c == '\r') pendingCR = true;
+            }
+        }
+
+        if (pendingCR) lineEnded();
+
+        parseChunk(true);
+        return document;
+    }
+
+    private void lineEnded() {
+        int lineEnd = chunk.length();
+        boolean isBlank = true;
+
+        for (int i = lineStart; i < lineEnd; i++) {
+            char c = chunk.charAt(i);
+            if (c != ' ' && c != '\t' && c != '\n' && c != '\r') {
+                isBlank = false;
+                break;
+            }
+        }
+
+        if (!isBlank && lastLineBlank && lineStart > 0) {
+            addSyncOffset(lineStart, chunkLines);
+            if (lineEnd >= minParseLength) {
+                chunkLines++;
+                lineStart = lineEnd;
+                lastLineBlank = false;
+                parseChunk(false);
+                return;
+            }
+        }
+
+        chunkLines++;
+        lineStart = lineEnd;
+        lastLineBlank = isBlank;
+    }
+
+    private void addSyncOffset(int offset, int line) {
+        if (syncCount == syncOffsets.length) {
+            syncOffsets = Arrays.copyOf(syncOffsets, syncCount * 2);
+            syncLines = Arrays.copyOf(syncLines, syncCount * 2);
+        }
+        syncOffsets[syncCount] = offset;
+        syncLines[syncCount] = line;
+        syncCount++;
+    }
+
+    private void parseChunk(boolean atEnd) {
+        BasedSequence input = BasedSequence.of(chunk.toString());
+        int[] offsets = EMPTY_OFFSETS;
+        int endOffset = input.length();
+        DocumentParser documentParser = documentParserFactory.get();
+
+        if (!atEnd) {
+            // the line at a candidate must be parsed to know it does not continue the preceding block, as definition items do
+            endOffset = documentParser.findSyncOffset(input, Arrays.copyOf(syncOffsets, syncCount));
+            if (endOffset == -1) {
+                // none of the candidates closed all blocks, they will not do so on the next attempt either
+                syncCount = 0;
+                minParseLength = chunk.length() * 2;
+                return;
+            }
+            offsets = new int[] { endOffset };
+            documentParser.reset();
+        }
+
+        Document region = documentParser.parseRegion(input, 0, chunkLineNumber, endOffset, offsets, documentData);
+
+        region = PostProcessorManager.processDocument(region, postProcessorDependencies);
+
+        ArrayList<Node> blocks = new ArrayList<>();
+        for (Node child : region.getChildren()) {
+            blocks.add(child);
+        }
+
+        for (Node block : blocks) {
+            blockConsumer.accept(block);
+        }
+
+        document = region;
+        documentData = region.toImmutable();
+
+        if (!atEnd) {
+            // endOffset is one of the sync offsets
+            int sync = Arrays.binarySearch(syncOffsets, 0, syncCount, endOffset);
+            int endLine = syncLines[sync];
+            int kept = 0;
+            for (int i = sync + 1; i < syncCount; i++) {
+                syncOffsets[kept] = syncOffsets[i] - endOffset;
+                syncLines[kept] = syncLines[i] - endLine;
+                kept++;
+            }
+
+            syncCount = kept;
+            chunkLineNumber += endLine;
+            chunkLines -= endLine;
+            lineStart -= endOffset;
+            chunk = new StringBuilder(chunk.substring(endOffset));
+            minParseLength = 0;
+        }
+    }
+}